@@ -14,6 +14,7 @@ package org.eclipse.ditto.json;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
 import java.lang.ref.SoftReference;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
@@ -237,16 +238,36 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         return valueList.asJsonArrayString();
     }
 
+    @Override
+    public void writeTo(final Appendable appendable) throws IOException {
+        valueList.writeTo(appendable);
+    }
+
+    /**
+     * Holds the values of a JSON array together with their string representation.
+     * <p>
+     * Values which were parsed from a string are referenced softly and re-parsed from the string representation if
+     * the soft reference was cleared.
+     * Values which were built or extended are referenced strongly as {@link PersistentVector}, which shares its
+     * structure with the vector it was derived from.
+     * Their string representation is created on first request only.
+     * </p>
+     */
     @Immutable
     static final class SoftReferencedValueList {
 
-        private final String jsonArrayStringRepresentation;
+        @Nullable private String jsonArrayStringRepresentation;
+        @Nullable private final PersistentVector<JsonValue> stronglyReferencedValues;
         private int hashCode;
-        private SoftReference<List<JsonValue>> valuesReference;
+        private SoftReference<PersistentVector<JsonValue>> valuesReference;
+
+        private SoftReferencedValueList(@Nullable final String stringRepresentation,
+                @Nullable final PersistentVector<JsonValue> softlyReferencedValues,
+                @Nullable final PersistentVector<JsonValue> stronglyReferencedValues) {
 
-        private SoftReferencedValueList(final List<JsonValue> jsonValueList, final String stringRepresentation) {
             jsonArrayStringRepresentation = stringRepresentation;
-            valuesReference = new SoftReference<>(Collections.unmodifiableList(new ArrayList<>(jsonValueList)));
+            this.stronglyReferencedValues = stronglyReferencedValues;
+            valuesReference = new SoftReference<>(softlyReferencedValues);
             hashCode = 0;
         }
 
@@ -262,9 +283,13 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
                 @Nullable final String stringRepresentation) {
 
             if (null != stringRepresentation) {
-                return new SoftReferencedValueList(jsonValueList, stringRepresentation);
+                return new SoftReferencedValueList(stringRepresentation, PersistentVector.of(jsonValueList), null);
             }
-            return new SoftReferencedValueList(jsonValueList, createStringRepresentation(jsonValueList));
+            return ofValues(PersistentVector.of(jsonValueList));
+        }
+
+        private static SoftReferencedValueList ofValues(final PersistentVector<JsonValue> values) {
+            return new SoftReferencedValueList(null, null, values);
         }
 
         private static String createStringRepresentation(final Iterable<JsonValue> jsonValues) {
@@ -302,19 +327,16 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         }
 
         SoftReferencedValueList add(final JsonValue jsonValue) {
-            final List<JsonValue> valuesCopy = copyValues();
-            valuesCopy.add(jsonValue);
-            return of(valuesCopy);
-        }
-
-        private List<JsonValue> copyValues() {
-            return new ArrayList<>(values());
+            return ofValues(values().appended(jsonValue));
         }
 
-        private List<JsonValue> values() {
-            List<JsonValue> result = valuesReference.get();
+        private PersistentVector<JsonValue> values() {
+            if (null != stronglyReferencedValues) {
+                return stronglyReferencedValues;
+            }
+            PersistentVector<JsonValue> result = valuesReference.get();
             if (null == result) {
-                result = parseToList(jsonArrayStringRepresentation);
+                result = PersistentVector.of(parseToList(requireNonNull(jsonArrayStringRepresentation)));
                 valuesReference = new SoftReference<>(result);
             }
             return result;
@@ -343,12 +365,16 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
                 return false;
             }
             final SoftReferencedValueList that = (SoftReferencedValueList) o;
-            if (jsonArrayStringRepresentation.equals(that.jsonArrayStringRepresentation)) {
-                return true;
-            } else if (jsonArrayStringRepresentation.length() == that.jsonArrayStringRepresentation.length()) {
-                return Objects.equals(values(), that.values());
+            final String stringRepresentation = jsonArrayStringRepresentation;
+            final String thatStringRepresentation = that.jsonArrayStringRepresentation;
+            if (null != stringRepresentation && null != thatStringRepresentation) {
+                if (stringRepresentation.equals(thatStringRepresentation)) {
+                    return true;
+                } else if (stringRepresentation.length() != thatStringRepresentation.length()) {
+                    return false;
+                }
             }
-            return false;
+            return Objects.equals(values(), that.values());
         }
 
         @Override
@@ -362,7 +388,30 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         }
 
         String asJsonArrayString() {
-            return jsonArrayStringRepresentation;
+            String result = jsonArrayStringRepresentation;
+            if (null == result) {
+                result = createStringRepresentation(values());
+                jsonArrayStringRepresentation = result;
+            }
+            return result;
+        }
+
+        void writeTo(final Appendable appendable) throws IOException {
+            final String stringRepresentation = jsonArrayStringRepresentation;
+            if (null != stringRepresentation) {
+                appendable.append(stringRepresentation);
+            } else {
+                appendable.append('[');
+                boolean isFirst = true;
+                for (final JsonValue jsonValue : values()) {
+                    if (!isFirst) {
+                        appendable.append(',');
+                    }
+                    jsonValue.writeTo(appendable);
+                    isFirst = false;
+                }
+                appendable.append(']');
+            }
         }
 
     }
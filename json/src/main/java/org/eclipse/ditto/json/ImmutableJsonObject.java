@@ -14,14 +14,11 @@ package org.eclipse.ditto.json;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
 import java.lang.ref.SoftReference;
 import java.text.MessageFormat;
-import java.util.ArrayDeque;
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Deque;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -32,7 +29,6 @@ import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
-import javax.annotation.concurrent.NotThreadSafe;
 
 /**
  * An immutable implementation of a JSON object.
@@ -94,6 +90,36 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         return new ImmutableJsonObject(SoftReferencedFieldMap.of(fields, stringRepresentation));
     }
 
+    /**
+     * Returns a new {@code ImmutableJsonObject} instance whose fields are indexed from the given string only when
+     * they are accessed for the first time.
+     * As long as the returned object is not modified, its string representation is the given string.
+     *
+     * @param jsonObjectString the string representation of a JSON object.
+     * @return a new lazily indexed JSON object.
+     * @throws NullPointerException if {@code jsonObjectString} is {@code null}.
+     */
+    public static ImmutableJsonObject lazyOf(final String jsonObjectString) {
+        requireNonNull(jsonObjectString, "The JSON object string must not be null!");
+        return lazyOf(jsonObjectString, 0, jsonObjectString.length(), false);
+    }
+
+    /**
+     * Returns a new {@code ImmutableJsonObject} instance whose fields are indexed from the given slice of
+     * {@code source} only when they are accessed for the first time.
+     *
+     * @param source the string containing the JSON object.
+     * @param startIndex the index of the first character of the JSON object, inclusive.
+     * @param endIndex the index of the last character of the JSON object, exclusive.
+     * @param compact whether the JSON object is known to contain no insignificant whitespace.
+     * @return a new lazily indexed JSON object.
+     */
+    static ImmutableJsonObject lazyOf(final String source, final int startIndex, final int endIndex,
+            final boolean compact) {
+
+        return new ImmutableJsonObject(SoftReferencedFieldMap.lazy(source, startIndex, endIndex, compact));
+    }
+
     @Override
     public JsonObject setValue(final CharSequence key, final int value) {
         return setValue(key, JsonValue.of(value));
@@ -508,16 +534,50 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         return fieldMap.asJsonObjectString();
     }
 
+    @Override
+    public void writeTo(final Appendable appendable) throws IOException {
+        fieldMap.writeTo(appendable);
+    }
+
+    /**
+     * Holds the fields of a JSON object together with their string representation.
+     * <p>
+     * Fields which were parsed from a string are referenced softly: if they are not in memory, because they were
+     * never accessed or because the soft reference was cleared, they are (re-)indexed from the string representation
+     * by {@link JsonObjectIndex}.
+     * The string representation may be a slice of a larger string, e. g. if the JSON object is nested in a lazily
+     * indexed JSON object.
+     * In that case the string is shared and copied only when the string representation is requested.
+     * </p>
+     * <p>
+     * Fields which were built or modified are referenced strongly as {@link PersistentFieldMap}, which shares its
+     * structure with the map it was derived from.
+     * Their string representation is created on first request only.
+     * </p>
+     */
     @Immutable
     static final class SoftReferencedFieldMap {
 
-        private final String jsonObjectStringRepresentation;
-        private int hashCode;
-        private SoftReference<Map<String, JsonField>> fieldsReference;
+        private static final int WHOLE_SOURCE = -1;
 
-        private SoftReferencedFieldMap(final Map<String, JsonField> jsonFieldMap, final String stringRepresentation) {
-            jsonObjectStringRepresentation = stringRepresentation;
-            fieldsReference = new SoftReference<>(Collections.unmodifiableMap(new LinkedHashMap<>(jsonFieldMap)));
+        @Nullable private String jsonObjectSource;
+        private final int startIndex;
+        private final int endIndex;
+        private final boolean compact;
+        @Nullable private final PersistentFieldMap stronglyReferencedFields;
+        private int hashCode;
+        private SoftReference<PersistentFieldMap> fieldsReference;
+
+        private SoftReferencedFieldMap(@Nullable final String source, final int startIndex, final int endIndex,
+                final boolean compact, @Nullable final PersistentFieldMap softlyReferencedFields,
+                @Nullable final PersistentFieldMap stronglyReferencedFields) {
+
+            jsonObjectSource = source;
+            this.startIndex = startIndex;
+            this.endIndex = endIndex;
+            this.compact = compact;
+            this.stronglyReferencedFields = stronglyReferencedFields;
+            fieldsReference = new SoftReference<>(softlyReferencedFields);
             hashCode = 0;
         }
 
@@ -533,16 +593,36 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
                 @Nullable final String stringRepresentation) {
 
             if (null != stringRepresentation) {
-                return new SoftReferencedFieldMap(jsonFieldMap, stringRepresentation);
+                return new SoftReferencedFieldMap(stringRepresentation, 0, WHOLE_SOURCE, true,
+                        PersistentFieldMap.of(jsonFieldMap), null);
             }
-            return new SoftReferencedFieldMap(jsonFieldMap, createStringRepresentation(jsonFieldMap));
+            return ofFields(PersistentFieldMap.of(jsonFieldMap));
+        }
+
+        private static SoftReferencedFieldMap ofFields(final PersistentFieldMap fields) {
+            return new SoftReferencedFieldMap(null, 0, WHOLE_SOURCE, true, null, fields);
+        }
+
+        /**
+         * Returns a field map whose fields are indexed from the given slice of {@code source} on first access.
+         *
+         * @param source the string containing the JSON object.
+         * @param startIndex the index of the first character of the JSON object, inclusive.
+         * @param endIndex the index of the last character of the JSON object, exclusive.
+         * @param compact whether the JSON object is known to contain no insignificant whitespace.
+         * @return the field map.
+         */
+        static SoftReferencedFieldMap lazy(final String source, final int startIndex, final int endIndex,
+                final boolean compact) {
+
+            return new SoftReferencedFieldMap(source, startIndex, endIndex, compact, null, null);
         }
 
-        private static String createStringRepresentation(final Map<String, JsonField> jsonFieldMap) {
+        private static String createStringRepresentation(final Iterable<JsonField> jsonFields) {
             final StringBuilder stringBuilder = new StringBuilder(512);
             stringBuilder.append('{');
             String delimiter = "";
-            for (final JsonField jsonField : jsonFieldMap.values()) {
+            for (final JsonField jsonField : jsonFields) {
                 stringBuilder.append(delimiter);
                 stringBuilder.append(jsonField);
                 delimiter = ",";
@@ -570,25 +650,19 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         SoftReferencedFieldMap put(final String key, final JsonField value) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            fieldsCopy.put(key, value);
-            return of(fieldsCopy);
-        }
-
-        private Map<String, JsonField> copyFields() {
-            return new LinkedHashMap<>(fields());
+            return ofFields(fields().with(key, value));
         }
 
         SoftReferencedFieldMap putAll(final Iterable<JsonField> jsonFields) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            jsonFields.forEach(jsonField -> fieldsCopy.put(jsonField.getKeyName(), jsonField));
-            return of(fieldsCopy);
+            PersistentFieldMap result = fields();
+            for (final JsonField jsonField : jsonFields) {
+                result = result.with(jsonField.getKeyName(), jsonField);
+            }
+            return ofFields(result);
         }
 
         SoftReferencedFieldMap remove(final String key) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            fieldsCopy.remove(key);
-            return of(fieldsCopy);
+            return ofFields(fields().without(key));
         }
 
         Stream<JsonField> getStream() {
@@ -599,19 +673,21 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return fields().values().iterator();
         }
 
-        private Map<String, JsonField> fields() {
-            Map<String, JsonField> result = fieldsReference.get();
+        private PersistentFieldMap fields() {
+            if (null != stronglyReferencedFields) {
+                return stronglyReferencedFields;
+            }
+            PersistentFieldMap result = fieldsReference.get();
             if (null == result) {
-                result = parseToMap(jsonObjectStringRepresentation);
+                final String source = requireNonNull(jsonObjectSource);
+                result = JsonObjectIndex.indexFields(source, startIndex, getEndIndex(source));
                 fieldsReference = new SoftReference<>(result);
             }
             return result;
         }
 
-        private static Map<String, JsonField> parseToMap(final String jsonObjectString) {
-            final FieldMapJsonHandler jsonHandler = new FieldMapJsonHandler();
-            JsonValueParser.fromString(jsonHandler).accept(jsonObjectString);
-            return jsonHandler.getValue();
+        private int getEndIndex(final String source) {
+            return WHOLE_SOURCE == endIndex ? source.length() : endIndex;
         }
 
         @Override
@@ -623,12 +699,18 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
                 return false;
             }
             final SoftReferencedFieldMap that = (SoftReferencedFieldMap) o;
-            if (jsonObjectStringRepresentation.equals(that.jsonObjectStringRepresentation)) {
-                return true;
-            } else if (jsonObjectStringRepresentation.length() == that.jsonObjectStringRepresentation.length()) {
-                return Objects.equals(fields(), that.fields());
+            final String source = jsonObjectSource;
+            final String thatSource = that.jsonObjectSource;
+            if (null != source && null != thatSource) {
+                final int length = getEndIndex(source) - startIndex;
+                final int thatLength = that.getEndIndex(thatSource) - that.startIndex;
+                if (length == thatLength && source.regionMatches(startIndex, thatSource, that.startIndex, length)) {
+                    return true;
+                } else if (length != thatLength && compact && that.compact) {
+                    return false;
+                }
             }
-            return false;
+            return Objects.equals(fields(), that.fields());
         }
 
         @Override
@@ -642,112 +724,38 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
 
         String asJsonObjectString() {
-            return jsonObjectStringRepresentation;
-        }
-
-    }
-
-    /**
-     * This JsonHandler creates a Map instead of a JsonObject as Map is the internal structure of ImmutableJsonObject.
-     * All method calls which do not affect JSON object creation are delegated to {@link DefaultDittoJsonHandler}.
-     * JSON object creation has to be split because only the base level should be represented as a Map, all nested
-     * JSON objects should be of type {@link JsonObject}.
-     * <p>
-     * <em>This handler is only usable for parsing JSON object strings.</em>
-     * </p>
-     */
-    @NotThreadSafe
-    static final class FieldMapJsonHandler
-            extends DittoJsonHandler<List<JsonValue>, List<JsonField>, Map<String, JsonField>> {
-
-        private final DefaultDittoJsonHandler defaultHandler;
-        private Map<String, JsonField> value;
-        private final Deque<List<JsonField>> jsonObjectBuilders; // for nested JsonObjects
-        private int level;
-
-        /**
-         * Constructs a new {@code FieldMapJsonHandler} object.
-         */
-        FieldMapJsonHandler() {
-            defaultHandler = DefaultDittoJsonHandler.newInstance();
-            value = null;
-            jsonObjectBuilders = new ArrayDeque<>();
-            level = 0;
-        }
-
-        @Override
-        public List<JsonValue> startArray() {
-            return defaultHandler.startArray();
-        }
-
-        @Override
-        public List<JsonField> startObject() {
-            if (0 < level) {
-                jsonObjectBuilders.push(defaultHandler.startObject());
+            String source = jsonObjectSource;
+            if (null == source) {
+                source = createStringRepresentation(fields().values());
+                jsonObjectSource = source;
             }
-            final List<JsonField> result = new ArrayList<>();
-            level++;
-            return result;
-        }
-
-        @Override
-        public void endNull() {
-            defaultHandler.endNull();
-        }
-
-        @Override
-        public void endBoolean(final boolean value) {
-            defaultHandler.endBoolean(value);
-        }
-
-        @Override
-        public void endString(final String string) {
-            defaultHandler.endString(string);
-        }
-
-        @Override
-        public void endNumber(final String string) {
-            defaultHandler.endNumber(string);
-        }
-
-        @Override
-        public void endArray(final List<JsonValue> jsonValues) {
-            defaultHandler.endArray(jsonValues);
-        }
-
-        @Override
-        public void endArrayValue(final List<JsonValue> jsonValues) {
-            defaultHandler.endArrayValue(jsonValues);
-        }
-
-        @Override
-        public void endObjectValue(final List<JsonField> jsonFields, final String name) {
-            final List<JsonField> jsonObjectBuilder = jsonObjectBuilders.peek();
-            if (null != jsonObjectBuilder) {
-                defaultHandler.endObjectValue(jsonObjectBuilder, name);
-            } else {
-                jsonFields.add(JsonField.newInstance(name, defaultHandler.getValue()));
+            final int sourceEndIndex = getEndIndex(source);
+            if (0 == startIndex && source.length() == sourceEndIndex) {
+                return source;
             }
+            return source.substring(startIndex, sourceEndIndex);
         }
 
-        @Override
-        public void endObject(final List<JsonField> jsonFields) {
-            final List<JsonField> jsonObjectBuilder = jsonObjectBuilders.poll();
-            if (null != jsonObjectBuilder) {
-                defaultHandler.endObject(jsonObjectBuilder);
+        void writeTo(final Appendable appendable) throws IOException {
+            final String source = jsonObjectSource;
+            if (null != source) {
+                appendable.append(source, startIndex, getEndIndex(source));
             } else {
-                final Map<String, JsonField> linkedHashMap = new LinkedHashMap<>(jsonFields.size());
-                for (final JsonField jsonField : jsonFields) {
-                    linkedHashMap.put(jsonField.getKeyName(), jsonField);
+                final JavaStringToEscapedJsonString javaStringToEscapedJsonString =
+                        JavaStringToEscapedJsonString.getInstance();
+                appendable.append('{');
+                boolean isFirst = true;
+                for (final JsonField jsonField : fields().values()) {
+                    if (!isFirst) {
+                        appendable.append(',');
+                    }
+                    javaStringToEscapedJsonString.appendTo(jsonField.getKeyName(), appendable);
+                    appendable.append(':');
+                    jsonField.getValue().writeTo(appendable);
+                    isFirst = false;
                 }
-                value = linkedHashMap;
+                appendable.append('}');
             }
-            level--;
-        }
-
-        @Override
-        protected Map<String, JsonField> getValue() {
-            return value;
         }
 
     }
@@ -14,6 +14,7 @@ package org.eclipse.ditto.json;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
@@ -68,4 +69,31 @@ final class JavaStringToEscapedJsonString implements UnaryOperator<String> {
         return stringBuilder.toString();
     }
 
+    /**
+     * Appends the escaped JSON string for the given Java String to the given appendable.
+     * Runs of characters which need no escaping are appended as slices of {@code javaString}, i. e. the escaped JSON
+     * string is never built in memory.
+     *
+     * @param javaString the Java String to be converted.
+     * @param appendable the appendable to write to.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws IOException if {@code appendable} throws an IOException.
+     */
+    void appendTo(final CharSequence javaString, final Appendable appendable) throws IOException {
+        requireNonNull(javaString, "The Java String to be converted must not be null");
+        appendable.append(QUOTE);
+        int runStart = 0;
+        final int length = javaString.length();
+        for (int i = 0; i < length; i++) {
+            @Nullable final String replacement = jsonCharEscaper.apply((int) javaString.charAt(i));
+            if (null != replacement) {
+                appendable.append(javaString, runStart, i);
+                appendable.append(replacement);
+                runStart = i + 1;
+            }
+        }
+        appendable.append(javaString, runStart, length);
+        appendable.append(QUOTE);
+    }
+
 }
@@ -253,6 +253,45 @@ public final class JsonFactory {
         }
     }
 
+    /**
+     * Creates a JSON object from the given string which is indexed only when its fields are accessed.
+     * <p>
+     * In contrast to {@link #newObject(String)} the string is not parsed up front: the top level fields are indexed
+     * on first access, nested JSON objects are indexed when their fields are accessed in turn and share the given
+     * string instead of copying it.
+     * As long as the returned object is not modified, its string representation is {@code jsonString} itself.
+     * This is beneficial for large JSON objects of which only a few fields are read.
+     * </p>
+     * <p>
+     * <em>As a consequence, syntax errors in {@code jsonString} are only reported by the first access to the
+     * affected fields.</em>
+     * </p>
+     *
+     * @param jsonString the string that represents the JSON object.
+     * @return the JSON object that is backed by the string.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws IllegalArgumentException if {@code jsonString} is empty.
+     * @throws JsonParseException if {@code jsonString} obviously does not represent a JSON object. Other syntax
+     * errors are reported when fields are accessed.
+     */
+    public static JsonObject newLazyObject(final String jsonString) {
+        requireNonNull(jsonString, "The JSON string to create a JSON object from must not be null!");
+        if (jsonString.isEmpty()) {
+            throw new IllegalArgumentException("The JSON string to create a JSON object from must not be empty!");
+        }
+
+        if (isJsonNullLiteralString(jsonString)) {
+            return nullObject();
+        } else {
+            final String trimmedJsonString = jsonString.trim();
+            if (!trimmedJsonString.startsWith("{") || !trimmedJsonString.endsWith("}")) {
+                final String msgPattern = "<{0}> is not a valid JSON object!";
+                throw JsonParseException.newBuilder().message(MessageFormat.format(msgPattern, jsonString)).build();
+            }
+            return ImmutableJsonObject.lazyOf(jsonString);
+        }
+    }
+
     private static boolean isJsonNullLiteralString(final String s) {
         return "null".equals(s);
     }
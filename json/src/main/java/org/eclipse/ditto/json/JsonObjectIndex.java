@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Structural index over the string representation of a JSON object.
+ * <p>
+ * Only the top level of the object is scanned: keys are decoded and values are skipped by matching brackets and
+ * quotes without building any intermediate values.
+ * Nested JSON objects without insignificant whitespace become lazy {@link ImmutableJsonObject}s, i. e. they are
+ * indexed in turn when their fields are accessed for the first time.
+ * A lazy nested object shares the scanned string if it makes up a large part of it and copies its slice otherwise,
+ * so that small nested objects do not keep a large string reachable.
+ * All other values, including nested objects with insignificant whitespace, are parsed from their slice of the
+ * string in order to get the same compact string representation as eagerly parsed values.
+ * </p>
+ */
+@Immutable
+final class JsonObjectIndex {
+
+    /**
+     * A lazy nested JSON object shares the scanned string only if its slice is at least the scanned string's length
+     * divided by this value.
+     */
+    private static final int MAX_SHARED_SLICE_DIVISOR = 2;
+
+    private JsonObjectIndex() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Indexes the fields of the JSON object between {@code startIndex} and {@code endIndex} of {@code source}.
+     *
+     * @param source the string containing the JSON object.
+     * @param startIndex the index of the first character of the JSON object, inclusive.
+     * @param endIndex the index of the last character of the JSON object, exclusive.
+     * @return the fields of the JSON object in the order of their appearance.
+     * @throws JsonParseException if the slice of {@code source} is not a JSON object.
+     */
+    static PersistentFieldMap indexFields(final String source, final int startIndex, final int endIndex) {
+
+        final Scanner scanner = new Scanner(source, startIndex, endIndex);
+        final Map<String, JsonField> fields = new LinkedHashMap<>();
+
+        scanner.skipWhitespace();
+        scanner.expect('{');
+        scanner.skipWhitespace();
+        if (scanner.peek() == '}') {
+            scanner.position++;
+        } else {
+            boolean hasNext = true;
+            while (hasNext) {
+                final String key = scanner.readKey();
+                scanner.skipWhitespace();
+                scanner.expect(':');
+                scanner.skipWhitespace();
+                final JsonValue value = scanner.readValue();
+                fields.put(key, JsonField.newInstance(key, value));
+                scanner.skipWhitespace();
+                hasNext = scanner.peek() == ',';
+                if (hasNext) {
+                    scanner.position++;
+                    scanner.skipWhitespace();
+                } else {
+                    scanner.expect('}');
+                }
+            }
+        }
+        scanner.skipWhitespace();
+        if (!scanner.isAtEnd()) {
+            throw scanner.parseException();
+        }
+
+        return PersistentFieldMap.of(fields);
+    }
+
+    private static final class Scanner {
+
+        private final String source;
+        private final int startIndex;
+        private final int endIndex;
+        private int position;
+        private char[] expectedClosers;
+
+        private Scanner(final String source, final int startIndex, final int endIndex) {
+            this.source = source;
+            this.startIndex = startIndex;
+            this.endIndex = endIndex;
+            position = startIndex;
+            expectedClosers = new char[16];
+        }
+
+        private boolean isAtEnd() {
+            return position >= endIndex;
+        }
+
+        private char peek() {
+            if (isAtEnd()) {
+                throw parseException();
+            }
+            return source.charAt(position);
+        }
+
+        private void expect(final char c) {
+            if (peek() != c) {
+                throw parseException();
+            }
+            position++;
+        }
+
+        private void skipWhitespace() {
+            while (!isAtEnd() && isWhitespace(source.charAt(position))) {
+                position++;
+            }
+        }
+
+        private String readKey() {
+            final int keyStart = position;
+            if (peek() != '"') {
+                throw parseException();
+            }
+            if (skipString()) {
+                return parseSlice(keyStart, position).asString();
+            }
+            return source.substring(keyStart + 1, position - 1);
+        }
+
+        private JsonValue readValue() {
+            final int valueStart = position;
+            final char c = peek();
+            if ('{' == c) {
+                if (skipContainer()) {
+                    return lazyObjectOfSlice(valueStart, position);
+                }
+            } else if ('[' == c) {
+                skipContainer();
+            } else if ('"' == c) {
+                skipString();
+            } else {
+                skipLiteral();
+            }
+            return parseSlice(valueStart, position);
+        }
+
+        /**
+         * Skips the string starting at the current position.
+         *
+         * @return whether the string contains escaped characters.
+         */
+        private boolean skipString() {
+            boolean hasEscapes = false;
+            position++;
+            while (!isAtEnd()) {
+                final char c = source.charAt(position);
+                if ('\\' == c) {
+                    hasEscapes = true;
+                    position += 2;
+                } else {
+                    position++;
+                    if ('"' == c) {
+                        return hasEscapes;
+                    }
+                }
+            }
+            throw parseException();
+        }
+
+        private JsonValue lazyObjectOfSlice(final int sliceStart, final int sliceEnd) {
+            final int sliceLength = sliceEnd - sliceStart;
+            if (sliceLength < source.length() / MAX_SHARED_SLICE_DIVISOR) {
+                return ImmutableJsonObject.lazyOf(source.substring(sliceStart, sliceEnd), 0, sliceLength, true);
+            }
+            return ImmutableJsonObject.lazyOf(source, sliceStart, sliceEnd, true);
+        }
+
+        /**
+         * Skips the JSON object or array starting at the current position.
+         * Each closing bracket has to match the type of the innermost open bracket.
+         *
+         * @return whether the container contains no insignificant whitespace.
+         */
+        private boolean skipContainer() {
+            boolean isCompact = true;
+            int depth = 0;
+            do {
+                final char c = peek();
+                if ('"' == c) {
+                    skipString();
+                } else {
+                    if ('{' == c) {
+                        pushCloser('}', depth++);
+                    } else if ('[' == c) {
+                        pushCloser(']', depth++);
+                    } else if ('}' == c || ']' == c) {
+                        depth--;
+                        if (expectedClosers[depth] != c) {
+                            throw parseException();
+                        }
+                    } else if (isWhitespace(c)) {
+                        isCompact = false;
+                    }
+                    position++;
+                }
+            } while (0 < depth);
+            return isCompact;
+        }
+
+        private void pushCloser(final char closer, final int depth) {
+            if (expectedClosers.length == depth) {
+                expectedClosers = Arrays.copyOf(expectedClosers, 2 * depth);
+            }
+            expectedClosers[depth] = closer;
+        }
+
+        private void skipLiteral() {
+            final int literalStart = position;
+            while (!isAtEnd() && !isLiteralDelimiter(source.charAt(position))) {
+                position++;
+            }
+            if (literalStart == position) {
+                throw parseException();
+            }
+        }
+
+        private JsonValue parseSlice(final int sliceStart, final int sliceEnd) {
+            return JsonValueParser.fromString().apply(source.substring(sliceStart, sliceEnd));
+        }
+
+        private JsonParseException parseException() {
+            final String msgPattern = "Failed to parse JSON string ''{0}'' at position <{1}>!";
+            return JsonParseException.newBuilder()
+                    .message(MessageFormat.format(msgPattern, source.substring(startIndex, endIndex),
+                            position - startIndex))
+                    .build();
+        }
+
+        private static boolean isWhitespace(final char c) {
+            return ' ' == c || '\t' == c || '\n' == c || '\r' == c;
+        }
+
+        private static boolean isLiteralDelimiter(final char c) {
+            return ',' == c || '}' == c || ']' == c || isWhitespace(c);
+        }
+
+    }
+
+}
@@ -12,6 +12,11 @@
  */
 package org.eclipse.ditto.json;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
 import javax.annotation.Nullable;
 
 /**
@@ -265,6 +270,53 @@ public interface JsonValue {
     @Override
     String toString();
 
+    /**
+     * Writes the JSON string for this value to the given appendable.
+     * Implementations of JSON objects, arrays and strings write their elements one after another, i. e. they do not
+     * build the whole JSON string in memory.
+     *
+     * @param appendable the appendable to write to.
+     * @throws NullPointerException if {@code appendable} is {@code null}.
+     * @throws IOException if {@code appendable} throws an IOException.
+     * @see #toString()
+     */
+    default void writeTo(final Appendable appendable) throws IOException {
+        appendable.append(toString());
+    }
+
+    /**
+     * Writes the UTF-8 encoded JSON string for this value to the given output stream and flushes it afterwards.
+     * The stream is not closed.
+     *
+     * @param outputStream the output stream to write to.
+     * @throws NullPointerException if {@code outputStream} is {@code null}.
+     * @throws IOException if {@code outputStream} throws an IOException.
+     */
+    default void writeTo(final OutputStream outputStream) throws IOException {
+        final Utf8Appendable utf8Appendable = Utf8Appendable.of(outputStream);
+        writeTo(utf8Appendable);
+        utf8Appendable.flush();
+    }
+
+    /**
+     * Puts the UTF-8 encoded JSON string for this value into the given byte buffer starting at its current position.
+     *
+     * @param byteBuffer the byte buffer to write to.
+     * @throws NullPointerException if {@code byteBuffer} is {@code null}.
+     * @throws java.nio.BufferOverflowException if the remaining bytes of {@code byteBuffer} do not suffice.
+     * @throws java.nio.ReadOnlyBufferException if {@code byteBuffer} is read-only.
+     */
+    default void writeTo(final ByteBuffer byteBuffer) {
+        final Utf8Appendable utf8Appendable = Utf8Appendable.of(byteBuffer);
+        try {
+            writeTo(utf8Appendable);
+            utf8Appendable.flush();
+        } catch (final IOException e) {
+            // Utf8Appendable does not throw IOExceptions when writing to a byte buffer
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Return this JSON value in string representation, without quoting if this is a JSON string already.
      *
@@ -0,0 +1,438 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * An immutable, insertion-ordered map from key names to JSON fields which shares its structure with the map it was
+ * derived from.
+ * <p>
+ * The fields are kept in a {@link PersistentVector} in insertion order.
+ * A hash array mapped trie maps each key to the position of its field in the vector.
+ * Setting or removing a field therefore takes O(log N) instead of O(N) time.
+ * Removed fields leave a gap in the vector which is compacted as soon as gaps outnumber fields.
+ * As with {@link java.util.LinkedHashMap}, replacing the field of an existing key retains its position.
+ * </p>
+ * <p>
+ * The mutating methods of {@link Map} are not supported.
+ * </p>
+ */
+@Immutable
+final class PersistentFieldMap extends AbstractMap<String, JsonField> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int MIN_GAPS_TO_COMPACT = 32;
+
+    private static final PersistentFieldMap EMPTY =
+            new PersistentFieldMap(HashNode.EMPTY, PersistentVector.empty(), 0);
+
+    private final HashNode keyIndex;
+    private final PersistentVector<JsonField> fields;
+    private final int size;
+
+    private PersistentFieldMap(final HashNode keyIndex, final PersistentVector<JsonField> fields, final int size) {
+        this.keyIndex = keyIndex;
+        this.fields = fields;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     *
+     * @return the empty map.
+     */
+    static PersistentFieldMap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a map containing the fields of the given map in its iteration order.
+     *
+     * @param fieldMap the fields by their key names.
+     * @return the map.
+     */
+    static PersistentFieldMap of(final Map<String, JsonField> fieldMap) {
+        if (fieldMap instanceof PersistentFieldMap) {
+            return (PersistentFieldMap) fieldMap;
+        }
+        HashNode index = HashNode.EMPTY;
+        int position = 0;
+        for (final String key : fieldMap.keySet()) {
+            index = index.put(new KeyEntry(key, key.hashCode(), position++), 0);
+        }
+        return new PersistentFieldMap(index, PersistentVector.of(fieldMap.values()), fieldMap.size());
+    }
+
+    /**
+     * Returns a map with the given field set for {@code key}.
+     *
+     * @param key the key name of the field.
+     * @param field the field.
+     * @return the new map.
+     */
+    PersistentFieldMap with(final String key, final JsonField field) {
+        final KeyEntry existing = keyIndex.find(key, key.hashCode(), 0);
+        if (null != existing) {
+            return new PersistentFieldMap(keyIndex, fields.updated(existing.position, field), size);
+        }
+        final HashNode newIndex = keyIndex.put(new KeyEntry(key, key.hashCode(), fields.size()), 0);
+        return new PersistentFieldMap(newIndex, fields.appended(field), size + 1);
+    }
+
+    /**
+     * Returns a map without the field for {@code key}.
+     *
+     * @param key the key name of the field to remove.
+     * @return the new map or this map if it does not contain {@code key}.
+     */
+    PersistentFieldMap without(final String key) {
+        final KeyEntry existing = keyIndex.find(key, key.hashCode(), 0);
+        if (null == existing) {
+            return this;
+        }
+        final PersistentFieldMap result = new PersistentFieldMap(keyIndex.remove(key, key.hashCode(), 0),
+                fields.updated(existing.position, null), size - 1);
+        final int gaps = result.fields.size() - result.size;
+        if (gaps >= MIN_GAPS_TO_COMPACT && gaps > result.size) {
+            return compact(result);
+        }
+        return result;
+    }
+
+    private static PersistentFieldMap compact(final PersistentFieldMap fieldMap) {
+        HashNode index = HashNode.EMPTY;
+        PersistentVector<JsonField> compactedFields = PersistentVector.empty();
+        for (final JsonField field : fieldMap.values()) {
+            final String key = field.getKeyName();
+            index = index.put(new KeyEntry(key, key.hashCode(), compactedFields.size()), 0);
+            compactedFields = compactedFields.appended(field);
+        }
+        return new PersistentFieldMap(index, compactedFields, fieldMap.size);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return key instanceof String && null != keyIndex.find((String) key, key.hashCode(), 0);
+    }
+
+    @Override
+    @Nullable
+    public JsonField get(final Object key) {
+        if (key instanceof String) {
+            final KeyEntry entry = keyIndex.find((String) key, key.hashCode(), 0);
+            if (null != entry) {
+                return fields.get(entry.position);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Collection<JsonField> values() {
+        return new AbstractCollection<JsonField>() {
+            @Override
+            public Iterator<JsonField> iterator() {
+                return new FieldIterator<>(fields.iterator(), Function.identity());
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public Set<Entry<String, JsonField>> entrySet() {
+        return new AbstractSet<Entry<String, JsonField>>() {
+            @Override
+            public Iterator<Entry<String, JsonField>> iterator() {
+                return new FieldIterator<>(fields.iterator(),
+                        field -> new SimpleImmutableEntry<>(field.getKeyName(), field));
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Iterates the fields of the vector skipping the gaps left by removed fields.
+     */
+    private static final class FieldIterator<T> implements Iterator<T> {
+
+        private final Iterator<JsonField> fieldIterator;
+        private final Function<JsonField, T> mapper;
+        @Nullable private JsonField next;
+
+        private FieldIterator(final Iterator<JsonField> fieldIterator, final Function<JsonField, T> mapper) {
+            this.fieldIterator = fieldIterator;
+            this.mapper = mapper;
+            next = advance();
+        }
+
+        @Nullable
+        private JsonField advance() {
+            while (fieldIterator.hasNext()) {
+                final JsonField field = fieldIterator.next();
+                if (null != field) {
+                    return field;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return null != next;
+        }
+
+        @Override
+        public T next() {
+            final JsonField result = next;
+            if (null == result) {
+                throw new NoSuchElementException();
+            }
+            next = advance();
+            return mapper.apply(result);
+        }
+
+    }
+
+    /**
+     * Maps a key to the position of its field.
+     */
+    private static final class KeyEntry {
+
+        private final String key;
+        private final int hash;
+        private final int position;
+
+        private KeyEntry(final String key, final int hash, final int position) {
+            this.key = key;
+            this.hash = hash;
+            this.position = position;
+        }
+
+        private boolean matches(final String otherKey, final int otherHash) {
+            return hash == otherHash && key.equals(otherKey);
+        }
+
+    }
+
+    /**
+     * Node of the hash array mapped trie.
+     * Each slot is either a {@link KeyEntry}, a nested {@code HashNode} for the next 5 bits of the hash
+     * or a {@link CollisionNode} for keys with identical hashes.
+     * The bitmap marks which of the 32 possible slots are present.
+     */
+    private static final class HashNode {
+
+        private static final HashNode EMPTY = new HashNode(0, new Object[0]);
+
+        private final int bitmap;
+        private final Object[] slots;
+
+        private HashNode(final int bitmap, final Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        private static int bit(final int hash, final int shift) {
+            return 1 << ((hash >>> shift) & MASK);
+        }
+
+        private int slotIndex(final int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Nullable
+        private KeyEntry find(final String key, final int hash, final int shift) {
+            final int bit = bit(hash, shift);
+            if (0 == (bitmap & bit)) {
+                return null;
+            }
+            final Object slot = slots[slotIndex(bit)];
+            if (slot instanceof KeyEntry) {
+                final KeyEntry entry = (KeyEntry) slot;
+                return entry.matches(key, hash) ? entry : null;
+            } else if (slot instanceof HashNode) {
+                return ((HashNode) slot).find(key, hash, shift + BITS);
+            } else {
+                return ((CollisionNode) slot).find(key);
+            }
+        }
+
+        private HashNode put(final KeyEntry entry, final int shift) {
+            final int bit = bit(entry.hash, shift);
+            final int index = slotIndex(bit);
+            if (0 == (bitmap & bit)) {
+                final Object[] newSlots = new Object[slots.length + 1];
+                System.arraycopy(slots, 0, newSlots, 0, index);
+                newSlots[index] = entry;
+                System.arraycopy(slots, index, newSlots, index + 1, slots.length - index);
+                return new HashNode(bitmap | bit, newSlots);
+            }
+            final Object slot = slots[index];
+            final Object newSlot;
+            if (slot instanceof KeyEntry) {
+                final KeyEntry existing = (KeyEntry) slot;
+                newSlot = existing.matches(entry.key, entry.hash) ? entry : merge(existing, entry, shift + BITS);
+            } else if (slot instanceof HashNode) {
+                newSlot = ((HashNode) slot).put(entry, shift + BITS);
+            } else {
+                final CollisionNode collisionNode = (CollisionNode) slot;
+                if (collisionNode.hash == entry.hash) {
+                    newSlot = collisionNode.put(entry);
+                } else {
+                    newSlot = new HashNode(bit(collisionNode.hash, shift + BITS), new Object[]{collisionNode})
+                            .put(entry, shift + BITS);
+                }
+            }
+            return withSlot(index, newSlot);
+        }
+
+        private static Object merge(final KeyEntry first, final KeyEntry second, final int shift) {
+            if (first.hash == second.hash) {
+                return new CollisionNode(first.hash, new KeyEntry[]{first, second});
+            }
+            final int firstBit = bit(first.hash, shift);
+            final int secondBit = bit(second.hash, shift);
+            if (firstBit == secondBit) {
+                return new HashNode(firstBit, new Object[]{merge(first, second, shift + BITS)});
+            } else if (Integer.compareUnsigned(firstBit, secondBit) < 0) {
+                return new HashNode(firstBit | secondBit, new Object[]{first, second});
+            } else {
+                return new HashNode(firstBit | secondBit, new Object[]{second, first});
+            }
+        }
+
+        private HashNode remove(final String key, final int hash, final int shift) {
+            final int bit = bit(hash, shift);
+            if (0 == (bitmap & bit)) {
+                return this;
+            }
+            final int index = slotIndex(bit);
+            final Object slot = slots[index];
+            final Object newSlot;
+            if (slot instanceof KeyEntry) {
+                newSlot = ((KeyEntry) slot).matches(key, hash) ? null : slot;
+            } else if (slot instanceof HashNode) {
+                final HashNode newNode = ((HashNode) slot).remove(key, hash, shift + BITS);
+                if (0 == newNode.slots.length) {
+                    newSlot = null;
+                } else if (1 == newNode.slots.length && newNode.slots[0] instanceof KeyEntry) {
+                    newSlot = newNode.slots[0];
+                } else {
+                    newSlot = newNode;
+                }
+            } else {
+                newSlot = ((CollisionNode) slot).remove(key);
+            }
+            if (newSlot == slot) {
+                return this;
+            } else if (null == newSlot) {
+                final Object[] newSlots = new Object[slots.length - 1];
+                System.arraycopy(slots, 0, newSlots, 0, index);
+                System.arraycopy(slots, index + 1, newSlots, index, slots.length - index - 1);
+                return new HashNode(bitmap & ~bit, newSlots);
+            }
+            return withSlot(index, newSlot);
+        }
+
+        private HashNode withSlot(final int index, final Object slot) {
+            final Object[] newSlots = slots.clone();
+            newSlots[index] = slot;
+            return new HashNode(bitmap, newSlots);
+        }
+
+    }
+
+    /**
+     * Holds the entries of keys whose hashes are identical.
+     */
+    private static final class CollisionNode {
+
+        private final int hash;
+        private final KeyEntry[] entries;
+
+        private CollisionNode(final int hash, final KeyEntry[] entries) {
+            this.hash = hash;
+            this.entries = entries;
+        }
+
+        @Nullable
+        private KeyEntry find(final String key) {
+            for (final KeyEntry entry : entries) {
+                if (entry.key.equals(key)) {
+                    return entry;
+                }
+            }
+            return null;
+        }
+
+        private CollisionNode put(final KeyEntry newEntry) {
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i].key.equals(newEntry.key)) {
+                    final KeyEntry[] newEntries = entries.clone();
+                    newEntries[i] = newEntry;
+                    return new CollisionNode(hash, newEntries);
+                }
+            }
+            final KeyEntry[] newEntries = new KeyEntry[entries.length + 1];
+            System.arraycopy(entries, 0, newEntries, 0, entries.length);
+            newEntries[entries.length] = newEntry;
+            return new CollisionNode(hash, newEntries);
+        }
+
+        /**
+         * Returns the remaining single entry, this node if {@code key} is absent or a node without {@code key}.
+         */
+        private Object remove(final String key) {
+            for (int i = 0; i < entries.length; i++) {
+                if (entries[i].key.equals(key)) {
+                    if (2 == entries.length) {
+                        return entries[1 - i];
+                    }
+                    final KeyEntry[] newEntries = new KeyEntry[entries.length - 1];
+                    System.arraycopy(entries, 0, newEntries, 0, i);
+                    System.arraycopy(entries, i + 1, newEntries, i, entries.length - i - 1);
+                    return new CollisionNode(hash, newEntries);
+                }
+            }
+            return this;
+        }
+
+    }
+
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * An immutable list which shares its structure with the list it was derived from.
+ * <p>
+ * The elements are stored in the leaves of a trie with a branching factor of 32.
+ * Appending or replacing an element copies only the path from the root to the affected leaf, i. e. it takes
+ * O(log<sub>32</sub> N) instead of O(N) time.
+ * The mutating methods of {@link java.util.List} are not supported.
+ * </p>
+ *
+ * @param <E> the type of the elements; {@code null} elements are permitted.
+ */
+@Immutable
+final class PersistentVector<E> extends AbstractList<E> implements RandomAccess {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(new Object[0], 0, 0);
+
+    private final Object[] root;
+    private final int shift;
+    private final int size;
+
+    private PersistentVector(final Object[] root, final int shift, final int size) {
+        this.root = root;
+        this.shift = shift;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty vector.
+     *
+     * @param <E> the type of the elements.
+     * @return the empty vector.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * Returns a vector containing the given elements in iteration order.
+     * The trie is built bottom-up in O(N) time.
+     *
+     * @param elements the elements.
+     * @param <E> the type of the elements.
+     * @return the vector.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> PersistentVector<E> of(final Collection<? extends E> elements) {
+        if (elements instanceof PersistentVector) {
+            return (PersistentVector<E>) elements;
+        }
+        final Object[] array = elements.toArray();
+        if (0 == array.length) {
+            return empty();
+        }
+        Object[] level = array;
+        int levelShift = 0;
+        while (true) {
+            final Object[][] nodes = chunk(level);
+            if (1 == nodes.length) {
+                return new PersistentVector<>(nodes[0], levelShift, array.length);
+            }
+            level = nodes;
+            levelShift += BITS;
+        }
+    }
+
+    private static Object[][] chunk(final Object[] level) {
+        final Object[][] nodes = new Object[(level.length + MASK) >>> BITS][];
+        for (int i = 0; i < nodes.length; i++) {
+            final int from = i << BITS;
+            final Object[] node = new Object[Math.min(WIDTH, level.length - from)];
+            System.arraycopy(level, from, node, 0, node.length);
+            nodes[i] = node;
+        }
+        return nodes;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(final int index) {
+        return (E) leafFor(index)[index & MASK];
+    }
+
+    private Object[] leafFor(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return node;
+    }
+
+    /**
+     * Returns a vector with the given element appended to the elements of this vector.
+     *
+     * @param element the element to append.
+     * @return the new vector.
+     */
+    PersistentVector<E> appended(@Nullable final E element) {
+        if (size == 1 << (shift + BITS)) {
+            final Object[] newRoot = {root, newPath(shift, element)};
+            return new PersistentVector<>(newRoot, shift + BITS, size + 1);
+        }
+        return new PersistentVector<>(appendToNode(root, shift, element), shift, size + 1);
+    }
+
+    private Object[] appendToNode(final Object[] node, final int level, @Nullable final Object element) {
+        if (0 == level) {
+            final Object[] result = copyOf(node, node.length + 1);
+            result[node.length] = element;
+            return result;
+        }
+        final int childIndex = (size >>> level) & MASK;
+        final Object[] result;
+        if (childIndex < node.length) {
+            result = node.clone();
+            result[childIndex] = appendToNode((Object[]) node[childIndex], level - BITS, element);
+        } else {
+            result = copyOf(node, node.length + 1);
+            result[childIndex] = newPath(level - BITS, element);
+        }
+        return result;
+    }
+
+    private static Object[] newPath(final int level, @Nullable final Object element) {
+        final Object[] leaf = {element};
+        Object[] result = leaf;
+        for (int i = 0; i < level; i += BITS) {
+            result = new Object[]{result};
+        }
+        return result;
+    }
+
+    /**
+     * Returns a vector with the element at the given index replaced by {@code element}.
+     *
+     * @param index the index of the element to replace.
+     * @param element the new element.
+     * @return the new vector.
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    PersistentVector<E> updated(final int index, @Nullable final E element) {
+        leafFor(index);
+        return new PersistentVector<>(updateNode(root, shift, index, element), shift, size);
+    }
+
+    private static Object[] updateNode(final Object[] node, final int level, final int index,
+            @Nullable final Object element) {
+
+        final Object[] result = node.clone();
+        if (0 == level) {
+            result[index & MASK] = element;
+        } else {
+            final int childIndex = (index >>> level) & MASK;
+            result[childIndex] = updateNode((Object[]) node[childIndex], level - BITS, index, element);
+        }
+        return result;
+    }
+
+    private static Object[] copyOf(final Object[] array, final int newLength) {
+        final Object[] result = new Object[newLength];
+        System.arraycopy(array, 0, result, 0, Math.min(array.length, newLength));
+        return result;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+
+            private int index = 0;
+            @Nullable private Object[] leaf = null;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (null == leaf || 0 == (index & MASK)) {
+                    leaf = leafFor(index);
+                }
+                return (E) leaf[index++ & MASK];
+            }
+        };
+    }
+
+}
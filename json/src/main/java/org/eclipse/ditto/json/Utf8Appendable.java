@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * An {@link Appendable} which encodes the appended characters as UTF-8 directly into a {@link ByteBuffer} or an
+ * {@link OutputStream}, i. e. without building an intermediate String.
+ * Unpaired surrogate characters are encoded as {@code '?'} like {@link java.nio.charset.StandardCharsets#UTF_8} does.
+ * <p>
+ * {@link #flush()} has to be called after the last character was appended.
+ * </p>
+ */
+@NotThreadSafe
+final class Utf8Appendable implements Appendable {
+
+    private static final int OUTPUT_STREAM_BUFFER_SIZE = 8192;
+    private static final int MAX_BYTES_PER_CODE_POINT = 4;
+    private static final byte REPLACEMENT = '?';
+
+    private final ByteBuffer target;
+    @Nullable private final OutputStream outputStream;
+    private char pendingHighSurrogate;
+
+    private Utf8Appendable(final ByteBuffer target, @Nullable final OutputStream outputStream) {
+        this.target = target;
+        this.outputStream = outputStream;
+        pendingHighSurrogate = 0;
+    }
+
+    /**
+     * Returns an appendable which puts the encoded characters into the given byte buffer starting at its position.
+     *
+     * @param byteBuffer the byte buffer.
+     * @return the appendable.
+     * @throws NullPointerException if {@code byteBuffer} is {@code null}.
+     */
+    static Utf8Appendable of(final ByteBuffer byteBuffer) {
+        return new Utf8Appendable(requireNonNull(byteBuffer, "The ByteBuffer must not be null!"), null);
+    }
+
+    /**
+     * Returns an appendable which writes the encoded characters to the given output stream through a small buffer.
+     *
+     * @param outputStream the output stream.
+     * @return the appendable.
+     * @throws NullPointerException if {@code outputStream} is {@code null}.
+     */
+    static Utf8Appendable of(final OutputStream outputStream) {
+        requireNonNull(outputStream, "The OutputStream must not be null!");
+        return new Utf8Appendable(ByteBuffer.allocate(OUTPUT_STREAM_BUFFER_SIZE), outputStream);
+    }
+
+    @Override
+    public Utf8Appendable append(final CharSequence csq) throws IOException {
+        return append(csq, 0, csq.length());
+    }
+
+    @Override
+    public Utf8Appendable append(final CharSequence csq, final int start, final int end) throws IOException {
+        for (int i = start; i < end; i++) {
+            append(csq.charAt(i));
+        }
+        return this;
+    }
+
+    @Override
+    public Utf8Appendable append(final char c) throws IOException {
+        ensureCapacity();
+        if (0 != pendingHighSurrogate) {
+            final char highSurrogate = pendingHighSurrogate;
+            pendingHighSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                putCodePoint(Character.toCodePoint(highSurrogate, c));
+                return this;
+            }
+            target.put(REPLACEMENT);
+        }
+        if (c < 0x80) {
+            target.put((byte) c);
+        } else if (c < 0x800) {
+            target.put((byte) (0xC0 | (c >> 6)));
+            target.put((byte) (0x80 | (c & 0x3F)));
+        } else if (Character.isHighSurrogate(c)) {
+            pendingHighSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            target.put(REPLACEMENT);
+        } else {
+            target.put((byte) (0xE0 | (c >> 12)));
+            target.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+            target.put((byte) (0x80 | (c & 0x3F)));
+        }
+        return this;
+    }
+
+    private void putCodePoint(final int codePoint) {
+        target.put((byte) (0xF0 | (codePoint >> 18)));
+        target.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+        target.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+        target.put((byte) (0x80 | (codePoint & 0x3F)));
+    }
+
+    private void ensureCapacity() throws IOException {
+        if (null != outputStream && target.remaining() < MAX_BYTES_PER_CODE_POINT + 1) {
+            drain(outputStream);
+        }
+    }
+
+    private void drain(final OutputStream stream) throws IOException {
+        stream.write(target.array(), target.arrayOffset(), target.position());
+        target.clear();
+    }
+
+    /**
+     * Encodes a pending unpaired surrogate and writes buffered bytes to the output stream, if any.
+     *
+     * @throws IOException if the output stream throws an IOException.
+     */
+    void flush() throws IOException {
+        ensureCapacity();
+        if (0 != pendingHighSurrogate) {
+            pendingHighSurrogate = 0;
+            target.put(REPLACEMENT);
+        }
+        if (null != outputStream) {
+            drain(outputStream);
+            outputStream.flush();
+        }
+    }
+
+}
@@ -20,6 +20,11 @@ import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -1336,6 +1341,50 @@ public final class ImmutableJsonObjectTest {
         Assertions.assertThat(objectWithoutDefinition).isEqualTo(objectWithDefinition);
     }
 
+    @Test
+    public void writeToOutputStreamWritesUtf8EncodedStringRepresentation() throws IOException {
+        final JsonObject underTest = JsonObject.newBuilder()
+                .set("f\u00fc\"r", "\uD83D\uDE00\n")
+                .set("nested", JsonObject.newBuilder()
+                        .set("array", JsonArray.newBuilder().add("\u20AC", "\t").add(KNOWN_INT_42).build())
+                        .build())
+                .build();
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        underTest.writeTo(outputStream);
+
+        assertThat(outputStream.toByteArray()).isEqualTo(underTest.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void writeToByteBufferPutsUtf8EncodedStringRepresentation() {
+        final JsonObject underTest = ImmutableJsonObject.lazyOf("{\"f\u00fc\u00fc\":{\"bar\":[1,\"\u20AC\"]}}");
+        final byte[] expected = underTest.toString().getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(expected.length);
+
+        underTest.writeTo(byteBuffer);
+
+        assertThat(byteBuffer.array()).isEqualTo(expected);
+    }
+
+    @Test
+    public void writeToTooSmallByteBufferThrowsBufferOverflowException() {
+        final JsonObject underTest = ImmutableJsonObject.of(KNOWN_FIELDS);
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(KNOWN_JSON_STRING.length() - 1);
+
+        assertThatExceptionOfType(BufferOverflowException.class).isThrownBy(() -> underTest.writeTo(byteBuffer));
+    }
+
+    @Test
+    public void writeToAppendableAppendsStringRepresentation() throws IOException {
+        final JsonObject underTest = ImmutableJsonObject.of(KNOWN_FIELDS);
+        final StringBuilder stringBuilder = new StringBuilder();
+
+        underTest.writeTo(stringBuilder);
+
+        assertThat(stringBuilder.toString()).isEqualTo(KNOWN_JSON_STRING);
+    }
+
     private static Map<String, JsonField> toMap(final CharSequence key, final JsonValue value) {
         final Map<String, JsonField> result = new LinkedHashMap<>();
         result.put(key.toString(), toField(key, value));
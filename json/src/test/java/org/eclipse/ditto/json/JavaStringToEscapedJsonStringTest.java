@@ -17,6 +17,7 @@ import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
+import java.io.IOException;
 import java.util.function.Function;
 
 import org.junit.Before;
@@ -61,4 +62,14 @@ public final class JavaStringToEscapedJsonStringTest {
         assertThat(actual).isEqualTo(expected);
     }
 
+    @Test
+    public void appendJavaStringWithSpecialCharsEqualsConvertedString() throws IOException {
+        final String javaString = "\tAuf der Wiese\n blueht ein kleines \"Blümelein\".\\";
+        final StringBuilder stringBuilder = new StringBuilder();
+
+        underTest.appendTo(javaString, stringBuilder);
+
+        assertThat(stringBuilder.toString()).isEqualTo(underTest.apply(javaString));
+    }
+
 }
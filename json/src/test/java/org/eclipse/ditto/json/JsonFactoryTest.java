@@ -226,6 +226,51 @@ public final class JsonFactoryTest {
         assertThat(underTest).contains(JsonFactory.newKey("properties"), expectedProperties);
     }
 
+    @Test(expected = NullPointerException.class)
+    public void tryToCreateNewLazyObjectFromNullString() {
+        JsonFactory.newLazyObject(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void tryToCreateNewLazyObjectFromEmptyString() {
+        JsonFactory.newLazyObject("");
+    }
+
+    @Test(expected = JsonParseException.class)
+    public void tryToCreateNewLazyObjectFromNonsenseString() {
+        JsonFactory.newLazyObject("Ma-O-Am");
+    }
+
+    @Test
+    public void newLazyObjectFromStringEqualsParsedObject() {
+        final JsonObject underTest = JsonFactory.newLazyObject(KNOWN_JSON_OBJECT_STRING);
+        final JsonObject expected = JsonFactory.newObject(KNOWN_JSON_OBJECT_STRING);
+
+        assertThat(underTest).isNotNullLiteral();
+        assertThat(underTest).isEqualTo(expected);
+        assertThat(underTest.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(underTest.getValue("properties/someObj/aKey")).contains(JsonFactory.newValue("aValue"));
+    }
+
+    @Test
+    public void newLazyObjectIsSerializedAsGivenStringUntilModified() {
+        final String jsonString = "{ \"foo\" : { \"bar\" : [ 1, 2 ] } }";
+
+        final JsonObject underTest = JsonFactory.newLazyObject(jsonString);
+        final JsonObject modified = underTest.setValue(JsonPointer.of("foo/baz"), true);
+
+        assertThat(underTest.toString()).isSameAs(jsonString);
+        assertThat(underTest.getValue("foo").map(JsonValue::toString)).contains("{ \"bar\" : [ 1, 2 ] }");
+        assertThat(modified.toString()).isEqualTo("{\"foo\":{\"bar\":[1,2],\"baz\":true}}");
+    }
+
+    @Test
+    public void newLazyObjectReportsSyntaxErrorsOnAccess() {
+        final JsonObject underTest = JsonFactory.newLazyObject("{\"foo\":{\"bar\":}}");
+
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> underTest.getValue("foo/bar"));
+    }
+
     @Test(expected = NullPointerException.class)
     public void tryToCreateNewObjectBuilderFromNullIterable() {
         JsonFactory.newArrayBuilder(null);
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.json.JsonObjectIndex}.
+ */
+public final class JsonObjectIndexTest {
+
+    private static JsonArray knownJsonArray;
+    private static JsonObject knownNestedJsonObject;
+    private static JsonObject knownJsonObject;
+
+    @BeforeClass
+    public static void initTestConstants() {
+        knownJsonArray = JsonArray.newBuilder()
+                .add("hubbl")
+                .add("fubbl")
+                .add(false)
+                .add(3)
+                .build();
+
+        knownNestedJsonObject = JsonObject.newBuilder()
+                .set("int", Integer.MAX_VALUE)
+                .set("boolean", true)
+                .set("double", 23.42D)
+                .set("long", Long.MAX_VALUE)
+                .set("object", JsonObject.newBuilder()
+                        .set("unu", "asdf")
+                        .set("du", "jkl;")
+                        .build()
+                )
+                .build();
+
+        knownJsonObject = JsonObject.newBuilder()
+                .set("foo", "bar")
+                .set("bar", knownJsonArray)
+                .set("baz", knownNestedJsonObject)
+                .build();
+    }
+
+    @Test
+    public void indexEmptyObjectStringToEmptyMap() {
+        assertThat(indexFields(JsonObject.empty().toString())).isEmpty();
+    }
+
+    @Test
+    public void indexObjectString() {
+        final Map<String, JsonField> expected = new LinkedHashMap<>();
+        expected.put("foo", JsonField.newInstance("foo", JsonValue.of("bar")));
+        expected.put("bar", JsonField.newInstance("bar", knownJsonArray));
+        expected.put("baz", JsonField.newInstance("baz", knownNestedJsonObject));
+
+        final Map<String, JsonField> actual = indexFields(knownJsonObject.toString());
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.keySet()).containsExactly("foo", "bar", "baz");
+    }
+
+    @Test
+    public void indexObjectStringWithWhitespaceAndEscapedCharacters() {
+        final String jsonObjectString = " {\n \"a\\\"b\" : \"}{\\\\\" ,\t\"c\":{ \"d\" : [ 1, {\"e\":\"]\"} ] } }\r\n";
+
+        final Map<String, JsonField> actual = indexFields(jsonObjectString);
+
+        assertThat(actual.keySet()).containsExactly("a\"b", "c");
+        assertThat(actual.get("a\"b").getValue()).isEqualTo(JsonValue.of("}{\\"));
+        assertThat(actual.get("c").getValue())
+                .isEqualTo(JsonFactory.newObject("{\"d\":[1,{\"e\":\"]\"}]}"));
+    }
+
+    @Test
+    public void nestedObjectsShareTheIndexedString() {
+        final String jsonObjectString = "{\"baz\": " + knownNestedJsonObject + "}";
+
+        final JsonValue nested = indexFields(jsonObjectString).get("baz").getValue();
+
+        assertThat(nested.toString()).isEqualTo(knownNestedJsonObject.toString());
+        assertThat(nested).isEqualTo(knownNestedJsonObject);
+        assertThat(nested.asObject().getValue("object/du")).contains(JsonValue.of("jkl;"));
+    }
+
+    @Test
+    public void nestedObjectsWithWhitespaceHaveCompactStringRepresentation() {
+        final String jsonObjectString = "{\"a\": { \"b\" : [ 1, 2 ] },\"c\":{\"d\":{ }}}";
+
+        final Map<String, JsonField> actual = indexFields(jsonObjectString);
+
+        assertThat(actual.get("a").getValue().toString()).isEqualTo("{\"b\":[1,2]}");
+        assertThat(actual.get("c").getValue().toString()).isEqualTo("{\"d\":{}}");
+    }
+
+    @Test
+    public void smallNestedObjectIsEqualToItsCopiedSlice() {
+        final String padding = String.join("", Collections.nCopies(100, "x"));
+        final String jsonObjectString = "{\"a\":{\"b\":1},\"padding\":\"" + padding + "\"}";
+
+        final JsonValue nested = indexFields(jsonObjectString).get("a").getValue();
+
+        assertThat(nested.toString()).isEqualTo("{\"b\":1}");
+        assertThat(nested).isEqualTo(JsonFactory.newObject("{\"b\":1}"));
+        assertThat(nested.asObject().getValue("b")).contains(JsonValue.of(1));
+    }
+
+    @Test(timeout = 10_000L)
+    public void indexLargeObjectStringInLinearTime() {
+        final int numberOfFields = 200_000;
+        final StringBuilder jsonObjectString = new StringBuilder("{");
+        for (int i = 0; i < numberOfFields; i++) {
+            jsonObjectString.append("\"key").append(i).append("\":{},");
+        }
+        jsonObjectString.append("\"escaped\\\"key\":{}}");
+
+        final Map<String, JsonField> actual = indexFields(jsonObjectString.toString());
+
+        assertThat(actual).hasSize(numberOfFields + 1);
+        assertThat(actual).containsKeys("key0", "key" + (numberOfFields - 1), "escaped\"key");
+    }
+
+    @Test
+    public void lastOccurrenceOfDuplicateKeyWins() {
+        final Map<String, JsonField> actual = indexFields("{\"a\":1,\"b\":2,\"a\":3}");
+
+        assertThat(actual.keySet()).containsExactly("a", "b");
+        assertThat(actual.get("a").getValue()).isEqualTo(JsonValue.of(3));
+    }
+
+    @Test
+    public void indexInvalidObjectStrings() {
+        final String[] invalidJsonObjectStrings = {
+                "", "[]", "{", "{\"a\"}", "{\"a\":}", "{\"a\":1,}", "{\"a\":1}x", "{\"a\":\"b}", "{a:1}",
+                "{\"a\":{\"b\":1}", "{\"a\":{]}", "{\"a\":[}]}", "{\"a\":[{]}}", "{\"a\":{\"b\":[1}]}"
+        };
+        for (final String invalidJsonObjectString : invalidJsonObjectStrings) {
+            assertThatExceptionOfType(JsonParseException.class)
+                    .as(invalidJsonObjectString)
+                    .isThrownBy(() -> indexFields(invalidJsonObjectString));
+        }
+    }
+
+    private static Map<String, JsonField> indexFields(final String jsonObjectString) {
+        return JsonObjectIndex.indexFields(jsonObjectString, 0, jsonObjectString.length());
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PersistentFieldMap}.
+ */
+public final class PersistentFieldMapTest {
+
+    @Test
+    public void behavesLikeLinkedHashMap() {
+        final Random random = new Random(42L);
+        for (final int keySpace : new int[]{1, 10, 100, 3000}) {
+            final Map<String, JsonField> expected = new LinkedHashMap<>();
+            PersistentFieldMap underTest = PersistentFieldMap.empty();
+
+            for (int i = 0; i < 5000; i++) {
+                final String key = "k" + random.nextInt(keySpace);
+                if (0 == random.nextInt(3)) {
+                    expected.remove(key);
+                    underTest = underTest.without(key);
+                } else {
+                    final JsonField field = JsonField.newInstance(key, JsonValue.of(i));
+                    expected.put(key, field);
+                    underTest = underTest.with(key, field);
+                }
+            }
+
+            assertThat(new ArrayList<>(underTest.entrySet())).isEqualTo(new ArrayList<>(expected.entrySet()));
+            assertThat(underTest).isEqualTo(expected);
+            assertThat(underTest.hashCode()).isEqualTo(expected.hashCode());
+            expected.forEach((key, field) -> assertThat(underTest.get(key)).isSameAs(field));
+        }
+    }
+
+    @Test
+    public void keysWithCollidingHashesAreDistinguished() {
+        final String key1 = "Aa";
+        final String key2 = "BB";
+        assertThat(key1.hashCode()).isEqualTo(key2.hashCode());
+
+        final PersistentFieldMap both = PersistentFieldMap.empty()
+                .with(key1, JsonField.newInstance(key1, JsonValue.of(1)))
+                .with(key2, JsonField.newInstance(key2, JsonValue.of(2)));
+        final PersistentFieldMap withoutKey1 = both.without(key1);
+
+        assertThat(both).hasSize(2);
+        assertThat(both.get(key1).getValue()).isEqualTo(JsonValue.of(1));
+        assertThat(both.get(key2).getValue()).isEqualTo(JsonValue.of(2));
+        assertThat(withoutKey1).hasSize(1).containsOnlyKeys(key2);
+    }
+
+    @Test
+    public void settingExistingKeyRetainsPosition() {
+        final PersistentFieldMap underTest = PersistentFieldMap.empty()
+                .with("a", JsonField.newInstance("a", JsonValue.of(1)))
+                .with("b", JsonField.newInstance("b", JsonValue.of(2)))
+                .with("a", JsonField.newInstance("a", JsonValue.of(3)));
+
+        assertThat(underTest.keySet()).containsExactly("a", "b");
+        assertThat(underTest.get("a").getValue()).isEqualTo(JsonValue.of(3));
+    }
+
+    @Test
+    public void modificationsLeaveOriginalUnchanged() {
+        final PersistentFieldMap original = PersistentFieldMap.empty()
+                .with("a", JsonField.newInstance("a", JsonValue.of(1)));
+
+        original.with("b", JsonField.newInstance("b", JsonValue.of(2)));
+        original.without("a");
+
+        assertThat(original).containsOnlyKeys("a");
+    }
+
+    @Test
+    public void removingAbsentKeyReturnsSameMap() {
+        final PersistentFieldMap underTest = PersistentFieldMap.empty()
+                .with("a", JsonField.newInstance("a", JsonValue.of(1)));
+
+        assertThat(underTest.without("b")).isSameAs(underTest);
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PersistentVector}.
+ */
+public final class PersistentVectorTest {
+
+    private static final int[] SIZES = {0, 1, 31, 32, 33, 1023, 1024, 1025, 40_000};
+
+    @Test
+    public void vectorsBuiltInBulkAndByAppendingEqualList() {
+        for (final int size : SIZES) {
+            final List<Integer> expected = createList(size);
+
+            PersistentVector<Integer> appended = PersistentVector.empty();
+            for (final Integer element : expected) {
+                appended = appended.appended(element);
+            }
+
+            assertThat(PersistentVector.of(expected)).as("of %d", size).isEqualTo(expected);
+            assertThat(appended).as("appended %d", size).isEqualTo(expected).containsExactlyElementsOf(expected);
+            assertThat(appended.hashCode()).isEqualTo(expected.hashCode());
+        }
+    }
+
+    @Test
+    public void updatedLeavesOriginalUnchanged() {
+        for (final int size : SIZES) {
+            if (0 < size) {
+                final PersistentVector<Integer> underTest = PersistentVector.of(createList(size));
+                final int index = size / 2;
+
+                final PersistentVector<Integer> updated = underTest.updated(index, -1);
+
+                assertThat(updated.get(index)).isEqualTo(-1);
+                assertThat(underTest.get(index)).isEqualTo(index);
+                assertThat(updated).hasSize(size);
+            }
+        }
+    }
+
+    @Test
+    public void appendedLeavesOriginalUnchanged() {
+        final PersistentVector<Integer> underTest = PersistentVector.of(createList(32));
+
+        final PersistentVector<Integer> appended = underTest.appended(32);
+
+        assertThat(appended).hasSize(33).endsWith(32);
+        assertThat(underTest).hasSize(32).isEqualTo(createList(32));
+    }
+
+    @Test
+    public void getOutOfRangeThrowsIndexOutOfBoundsException() {
+        final PersistentVector<Integer> underTest = PersistentVector.of(createList(33));
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> underTest.get(33));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> underTest.get(-1));
+    }
+
+    @Test
+    public void mutatingListMethodsAreNotSupported() {
+        final PersistentVector<Integer> underTest = PersistentVector.of(createList(3));
+
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> underTest.add(3));
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> underTest.remove(0));
+    }
+
+    private static List<Integer> createList(final int size) {
+        final List<Integer> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(i);
+        }
+        return result;
+    }
+
+}
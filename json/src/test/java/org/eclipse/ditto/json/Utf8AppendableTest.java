@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link Utf8Appendable}.
+ */
+public final class Utf8AppendableTest {
+
+    private static final String KNOWN_STRING = "aä€😀z";
+
+    @Test
+    public void encodeToByteBufferEqualsUtf8Charset() throws IOException {
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(64);
+        final Utf8Appendable underTest = Utf8Appendable.of(byteBuffer);
+
+        underTest.append(KNOWN_STRING);
+        underTest.flush();
+
+        assertThat(Arrays.copyOf(byteBuffer.array(), byteBuffer.position()))
+                .isEqualTo(KNOWN_STRING.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void encodeUnpairedSurrogatesLikeUtf8Charset() throws IOException {
+        final String stringWithUnpairedSurrogates = "\uDE00a\uD83Db\uD83D";
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(64);
+        final Utf8Appendable underTest = Utf8Appendable.of(byteBuffer);
+
+        underTest.append(stringWithUnpairedSurrogates);
+        underTest.flush();
+
+        assertThat(Arrays.copyOf(byteBuffer.array(), byteBuffer.position()))
+                .isEqualTo(stringWithUnpairedSurrogates.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void encodeStringLongerThanBufferToOutputStream() throws IOException {
+        final StringBuilder stringBuilder = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            stringBuilder.append(KNOWN_STRING);
+        }
+        final String longString = stringBuilder.toString();
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final Utf8Appendable underTest = Utf8Appendable.of(outputStream);
+
+        underTest.append(longString);
+        underTest.flush();
+
+        assertThat(outputStream.toByteArray()).isEqualTo(longString.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void encodeToFullByteBufferThrowsBufferOverflowException() {
+        final Utf8Appendable underTest = Utf8Appendable.of(ByteBuffer.allocate(2));
+
+        assertThatExceptionOfType(BufferOverflowException.class).isThrownBy(() -> underTest.append(KNOWN_STRING));
+    }
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json.benchmark;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares parsing JSON objects eagerly by {@link JsonFactory#newObject(String)} with indexing them lazily by
+ * {@link JsonFactory#newLazyObject(String)} for thing-like payloads with a growing number of features.
+ */
+@State(Scope.Benchmark)
+public class JsonObjectParsingBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final String FEATURE_PROPERTY_POINTER = "features/feature-0/properties/status/temperature";
+
+    @Param({"1", "10", "100", "10000"})
+    public int numberOfFeatures;
+
+    private String thingJsonString;
+
+    @Setup
+    public void setUp() {
+        thingJsonString = createThingJson(numberOfFeatures).toString();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Optional<JsonValue> eagerGetFeatureProperty() {
+        return JsonFactory.newObject(thingJsonString).getValue(FEATURE_PROPERTY_POINTER);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Optional<JsonValue> lazyGetFeatureProperty() {
+        return JsonFactory.newLazyObject(thingJsonString).getValue(FEATURE_PROPERTY_POINTER);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public String eagerGetThingIdAndSerialize() {
+        final JsonObject thing = JsonFactory.newObject(thingJsonString);
+        return thing.getValue("thingId").map(JsonValue::asString).orElse("") + thing;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public String lazyGetThingIdAndSerialize() {
+        final JsonObject thing = JsonFactory.newLazyObject(thingJsonString);
+        return thing.getValue("thingId").map(JsonValue::asString).orElse("") + thing;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public int eagerVisitAllFields() {
+        return countLeaves(JsonFactory.newObject(thingJsonString));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public int lazyVisitAllFields() {
+        return countLeaves(JsonFactory.newLazyObject(thingJsonString));
+    }
+
+    private static int countLeaves(final JsonObject jsonObject) {
+        return jsonObject.stream()
+                .mapToInt(field -> field.getValue().isObject() ? countLeaves(field.getValue().asObject()) : 1)
+                .sum();
+    }
+
+    private static JsonObject createThingJson(final int numberOfFeatures) {
+        final JsonObjectBuilder features = JsonFactory.newObjectBuilder();
+        for (int i = 0; i < numberOfFeatures; i++) {
+            features.set("feature-" + i, JsonFactory.newObjectBuilder()
+                    .set("definition", JsonArray.of("[\"org.eclipse.ditto:sensor:1.0.0\"]"))
+                    .set("properties", JsonFactory.newObjectBuilder()
+                            .set("configuration", JsonFactory.newObjectBuilder()
+                                    .set("interval", 1000)
+                                    .set("unit", "celsius")
+                                    .set("enabled", true)
+                                    .build())
+                            .set("status", JsonFactory.newObjectBuilder()
+                                    .set("temperature", 21.5 + i)
+                                    .set("humidity", 42.0)
+                                    .set("lastUpdate", "2019-01-01T00:00:00Z")
+                                    .set("history", JsonArray.of("[20.5,21.0,21.5]"))
+                                    .build())
+                            .build())
+                    .build());
+        }
+        return JsonFactory.newObjectBuilder()
+                .set("thingId", "org.eclipse.ditto:benchmark-thing")
+                .set("policyId", "org.eclipse.ditto:benchmark-policy")
+                .set("attributes", JsonFactory.newObjectBuilder()
+                        .set("manufacturer", "ACME")
+                        .set("location", JsonFactory.newObjectBuilder()
+                                .set("latitude", 47.68)
+                                .set("longitude", 9.38)
+                                .build())
+                        .set("serialNumbers", JsonArray.of("[\"4711\",\"4712\"]"))
+                        .build())
+                .set("features", features.build())
+                .set("_revision", 42)
+                .build();
+    }
+
+}
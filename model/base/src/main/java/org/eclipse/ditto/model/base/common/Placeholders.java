@@ -16,6 +16,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
@@ -159,6 +161,37 @@ public final class Placeholders {
                 unresolvedInputHandler, allowUnresolved);
     }
 
+    /**
+     * Splits the given {@code input} at the placeholders in the format {@code {{ prefix:key }}} it contains. The parts
+     * are passed to the given consumers in the order of their occurrence in the input: text in between placeholders to
+     * {@code textConsumer}, placeholders to {@code placeholderConsumer} as the complete placeholder including its
+     * curly braces and its trimmed content. Legacy placeholders are not recognized and are passed on as text.
+     *
+     * @param input the input.
+     * @param textConsumer consumer of the text in between placeholders.
+     * @param placeholderConsumer consumer of the complete placeholder and its content.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static void split(final CharSequence input, final Consumer<String> textConsumer,
+            final BiConsumer<String, String> placeholderConsumer) {
+        requireNonNull(input);
+        requireNonNull(textConsumer);
+        requireNonNull(placeholderConsumer);
+
+        final Matcher matcher = PLACEHOLDER_PATTERN.matcher(input);
+        int textStart = 0;
+        while (matcher.find()) {
+            if (matcher.start() > textStart) {
+                textConsumer.accept(input.subSequence(textStart, matcher.start()).toString());
+            }
+            placeholderConsumer.accept(matcher.group(), matcher.group(PLACEHOLDER_GROUP_NAME).trim());
+            textStart = matcher.end();
+        }
+        if (textStart < input.length()) {
+            textConsumer.accept(input.subSequence(textStart, input.length()).toString());
+        }
+    }
+
     private static String substituteLegacyPlaceholder(final String input,
             final Function<String, Optional<String>> placeholderReplacerFunction,
             final Function<String, DittoRuntimeException> unresolvedInputHandler, final boolean allowUnresolved) {
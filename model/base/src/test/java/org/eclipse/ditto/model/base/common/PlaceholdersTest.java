@@ -17,7 +17,9 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
@@ -259,4 +261,25 @@ public class PlaceholdersTest {
 
         assertThat(contains).isFalse();
     }
+
+    @Test
+    public void splitPassesTextAndPlaceholdersInOrder() {
+        final String input = "a" + REPLACER_1 + "b" + REPLACER_2 + LEGACY_REPLACER;
+        final List<String> parts = new ArrayList<>();
+
+        Placeholders.split(input, text -> parts.add("text:" + text),
+                (placeholder, content) -> parts.add(placeholder + "=" + content));
+
+        assertThat(parts).containsExactly("text:a", REPLACER_1 + "=" + REPLACER_KEY_1, "text:b",
+                REPLACER_2 + "=" + REPLACER_KEY_2, "text:" + LEGACY_REPLACER);
+    }
+
+    @Test
+    public void splitPassesInputWithoutPlaceholdersAsText() {
+        final List<String> parts = new ArrayList<>();
+
+        Placeholders.split("abc", parts::add, (placeholder, content) -> parts.add(placeholder));
+
+        assertThat(parts).containsExactly("abc");
+    }
 }
@@ -0,0 +1,380 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Bitset encoding of an interned {@link GrantRevokeIndex} for permission checks without hashing subject IDs for each
+ * permission. The subject IDs of the index are numbered by a dictionary; for each permission, the granted and the
+ * revoked subjects are stored as one bitset per weight. A check encodes the subject IDs to check as bitset once and
+ * intersects it with the bitsets of the permissions to check word by word.
+ */
+@Immutable
+final class BitSetGrantRevokeIndex {
+
+    private static final Interner<SubjectDictionary> DICTIONARIES = new Interner<>();
+
+    private static final String[] NO_PERMISSIONS = new String[0];
+    private static final WeightedSubjects[] NO_SUBJECTS = new WeightedSubjects[0];
+
+    private final SubjectDictionary dictionary;
+    private final String[] grantedPermissions;
+    private final WeightedSubjects[] grantedSubjects;
+    private final String[] revokedPermissions;
+    private final WeightedSubjects[] revokedSubjects;
+
+    private BitSetGrantRevokeIndex(final SubjectDictionary dictionary,
+            final String[] grantedPermissions,
+            final WeightedSubjects[] grantedSubjects,
+            final String[] revokedPermissions,
+            final WeightedSubjects[] revokedSubjects) {
+
+        this.dictionary = dictionary;
+        this.grantedPermissions = grantedPermissions;
+        this.grantedSubjects = grantedSubjects;
+        this.revokedPermissions = revokedPermissions;
+        this.revokedSubjects = revokedSubjects;
+    }
+
+    /**
+     * Encodes a grant-map and a revoke-map. The maps must not be modified afterwards.
+     *
+     * @param grantMap The grant-map to encode.
+     * @param revokeMap The revoke-map to encode.
+     * @return The encoded grant-revoke-index.
+     */
+    static BitSetGrantRevokeIndex of(final PermissionSubjectsMap grantMap, final PermissionSubjectsMap revokeMap) {
+        final SortedSet<String> subjectIds = new TreeSet<>();
+        grantMap.values().forEach(subjectMap -> subjectIds.addAll(subjectMap.keySet()));
+        revokeMap.values().forEach(subjectMap -> subjectIds.addAll(subjectMap.keySet()));
+        final SubjectDictionary dictionary =
+                DICTIONARIES.intern(new SubjectDictionary(subjectIds.toArray(new String[0])));
+
+        return new BitSetGrantRevokeIndex(dictionary,
+                getPermissions(grantMap), encode(grantMap, dictionary),
+                getPermissions(revokeMap), encode(revokeMap, dictionary));
+    }
+
+    private static String[] getPermissions(final PermissionSubjectsMap permissionSubjectsMap) {
+        return permissionSubjectsMap.isEmpty()
+                ? NO_PERMISSIONS
+                : permissionSubjectsMap.keySet().toArray(new String[0]);
+    }
+
+    private static WeightedSubjects[] encode(final PermissionSubjectsMap permissionSubjectsMap,
+            final SubjectDictionary dictionary) {
+
+        if (permissionSubjectsMap.isEmpty()) {
+            return NO_SUBJECTS;
+        }
+        final WeightedSubjects[] result = new WeightedSubjects[permissionSubjectsMap.size()];
+        int i = 0;
+        for (final Map<String, Integer> subjectMap : permissionSubjectsMap.values()) {
+            result[i++] = WeightedSubjects.of(subjectMap, dictionary);
+        }
+        return result;
+    }
+
+    /**
+     * Check whether each of the given permissions is granted to some of the given authorization subject such that
+     * none of the permissions is revoked from any of the subject IDs with the same or a greater weight.
+     *
+     * @param subjectIds Authorization subject IDs to check.
+     * @param permissions Permissions to check.
+     * @return Result of the check.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @see GrantRevokeIndex#hasPermissions(Set, Collection)
+     */
+    boolean hasPermissions(final Set<String> subjectIds, final Collection<String> permissions) {
+        checkNotNull(subjectIds, "subject IDs to check");
+        checkNotNull(permissions, "permissions to check");
+
+        final long[] subjects = dictionary.encode(subjectIds);
+        if (null == subjects || permissions.isEmpty()) {
+            return false;
+        }
+        int grantWeight = WeightedSubjects.NO_WEIGHT;
+        for (final String permission : permissions) {
+            final int weight = getMaxWeight(grantedPermissions, grantedSubjects, permission, subjects);
+            if (WeightedSubjects.NO_WEIGHT == weight) {
+                return false;
+            }
+            grantWeight = Math.max(grantWeight, weight);
+        }
+        for (final String permission : permissions) {
+            if (getMaxWeight(revokedPermissions, revokedSubjects, permission, subjects) >= grantWeight) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int getMaxWeight(final String[] permissions, final WeightedSubjects[] weightedSubjects,
+            final String permission, final long[] subjects) {
+
+        final int i = indexOf(permissions, permission);
+        return 0 <= i ? weightedSubjects[i].getMaxWeight(subjects) : WeightedSubjects.NO_WEIGHT;
+    }
+
+    private static int indexOf(final String[] permissions, final String permission) {
+        for (int i = 0; i < permissions.length; i++) {
+            if (permissions[i].equals(permission)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the subject IDs each of which is granted <em>all</em> given permissions which are granted to anyone.
+     *
+     * @param permissions The permissions to check.
+     * @return The granted subject IDs.
+     * @throws NullPointerException if {@code permissions} is {@code null}.
+     */
+    Set<String> getGrantedSubjectIds(final Set<String> permissions) {
+        checkNotNull(permissions, "permissions to check");
+        long[] result = null;
+        for (final String permission : permissions) {
+            final int i = indexOf(grantedPermissions, permission);
+            if (0 <= i) {
+                final long[] subjects = grantedSubjects[i].getAllSubjects(dictionary.getWordCount());
+                if (null == result) {
+                    result = subjects;
+                } else {
+                    for (int wordIndex = 0; wordIndex < result.length; wordIndex++) {
+                        result[wordIndex] &= subjects[wordIndex];
+                    }
+                }
+            }
+        }
+        return dictionary.decode(result);
+    }
+
+    /**
+     * Returns the subject IDs each of which is revoked <em>some</em> of the given permissions.
+     *
+     * @param permissions The permissions to check.
+     * @return The revoked subject IDs.
+     * @throws NullPointerException if {@code permissions} is {@code null}.
+     */
+    Set<String> getRevokedSubjectIds(final Set<String> permissions) {
+        checkNotNull(permissions, "permissions to check");
+        final long[] result = new long[dictionary.getWordCount()];
+        for (final String permission : permissions) {
+            final int i = indexOf(revokedPermissions, permission);
+            if (0 <= i) {
+                revokedSubjects[i].addAllSubjectsTo(result);
+            }
+        }
+        return dictionary.decode(result);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "dictionary=" + dictionary +
+                ", grantedPermissions=" + Arrays.toString(grantedPermissions) +
+                ", grantedSubjects=" + Arrays.toString(grantedSubjects) +
+                ", revokedPermissions=" + Arrays.toString(revokedPermissions) +
+                ", revokedSubjects=" + Arrays.toString(revokedSubjects) +
+                "]";
+    }
+
+    private static int getWordCount(final int bitCount) {
+        return (bitCount + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    private static void setBit(final long[] words, final int bitIndex) {
+        words[bitIndex / Long.SIZE] |= 1L << bitIndex;
+    }
+
+    /**
+     * Numbers the subject IDs of an index in their natural order. Dictionaries are interned, thus shared by all
+     * indexes with the same subject IDs.
+     */
+    @Immutable
+    private static final class SubjectDictionary {
+
+        private final String[] subjectIds;
+
+        private SubjectDictionary(final String[] subjectIds) {
+            this.subjectIds = subjectIds;
+        }
+
+        private int getWordCount() {
+            return BitSetGrantRevokeIndex.getWordCount(subjectIds.length);
+        }
+
+        private int getBitIndex(final String subjectId) {
+            return Arrays.binarySearch(subjectIds, subjectId);
+        }
+
+        /**
+         * Encodes subject IDs as bitset.
+         *
+         * @param subjectIdsToEncode The subject IDs.
+         * @return The bitset or {@code null} if none of the subject IDs is in this dictionary.
+         */
+        @Nullable
+        private long[] encode(final Set<String> subjectIdsToEncode) {
+            long[] result = null;
+            for (final String subjectId : subjectIdsToEncode) {
+                final int bitIndex = getBitIndex(subjectId);
+                if (0 <= bitIndex) {
+                    if (null == result) {
+                        result = new long[getWordCount()];
+                    }
+                    setBit(result, bitIndex);
+                }
+            }
+            return result;
+        }
+
+        private Set<String> decode(@Nullable final long[] subjects) {
+            final Set<String> result = new HashSet<>();
+            if (null != subjects) {
+                for (int wordIndex = 0; wordIndex < subjects.length; wordIndex++) {
+                    long word = subjects[wordIndex];
+                    while (0L != word) {
+                        result.add(subjectIds[wordIndex * Long.SIZE + Long.numberOfTrailingZeros(word)]);
+                        word &= word - 1L;
+                    }
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final SubjectDictionary that = (SubjectDictionary) o;
+            return Arrays.equals(subjectIds, that.subjectIds);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(subjectIds);
+        }
+
+        @Override
+        public String toString() {
+            return Arrays.toString(subjectIds);
+        }
+
+    }
+
+    /**
+     * The subjects related to a permission, as one bitset per weight in descending order of weights.
+     */
+    @Immutable
+    private static final class WeightedSubjects {
+
+        /**
+         * Weight of a permission which is not related to any of the subjects to check.
+         */
+        private static final int NO_WEIGHT = Integer.MIN_VALUE;
+
+        private final int[] weights;
+        private final long[][] subjectsByWeight;
+
+        private WeightedSubjects(final int[] weights, final long[][] subjectsByWeight) {
+            this.weights = weights;
+            this.subjectsByWeight = subjectsByWeight;
+        }
+
+        private static WeightedSubjects of(final Map<String, Integer> subjectMap, final SubjectDictionary dictionary) {
+            final int wordCount = dictionary.getWordCount();
+            final SortedMap<Integer, long[]> subjectsByWeight = new TreeMap<>(Collections.reverseOrder());
+            subjectMap.forEach((subjectId, weight) -> setBit(
+                    subjectsByWeight.computeIfAbsent(weight, w -> new long[wordCount]),
+                    dictionary.getBitIndex(subjectId)));
+
+            final int[] weights = new int[subjectsByWeight.size()];
+            final long[][] subjects = new long[subjectsByWeight.size()][];
+            int i = 0;
+            for (final Map.Entry<Integer, long[]> entry : subjectsByWeight.entrySet()) {
+                weights[i] = entry.getKey();
+                subjects[i] = entry.getValue();
+                i++;
+            }
+            return new WeightedSubjects(weights, subjects);
+        }
+
+        private int getMaxWeight(final long[] subjects) {
+            for (int i = 0; i < weights.length; i++) {
+                if (intersects(subjectsByWeight[i], subjects)) {
+                    return weights[i];
+                }
+            }
+            return NO_WEIGHT;
+        }
+
+        private static boolean intersects(final long[] words, final long[] otherWords) {
+            for (int i = 0; i < words.length; i++) {
+                if (0L != (words[i] & otherWords[i])) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private long[] getAllSubjects(final int wordCount) {
+            final long[] result = new long[wordCount];
+            addAllSubjectsTo(result);
+            return result;
+        }
+
+        private void addAllSubjectsTo(final long[] subjects) {
+            for (final long[] words : subjectsByWeight) {
+                for (int i = 0; i < words.length; i++) {
+                    subjects[i] |= words[i];
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder sb = new StringBuilder("{");
+            for (int i = 0; i < weights.length; i++) {
+                sb.append(0 == i ? "" : ", ")
+                        .append(weights[i])
+                        .append('=')
+                        .append(Arrays.toString(subjectsByWeight[i]));
+            }
+            return sb.append('}').toString();
+        }
+
+    }
+
+}
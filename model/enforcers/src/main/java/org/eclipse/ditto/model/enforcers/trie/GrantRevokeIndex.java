@@ -19,6 +19,8 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.model.enforcers.EffectedSubjectIds;
 import org.eclipse.ditto.model.enforcers.ImmutableEffectedSubjectIds;
 
@@ -27,9 +29,21 @@ import org.eclipse.ditto.model.enforcers.ImmutableEffectedSubjectIds;
  */
 final class GrantRevokeIndex {
 
+    private static final Interner<GrantRevokeIndex> INDICES = new Interner<>();
+
     private final PermissionSubjectsMap grantMap;
     private final PermissionSubjectsMap revokeMap;
 
+    /**
+     * Whether this index is the canonical instance of its value, which is not modified anymore.
+     */
+    private final boolean interned;
+
+    /**
+     * Encoding of the grant-map and the revoke-map for fast checks, computed on the first check of an interned index.
+     */
+    @Nullable private volatile BitSetGrantRevokeIndex bitSetIndex;
+
     /**
      * Creates an empty {@code GrantRevokeIndex}.
      */
@@ -45,8 +59,15 @@ final class GrantRevokeIndex {
      * @throws NullPointerException if any argument is {@code null}.
      */
     GrantRevokeIndex(final PermissionSubjectsMap grantMap, final PermissionSubjectsMap revokeMap) {
+        this(grantMap, revokeMap, false);
+    }
+
+    private GrantRevokeIndex(final PermissionSubjectsMap grantMap, final PermissionSubjectsMap revokeMap,
+            final boolean interned) {
+
         this.grantMap = checkNotNull(grantMap, "grant map");
         this.revokeMap = checkNotNull(revokeMap, "revoke map");
+        this.interned = interned;
     }
 
     /**
@@ -67,6 +88,31 @@ final class GrantRevokeIndex {
         return revokeMap;
     }
 
+    /**
+     * Returns the canonical instance of this index, whose grant-map and revoke-map are interned as well. The canonical
+     * instance checks permissions on a bitset encoding of its maps. This index must not be modified after interning.
+     *
+     * @return The canonical instance equal to this index.
+     */
+    GrantRevokeIndex intern() {
+        final GrantRevokeIndex canonical = INDICES.getCanonicalOrNull(this);
+        if (null != canonical) {
+            return canonical;
+        }
+        return INDICES.intern(new GrantRevokeIndex(grantMap.intern(), revokeMap.intern(), true));
+    }
+
+    @Nullable
+    private BitSetGrantRevokeIndex getBitSetIndexOrNull() {
+        BitSetGrantRevokeIndex result = bitSetIndex;
+        if (null == result && interned) {
+            // racing threads compute equal encodings
+            result = BitSetGrantRevokeIndex.of(grantMap, revokeMap);
+            bitSetIndex = result;
+        }
+        return result;
+    }
+
     /**
      * Copy this {@code GrantRevokeIndex} and decrease the weight of each permission-subject pair by 1.
      *
@@ -102,6 +148,10 @@ final class GrantRevokeIndex {
      * @throws NullPointerException if any argument is {@code null}.
      */
     boolean hasPermissions(final Set<String> subjectIds, final Collection<String> permissions) {
+        final BitSetGrantRevokeIndex encodedIndex = getBitSetIndexOrNull();
+        if (null != encodedIndex) {
+            return encodedIndex.hasPermissions(subjectIds, permissions);
+        }
         final Optional<Integer> grantWeight =
                 grantMap.getMaxNonemptyWeightForAllPermissions(subjectIds, permissions);
 
@@ -133,11 +183,19 @@ final class GrantRevokeIndex {
      */
     Set<String> getGrantedSubjectIds(final Set<String> permissions) {
         checkNotNull(permissions, "permissions to check");
+        final BitSetGrantRevokeIndex encodedIndex = getBitSetIndexOrNull();
+        if (null != encodedIndex) {
+            return encodedIndex.getGrantedSubjectIds(permissions);
+        }
         return grantMap.getSubjectIntersect(permissions).keySet();
     }
 
     Set<String> getRevokedSubjectIds(final Set<String> permissions) {
         checkNotNull(permissions, "permissions to check");
+        final BitSetGrantRevokeIndex encodedIndex = getBitSetIndexOrNull();
+        if (null != encodedIndex) {
+            return encodedIndex.getRevokedSubjectIds(permissions);
+        }
         return revokeMap.getSubjectUnion(permissions).keySet();
     }
 
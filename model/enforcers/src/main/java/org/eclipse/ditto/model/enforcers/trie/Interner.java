@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Pool of canonical instances of immutable values (hash-consing). Equal values interned by the same pool are replaced
+ * by the same instance, so that structures shared by many policies, e. g. by policies created from the same template,
+ * occupy memory only once. Canonical instances are held weakly and are removed from the pool when no longer used.
+ * <p>
+ * The pool is a {@link ConcurrentHashMap} of weak references, so that enforcers built in parallel do not contend for
+ * a lock.
+ * </p>
+ *
+ * @param <T> type of the values. Their {@code equals} and {@code hashCode} must not change after interning.
+ */
+@ThreadSafe
+final class Interner<T> {
+
+    private final ConcurrentMap<WeakKey<T>, WeakKey<T>> pool;
+    private final ReferenceQueue<T> collectedValues;
+
+    /**
+     * Creates an empty pool.
+     */
+    Interner() {
+        pool = new ConcurrentHashMap<>();
+        collectedValues = new ReferenceQueue<>();
+    }
+
+    /**
+     * Returns the canonical instance of a value, which is the value itself if no equal value is in the pool.
+     *
+     * @param value The value to intern.
+     * @return The canonical instance equal to {@code value}.
+     */
+    T intern(final T value) {
+        final T canonical = getCanonicalOrNull(value);
+        if (null != canonical) {
+            return canonical;
+        }
+        removeCollectedValues();
+        final WeakKey<T> key = new WeakKey<>(value, collectedValues);
+        while (true) {
+            final WeakKey<T> existingKey = pool.putIfAbsent(key, key);
+            if (null == existingKey) {
+                return value;
+            }
+            final T existing = existingKey.get();
+            if (null != existing) {
+                return existing;
+            }
+            // an equal value was collected after the lookup; its key is about to be removed
+            pool.remove(existingKey, existingKey);
+        }
+    }
+
+    /**
+     * Returns the canonical instance of a value if an equal value is in the pool. Callers use it to avoid building
+     * the canonical form of a value whose canonical instance exists already.
+     *
+     * @param value The value to look up.
+     * @return The canonical instance equal to {@code value} or {@code null}.
+     */
+    @Nullable
+    T getCanonicalOrNull(final T value) {
+        final WeakKey<T> key = pool.get(new WeakKey<>(value, null));
+        return null != key ? key.get() : null;
+    }
+
+    private void removeCollectedValues() {
+        Reference<? extends T> reference = collectedValues.poll();
+        while (null != reference) {
+            // keys of collected values are only equal to themselves
+            pool.remove(reference, reference);
+            reference = collectedValues.poll();
+        }
+    }
+
+    /**
+     * Weak reference to a value which is equal to references to equal values as long as its value is not collected.
+     *
+     * @param <T> type of the value.
+     */
+    private static final class WeakKey<T> extends WeakReference<T> {
+
+        private final int hash;
+
+        private WeakKey(final T value, @Nullable final ReferenceQueue<T> queue) {
+            super(value, queue);
+            hash = value.hashCode();
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof WeakKey) || hash != o.hashCode()) {
+                return false;
+            }
+            final T value = get();
+            return null != value && value.equals(((WeakKey<?>) o).get());
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+    }
+
+}
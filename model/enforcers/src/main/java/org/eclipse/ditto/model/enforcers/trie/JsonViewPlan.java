@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.trie;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonValueContainer;
+
+/**
+ * Precomputed plan to build JSON views of a {@link PolicyTrie} for one set of subject IDs and permissions. Each plan
+ * node records whether the resource of its trie node and all sub-resources are granted, are all revoked, or whether
+ * their permissions are mixed. Building a view with a plan keeps granted JSON values wholesale, drops revoked ones
+ * and descends only into the values of mixed resources. The views have the same JSON representation as those of
+ * {@link PolicyTrie#buildJsonView(Iterable, java.util.Set, org.eclipse.ditto.model.policies.Permissions)}; granted
+ * values are not rebuilt though and thus keep their type, e. g. {@code Attributes}.
+ */
+@Immutable
+final class JsonViewPlan {
+
+    /**
+     * Estimated heap bytes of a mixed plan node with its empty hash map of children.
+     */
+    private static final long NODE_BYTES = 64L;
+
+    /**
+     * Estimated heap bytes of the edge from a mixed plan node to a child, i. e. of a hash map entry. JSON keys are
+     * shared with the trie and not counted.
+     */
+    private static final long CHILD_BYTES = 48L;
+
+    private static final JsonViewPlan GRANTED = new JsonViewPlan(true, null);
+    private static final JsonViewPlan REVOKED = new JsonViewPlan(false, null);
+
+    private final boolean granted;
+
+    /**
+     * Plans of the sub-resources whose permissions differ from those of this resource, or {@code null} if all
+     * sub-resources have the same permissions.
+     */
+    @Nullable private final Map<JsonKey, JsonViewPlan> children;
+
+    private JsonViewPlan(final boolean granted, @Nullable final Map<JsonKey, JsonViewPlan> children) {
+        this.granted = granted;
+        this.children = children;
+    }
+
+    /**
+     * Returns the plan of a resource whose sub-resources all have the same permissions as the resource itself.
+     *
+     * @param granted whether the permissions are granted on the resource.
+     * @return the plan.
+     */
+    static JsonViewPlan uniform(final boolean granted) {
+        return granted ? GRANTED : REVOKED;
+    }
+
+    /**
+     * Returns the plan of a resource some of whose sub-resources have other permissions than the resource itself.
+     *
+     * @param granted whether the permissions are granted on the resource.
+     * @param children the plans of the sub-resources which differ from {@code uniform(granted)}; the map must not be
+     * modified afterwards.
+     * @return the plan.
+     */
+    static JsonViewPlan mixed(final boolean granted, final Map<JsonKey, JsonViewPlan> children) {
+        return children.isEmpty() ? uniform(granted) : new JsonViewPlan(granted, Collections.unmodifiableMap(children));
+    }
+
+    /**
+     * Indicates whether the resource of this plan and all its sub-resources have the same permissions.
+     *
+     * @param granted whether the permissions are granted.
+     * @return {@code true} if this plan is {@code uniform(granted)}.
+     */
+    boolean isUniform(final boolean granted) {
+        return this == uniform(granted);
+    }
+
+    /**
+     * Estimates the heap bytes occupied by this plan. Uniform plans are shared by all enforcers and not counted.
+     *
+     * @return The estimated number of bytes.
+     */
+    long estimateFootprint() {
+        if (null == children) {
+            return 0L;
+        }
+        long bytes = NODE_BYTES;
+        for (final JsonViewPlan child : children.values()) {
+            bytes += CHILD_BYTES + child.estimateFootprint();
+        }
+        return bytes;
+    }
+
+    /**
+     * Builds the view of JSON fields at the resource of this plan.
+     *
+     * @param jsonFields the JSON fields.
+     * @return the JSON object of the visible fields, or {@code jsonFields} itself if it is the null object. Like
+     * {@link PolicyTrie#buildJsonView(Iterable, java.util.Set, org.eclipse.ditto.model.policies.Permissions)}, the
+     * null object is returned unchanged whatever the permissions, even by a plan revoking all of them.
+     */
+    @SuppressWarnings("unchecked")
+    JsonObject buildJsonView(final Iterable<JsonField> jsonFields) {
+        if (jsonFields instanceof JsonObject && ((JsonObject) jsonFields).isNull()) {
+            return (JsonObject) jsonFields;
+        }
+        if (isUniform(true) && jsonFields instanceof JsonObject) {
+            return (JsonObject) jsonFields;
+        }
+        if (isUniform(false)) {
+            return JsonFactory.newObject();
+        }
+
+        final JsonViewPlan defaultPlan = uniform(granted);
+        final JsonObjectBuilder outputObjectBuilder = JsonFactory.newObjectBuilder();
+        for (final JsonField field : jsonFields) {
+            final JsonViewPlan relevantPlan =
+                    null != children ? children.getOrDefault(field.getKey(), defaultPlan) : defaultPlan;
+            final JsonValue jsonView = relevantPlan.getViewForJsonValueOrNull(field.getValue());
+            if (null != jsonView) {
+                final Optional<JsonFieldDefinition> definitionOptional = field.getDefinition();
+                if (definitionOptional.isPresent()) {
+                    outputObjectBuilder.set(definitionOptional.get(), jsonView);
+                } else {
+                    outputObjectBuilder.set(field.getKey(), jsonView);
+                }
+            }
+        }
+
+        return outputObjectBuilder.build();
+    }
+
+    @Nullable
+    private JsonValue getViewForJsonValueOrNull(final JsonValue jsonValue) {
+        final JsonValue result;
+        if (null == children) {
+            result = granted ? jsonValue : null;
+        } else if (jsonValue.isObject()) {
+            result = filterCandidate(buildJsonView(jsonValue.asObject()));
+        } else if (jsonValue.isArray()) {
+            result = getViewForJsonArrayOrNull(jsonValue.asArray());
+        } else {
+            result = granted ? jsonValue : null;
+        }
+
+        return result;
+    }
+
+    @Nullable
+    private <T extends JsonValue & JsonValueContainer> T filterCandidate(final T candidate) {
+        if (!candidate.isEmpty() || granted) {
+            return candidate;
+        }
+        return null;
+    }
+
+    @Nullable
+    private JsonValue getViewForJsonArrayOrNull(final JsonValueContainer<JsonValue> jsonArray) {
+        final JsonArray candidate = jsonArray.stream()
+                .map(this::getViewForJsonValueOrNull)
+                .filter(Objects::nonNull)
+                .collect(JsonCollectors.valuesToArray());
+
+        return filterCandidate(candidate);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final JsonViewPlan that = (JsonViewPlan) o;
+        return granted == that.granted && Objects.equals(children, that.children);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(granted, children);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "granted=" + granted +
+                ", children=" + children +
+                "]";
+    }
+
+}
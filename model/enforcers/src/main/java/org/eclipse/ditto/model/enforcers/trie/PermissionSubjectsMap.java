@@ -38,13 +38,25 @@ import javax.annotation.concurrent.NotThreadSafe;
 @NotThreadSafe
 final class PermissionSubjectsMap extends AbstractMap<String, Map<String, Integer>> {
 
+    /**
+     * Pool of permissions and subject IDs shared by all interned relations.
+     */
+    private static final Interner<String> STRINGS = new Interner<>();
+
+    private static final Interner<Map<String, Integer>> SUBJECT_MAPS = new Interner<>();
+    private static final Interner<PermissionSubjectsMap> RELATIONS = new Interner<>();
+
     private final Map<String, Map<String, Integer>> data;
 
     /**
      * Constructs a new {@code PermissionSubjectsMap} object.
      */
     PermissionSubjectsMap() {
-        data = new HashMap<>();
+        this(new HashMap<>());
+    }
+
+    private PermissionSubjectsMap(final Map<String, Map<String, Integer>> data) {
+        this.data = data;
     }
 
     @Override
@@ -179,6 +191,43 @@ final class PermissionSubjectsMap extends AbstractMap<String, Map<String, Intege
         return copy;
     }
 
+    /**
+     * Returns the canonical instance of this relation. All equal relations interned share the same instance, whose
+     * permissions, subject IDs and subject maps are shared with other interned relations as well. The canonical
+     * instance is unmodifiable; this relation must not be modified after interning either.
+     *
+     * @return The canonical instance equal to this relation.
+     */
+    PermissionSubjectsMap intern() {
+        final PermissionSubjectsMap canonical = RELATIONS.getCanonicalOrNull(this);
+        if (null != canonical) {
+            return canonical;
+        }
+        final Map<String, Map<String, Integer>> internedData = new HashMap<>(data.size());
+        data.forEach((permission, subjectMap) ->
+                internedData.put(STRINGS.intern(permission), internSubjectMap(subjectMap)));
+        return RELATIONS.intern(new PermissionSubjectsMap(Collections.unmodifiableMap(internedData)));
+    }
+
+    private static Map<String, Integer> internSubjectMap(final Map<String, Integer> subjectMap) {
+        final Map<String, Integer> canonical = SUBJECT_MAPS.getCanonicalOrNull(subjectMap);
+        if (null != canonical) {
+            return canonical;
+        }
+        final Map<String, Integer> internedSubjectMap;
+        if (subjectMap.isEmpty()) {
+            internedSubjectMap = Collections.emptyMap();
+        } else if (1 == subjectMap.size()) {
+            final Entry<String, Integer> entry = subjectMap.entrySet().iterator().next();
+            internedSubjectMap = Collections.singletonMap(STRINGS.intern(entry.getKey()), entry.getValue());
+        } else {
+            final Map<String, Integer> subjects = new HashMap<>(subjectMap.size());
+            subjectMap.forEach((subject, weight) -> subjects.put(STRINGS.intern(subject), weight));
+            internedSubjectMap = Collections.unmodifiableMap(subjects);
+        }
+        return SUBJECT_MAPS.intern(internedSubjectMap);
+    }
+
     /**
      * Returns a copy of this relation where the weight of each permission-subject pair is increased by 1.
      *
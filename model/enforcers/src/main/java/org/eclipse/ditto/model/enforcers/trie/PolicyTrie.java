@@ -36,11 +36,13 @@ import org.eclipse.ditto.json.JsonFieldDefinition;
 import org.eclipse.ditto.json.JsonKey;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.json.JsonValueContainer;
 import org.eclipse.ditto.model.policies.EffectedPermissions;
 import org.eclipse.ditto.model.policies.Permissions;
 import org.eclipse.ditto.model.policies.PolicyEntry;
+import org.eclipse.ditto.model.policies.Resource;
 import org.eclipse.ditto.model.policies.ResourceKey;
 import org.eclipse.ditto.model.policies.Subject;
 import org.eclipse.ditto.model.policies.SubjectId;
@@ -57,9 +59,39 @@ import org.eclipse.ditto.model.policies.Subjects;
 @NotThreadSafe
 final class PolicyTrie {
 
+    /**
+     * Estimated heap bytes of a trie node with its grant-revoke-index and their empty hash maps.
+     */
+    private static final long NODE_BYTES = 256L;
+
+    /**
+     * Estimated heap bytes of the edge from a trie node to a child, i. e. of a hash map entry and its JSON key.
+     */
+    private static final long CHILD_BYTES = 96L;
+
+    /**
+     * Estimated heap bytes of a permission in a permission-subjects-map, i. e. of a hash map entry and a subject map.
+     */
+    private static final long PERMISSION_BYTES = 112L;
+
+    /**
+     * Estimated heap bytes of a permission-subject pair, i. e. of a hash map entry of a subject map. Subject IDs are
+     * shared among the nodes and not counted.
+     */
+    private static final long RELATION_BYTES = 48L;
+
+    private static final Interner<PolicyTrie> TRIES = new Interner<>();
+    private static final Interner<JsonKey> KEYS = new Interner<>();
+
     private final GrantRevokeIndex grantRevokeIndex;
     private final Map<JsonKey, PolicyTrie> children;
 
+    /**
+     * Cached hash code; 0 if not computed yet. Hash codes are only computed when the trie is interned, i. e. after its
+     * construction is complete.
+     */
+    private int hashCode;
+
     private PolicyTrie() {
         this(new GrantRevokeIndex(), new HashMap<>());
     }
@@ -95,6 +127,80 @@ final class PolicyTrie {
         });
     }
 
+    /**
+     * Returns a copy of this trie where the grants and revokes at the given resources are computed anew from the given
+     * policy. Only the trie nodes on the paths to the given resources are copied, all other nodes are shared with this
+     * trie. Nodes which are no longer needed by any resource of the policy are removed.
+     *
+     * @param resourceKeys The resources whose policy entries changed.
+     * @param policy The policy with the changed entries.
+     * @return The updated copy of this trie.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    PolicyTrie withResourcesFromPolicy(final Iterable<ResourceKey> resourceKeys, final Iterable<PolicyEntry> policy) {
+        checkNotNull(resourceKeys, "resource keys to update");
+        checkNotNull(policy, "policy to interpret");
+        PolicyTrie result = this;
+        for (final ResourceKey resourceKey : resourceKeys) {
+            final PolicyTrie updated =
+                    result.withResourceFromPolicy(getJsonKeyIterator(resourceKey), JsonFactory.emptyPointer(), policy);
+            result = null != updated ? updated : new PolicyTrie();
+        }
+        return result;
+    }
+
+    /**
+     * Copies the nodes along {@code path} and recomputes the grant-revoke-index at its end.
+     *
+     * @return The copied node, or {@code null} if the node has no children and is no resource of the policy.
+     */
+    @Nullable
+    private PolicyTrie withResourceFromPolicy(final Iterator<JsonKey> path, final JsonPointer nodePointer,
+            final Iterable<PolicyEntry> policy) {
+
+        final PolicyTrie result;
+        if (path.hasNext()) {
+            final JsonKey childKey = path.next();
+            final PolicyTrie oldChild = children.getOrDefault(childKey, new PolicyTrie());
+            final PolicyTrie newChild = oldChild.withResourceFromPolicy(path, nodePointer.addLeaf(childKey), policy);
+            final Map<JsonKey, PolicyTrie> newChildren = new HashMap<>(children);
+            if (null != newChild) {
+                newChildren.put(childKey, newChild);
+            } else {
+                newChildren.remove(childKey);
+            }
+            result = new PolicyTrie(grantRevokeIndex, newChildren);
+        } else {
+            final PolicyTrie resourceNode = new PolicyTrie(new GrantRevokeIndex(), children);
+            policy.forEach(policyEntry -> resourceNode.addPolicyEntryAt(nodePointer, policyEntry));
+            result = resourceNode;
+        }
+
+        return result.children.isEmpty() && !isResourceOfPolicy(nodePointer, policy) ? null : result;
+    }
+
+    private void addPolicyEntryAt(final JsonPointer nodePointer, final PolicyEntry policyEntry) {
+        for (final Resource resource : policyEntry.getResources()) {
+            if (nodePointer.equals(getJsonPointer(resource.getResourceKey()))) {
+                final Collection<String> subjectIds = getSubjectIds(policyEntry.getSubjects());
+                final EffectedPermissions effectedPermissions = resource.getEffectedPermissions();
+                grant(subjectIds, effectedPermissions.getGrantedPermissions());
+                revoke(subjectIds, effectedPermissions.getRevokedPermissions());
+            }
+        }
+    }
+
+    private static boolean isResourceOfPolicy(final JsonPointer nodePointer, final Iterable<PolicyEntry> policy) {
+        for (final PolicyEntry policyEntry : policy) {
+            for (final Resource resource : policyEntry.getResources()) {
+                if (nodePointer.equals(getJsonPointer(resource.getResourceKey()))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     private static Collection<String> getSubjectIds(final Subjects subjects) {
         return subjects.stream()
                 .map(Subject::getId)
@@ -110,8 +216,12 @@ final class PolicyTrie {
      * @throws NullPointerException if {@code resourceKey} is {@code null}.
      */
     static Iterator<JsonKey> getJsonKeyIterator(final ResourceKey resourceKey) {
+        return getJsonPointer(resourceKey).iterator();
+    }
+
+    private static JsonPointer getJsonPointer(final ResourceKey resourceKey) {
         checkNotNull(resourceKey, "resource key to convert");
-        return JsonFactory.newPointer(resourceKey.getResourceType()).append(resourceKey.getResourcePath()).iterator();
+        return JsonFactory.newPointer(resourceKey.getResourceType()).append(resourceKey.getResourcePath());
     }
 
     /**
@@ -153,6 +263,41 @@ final class PolicyTrie {
         return grantRevokeIndex;
     }
 
+    /**
+     * Estimates the heap bytes occupied by this trie: it grows with the number of trie nodes and the number of
+     * permission-subject pairs at each node. Interned nodes, permission-subjects-maps and subject maps are counted only
+     * if they are not yet in {@code counted}, so that structures shared by several tries are counted once.
+     *
+     * @param counted The structures counted already; the structures counted by this call are added.
+     * @return The estimated number of bytes.
+     */
+    long estimateFootprint(final Set<Object> counted) {
+        if (!counted.add(this)) {
+            return 0L;
+        }
+        long bytes = NODE_BYTES + estimateFootprint(grantRevokeIndex.getGranted(), counted) +
+                estimateFootprint(grantRevokeIndex.getRevoked(), counted);
+        for (final PolicyTrie child : children.values()) {
+            bytes += CHILD_BYTES + child.estimateFootprint(counted);
+        }
+        return bytes;
+    }
+
+    private static long estimateFootprint(final PermissionSubjectsMap permissionSubjectsMap,
+            final Set<Object> counted) {
+        if (!counted.add(permissionSubjectsMap)) {
+            return 0L;
+        }
+        long bytes = 0L;
+        for (final Map<String, Integer> subjects : permissionSubjectsMap.values()) {
+            bytes += PERMISSION_BYTES;
+            if (counted.add(subjects)) {
+                bytes += RELATION_BYTES * subjects.size();
+            }
+        }
+        return bytes;
+    }
+
     /**
      * Returns a copy of this trie such that each trie node inherits all grants and revokes from its ancestors except
      * those that are overridden by more specific policy entries.
@@ -160,28 +305,83 @@ final class PolicyTrie {
      * @return A copy of this trie with grants and revokes pushed down from ancestors to descendants.
      */
     PolicyTrie getTransitiveClosure() {
-        return computeTransitiveClosure(this, new GrantRevokeIndex());
+        return getTransitiveClosure(null, null);
     }
 
-    private static PolicyTrie computeTransitiveClosure(final PolicyTrie thisTrie, final GrantRevokeIndex inherited) {
-        final GrantRevokeIndex thisMap = inherited.copyWithDecrementedWeight().overrideBy(thisTrie.grantRevokeIndex);
+    /**
+     * Returns the transitive closure of this trie reusing the subtries of the transitive closure of a previous version
+     * of this trie, which was obtained by {@link #withResourcesFromPolicy(Iterable, Iterable)}. A subtrie is reused if
+     * neither its nodes nor their ancestors changed.
+     *
+     * @param previousTrie The previous version of this trie or {@code null}.
+     * @param previousClosure The transitive closure of {@code previousTrie} or {@code null}.
+     * @return A copy of this trie with grants and revokes pushed down from ancestors to descendants.
+     */
+    PolicyTrie getTransitiveClosure(@Nullable final PolicyTrie previousTrie,
+            @Nullable final PolicyTrie previousClosure) {
+
+        return computeTransitiveClosure(this, previousTrie, previousClosure, new GrantRevokeIndex(), false);
+    }
+
+    private static PolicyTrie computeTransitiveClosure(final PolicyTrie thisTrie,
+            @Nullable final PolicyTrie previousTrie,
+            @Nullable final PolicyTrie previousClosure,
+            final GrantRevokeIndex inherited,
+            final boolean inheritedChanged) {
+
+        if (!inheritedChanged && thisTrie == previousTrie && null != previousClosure) {
+            return previousClosure;
+        }
+
+        final boolean changed = inheritedChanged || null == previousTrie || null == previousClosure ||
+                thisTrie.grantRevokeIndex != previousTrie.grantRevokeIndex;
+        final GrantRevokeIndex thisMap = changed
+                ? inherited.copyWithDecrementedWeight().overrideBy(thisTrie.grantRevokeIndex)
+                : previousClosure.grantRevokeIndex;
         final Map<JsonKey, PolicyTrie> newChildren = new HashMap<>(thisTrie.children.size());
-        thisTrie.children.forEach((key, oldChild) -> newChildren.put(key, computeTransitiveClosure(oldChild, thisMap)));
+        thisTrie.children.forEach((key, oldChild) -> newChildren.put(key,
+                computeTransitiveClosure(oldChild, getChildOrNull(previousTrie, key),
+                        getChildOrNull(previousClosure, key), thisMap, changed)));
 
         return new PolicyTrie(thisMap, newChildren);
     }
 
+    @Nullable
+    private static PolicyTrie getChildOrNull(@Nullable final PolicyTrie policyTrie, final JsonKey childKey) {
+        return null != policyTrie ? policyTrie.children.get(childKey) : null;
+    }
+
     /**
      * Returns a copy of this trie such that each trie node contains grants from all its descendants.
      *
      * @return A copy of this trie with grants pushed up from descendants to ancestors.
      */
     PolicyTrie getBottomUpGrantTrie() {
+        return getBottomUpGrantTrie(null, null);
+    }
+
+    /**
+     * Returns a copy of this trie such that each trie node contains grants from all its descendants, reusing the
+     * subtries of the bottom-up grant trie of a previous version of this trie whose nodes are shared with this trie.
+     *
+     * @param previousTrie The previous version of this trie or {@code null}.
+     * @param previousResult The bottom-up grant trie of {@code previousTrie} or {@code null}.
+     * @return A copy of this trie with grants pushed up from descendants to ancestors.
+     */
+    PolicyTrie getBottomUpGrantTrie(@Nullable final PolicyTrie previousTrie,
+            @Nullable final PolicyTrie previousResult) {
+
+        if (this == previousTrie && null != previousResult) {
+            return previousResult;
+        }
+
         final Map<JsonKey, PolicyTrie> newChildren = new HashMap<>(children.size());
         final PermissionSubjectsMap newGrantMap = grantRevokeIndex.getGranted().copy();
 
         children.forEach((key, oldChild) -> {
-            final PolicyTrie newChild = oldChild.getBottomUpGrantTrie();
+            final PolicyTrie newChild =
+                    oldChild.getBottomUpGrantTrie(getChildOrNull(previousTrie, key),
+                            getChildOrNull(previousResult, key));
             newChildren.put(key, newChild);
 
             final GrantRevokeIndex newChildGrantRevokeIndex = newChild.getGrantRevokeIndex();
@@ -202,11 +402,31 @@ final class PolicyTrie {
      * @return A copy of this trie with revokes pushed up from descendants to ancestors.
      */
     PolicyTrie getBottomUpRevokeTrie() {
+        return getBottomUpRevokeTrie(null, null);
+    }
+
+    /**
+     * Returns a copy of this trie such that each trie node contains revokes from all its descendants, reusing the
+     * subtries of the bottom-up revoke trie of a previous version of this trie whose nodes are shared with this trie.
+     *
+     * @param previousTrie The previous version of this trie or {@code null}.
+     * @param previousResult The bottom-up revoke trie of {@code previousTrie} or {@code null}.
+     * @return A copy of this trie with revokes pushed up from descendants to ancestors.
+     */
+    PolicyTrie getBottomUpRevokeTrie(@Nullable final PolicyTrie previousTrie,
+            @Nullable final PolicyTrie previousResult) {
+
+        if (this == previousTrie && null != previousResult) {
+            return previousResult;
+        }
+
         final Map<JsonKey, PolicyTrie> newChildren = new HashMap<>(children.size());
         final PermissionSubjectsMap newRevokeMap = grantRevokeIndex.getRevoked().copy();
 
         children.forEach((key, oldChild) -> {
-            final PolicyTrie newChild = oldChild.getBottomUpRevokeTrie();
+            final PolicyTrie newChild =
+                    oldChild.getBottomUpRevokeTrie(getChildOrNull(previousTrie, key),
+                            getChildOrNull(previousResult, key));
             newChildren.put(key, newChild);
 
             final GrantRevokeIndex newChildGrantRevokeIndex = newChild.getGrantRevokeIndex();
@@ -220,6 +440,33 @@ final class PolicyTrie {
         return new PolicyTrie(newGrantRevokeMap, newChildren);
     }
 
+    /**
+     * Returns the canonical instance of this trie. Equal subtries, grant-revoke-indexes, subject sets and permission
+     * sets are shared among all interned tries, so that tries of policies created from the same template occupy
+     * memory mostly once. The canonical instance is unmodifiable; this trie must not be modified after interning
+     * either. Deriving new tries from interned tries is possible as all derivations copy the nodes they modify.
+     *
+     * @return The canonical instance equal to this trie.
+     */
+    PolicyTrie intern() {
+        final PolicyTrie canonical = TRIES.getCanonicalOrNull(this);
+        if (null != canonical) {
+            return canonical;
+        }
+        final Map<JsonKey, PolicyTrie> internedChildren;
+        if (children.isEmpty()) {
+            internedChildren = Collections.emptyMap();
+        } else if (1 == children.size()) {
+            final Map.Entry<JsonKey, PolicyTrie> child = children.entrySet().iterator().next();
+            internedChildren = Collections.singletonMap(KEYS.intern(child.getKey()), child.getValue().intern());
+        } else {
+            final Map<JsonKey, PolicyTrie> newChildren = new HashMap<>(children.size());
+            children.forEach((key, child) -> newChildren.put(KEYS.intern(key), child.intern()));
+            internedChildren = Collections.unmodifiableMap(newChildren);
+        }
+        return TRIES.intern(new PolicyTrie(grantRevokeIndex.intern(), internedChildren));
+    }
+
     /**
      * Returns whether a child exists for the given key.
      *
@@ -313,6 +560,26 @@ final class PolicyTrie {
         return filterCandidate(candidate, subjectIds, permissions);
     }
 
+    /**
+     * Computes the plan to build JSON views of this trie for the given subject IDs and permissions. Subtries whose
+     * nodes all have the same permissions as their parent are not represented in the plan.
+     *
+     * @param subjectIds Authorization subject IDs to check.
+     * @param permissions Permissions to check.
+     * @return The plan.
+     */
+    JsonViewPlan getJsonViewPlan(final Set<String> subjectIds, final Permissions permissions) {
+        final boolean granted = grantRevokeIndex.hasPermissions(subjectIds, permissions);
+        final Map<JsonKey, JsonViewPlan> childPlans = new HashMap<>();
+        children.forEach((childKey, child) -> {
+            final JsonViewPlan childPlan = child.getJsonViewPlan(subjectIds, permissions);
+            if (!childPlan.isUniform(granted)) {
+                childPlans.put(childKey, childPlan);
+            }
+        });
+        return JsonViewPlan.mixed(granted, childPlans);
+    }
+
     /**
      * Seek to a trie node whose path from root matches {@code path} as much as possible.
      *
@@ -363,4 +630,28 @@ final class PolicyTrie {
         return result;
     }
 
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final PolicyTrie that = (PolicyTrie) o;
+        return hashCode() == that.hashCode() &&
+                Objects.equals(grantRevokeIndex, that.grantRevokeIndex) &&
+                Objects.equals(children, that.children);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hashCode;
+        if (0 == result) {
+            result = Objects.hash(grantRevokeIndex, children);
+            hashCode = result;
+        }
+        return result;
+    }
+
 }
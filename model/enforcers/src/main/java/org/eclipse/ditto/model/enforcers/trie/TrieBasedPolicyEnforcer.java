@@ -14,6 +14,14 @@ package org.eclipse.ditto.model.enforcers.trie;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -25,10 +33,13 @@ import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.enforcers.EffectedSubjectIds;
 import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.policies.Label;
 import org.eclipse.ditto.model.policies.Permissions;
 import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.model.policies.PolicyEntry;
+import org.eclipse.ditto.model.policies.Resource;
 import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.policies.Subject;
 
 /**
  * Holds Algorithms to build trie-based indices for a policy and to perform policy checks based on those indices.
@@ -62,9 +73,44 @@ import org.eclipse.ditto.model.policies.ResourceKey;
  * permissions, e. g., a resource is considered writable only if all sub-resources are writable, and any WRITE-revoked
  * resource make all its super-resources non-writable. To build it, start from {@code inheritedTrie}, push revoked
  * subjects from descendants up to ancestors. </li> </ol> See Javadoc of individual methods for more details.
+ * <p>
+ * The enforcer is immutable. Modified copies are obtained by {@link #setPolicyEntry(PolicyEntry)} and {@link
+ * #removePolicyEntry(Label)}, which recompute only the trie nodes affected by the changed resources and share all
+ * other trie nodes with this enforcer. The plans to build JSON views for the subjects and permissions of recent
+ * {@link #buildJsonView(ResourceKey, Iterable, AuthorizationContext, Permissions)} calls are cached by each enforcer.
+ * Only the subjects of the authorization context which occur in the policy are relevant for a plan, so that the plans
+ * are shared by all authorization contexts with the same subjects in the policy.
  */
 public final class TrieBasedPolicyEnforcer implements Enforcer {
 
+    /**
+     * Estimated heap bytes of a subject or a resource of a policy entry, not counting its ID or path.
+     */
+    private static final long POLICY_ENTRY_ELEMENT_BYTES = 128L;
+
+    /**
+     * Estimated heap bytes of an entry of the JSON view plan cache, i. e. of a linked hash map entry and its key with
+     * an empty set of subject IDs, not counting the plan.
+     */
+    private static final long JSON_VIEW_PLAN_ENTRY_BYTES = 160L;
+
+    /**
+     * Estimated heap bytes of a subject ID in the key of a JSON view plan, i. e. of a hash set entry. Subject IDs are
+     * shared with the policy entries and not counted.
+     */
+    private static final long JSON_VIEW_PLAN_SUBJECT_BYTES = 32L;
+
+    /**
+     * Policy entries shared by all enforcers, e. g. the entries of policies created from the same template.
+     */
+    private static final Interner<PolicyEntry> POLICY_ENTRIES = new Interner<>();
+
+    /**
+     * Maximum number of JSON view plans cached by an enforcer. The least recently used plan is evicted when the cache
+     * is full.
+     */
+    static final int MAX_JSON_VIEW_PLANS = 16;
+
     /**
      * PolicyTrie obtained by propagating grant & revoke sets down from ancestors to descendants.
      */
@@ -80,11 +126,77 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
      */
     private final PolicyTrie bottomUpRevokeTrie;
 
+    /**
+     * The policy entries by their labels, needed together with {@code this.rawTrie} to derive modified enforcers.
+     */
+    private final Map<Label, PolicyEntry> policyEntries;
+
+    /**
+     * PolicyTrie obtained from the policy entries without any propagation.
+     */
+    private final PolicyTrie rawTrie;
+
+    /**
+     * IDs of the subjects of all policy entries.
+     */
+    private final Set<String> policySubjectIds;
+
+    /**
+     * Plans to build JSON views by their start node, subject IDs and permissions, computed on demand. The map is in
+     * access order and guarded by itself.
+     */
+    private final Map<JsonViewPlanKey, JsonViewPlan> jsonViewPlans;
+
     private TrieBasedPolicyEnforcer(final Iterable<PolicyEntry> policy) {
-        final PolicyTrie rawTree = PolicyTrie.fromPolicy(policy);
-        inheritedTrie = rawTree.getTransitiveClosure();
-        bottomUpGrantTrie = inheritedTrie.getBottomUpGrantTrie();
-        bottomUpRevokeTrie = inheritedTrie.getBottomUpRevokeTrie();
+        policyEntries = indexByLabel(policy);
+        rawTrie = PolicyTrie.fromPolicy(policyEntries.values()).intern();
+        inheritedTrie = rawTrie.getTransitiveClosure().intern();
+        bottomUpGrantTrie = inheritedTrie.getBottomUpGrantTrie().intern();
+        bottomUpRevokeTrie = inheritedTrie.getBottomUpRevokeTrie().intern();
+        policySubjectIds = getPolicySubjectIds(policyEntries.values());
+        jsonViewPlans = newJsonViewPlanCache();
+    }
+
+    private TrieBasedPolicyEnforcer(final TrieBasedPolicyEnforcer previous, final Map<Label, PolicyEntry> policyEntries,
+            final Iterable<ResourceKey> changedResources) {
+
+        this.policyEntries = Collections.unmodifiableMap(policyEntries);
+        rawTrie = previous.rawTrie.withResourcesFromPolicy(changedResources, policyEntries.values()).intern();
+        inheritedTrie = rawTrie.getTransitiveClosure(previous.rawTrie, previous.inheritedTrie).intern();
+        bottomUpGrantTrie =
+                inheritedTrie.getBottomUpGrantTrie(previous.inheritedTrie, previous.bottomUpGrantTrie).intern();
+        bottomUpRevokeTrie =
+                inheritedTrie.getBottomUpRevokeTrie(previous.inheritedTrie, previous.bottomUpRevokeTrie).intern();
+        policySubjectIds = getPolicySubjectIds(policyEntries.values());
+        jsonViewPlans = newJsonViewPlanCache();
+    }
+
+    private static Map<Label, PolicyEntry> indexByLabel(final Iterable<PolicyEntry> policy) {
+        final Map<Label, PolicyEntry> result = new LinkedHashMap<>();
+        policy.forEach(policyEntry -> {
+            final PolicyEntry canonicalPolicyEntry = POLICY_ENTRIES.intern(policyEntry);
+            result.put(canonicalPolicyEntry.getLabel(), canonicalPolicyEntry);
+        });
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static Set<String> getPolicySubjectIds(final Iterable<PolicyEntry> policyEntries) {
+        final Set<String> result = new HashSet<>();
+        for (final PolicyEntry policyEntry : policyEntries) {
+            for (final Subject subject : policyEntry.getSubjects()) {
+                result.add(subject.getId().toString());
+            }
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+    private static Map<JsonViewPlanKey, JsonViewPlan> newJsonViewPlanCache() {
+        return new LinkedHashMap<JsonViewPlanKey, JsonViewPlan>(MAX_JSON_VIEW_PLANS, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<JsonViewPlanKey, JsonViewPlan> eldest) {
+                return size() > MAX_JSON_VIEW_PLANS;
+            }
+        };
     }
 
     /**
@@ -98,6 +210,106 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
         return new TrieBasedPolicyEnforcer(checkNotNull(policy, "policy to interpret"));
     }
 
+    /**
+     * Returns the policy entry with the given label which this enforcer interprets.
+     *
+     * @param label The label of the policy entry.
+     * @return The policy entry or an empty Optional if this enforcer has no policy entry with the given label.
+     * @throws NullPointerException if {@code label} is {@code null}.
+     */
+    public Optional<PolicyEntry> getPolicyEntry(final Label label) {
+        return Optional.ofNullable(policyEntries.get(checkNotNull(label, "label")));
+    }
+
+    /**
+     * Returns a copy of this enforcer where the given policy entry is added or replaces the policy entry with the same
+     * label. Only the trie nodes of the resources of the old and of the new policy entry are computed anew.
+     *
+     * @param policyEntry The policy entry to set.
+     * @return The enforcer of the modified policy.
+     * @throws NullPointerException if {@code policyEntry} is {@code null}.
+     */
+    public TrieBasedPolicyEnforcer setPolicyEntry(final PolicyEntry policyEntry) {
+        checkNotNull(policyEntry, "policy entry to set");
+        final Map<Label, PolicyEntry> newPolicyEntries = new LinkedHashMap<>(policyEntries);
+        final PolicyEntry canonicalPolicyEntry = POLICY_ENTRIES.intern(policyEntry);
+        final PolicyEntry oldPolicyEntry = newPolicyEntries.put(canonicalPolicyEntry.getLabel(), canonicalPolicyEntry);
+
+        final Set<ResourceKey> changedResources = getResourceKeys(policyEntry);
+        if (null != oldPolicyEntry) {
+            changedResources.addAll(getResourceKeys(oldPolicyEntry));
+        }
+        return new TrieBasedPolicyEnforcer(this, newPolicyEntries, changedResources);
+    }
+
+    /**
+     * Returns a copy of this enforcer without the policy entry with the given label. Only the trie nodes of the
+     * resources of the removed policy entry are computed anew.
+     *
+     * @param label The label of the policy entry to remove.
+     * @return The enforcer of the modified policy, or this enforcer if it has no policy entry with the given label.
+     * @throws NullPointerException if {@code label} is {@code null}.
+     */
+    public TrieBasedPolicyEnforcer removePolicyEntry(final Label label) {
+        checkNotNull(label, "label of the policy entry to remove");
+        if (!policyEntries.containsKey(label)) {
+            return this;
+        }
+        final Map<Label, PolicyEntry> newPolicyEntries = new LinkedHashMap<>(policyEntries);
+        final PolicyEntry oldPolicyEntry = newPolicyEntries.remove(label);
+        return new TrieBasedPolicyEnforcer(this, newPolicyEntries, getResourceKeys(oldPolicyEntry));
+    }
+
+    /**
+     * Estimates the heap bytes occupied by this enforcer, i. e. by its tries and the policy entries they are derived
+     * from. The estimate grows with the number of trie nodes times the number of subjects and permissions at each
+     * node; it is meant for weighing enforcers against each other, e. g. in caches, rather than for exact accounting.
+     * Interned structures shared by the tries of this enforcer are counted once. Structures shared with other enforcers
+     * are counted by each of them, since it is unknown which of them is the last to hold them.
+     * <p>
+     * The cached JSON view plans are counted as well. Since caches usually weigh an enforcer before any plan is built,
+     * each vacant entry of the plan cache is counted as an entry with a uniform plan.
+     * </p>
+     *
+     * @return The estimated number of bytes.
+     */
+    public long estimateFootprint() {
+        final Set<Object> counted = Collections.newSetFromMap(new IdentityHashMap<>());
+        long bytes = rawTrie.estimateFootprint(counted) + inheritedTrie.estimateFootprint(counted) +
+                bottomUpGrantTrie.estimateFootprint(counted) + bottomUpRevokeTrie.estimateFootprint(counted);
+        for (final PolicyEntry policyEntry : policyEntries.values()) {
+            for (final Subject subject : policyEntry.getSubjects()) {
+                bytes += POLICY_ENTRY_ELEMENT_BYTES + 2L * subject.getId().length();
+            }
+            for (final Resource resource : policyEntry.getResources()) {
+                bytes += POLICY_ENTRY_ELEMENT_BYTES + 2L * resource.getFullQualifiedPath().length();
+            }
+        }
+        return bytes + estimateJsonViewPlansFootprint();
+    }
+
+    private long estimateJsonViewPlansFootprint() {
+        long bytes = 0L;
+        final int cachedPlans;
+        synchronized (jsonViewPlans) {
+            cachedPlans = jsonViewPlans.size();
+            for (final Map.Entry<JsonViewPlanKey, JsonViewPlan> entry : jsonViewPlans.entrySet()) {
+                bytes += JSON_VIEW_PLAN_ENTRY_BYTES +
+                        JSON_VIEW_PLAN_SUBJECT_BYTES * entry.getKey().subjectIds.size() +
+                        entry.getValue().estimateFootprint();
+            }
+        }
+        return bytes + JSON_VIEW_PLAN_ENTRY_BYTES * (MAX_JSON_VIEW_PLANS - cachedPlans);
+    }
+
+    private static Set<ResourceKey> getResourceKeys(final PolicyEntry policyEntry) {
+        final Set<ResourceKey> result = new LinkedHashSet<>();
+        for (final Resource resource : policyEntry.getResources()) {
+            result.add(resource.getResourceKey());
+        }
+        return result;
+    }
+
     /**
      * {@inheritDoc}
      * <p>
@@ -177,18 +389,45 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
         checkNotNull(jsonFields, "JSON fields");
         checkPermissions(permissions);
 
-        final Set<String> subjectIds = getSubjectIds(authorizationContext);
-
         final JsonKey typeKey = JsonKey.of(resourceKey.getResourceType());
 
         if (inheritedTrie.hasChild(typeKey)) {
-            final PolicyTrie start = inheritedTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
-            return start.buildJsonView(jsonFields, subjectIds, permissions);
+            return getJsonViewPlan(resourceKey, authorizationContext, permissions).buildJsonView(jsonFields);
         } else {
             return JsonFactory.newObject();
         }
     }
 
+    /**
+     * Returns the plan to build JSON views of a resource for the subjects of an authorization context, which is taken
+     * from the cache of this enforcer if a plan for the same subjects in the policy was built recently.
+     *
+     * @param resourceKey The resource to build JSON views of.
+     * @param authorizationContext The authorization context.
+     * @param permissions The permissions the subjects must have on the fields of the JSON views.
+     * @return The plan.
+     */
+    JsonViewPlan getJsonViewPlan(final ResourceKey resourceKey, final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        final Set<String> subjectIds = getSubjectIds(authorizationContext);
+        subjectIds.retainAll(policySubjectIds);
+        final PolicyTrie start = inheritedTrie.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey));
+        final JsonViewPlanKey key = new JsonViewPlanKey(start, subjectIds, permissions);
+        synchronized (jsonViewPlans) {
+            final JsonViewPlan cachedPlan = jsonViewPlans.get(key);
+            if (null != cachedPlan) {
+                return cachedPlan;
+            }
+        }
+        // the plan is built outside of the lock; a plan built concurrently for the same key is discarded
+        final JsonViewPlan plan = start.getJsonViewPlan(subjectIds, permissions);
+        synchronized (jsonViewPlans) {
+            final JsonViewPlan concurrentPlan = jsonViewPlans.putIfAbsent(key, plan);
+            return null != concurrentPlan ? concurrentPlan : plan;
+        }
+    }
+
     /**
      * Extracts all subject IDs from an authorization context as a set of strings.
      *
@@ -219,4 +458,40 @@ public final class TrieBasedPolicyEnforcer implements Enforcer {
                 .orElseGet(() -> fallback.seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(resourceKey)));
     }
 
+    /**
+     * Key of a cached JSON view plan.
+     */
+    private static final class JsonViewPlanKey {
+
+        private final PolicyTrie start;
+        private final Set<String> subjectIds;
+        private final Permissions permissions;
+
+        private JsonViewPlanKey(final PolicyTrie start, final Set<String> subjectIds, final Permissions permissions) {
+            this.start = start;
+            this.subjectIds = subjectIds;
+            this.permissions = permissions;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final JsonViewPlanKey that = (JsonViewPlanKey) o;
+            return Objects.equals(start, that.start) &&
+                    Objects.equals(subjectIds, that.subjectIds) &&
+                    Objects.equals(permissions, that.permissions);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(start, subjectIds, permissions);
+        }
+
+    }
+
 }
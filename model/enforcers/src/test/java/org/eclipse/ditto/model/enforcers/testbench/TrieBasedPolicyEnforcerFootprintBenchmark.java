@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.enforcers.testbench;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.model.enforcers.trie.TrieBasedPolicyEnforcer;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PoliciesResourceType;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.SubjectIssuer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the heap bytes per policy retained by trie-based enforcers of {@value #POLICIES} policies created from the
+ * same template, which differ only in their policy ID and in the subject of their owner entry. Each iteration creates
+ * the enforcers of all policies once; its time is the primary result. The retained bytes per policy are measured after
+ * each iteration and printed to the output of the benchmark, since they are no time and JMH 1.4.1 would report an
+ * auxiliary counter as a rate.
+ * <p>
+ * Interning the tries trades build time for memory: measured with this template, it reduced the retained heap from
+ * about 31 KB to about 7.5 KB per policy, while creating the enforcers took about 1.6 times as long because of the
+ * lookups in the interning pools.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TrieBasedPolicyEnforcerFootprintBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+
+    private static final int POLICIES = 10_000;
+
+    private List<Policy> policies;
+
+    @Setup
+    public void setUp() {
+        policies = new ArrayList<>(POLICIES);
+        for (int i = 0; i < POLICIES; i++) {
+            policies.add(createPolicyFromTemplate(i));
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS)
+    public List<TrieBasedPolicyEnforcer> createEnforcersOfTemplatePolicies(final Footprint footprint) {
+        final List<TrieBasedPolicyEnforcer> result = new ArrayList<>(POLICIES);
+        for (final Policy policy : policies) {
+            result.add(TrieBasedPolicyEnforcer.newInstance(policy));
+        }
+        footprint.enforcers = result;
+        return result;
+    }
+
+    private static Policy createPolicyFromTemplate(final int index) {
+        return PoliciesModelFactory.newPolicyBuilder("benchmark:template-" + index)
+                .forLabel("owner")
+                .setSubject(SubjectIssuer.GOOGLE, "owner-" + index)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), "READ", "WRITE")
+                .setGrantedPermissions(PoliciesResourceType.policyResource("/"), "READ", "WRITE")
+                .setGrantedPermissions(PoliciesResourceType.messageResource("/"), "READ", "WRITE")
+                .forLabel("operator")
+                .setSubject(SubjectIssuer.GOOGLE, "operator")
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/attributes"), "READ")
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/features"), "READ", "WRITE")
+                .setRevokedPermissions(PoliciesResourceType.thingResource("/features/credentials"), "READ",
+                        "WRITE")
+                .forLabel("device")
+                .setSubject(SubjectIssuer.GOOGLE, "device-gateway")
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/features/telemetry/properties"),
+                        "WRITE")
+                .setGrantedPermissions(PoliciesResourceType.messageResource("/inbox"), "READ")
+                .build();
+    }
+
+    private static long getUsedMemoryAfterGc() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Measures the heap bytes per policy retained by the enforcers created in an iteration. The heap is measured
+     * outside of the timed benchmark method.
+     */
+    @State(Scope.Thread)
+    public static class Footprint {
+
+        private List<TrieBasedPolicyEnforcer> enforcers;
+        private long usedMemoryBefore;
+
+        @Setup(Level.Iteration)
+        public void setUpIteration() {
+            enforcers = null;
+            usedMemoryBefore = getUsedMemoryAfterGc();
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDownIteration() {
+            if (null != enforcers && !enforcers.isEmpty()) {
+                final long retainedBytesPerPolicy = (getUsedMemoryAfterGc() - usedMemoryBefore) / enforcers.size();
+                System.out.printf("Retained bytes per policy: %d%n", retainedBytesPerPolicy);
+            }
+            enforcers = null;
+        }
+
+    }
+
+}
@@ -15,9 +15,11 @@ package org.eclipse.ditto.model.enforcers.trie;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -89,6 +91,7 @@ public final class GrantRevokeIndexTest {
     public void testHashCodeAndEquals() {
         EqualsVerifier.forClass(GrantRevokeIndex.class)
                 .usingGetClass()
+                .withIgnoredFields("interned", "bitSetIndex")
                 .verify();
     }
 
@@ -195,4 +198,27 @@ public final class GrantRevokeIndexTest {
         assertThat(revokedSubjectIds).as("Revoked subject IDs").containsOnly(anotherSubjectId);
     }
 
+    /** */
+    @Test
+    public void internedIndexChecksPermissionsOnBitSetsLikeUninternedIndex() {
+        final GrantRevokeIndex interned = new GrantRevokeIndex(grantedMap.copy(), revokedMap.copy()).intern();
+        final Set<String> bothSubjectIds = new HashSet<>(2);
+        Collections.addAll(bothSubjectIds, subjectId, anotherSubjectId);
+        final List<Set<String>> subjectIdsToCheck = Arrays.asList(Collections.singleton(subjectId),
+                Collections.singleton(anotherSubjectId), bothSubjectIds, Collections.singleton("google:unknown"));
+        final List<Set<String>> permissionsToCheck = Arrays.asList(Collections.singleton("READ"),
+                Collections.singleton("WRITE"), Collections.singleton("EXECUTE"), permissions);
+
+        for (final Set<String> permissionSet : permissionsToCheck) {
+            for (final Set<String> subjectIds : subjectIdsToCheck) {
+                assertThat(interned.hasPermissions(subjectIds, permissionSet))
+                        .as("%s has %s", subjectIds, permissionSet)
+                        .isEqualTo(underTest.hasPermissions(subjectIds, permissionSet));
+            }
+            assertThat(interned.getEffectedSubjectIds(permissionSet))
+                    .as("Effected subject IDs of %s", permissionSet)
+                    .isEqualTo(underTest.getEffectedSubjectIds(permissionSet));
+        }
+    }
+
 }
@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -226,6 +227,71 @@ public final class PolicyTrieTest {
         assertThat(createdJsonView).isEqualTo(expectedJsonView);
     }
 
+    @Test
+    public void internSharesEqualSubtriesOfDifferentPolicies() {
+        final ResourceKey otherResourceKey =
+                ResourceKey.newInstance(TestConstants.Policy.RESOURCE_TYPE, JsonPointer.of("/other"));
+        final Policy otherPolicy = policy.toBuilder()
+                .setId("other:policy")
+                .forLabel("other")
+                .setSubject(SubjectIssuer.GOOGLE, "other")
+                .setGrantedPermissions(otherResourceKey, "READ")
+                .build();
+
+        final PolicyTrie interned = underTest.intern();
+        final PolicyTrie otherInterned = PolicyTrie.fromPolicy(otherPolicy).intern();
+
+        assertThat(interned).isEqualTo(underTest);
+        assertThat(PolicyTrie.fromPolicy(policy).intern()).isSameAs(interned);
+        assertThat(otherInterned).isNotEqualTo(interned);
+        assertThat(otherInterned.seekToExactNode(PolicyTrie.getJsonKeyIterator(fooResourceKey)).orElse(null))
+                .isSameAs(interned.seekToExactNode(PolicyTrie.getJsonKeyIterator(fooResourceKey)).orElse(null))
+                .isNotNull();
+        assertThat(otherInterned.seekToExactNode(PolicyTrie.getJsonKeyIterator(otherResourceKey)))
+                .isPresent();
+    }
+
+    @Test
+    public void jsonViewPlanBuildsSameViewsAsTrie() {
+        final JsonObject thing = JsonFactory.newObject("{\"thingId\":\"x:y\",\"attributes\":{\"foo\":{" +
+                "\"Bar\":{\"x\":1},\"baz\":[1,{\"Bar\":2},[]],\"qux\":\"v\",\"empty\":{}},\"other\":3}}");
+        final PolicyTrie thingNode = underTest.getTransitiveClosure()
+                .seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(ResourceKey.newInstance("thing", "/")));
+        final Permissions permissions = Permissions.newInstance("READ");
+        final Collection<HashSet<String>> subjectIdSets = new ArrayList<>();
+        subjectIdSets.add(new HashSet<>());
+        subjectIdSets.add(new HashSet<>(Collections.singleton(subjectId)));
+        subjectIdSets.add(new HashSet<>(Collections.singleton(anotherSubjectId)));
+        subjectIdSets.add(new HashSet<>(Arrays.asList(subjectId, anotherSubjectId)));
+
+        for (final HashSet<String> subjectIds : subjectIdSets) {
+            final JsonObject planView = thingNode.getJsonViewPlan(subjectIds, permissions).buildJsonView(thing);
+
+            assertThat(planView)
+                    .as("JSON view for %s", subjectIds)
+                    .isEqualTo(thingNode.buildJsonView(thing, subjectIds, permissions));
+        }
+        assertThat(thingNode.getJsonViewPlan(Collections.singleton(anotherSubjectId), permissions)
+                .buildJsonView(thing))
+                .isEqualTo(JsonFactory.newObject("{\"attributes\":{\"foo\":{" +
+                        "\"baz\":[1,{\"Bar\":2},[]],\"qux\":\"v\",\"empty\":{}}}}"));
+    }
+
+    @Test
+    public void jsonViewPlanKeepsNullValueLikeTrie() {
+        final JsonObject nullObject = JsonFactory.nullObject();
+        final PolicyTrie thingNode = underTest.getTransitiveClosure()
+                .seekToLeastAncestor(PolicyTrie.getJsonKeyIterator(ResourceKey.newInstance("thing", "/")));
+        final Permissions permissions = Permissions.newInstance("READ");
+
+        assertThat(JsonViewPlan.uniform(false).buildJsonView(nullObject)).isSameAs(nullObject);
+        assertThat(JsonViewPlan.uniform(true).buildJsonView(nullObject)).isSameAs(nullObject);
+        assertThat(thingNode.getJsonViewPlan(Collections.singleton(anotherSubjectId), permissions)
+                .buildJsonView(nullObject))
+                .isEqualTo(thingNode.buildJsonView(nullObject, Collections.singleton(anotherSubjectId), permissions))
+                .isSameAs(nullObject);
+    }
+
     @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
     private static GrantRevokeIndex getGrantRevokeIndex(final Optional<PolicyTrie> policyTrieOptional) {
         return policyTrieOptional.map(PolicyTrie::getGrantRevokeIndex).orElse(null);
@@ -14,20 +14,60 @@ package org.eclipse.ditto.model.enforcers.trie;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.policies.EffectedPermissions;
+import org.eclipse.ditto.model.policies.Label;
 import org.eclipse.ditto.model.policies.Permissions;
 import org.eclipse.ditto.model.policies.PoliciesModelFactory;
 import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyEntry;
+import org.eclipse.ditto.model.policies.Resource;
 import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.policies.Resources;
+import org.eclipse.ditto.model.policies.Subject;
 import org.eclipse.ditto.model.policies.SubjectType;
+import org.eclipse.ditto.model.policies.Subjects;
 import org.junit.Test;
 
 public class TrieBasedPolicyEnforcerTest {
 
+    private static final List<ResourceKey> RESOURCE_KEYS = Arrays.asList(
+            ResourceKey.newInstance("thing", "/"),
+            ResourceKey.newInstance("thing", "/attributes"),
+            ResourceKey.newInstance("thing", "/attributes/secret"),
+            ResourceKey.newInstance("thing", "/attributes/secret/nested"),
+            ResourceKey.newInstance("thing", "/features"),
+            ResourceKey.newInstance("thing", "/features/lamp"),
+            ResourceKey.newInstance("policy", "/"));
+
+    private static final List<String> SUBJECT_IDS =
+            Arrays.asList("test:admin", "test:reader", "test:device", "test:onboarded");
+
+    private static final List<Permissions> PERMISSIONS = Arrays.asList(
+            Permissions.newInstance("READ"),
+            Permissions.newInstance("WRITE"),
+            Permissions.newInstance("READ", "WRITE"));
+
+    private static final JsonObject THING = JsonFactory.newObjectBuilder()
+            .set("thingId", "namespace:id")
+            .set("attributes", JsonFactory.newObjectBuilder()
+                    .set("location", "kitchen")
+                    .set("secret", JsonFactory.newObjectBuilder().set("nested", 42).build())
+                    .build())
+            .set("features", JsonFactory.newObjectBuilder()
+                    .set("lamp", JsonFactory.newObjectBuilder().set("on", true).build())
+                    .build())
+            .build();
+
     @Test
     public void buildJsonView() {
         final TrieBasedPolicyEnforcer underTest =
@@ -44,6 +84,175 @@ public class TrieBasedPolicyEnforcerTest {
         assertThat(createdJsonView).isEqualTo(expectedJsonView);
     }
 
+    @Test
+    public void setPolicyEntryEnforcesLikeNewInstance() {
+        final Policy policy = hierarchicalPolicy();
+        final TrieBasedPolicyEnforcer underTest = TrieBasedPolicyEnforcer.newInstance(policy);
+
+        final PolicyEntry deviceEntry = policyEntry("DEVICE", "test:device",
+                resource("/features/lamp", "READ,WRITE", ""),
+                resource("/attributes/secret", "", "READ"));
+        final PolicyEntry readerEntry = policy.getEntryFor("READER")
+                .map(entry -> PoliciesModelFactory.newPolicyEntry(entry.getLabel(),
+                        entry.getSubjects().setSubject(Subject.newInstance("test:onboarded", SubjectType.GENERATED)),
+                        entry.getResources().removeResource(ResourceKey.newInstance("thing", "/attributes/secret"))))
+                .orElseThrow(IllegalStateException::new);
+
+        final TrieBasedPolicyEnforcer withDevice = underTest.setPolicyEntry(deviceEntry);
+        final Policy policyWithDevice = policy.setEntry(deviceEntry);
+        assertEnforcesLike(withDevice, TrieBasedPolicyEnforcer.newInstance(policyWithDevice));
+
+        final TrieBasedPolicyEnforcer withModifiedReader = withDevice.setPolicyEntry(readerEntry);
+        assertEnforcesLike(withModifiedReader,
+                TrieBasedPolicyEnforcer.newInstance(policyWithDevice.setEntry(readerEntry)));
+        assertThat(withModifiedReader.getPolicyEntry(Label.of("READER"))).contains(readerEntry);
+
+        // the previous enforcers are unaffected
+        assertEnforcesLike(withDevice, TrieBasedPolicyEnforcer.newInstance(policyWithDevice));
+        assertEnforcesLike(underTest, TrieBasedPolicyEnforcer.newInstance(policy));
+    }
+
+    @Test
+    public void removePolicyEntryEnforcesLikeNewInstance() {
+        final Policy policy = hierarchicalPolicy();
+        final TrieBasedPolicyEnforcer underTest = TrieBasedPolicyEnforcer.newInstance(policy);
+
+        final TrieBasedPolicyEnforcer withoutReader = underTest.removePolicyEntry(Label.of("READER"));
+        assertEnforcesLike(withoutReader, TrieBasedPolicyEnforcer.newInstance(policy.removeEntry("READER")));
+        assertThat(withoutReader.getPolicyEntry(Label.of("READER"))).isEmpty();
+
+        final TrieBasedPolicyEnforcer withoutAll = withoutReader.removePolicyEntry(Label.of("ADMIN"));
+        assertEnforcesLike(withoutAll,
+                TrieBasedPolicyEnforcer.newInstance(policy.removeEntry("READER").removeEntry("ADMIN")));
+        assertThat(withoutAll.removePolicyEntry(Label.of("ADMIN"))).isSameAs(withoutAll);
+    }
+
+    @Test
+    public void jsonViewPlansAreSharedByAuthorizationContextsWithSameSubjectsInPolicy() {
+        final TrieBasedPolicyEnforcer underTest = TrieBasedPolicyEnforcer.newInstance(hierarchicalPolicy());
+        final ResourceKey resourceKey = ResourceKey.newInstance("thing", "/");
+        final Permissions permissions = Permissions.newInstance("READ");
+
+        final JsonViewPlan plan = underTest.getJsonViewPlan(resourceKey,
+                AuthorizationContext.newInstance(AuthorizationSubject.newInstance("test:reader")), permissions);
+
+        assertThat(underTest.getJsonViewPlan(resourceKey,
+                AuthorizationContext.newInstance(AuthorizationSubject.newInstance("test:reader"),
+                        AuthorizationSubject.newInstance("test:unknown")), permissions))
+                .isSameAs(plan);
+        assertThat(underTest.getJsonViewPlan(resourceKey,
+                AuthorizationContext.newInstance(AuthorizationSubject.newInstance("test:admin")), permissions))
+                .isNotSameAs(plan);
+    }
+
+    @Test
+    public void leastRecentlyUsedJsonViewPlanIsEvicted() {
+        final int plans = TrieBasedPolicyEnforcer.MAX_JSON_VIEW_PLANS + 1;
+        final List<Permissions> permissions = new ArrayList<>(plans);
+        final List<String> permissionNames = new ArrayList<>(plans);
+        for (int i = 0; i < plans; i++) {
+            permissions.add(Permissions.newInstance("PERMISSION_" + i));
+            permissionNames.add("PERMISSION_" + i);
+        }
+        // the permissions are granted on a sub-resource only, so that each plan is a distinct instance
+        final TrieBasedPolicyEnforcer underTest = TrieBasedPolicyEnforcer.newInstance(hierarchicalPolicy()
+                .setEntry(policyEntry("CUSTOM", "test:reader",
+                        resource("/features", String.join(",", permissionNames), ""))));
+        final ResourceKey resourceKey = ResourceKey.newInstance("thing", "/");
+        final AuthorizationContext authorizationContext =
+                AuthorizationContext.newInstance(AuthorizationSubject.newInstance("test:reader"));
+
+        final List<JsonViewPlan> cachedPlans = new ArrayList<>(plans);
+        for (int i = 0; i < plans - 1; i++) {
+            cachedPlans.add(underTest.getJsonViewPlan(resourceKey, authorizationContext, permissions.get(i)));
+        }
+        // the cache is full; using the first plan makes the second plan the least recently used one
+        assertThat(underTest.getJsonViewPlan(resourceKey, authorizationContext, permissions.get(0)))
+                .isSameAs(cachedPlans.get(0));
+        underTest.getJsonViewPlan(resourceKey, authorizationContext, permissions.get(plans - 1));
+
+        assertThat(underTest.getJsonViewPlan(resourceKey, authorizationContext, permissions.get(0)))
+                .isSameAs(cachedPlans.get(0));
+        assertThat(underTest.getJsonViewPlan(resourceKey, authorizationContext, permissions.get(1)))
+                .isNotSameAs(cachedPlans.get(1));
+    }
+
+    @Test
+    public void footprintIncludesCachedJsonViewPlans() {
+        // READ is granted on a sub-resource only, so that the plan is mixed
+        final TrieBasedPolicyEnforcer underTest = TrieBasedPolicyEnforcer.newInstance(hierarchicalPolicy()
+                .setEntry(policyEntry("CUSTOM", "test:custom", resource("/features", "READ", ""))));
+        final long footprintWithoutPlans = underTest.estimateFootprint();
+
+        final JsonViewPlan plan = underTest.getJsonViewPlan(ResourceKey.newInstance("thing", "/"),
+                AuthorizationContext.newInstance(AuthorizationSubject.newInstance("test:custom")),
+                Permissions.newInstance("READ"));
+
+        assertThat(plan.estimateFootprint()).isPositive();
+        assertThat(underTest.estimateFootprint()).isGreaterThan(footprintWithoutPlans);
+    }
+
+    private static void assertEnforcesLike(final TrieBasedPolicyEnforcer actual,
+            final TrieBasedPolicyEnforcer expected) {
+
+        for (final ResourceKey resourceKey : RESOURCE_KEYS) {
+            for (final Permissions permissions : PERMISSIONS) {
+                assertThat(actual.getSubjectIdsWithPermission(resourceKey, permissions))
+                        .describedAs("%s %s", resourceKey, permissions)
+                        .isEqualTo(expected.getSubjectIdsWithPermission(resourceKey, permissions));
+                assertThat(actual.getSubjectIdsWithPartialPermission(resourceKey, permissions))
+                        .describedAs("%s %s", resourceKey, permissions)
+                        .isEqualTo(expected.getSubjectIdsWithPartialPermission(resourceKey, permissions));
+                for (final String subjectId : SUBJECT_IDS) {
+                    final AuthorizationContext authorizationContext =
+                            AuthorizationContext.newInstance(AuthorizationSubject.newInstance(subjectId));
+                    assertThat(actual.hasUnrestrictedPermissions(resourceKey, authorizationContext, permissions))
+                            .describedAs("%s %s %s", resourceKey, subjectId, permissions)
+                            .isEqualTo(expected.hasUnrestrictedPermissions(resourceKey, authorizationContext,
+                                    permissions));
+                    assertThat(actual.hasPartialPermissions(resourceKey, authorizationContext, permissions))
+                            .describedAs("%s %s %s", resourceKey, subjectId, permissions)
+                            .isEqualTo(expected.hasPartialPermissions(resourceKey, authorizationContext,
+                                    permissions));
+                    assertThat(actual.buildJsonView(resourceKey, THING, authorizationContext, permissions))
+                            .describedAs("%s %s %s", resourceKey, subjectId, permissions)
+                            .isEqualTo(expected.buildJsonView(resourceKey, THING, authorizationContext,
+                                    permissions));
+                }
+            }
+        }
+    }
+
+    private static Policy hierarchicalPolicy() {
+        return PoliciesModelFactory.newPolicyBuilder("namespace:id")
+                .set(policyEntry("ADMIN", "test:admin",
+                        resource("/", "READ,WRITE", ""),
+                        resource("/attributes/secret", "", "WRITE")))
+                .set(policyEntry("READER", "test:reader",
+                        resource("/attributes", "READ", ""),
+                        resource("/attributes/secret", "", "READ"),
+                        resource("/features", "READ", "")))
+                .setRevision(1L)
+                .build();
+    }
+
+    private static PolicyEntry policyEntry(final String label, final String subjectId, final Resource resource,
+            final Resource... furtherResources) {
+
+        return PoliciesModelFactory.newPolicyEntry(label,
+                Subjects.newInstance(Subject.newInstance(subjectId, SubjectType.GENERATED)),
+                Resources.newInstance(resource, furtherResources));
+    }
+
+    private static Resource resource(final String path, final String granted, final String revoked) {
+        return Resource.newInstance("thing", path, EffectedPermissions.newInstance(toPermissions(granted),
+                toPermissions(revoked)));
+    }
+
+    private static List<String> toPermissions(final String permissions) {
+        return permissions.isEmpty() ? Collections.emptyList() : Arrays.asList(permissions.split(","));
+    }
+
     private static Policy defaultPolicy(final String policyId) {
         final Permissions permissions = Permissions.newInstance("READ", "WRITE");
         return PoliciesModelFactory.newPolicyBuilder(policyId)
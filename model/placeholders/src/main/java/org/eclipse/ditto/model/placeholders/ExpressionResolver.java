@@ -49,6 +49,25 @@ public interface ExpressionResolver {
      */
     String resolve(String expressionTemplate, boolean allowUnresolved);
 
+    /**
+     * Resolves a complete expression template which was already parsed into an {@link ExpressionTemplate}. The result
+     * is the same as the one of {@link #resolve(String, boolean)} for the template string, but implementations may
+     * avoid parsing the template again.
+     *
+     * @param expressionTemplate the parsed expressionTemplate to resolve {@link Placeholder}s and execute optional
+     * pipeline stages in
+     * @param allowUnresolved whether it should be allowed that unresolved placeholder may be present after processing
+     * @return the resolved String or the original template if {@code allowUnresolved} was set to {@code true} and
+     * placeholders could not be resolved.
+     * @throws org.eclipse.ditto.model.connectivity.UnresolvedPlaceholderException thrown if {@code allowUnresolved} was
+     * set to {@code false} and the passed in {@code expressionTemplate} could not be resolved
+     * @throws PlaceholderFunctionTooComplexException thrown if the {@code expressionTemplate} contains a placeholder
+     * function chain which is too complex (e.g. too much chained function calls)
+     */
+    default String resolve(final ExpressionTemplate expressionTemplate, final boolean allowUnresolved) {
+        return resolve(expressionTemplate.getTemplate(), allowUnresolved);
+    }
+
     /**
      * Resolves a single {@link Placeholder} with the passed full {@code placeholder} name (e.g.: {@code thing:id} or
      * {@code header:correlation-id}.
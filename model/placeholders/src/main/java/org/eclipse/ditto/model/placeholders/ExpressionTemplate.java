@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders;
+
+/**
+ * An expression template which was parsed once into its text parts, {@link Placeholder}s and pipeline stages so that
+ * it can be resolved repeatedly by an {@link ExpressionResolver} without being parsed again, e.g. the header mapping
+ * or the target address of a connection which is resolved for every message.
+ */
+public interface ExpressionTemplate {
+
+    /**
+     * Returns the template this ExpressionTemplate was created from.
+     *
+     * @return the template.
+     */
+    String getTemplate();
+
+    /**
+     * Indicates whether the template contains any placeholder.
+     *
+     * @return {@code true} if the template contains placeholders which have to be resolved, {@code false} if it
+     * resolves to itself.
+     */
+    boolean containsPlaceholders();
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Immutable implementation of {@link Pipeline} which looks up the {@link PipelineFunction}s of its stage expressions
+ * once on creation instead of on every execution. Behaves exactly like {@link ImmutablePipeline} with
+ * {@link ImmutableFunctionExpression}.
+ */
+@Immutable
+final class ImmutableCompiledPipeline implements Pipeline {
+
+    private final List<Stage> stages;
+
+    ImmutableCompiledPipeline(final List<String> stageExpressions) {
+        final List<Stage> compiledStages = new ArrayList<>(stageExpressions.size());
+        for (final String stageExpression : stageExpressions) {
+            compiledStages.add(new Stage(stageExpression));
+        }
+        stages = Collections.unmodifiableList(compiledStages);
+    }
+
+    @Override
+    public Optional<String> execute(final Optional<String> pipelineInput, final ExpressionResolver expressionResolver) {
+
+        Optional<String> stageValue = pipelineInput;
+        for (final Stage stage : stages) {
+            stageValue = stage.apply(stageValue, expressionResolver);
+        }
+        return stageValue;
+    }
+
+    @Override
+    public void validate() {
+        stages.forEach(Stage::validate);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ImmutableCompiledPipeline)) {
+            return false;
+        }
+        final ImmutableCompiledPipeline that = (ImmutableCompiledPipeline) o;
+        return Objects.equals(stages, that.stages);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(stages);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "stages=" + stages +
+                "]";
+    }
+
+    /**
+     * A single stage of the pipeline with its already looked up function and parameters.
+     */
+    @Immutable
+    private static final class Stage {
+
+        private static final ImmutableFunctionExpression FUNCTION_EXPRESSION = ImmutableFunctionExpression.INSTANCE;
+
+        private final String expression;
+        private final boolean supported;
+        @Nullable private final PipelineFunction function;
+        @Nullable private final String paramsIncludingParentheses;
+
+        private Stage(final String expression) {
+            this.expression = expression;
+            supported = FUNCTION_EXPRESSION.supports(
+                    expression.replaceFirst(FUNCTION_EXPRESSION.getPrefix() + FunctionExpression.SEPARATOR, ""));
+            function = FUNCTION_EXPRESSION.findFunction(expression).orElse(null);
+            paramsIncludingParentheses = null != function
+                    ? FUNCTION_EXPRESSION.getParamsIncludingParentheses(function, expression)
+                    : null;
+        }
+
+        private Optional<String> apply(final Optional<String> value, final ExpressionResolver expressionResolver) {
+            validate();
+            if (null == function || null == paramsIncludingParentheses) {
+                return Optional.empty();
+            }
+            return function.apply(value, paramsIncludingParentheses, expressionResolver);
+        }
+
+        private void validate() {
+            if (!supported) {
+                throw PlaceholderFunctionUnknownException.newBuilder(expression).build();
+            }
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Stage)) {
+                return false;
+            }
+            final Stage that = (Stage) o;
+            return Objects.equals(expression, that.expression);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(expression);
+        }
+
+        @Override
+        public String toString() {
+            return expression;
+        }
+
+    }
+
+}
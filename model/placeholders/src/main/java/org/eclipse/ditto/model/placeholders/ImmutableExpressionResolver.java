@@ -111,6 +111,54 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
         return Optional.empty();
     }
 
+    @Override
+    public String resolve(final ExpressionTemplate expressionTemplate, final boolean allowUnresolved) {
+        if (!(expressionTemplate instanceof ImmutableExpressionTemplate) ||
+                !((ImmutableExpressionTemplate) expressionTemplate).isCompiled()) {
+            return resolve(expressionTemplate.getTemplate(), allowUnresolved);
+        }
+        if (!expressionTemplate.containsPlaceholders() || placeholderResolvers.isEmpty()) {
+            return expressionTemplate.getTemplate();
+        }
+
+        final StringBuilder resultBuilder = new StringBuilder();
+        boolean unresolved = false;
+        for (final ImmutableExpressionTemplate.Segment segment :
+                ((ImmutableExpressionTemplate) expressionTemplate).getSegments()) {
+            if (segment.isText()) {
+                resultBuilder.append(segment.getText());
+            } else {
+                final Optional<String> resolved = resolveSegment(segment);
+                if (resolved.isPresent()) {
+                    resultBuilder.append(resolved.get());
+                } else {
+                    resultBuilder.append(segment.getText());
+                    unresolved = true;
+                }
+            }
+        }
+
+        final String result = resultBuilder.toString();
+        if (unresolved && !allowUnresolved) {
+            throw UNRESOLVED_INPUT_HANDLER.apply(result);
+        }
+        return result;
+    }
+
+    private Optional<String> resolveSegment(final ImmutableExpressionTemplate.Segment segment) {
+        final String prefix = segment.getPrefix();
+        for (final PlaceholderResolver<?> resolver : placeholderResolvers) {
+            if (prefix.equals(resolver.getPrefix())) {
+                final Optional<String> resolved =
+                        executePipeline(segment.getPipeline(), resolvePlaceholder(resolver, segment.getName()));
+                if (resolved.isPresent()) {
+                    return resolved;
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
     private Function<String, Optional<String>> makePlaceholderReplacerFunction(
             final PlaceholderResolver<?> placeholderResolver) {
 
@@ -124,19 +172,29 @@ final class ImmutableExpressionResolver implements ExpressionResolver {
                     resolvePlaceholderWithoutPrefixIfSupported(placeholderResolver, placeholderTemplate);
             return placeholderWithoutPrefix
                     .map(p -> resolvePlaceholder(placeholderResolver, p))
-                    .flatMap(pipelineInput -> {
-                        if (Optional.of(placeholderReplacementInValidation).equals(pipelineInput)) {
-                            pipeline.validate();
-                            // let the input pass if validation succeeded:
-                            return pipelineInput;
-                        }
-                        return pipeline.execute(pipelineInput, this);
-                    });
+                    .flatMap(pipelineInput -> executePipeline(pipeline, pipelineInput));
 
         };
     }
 
-    private List<String> getPipelineStagesExpressions(final String template) {
+    private Optional<String> executePipeline(final Pipeline pipeline, final Optional<String> pipelineInput) {
+        if (Optional.of(placeholderReplacementInValidation).equals(pipelineInput)) {
+            pipeline.validate();
+            // let the input pass if validation succeeded:
+            return pipelineInput;
+        }
+        return pipeline.execute(pipelineInput, this);
+    }
+
+    /**
+     * Splits the passed placeholder {@code template} into its pipeline stages, the first one being the placeholder.
+     *
+     * @param template the content of a placeholder, e.g. {@code thing:name | fn:lower()}.
+     * @return the trimmed pipeline stage expressions.
+     * @throws UnresolvedPlaceholderException if the template is no valid pipeline.
+     * @throws PlaceholderFunctionTooComplexException if the pipeline contains too many functions.
+     */
+    static List<String> getPipelineStagesExpressions(final String template) {
 
         if (!PIPE_PATTERN.matcher(template).matches()) {
             throw UNRESOLVED_INPUT_HANDLER.apply(template);
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+import static org.eclipse.ditto.model.placeholders.Expression.SEPARATOR;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.base.common.Placeholders;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.connectivity.UnresolvedPlaceholderException;
+
+/**
+ * Immutable implementation of {@link ExpressionTemplate} splitting a template into text and placeholder segments.
+ * Templates containing legacy placeholders (e.g. {@code ${request.subjectId}}) are not compiled and are resolved
+ * like plain template strings.
+ */
+@Immutable
+final class ImmutableExpressionTemplate implements ExpressionTemplate {
+
+    private final String template;
+    private final List<Segment> segments;
+    private final boolean compiled;
+    private final boolean containsPlaceholders;
+
+    private ImmutableExpressionTemplate(final String template, final List<Segment> segments, final boolean compiled) {
+        this.template = template;
+        this.segments = Collections.unmodifiableList(new ArrayList<>(segments));
+        this.compiled = compiled;
+        containsPlaceholders = !compiled || segments.stream().anyMatch(segment -> !segment.isText());
+    }
+
+    /**
+     * Parses the passed {@code template}. Malformed placeholders do not fail the parsing, resolving them throws the
+     * same exceptions as resolving the template string does.
+     *
+     * @param template the template to parse.
+     * @return the parsed template.
+     * @throws NullPointerException if {@code template} is {@code null}.
+     */
+    static ImmutableExpressionTemplate of(final String template) {
+        checkNotNull(template, "template");
+        if (!Placeholders.containsAnyPlaceholder(template)) {
+            return new ImmutableExpressionTemplate(template, Collections.singletonList(Segment.text(template)), true);
+        }
+        final List<Segment> segments = new ArrayList<>();
+        Placeholders.split(template,
+                text -> segments.add(Segment.text(text)),
+                (placeholder, content) -> segments.add(Segment.placeholder(placeholder, content)));
+        final boolean containsLegacyPlaceholders = segments.stream()
+                .filter(Segment::isText)
+                .anyMatch(segment -> Placeholders.containsAnyPlaceholder(segment.getText()));
+        return new ImmutableExpressionTemplate(template, segments, !containsLegacyPlaceholders);
+    }
+
+    @Override
+    public String getTemplate() {
+        return template;
+    }
+
+    @Override
+    public boolean containsPlaceholders() {
+        return containsPlaceholders;
+    }
+
+    /**
+     * @return whether the template was split into segments; if not, it has to be resolved as template string.
+     */
+    boolean isCompiled() {
+        return compiled;
+    }
+
+    /**
+     * @return the text and placeholder segments of the template in the order of their occurrence.
+     */
+    List<Segment> getSegments() {
+        return segments;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ImmutableExpressionTemplate)) {
+            return false;
+        }
+        final ImmutableExpressionTemplate that = (ImmutableExpressionTemplate) o;
+        return Objects.equals(template, that.template);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(template);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "template=" + template +
+                ", compiled=" + compiled +
+                "]";
+    }
+
+    /**
+     * A part of a template: either text or a placeholder with the prefix and name of the placeholder and the pipeline
+     * applied to its value.
+     */
+    @Immutable
+    static final class Segment {
+
+        private final String text;
+        private final boolean isText;
+        @Nullable private final String content;
+        @Nullable private final String prefix;
+        @Nullable private final String name;
+        @Nullable private final Pipeline pipeline;
+
+        private Segment(final String text, final boolean isText, @Nullable final String content,
+                @Nullable final String prefix, @Nullable final String name, @Nullable final Pipeline pipeline) {
+            this.text = text;
+            this.isText = isText;
+            this.content = content;
+            this.prefix = prefix;
+            this.name = name;
+            this.pipeline = pipeline;
+        }
+
+        private static Segment text(final String text) {
+            return new Segment(text, true, null, null, null, null);
+        }
+
+        private static Segment placeholder(final String placeholder, final String content) {
+            try {
+                final List<String> stageExpressions = ImmutableExpressionResolver.getPipelineStagesExpressions(content);
+                final String firstStage = stageExpressions.isEmpty() ? "" : stageExpressions.get(0);
+                final int separatorIndex = firstStage.indexOf(SEPARATOR);
+                if (separatorIndex == -1) {
+                    return new Segment(placeholder, false, content, null, null, null);
+                }
+                return new Segment(placeholder, false, content,
+                        firstStage.substring(0, separatorIndex).trim(),
+                        firstStage.substring(separatorIndex + 1).trim(),
+                        new ImmutableCompiledPipeline(stageExpressions.subList(1, stageExpressions.size())));
+            } catch (final DittoRuntimeException e) {
+                // resolving the segment rethrows the exception
+                return new Segment(placeholder, false, content, null, null, null);
+            }
+        }
+
+        /**
+         * @return whether this segment is text without placeholders.
+         */
+        boolean isText() {
+            return isText;
+        }
+
+        /**
+         * @return the text of this segment, for placeholders the complete placeholder including its curly braces.
+         */
+        String getText() {
+            return text;
+        }
+
+        /**
+         * @return the prefix of the placeholder, e.g. {@code thing} for {@code {{ thing:id }} }.
+         * @throws DittoRuntimeException the same exception resolving the placeholder in a template string would throw
+         * if the placeholder is malformed.
+         */
+        String getPrefix() {
+            checkWellFormed();
+            return Objects.requireNonNull(prefix);
+        }
+
+        /**
+         * @return the name of the placeholder without prefix, e.g. {@code id} for {@code {{ thing:id }} }.
+         */
+        String getName() {
+            checkWellFormed();
+            return Objects.requireNonNull(name);
+        }
+
+        /**
+         * @return the pipeline applied to the value of the placeholder.
+         */
+        Pipeline getPipeline() {
+            checkWellFormed();
+            return Objects.requireNonNull(pipeline);
+        }
+
+        private void checkWellFormed() {
+            if (null == pipeline) {
+                final List<String> stageExpressions =
+                        ImmutableExpressionResolver.getPipelineStagesExpressions(String.valueOf(content));
+                throw UnresolvedPlaceholderException.newBuilder(
+                        stageExpressions.isEmpty() ? "" : stageExpressions.get(0)).build();
+            }
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Segment)) {
+                return false;
+            }
+            final Segment that = (Segment) o;
+            return isText == that.isText && Objects.equals(text, that.text);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(text, isText);
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+
+    }
+
+}
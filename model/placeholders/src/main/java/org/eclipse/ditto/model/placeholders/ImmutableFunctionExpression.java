@@ -70,14 +70,32 @@ final class ImmutableFunctionExpression implements FunctionExpression {
             throw PlaceholderFunctionUnknownException.newBuilder(expression).build();
         }
 
+        return findFunction(expression)
+                .flatMap(pf -> pf.apply(resolvedInputValue, getParamsIncludingParentheses(pf, expression),
+                        expressionResolver));
+    }
+
+    /**
+     * Finds the supported {@link PipelineFunction} the passed {@code expression} calls, e.g. {@code fn:lower()}.
+     *
+     * @param expression the function expression including the prefix.
+     * @return the called function or an empty Optional if the expression does not call a supported function.
+     */
+    Optional<PipelineFunction> findFunction(final String expression) {
         return SUPPORTED.stream()
                 .filter(pf -> expression.startsWith(getPrefix() + ":" + pf.getName() + "("))
-                .map(pf -> pf.apply(resolvedInputValue,
-                        expression.replaceFirst(getPrefix() + ":" + pf.getName(), "").trim(),
-                        expressionResolver)
-                )
-                .findFirst()
-                .flatMap(o -> o);
+                .findFirst();
+    }
+
+    /**
+     * Extracts the parameters of the passed {@code expression} calling the passed {@code pipelineFunction}.
+     *
+     * @param pipelineFunction the function called by the expression.
+     * @param expression the function expression including the prefix.
+     * @return the parameters including parentheses, e.g.: {@code ('fallback')}
+     */
+    String getParamsIncludingParentheses(final PipelineFunction pipelineFunction, final String expression) {
+        return expression.replaceFirst(getPrefix() + ":" + pipelineFunction.getName(), "").trim();
     }
 
 }
@@ -77,6 +77,18 @@ public final class PlaceholderFactory {
         return new ImmutablePlaceholderResolver<>(placeholder, null, true);
     }
 
+    /**
+     * Parses the passed {@code template} once into an {@link ExpressionTemplate} which can be resolved repeatedly by
+     * {@link ExpressionResolver}s without parsing it again.
+     *
+     * @param template the template potentially containing placeholders and pipeline stages (functions).
+     * @return the created ExpressionTemplate instance
+     * @throws NullPointerException if {@code template} is {@code null}.
+     */
+    public static ExpressionTemplate newExpressionTemplate(final String template) {
+        return ImmutableExpressionTemplate.of(template);
+    }
+
     /**
      * Creates a new ExpressionResolver instance initialized with the passed in {@code placeholderResolvers} for looking
      * up {@link Placeholder}s.
@@ -163,6 +163,27 @@ public final class PlaceholderFilter {
         return doApply(template, expressionResolver, allowUnresolved);
     }
 
+    /**
+     * Finds all placeholders ({@code {{ ... }}}) defined in the given already parsed {@code expressionTemplate} and
+     * tries to replace them by applying the given {@code expressionResolver}.
+     *
+     * @param expressionTemplate the parsed template.
+     * @param expressionResolver the expressionResolver used to resolve placeholders and optionally pipeline stages
+     * (functions).
+     * @param allowUnresolved if {@code false} this method throws an exception if there are any
+     * unresolved placeholders after applying the given placeholders.
+     * @return the template string with the resolved values
+     * @throws UnresolvedPlaceholderException if {@code allowUnresolved} is true and not all
+     * placeholders were resolved
+     * @throws PlaceholderFunctionTooComplexException thrown if the {@code expressionTemplate} contains a placeholder
+     * function chain which is too complex (e.g. too much chained function calls)
+     */
+    public static String apply(final ExpressionTemplate expressionTemplate,
+            final ExpressionResolver expressionResolver, final boolean allowUnresolved) {
+
+        return expressionResolver.resolve(expressionTemplate, allowUnresolved);
+    }
+
     /**
      * Validates that the passed {@code template} is valid and that the placeholders in the passed {@code template}
      * are completely replaceable by the provided {@code placeholders}.
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.UnresolvedPlaceholderException;
+import org.eclipse.ditto.protocoladapter.ProtocolFactory;
+import org.eclipse.ditto.protocoladapter.TopicPath;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests {@link ImmutableExpressionTemplate} resolved by {@link ImmutableExpressionResolver}.
+ */
+public class ImmutableExpressionTemplateTest {
+
+    private static final String THING_NAME = "foobar199";
+    private static final String THING_NAMESPACE = "org.eclipse.ditto";
+    private static final String THING_ID = THING_NAMESPACE + ":" + THING_NAME;
+    private static final String KNOWN_TOPIC = "org.eclipse.ditto/" + THING_NAME + "/things/twin/commands/modify";
+    private static final Map<String, String> KNOWN_HEADERS =
+            DittoHeaders.newBuilder().putHeader("one", "1").putHeader("two", "2").build();
+
+    private static ImmutableExpressionResolver expressionResolver;
+
+    @BeforeClass
+    public static void setupClass() {
+        final TopicPath topic = ProtocolFactory.newTopicPath(KNOWN_TOPIC);
+
+        expressionResolver = new ImmutableExpressionResolver(Arrays.asList(
+                PlaceholderFactory.newPlaceholderResolver(PlaceholderFactory.newHeadersPlaceholder(), KNOWN_HEADERS),
+                PlaceholderFactory.newPlaceholderResolver(PlaceholderFactory.newThingPlaceholder(), THING_ID),
+                PlaceholderFactory.newPlaceholderResolver(PlaceholderFactory.newTopicPathPlaceholder(), topic)));
+    }
+
+    @Test
+    public void templateWithoutPlaceholdersResolvesToItself() {
+        final ExpressionTemplate underTest = PlaceholderFactory.newExpressionTemplate("some/address");
+
+        assertThat(underTest.containsPlaceholders()).isFalse();
+        assertThat(expressionResolver.resolve(underTest, false)).isEqualTo("some/address");
+    }
+
+    @Test
+    public void resolvesLikeTemplateString() {
+        assertResolvesLikeTemplateString("{{ header:one }}");
+        assertResolvesLikeTemplateString("{{thing:id}}");
+        assertResolvesLikeTemplateString("prefix/{{ thing:namespace }}/{{ thing:name }}/{{ topic:action }}");
+        assertResolvesLikeTemplateString("{{ header:unknown | fn:default('fallback') }}");
+        assertResolvesLikeTemplateString("{{ thing:bar | fn:default('bar') | fn:upper() }}");
+        assertResolvesLikeTemplateString(
+                "any/prefix/{{ thing:id | fn:substring-before(':') | fn:default('foo') }}/{{ header:two }}");
+        assertResolvesLikeTemplateString("{{ thing:id | fn:substring-before(\"|\") | fn:default('bAz') | fn:lower() }}");
+        assertResolvesLikeTemplateString("{{ header:unknown | fn:default(thing:name) }}");
+    }
+
+    @Test
+    public void unresolvedPlaceholdersRemainIfAllowed() {
+        assertResolvesLikeTemplateString("{{ header:missing }}/{{ thing:id }}");
+        assertResolvesLikeTemplateString("{{ unknown:prefix }}");
+    }
+
+    @Test
+    public void unresolvedPlaceholdersFailIfNotAllowed() {
+        final ExpressionTemplate underTest = PlaceholderFactory.newExpressionTemplate("{{ thing:id }}/{{ header:x }}");
+
+        assertThatExceptionOfType(UnresolvedPlaceholderException.class)
+                .isThrownBy(() -> expressionResolver.resolve(underTest, false));
+    }
+
+    @Test
+    public void malformedPlaceholdersFailOnResolution() {
+        final ExpressionTemplate missingPrefix = PlaceholderFactory.newExpressionTemplate("{{ id }}");
+        final ExpressionTemplate unknownFunction =
+                PlaceholderFactory.newExpressionTemplate("{{ thing:id | fn:unknown() }}");
+
+        assertThatExceptionOfType(UnresolvedPlaceholderException.class)
+                .isThrownBy(() -> expressionResolver.resolve(missingPrefix, true));
+        assertThatExceptionOfType(PlaceholderFunctionUnknownException.class)
+                .isThrownBy(() -> expressionResolver.resolve(unknownFunction, true));
+    }
+
+    @Test
+    public void tooComplexFunctionChainFailsOnResolution() {
+        final ExpressionTemplate underTest = PlaceholderFactory.newExpressionTemplate(
+                "{{ header:unknown | fn:default('fallback') | fn:upper() | fn:lower() | fn:upper() | fn:lower() | " +
+                        "fn:upper() | fn:lower() | fn:upper() | fn:lower() | fn:upper() | fn:lower() }}");
+
+        assertThatExceptionOfType(PlaceholderFunctionTooComplexException.class)
+                .isThrownBy(() -> expressionResolver.resolve(underTest, false));
+    }
+
+    @Test
+    public void templateWithLegacyPlaceholderIsResolvedAsTemplateString() {
+        final ExpressionTemplate underTest = PlaceholderFactory.newExpressionTemplate("{{ thing:id }}${unknown}");
+
+        assertThat(underTest.containsPlaceholders()).isTrue();
+        assertThat(((ImmutableExpressionTemplate) underTest).isCompiled()).isFalse();
+        assertThatExceptionOfType(UnresolvedPlaceholderException.class)
+                .isThrownBy(() -> expressionResolver.resolve(underTest, true));
+    }
+
+    private static void assertResolvesLikeTemplateString(final String template) {
+        final ExpressionTemplate underTest = PlaceholderFactory.newExpressionTemplate(template);
+
+        assertThat(underTest.containsPlaceholders()).isTrue();
+        assertThat(PlaceholderFilter.apply(underTest, expressionResolver, true))
+                .isEqualTo(PlaceholderFilter.apply(template, expressionResolver, true));
+    }
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.placeholders.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.model.placeholders.ExpressionResolver;
+import org.eclipse.ditto.model.placeholders.ExpressionTemplate;
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.model.placeholders.PlaceholderFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares resolving template strings with resolving templates parsed once by
+ * {@link PlaceholderFactory#newExpressionTemplate(String)} for typical target addresses and header mappings of
+ * connections.
+ */
+@State(Scope.Benchmark)
+public class ExpressionTemplateBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final String THING_ID = "org.eclipse.ditto:foobar199";
+
+    @Param({
+            "telemetry/{{ thing:namespace }}/{{ thing:name }}",
+            "{{ header:device-id | fn:default(thing:name) | fn:upper() }}",
+            "{{ thing:id | fn:substring-before(':') }}/{{ header:correlation-id }}/{{ header:unknown | fn:default('x') }}"
+    })
+    public String template;
+
+    private ExpressionTemplate expressionTemplate;
+    private Map<String, String> headers;
+
+    @Setup
+    public void setUp() {
+        expressionTemplate = PlaceholderFactory.newExpressionTemplate(template);
+        headers = new HashMap<>();
+        headers.put("correlation-id", "a4e1c2d0-6f3b-4c3e-9a3e-0b6f7d1e2c3a");
+        headers.put("device-id", "sensor-42");
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public String resolveTemplateString() {
+        return PlaceholderFilter.apply(template, newExpressionResolver(), true);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public String resolveExpressionTemplate() {
+        return PlaceholderFilter.apply(expressionTemplate, newExpressionResolver(), true);
+    }
+
+    private ExpressionResolver newExpressionResolver() {
+        return PlaceholderFactory.newExpressionResolver(
+                PlaceholderFactory.newPlaceholderResolver(PlaceholderFactory.newHeadersPlaceholder(), headers),
+                PlaceholderFactory.newPlaceholderResolver(PlaceholderFactory.newThingPlaceholder(), THING_ID));
+    }
+
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.query.criteria.visitors.PredicateVisitor;
+
+/**
+ * A Java {@link Predicate} based PredicateVisitor for evaluating whether the JSON representations of
+ * {@link org.eclipse.ditto.model.things.Thing}s match a given filter.
+ * The field name is resolved to a JSON pointer and values to compare with are prepared only once per predicate.
+ */
+final class ThingJsonPredicatePredicateVisitor implements PredicateVisitor<Function<String, Predicate<JsonObject>>> {
+
+    private static final ThingJsonPredicatePredicateVisitor INSTANCE = new ThingJsonPredicatePredicateVisitor();
+
+    private ThingJsonPredicatePredicateVisitor() {
+        // only internally instantiable
+    }
+
+    /**
+     * Gets the singleton instance of this {@code ThingJsonPredicatePredicateVisitor}.
+     *
+     * @return the singleton instance.
+     */
+    static ThingJsonPredicatePredicateVisitor getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Function<String, Predicate<JsonObject>> visitEq(final Object value) {
+        return fieldName -> forField(fieldName, jsonValue -> null != jsonValue &&
+                value.equals(mapJsonValueToJava(jsonValue)));
+    }
+
+    @Override
+    public Function<String, Predicate<JsonObject>> visitNe(final Object value) {
+        return fieldName -> forField(fieldName, jsonValue -> null == jsonValue ||
+                !value.equals(mapJsonValueToJava(jsonValue)));
+    }
+
+    @Override
+    public Function<String, Predicate<JsonObject>> visitGe(final Object value) {
+        return fieldName -> forField(fieldName, jsonValue -> compare(value, jsonValue, c -> c >= 0));
+    }
+
+    @Override
+    public Function<String, Predicate<JsonObject>> visitGt(final Object value) {
+        return fieldName -> forField(fieldName, jsonValue -> compare(value, jsonValue, c -> c > 0));
+    }
+
+    @Override
+    public Function<String, Predicate<JsonObject>> visitLe(final Object value) {
+        return fieldName -> forField(fieldName, jsonValue -> compare(value, jsonValue, c -> c <= 0));
+    }
+
+    @Override
+    public Function<String, Predicate<JsonObject>> visitLt(final Object value) {
+        return fieldName -> forField(fieldName, jsonValue -> compare(value, jsonValue, c -> c < 0));
+    }
+
+    @Override
+    public Function<String, Predicate<JsonObject>> visitIn(final List<?> values) {
+        return fieldName -> forField(fieldName, jsonValue -> {
+            final Object obj = null != jsonValue ? mapJsonValueToJava(jsonValue) : null;
+            return null != obj && values.contains(obj);
+        });
+    }
+
+    @Override
+    public Function<String, Predicate<JsonObject>> visitLike(final String value) {
+        final Pattern pattern = Pattern.compile(value);
+        return fieldName -> forField(fieldName, jsonValue -> null != jsonValue && jsonValue.isString() &&
+                pattern.matcher(jsonValue.asString()).matches());
+    }
+
+    /**
+     * Creates a predicate of JSON objects testing the value at {@code fieldName}; the tested value is {@code null}
+     * if the field does not exist.
+     */
+    private static Predicate<JsonObject> forField(final String fieldName, final Predicate<JsonValue> valuePredicate) {
+        final JsonPointer pointer = JsonPointer.of(fieldName);
+        return jsonObject -> valuePredicate.test(jsonObject.getValue(pointer).orElse(null));
+    }
+
+    private static boolean compare(final Object value, final JsonValue jsonValue,
+            final Predicate<Integer> comparisonResultPredicate) {
+
+        if (null == jsonValue || !(value instanceof Comparable)) {
+            return false;
+        }
+        final Object obj = mapJsonValueToJava(jsonValue);
+        return obj instanceof Comparable &&
+                comparisonResultPredicate.test(compare((Comparable) value, (Comparable) obj));
+    }
+
+    private static int compare(final Comparable value, final Comparable obj) {
+        final Comparable comparableObj = asNumber(obj);
+        final Comparable comparableValue = asNumber(value);
+        // best effort try to convert both values to a BigDecimal in order to compare them:
+        if (comparableValue instanceof String && comparableObj instanceof BigDecimal) {
+            try {
+                return comparableObj.compareTo(new BigDecimal((String) comparableValue));
+            } catch (final NumberFormatException e) {
+                // continue trying
+            }
+        } else if (comparableValue instanceof BigDecimal && comparableObj instanceof String) {
+            try {
+                return new BigDecimal((String) comparableObj).compareTo((BigDecimal) comparableValue);
+            } catch (final NumberFormatException e) {
+                // continue trying
+            }
+        }
+
+        if (comparableValue.getClass().equals(comparableObj.getClass())) {
+            // only compare same classes:
+            return comparableObj.compareTo(comparableValue);
+        } else {
+            // as a fallback, for different types, compare by their string representation:
+            final String comparableObjString = comparableObj.toString();
+            final String comparableValueString = comparableValue.toString();
+            return comparableObjString.compareTo(comparableValueString);
+        }
+    }
+
+    private static Comparable asNumber(final Comparable comparable) {
+        return comparable instanceof Number ? new BigDecimal(comparable.toString()) : comparable;
+    }
+
+    private static Object mapJsonValueToJava(final JsonValue jsonValue) {
+        final Object result;
+
+        if (jsonValue.isString()) {
+            result = jsonValue.asString();
+        } else if (jsonValue.isBoolean()) {
+            result = jsonValue.asBoolean();
+        } else if (jsonValue.isNull()) {
+            result = null;
+        } else if (jsonValue.isNumber()) {
+            if (jsonValue.isLong()) {
+                result = jsonValue.asLong();
+            } else {
+                result = jsonValue.asDouble();
+            }
+        } else if (jsonValue.isArray()) {
+            result = null; // filtering arrays is not supported
+        } else if (jsonValue.isObject()) {
+            result = null; // filtering objects is not supported
+        } else {
+            result = null;
+        }
+
+        return result;
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.model.query.things;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.query.criteria.Criteria;
+import org.eclipse.ditto.model.query.criteria.visitors.CriteriaVisitor;
+import org.eclipse.ditto.model.query.expression.ExistsFieldExpression;
+import org.eclipse.ditto.model.query.expression.FilterFieldExpression;
+import org.eclipse.ditto.model.query.expression.visitors.ExistsFieldExpressionVisitor;
+import org.eclipse.ditto.model.query.expression.visitors.FilterFieldExpressionVisitor;
+
+/**
+ * CriteriaVisitor for Java {@link Predicate}s of the JSON representations of
+ * {@link org.eclipse.ditto.model.things.Thing}s including their special fields, i. e. of
+ * {@code thing.toJson(field -> true)}.
+ * <p>
+ * The created predicates may be tested any number of times and concurrently. As they need no
+ * {@link org.eclipse.ditto.model.things.Thing}, they can be tested against a partial Thing JSON which was
+ * assembled from the payload of an event.
+ * </p>
+ */
+public final class ThingJsonPredicateVisitor implements CriteriaVisitor<Predicate<JsonObject>> {
+
+    private ThingJsonPredicateVisitor() {
+        // only internally instantiable
+    }
+
+    /**
+     * Creates a Java {@link Predicate} of Thing JSON objects from the given criteria.
+     *
+     * @param criteria the criteria.
+     * @return the predicate.
+     */
+    public static Predicate<JsonObject> apply(final Criteria criteria) {
+        return criteria.accept(new ThingJsonPredicateVisitor());
+    }
+
+    @Override
+    public Predicate<JsonObject> visitAnd(final Stream<Predicate<JsonObject>> conjuncts) {
+        final List<Predicate<JsonObject>> predicates = conjuncts.collect(Collectors.toList());
+        return jsonObject -> predicates.stream().allMatch(p -> p.test(jsonObject));
+    }
+
+    @Override
+    public Predicate<JsonObject> visitAny() {
+        return any -> true;
+    }
+
+    @Override
+    public Predicate<JsonObject> visitExists(final ExistsFieldExpression fieldExpression) {
+        final JsonPointer pointer = fieldExpression.acceptExistsVisitor(ExistsFieldPointerVisitor.INSTANCE);
+        return jsonObject -> jsonObject.getValue(pointer).isPresent();
+    }
+
+    @Override
+    public Predicate<JsonObject> visitField(final FilterFieldExpression fieldExpression,
+            final org.eclipse.ditto.model.query.criteria.Predicate predicate) {
+        final String fieldName = fieldExpression.acceptFilterVisitor(FilterFieldNameVisitor.INSTANCE);
+        return predicate.accept(ThingJsonPredicatePredicateVisitor.getInstance()).apply(fieldName);
+    }
+
+    @Override
+    public Predicate<JsonObject> visitNor(final Stream<Predicate<JsonObject>> negativeDisjoints) {
+        final List<Predicate<JsonObject>> predicates = negativeDisjoints.collect(Collectors.toList());
+        return jsonObject -> predicates.stream().noneMatch(p -> p.test(jsonObject));
+    }
+
+    @Override
+    public Predicate<JsonObject> visitOr(final Stream<Predicate<JsonObject>> disjoints) {
+        final List<Predicate<JsonObject>> predicates = disjoints.collect(Collectors.toList());
+        return jsonObject -> predicates.stream().anyMatch(p -> p.test(jsonObject));
+    }
+
+    private static final class FilterFieldNameVisitor implements FilterFieldExpressionVisitor<String> {
+
+        private static final FilterFieldNameVisitor INSTANCE = new FilterFieldNameVisitor();
+
+        @Override
+        public String visitAttribute(final String key) {
+            return "/attributes/" + key;
+        }
+
+        @Override
+        public String visitFeatureIdProperty(final String featureId, final String property) {
+            return "/features/" + featureId + "/properties/" + property;
+        }
+
+        @Override
+        public String visitSimple(final String fieldName) {
+            return fieldName;
+        }
+
+    }
+
+    private static final class ExistsFieldPointerVisitor implements ExistsFieldExpressionVisitor<JsonPointer> {
+
+        private static final ExistsFieldPointerVisitor INSTANCE = new ExistsFieldPointerVisitor();
+
+        @Override
+        public JsonPointer visitAttribute(final String key) {
+            return JsonPointer.of("/attributes/" + key);
+        }
+
+        @Override
+        public JsonPointer visitFeature(final String featureId) {
+            return JsonPointer.of("/features/" + featureId);
+        }
+
+        @Override
+        public JsonPointer visitFeatureIdProperty(final String featureId, final String property) {
+            return JsonPointer.of("/features/" + featureId + "/properties/" + property);
+        }
+
+        @Override
+        public JsonPointer visitSimple(final String fieldName) {
+            return JsonPointer.of(fieldName);
+        }
+
+    }
+
+}
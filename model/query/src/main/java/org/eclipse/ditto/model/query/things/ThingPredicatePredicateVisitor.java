@@ -12,14 +12,11 @@
  */
 package org.eclipse.ditto.model.query.things;
 
-import java.math.BigDecimal;
 import java.util.List;
-import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.regex.Pattern;
 
-import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.query.criteria.visitors.PredicateVisitor;
 import org.eclipse.ditto.model.things.Thing;
 
@@ -62,146 +59,51 @@ public final class ThingPredicatePredicateVisitor implements PredicateVisitor<Fu
 
     @Override
     public Function<String, Predicate<Thing>> visitEq(final Object value) {
-        return fieldName ->
-                thing -> getThingField(fieldName, thing)
-                        .map(ThingPredicatePredicateVisitor::mapJsonValueToJava)
-                        .filter(value::equals)
-                        .isPresent();
+        return forThings(ThingJsonPredicatePredicateVisitor.getInstance().visitEq(value));
     }
 
     @Override
     public Function<String, Predicate<Thing>> visitNe(final Object value) {
-        return fieldName ->
-                thing -> !getThingField(fieldName, thing)
-                        .map(ThingPredicatePredicateVisitor::mapJsonValueToJava)
-                        .filter(value::equals)
-                        .isPresent();
+        return forThings(ThingJsonPredicatePredicateVisitor.getInstance().visitNe(value));
     }
 
     @Override
     public Function<String, Predicate<Thing>> visitGe(final Object value) {
-        return fieldName ->
-                thing -> getThingField(fieldName, thing)
-                        .map(ThingPredicatePredicateVisitor::mapJsonValueToJava)
-                        .filter(obj -> obj instanceof Comparable && value instanceof Comparable)
-                        .map(obj -> (Comparable) obj)
-                        .filter(obj -> compare((Comparable) value, obj) >= 0)
-                        .isPresent();
+        return forThings(ThingJsonPredicatePredicateVisitor.getInstance().visitGe(value));
     }
 
     @Override
     public Function<String, Predicate<Thing>> visitGt(final Object value) {
-        return fieldName ->
-                thing -> getThingField(fieldName, thing)
-                        .map(ThingPredicatePredicateVisitor::mapJsonValueToJava)
-                        .filter(obj -> obj instanceof Comparable && value instanceof Comparable)
-                        .map(obj -> (Comparable) obj)
-                        .filter(obj -> compare((Comparable) value, obj) > 0)
-                        .isPresent();
+        return forThings(ThingJsonPredicatePredicateVisitor.getInstance().visitGt(value));
     }
 
     @Override
     public Function<String, Predicate<Thing>> visitLe(final Object value) {
-        return fieldName ->
-                thing -> getThingField(fieldName, thing)
-                        .map(ThingPredicatePredicateVisitor::mapJsonValueToJava)
-                        .filter(obj -> obj instanceof Comparable && value instanceof Comparable)
-                        .map(obj -> (Comparable) obj)
-                        .filter(obj -> compare((Comparable) value, obj) <= 0)
-                        .isPresent();
+        return forThings(ThingJsonPredicatePredicateVisitor.getInstance().visitLe(value));
     }
 
     @Override
     public Function<String, Predicate<Thing>> visitLt(final Object value) {
-        return fieldName ->
-                thing -> getThingField(fieldName, thing)
-                        .map(ThingPredicatePredicateVisitor::mapJsonValueToJava)
-                        .filter(obj -> obj instanceof Comparable && value instanceof Comparable)
-                        .map(obj -> (Comparable) obj)
-                        .filter(obj -> compare((Comparable) value, obj) < 0)
-                        .isPresent();
-    }
-
-    private static int compare(final Comparable value, final Comparable obj) {
-        final Comparable comparableObj = asNumber(obj);
-        final Comparable comparableValue = asNumber(value);
-        // best effort try to convert both values to a BigDecimal in order to compare them:
-        if (comparableValue instanceof String && comparableObj instanceof BigDecimal) {
-            try {
-                return comparableObj.compareTo(new BigDecimal((String) comparableValue));
-            } catch (final NumberFormatException e) {
-                // continue trying
-            }
-        } else if (comparableValue instanceof BigDecimal && comparableObj instanceof String) {
-            try {
-                return new BigDecimal((String) comparableObj).compareTo((BigDecimal) comparableValue);
-            } catch (final NumberFormatException e) {
-                // continue trying
-            }
-        }
-
-        if (comparableValue.getClass().equals(comparableObj.getClass())) {
-            // only compare same classes:
-            return comparableObj.compareTo(comparableValue);
-        } else {
-            // as a fallback, for different types, compare by their string representation:
-            final String comparableObjString = comparableObj.toString();
-            final String comparableValueString = comparableValue.toString();
-            return comparableObjString.compareTo(comparableValueString);
-        }
-    }
-
-    private static Comparable asNumber(final Comparable comparable) {
-        return comparable instanceof Number ? new BigDecimal(comparable.toString()) : comparable;
+        return forThings(ThingJsonPredicatePredicateVisitor.getInstance().visitLt(value));
     }
 
     @Override
     public Function<String, Predicate<Thing>> visitIn(final List<?> values) {
-        return fieldName ->
-                thing -> getThingField(fieldName, thing)
-                        .map(ThingPredicatePredicateVisitor::mapJsonValueToJava)
-                        .filter(values::contains)
-                        .isPresent();
+        return forThings(ThingJsonPredicatePredicateVisitor.getInstance().visitIn(values));
     }
 
     @Override
     public Function<String, Predicate<Thing>> visitLike(final String value) {
-        return fieldName ->
-                thing -> getThingField(fieldName, thing)
-                        .filter(JsonValue::isString)
-                        .map(JsonValue::asString)
-                        .filter(str -> Pattern.compile(value).matcher(str).matches())
-                        .isPresent();
+        return forThings(ThingJsonPredicatePredicateVisitor.getInstance().visitLike(value));
     }
 
-    private static Optional<JsonValue> getThingField(final CharSequence fieldName, final Thing thing) {
-        return thing.toJson(p -> true).getValue(fieldName);
-    }
-
-    private static Object mapJsonValueToJava(final JsonValue jsonValue) {
-        final Object result;
-
-        if (jsonValue.isString()) {
-            result = jsonValue.asString();
-        } else if (jsonValue.isBoolean()) {
-            result = jsonValue.asBoolean();
-        } else if (jsonValue.isNull()) {
-            result = null;
-        } else if (jsonValue.isNumber()) {
-            if (jsonValue.isLong()) {
-                result = jsonValue.asLong();
-            } else {
-                result = jsonValue.asDouble();
-            }
-        } else if (jsonValue.isArray()) {
-            result = null; // filtering arrays is not supported
-        } else if (jsonValue.isObject()) {
-            result = null; // filtering objects is not supported
-        } else {
-            result = null;
-        }
+    private static Function<String, Predicate<Thing>> forThings(
+            final Function<String, Predicate<JsonObject>> jsonPredicateFunction) {
 
-        return result;
+        return fieldName -> {
+            final Predicate<JsonObject> jsonPredicate = jsonPredicateFunction.apply(fieldName);
+            return thing -> jsonPredicate.test(thing.toJson(p -> true));
+        };
     }
 
 }
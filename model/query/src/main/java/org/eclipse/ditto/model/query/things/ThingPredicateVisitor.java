@@ -12,7 +12,9 @@
  */
 package org.eclipse.ditto.model.query.things;
 
+import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.eclipse.ditto.model.query.criteria.Criteria;
@@ -23,6 +25,7 @@ import org.eclipse.ditto.model.things.Thing;
 
 /**
  * CriteriaVisitor for Java {@link Predicate}s of {@link Thing}s.
+ * The created predicates may be tested any number of times.
  */
 public final class ThingPredicateVisitor implements CriteriaVisitor<Predicate<Thing>> {
 
@@ -36,7 +39,8 @@ public final class ThingPredicateVisitor implements CriteriaVisitor<Predicate<Th
 
     @Override
     public Predicate<Thing> visitAnd(final Stream<Predicate<Thing>> conjuncts) {
-        return thing -> conjuncts.allMatch(p -> p.test(thing));
+        final List<Predicate<Thing>> predicates = conjuncts.collect(Collectors.toList());
+        return thing -> predicates.stream().allMatch(p -> p.test(thing));
     }
 
     @Override
@@ -58,11 +62,13 @@ public final class ThingPredicateVisitor implements CriteriaVisitor<Predicate<Th
 
     @Override
     public Predicate<Thing> visitNor(final Stream<Predicate<Thing>> negativeDisjoints) {
-        return thing -> negativeDisjoints.noneMatch(p -> p.test(thing));
+        final List<Predicate<Thing>> predicates = negativeDisjoints.collect(Collectors.toList());
+        return thing -> predicates.stream().noneMatch(p -> p.test(thing));
     }
 
     @Override
     public Predicate<Thing> visitOr(final Stream<Predicate<Thing>> disjoints) {
-        return thing -> disjoints.anyMatch(p -> p.test(thing));
+        final List<Predicate<Thing>> predicates = disjoints.collect(Collectors.toList());
+        return thing -> predicates.stream().anyMatch(p -> p.test(thing));
     }
 }
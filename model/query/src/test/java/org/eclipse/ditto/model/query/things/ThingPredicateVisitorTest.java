@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.function.Predicate;
 
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -467,4 +468,29 @@ public final class ThingPredicateVisitorTest {
                 .isEqualTo(true);
     }
 
+    @Test
+    public void testLogicalAndPredicateCanBeTestedRepeatedly() {
+        final String filter = "and(" +
+                "eq(thingId,\"" + MATCHING_THING_ID + "\")," +
+                "like(attributes/aString,\"ccc.*\")" +
+                ")";
+        final Predicate<Thing> thingPredicate = createPredicate(filter);
+        assertThat(thingPredicate.test(MATCHING_THING)).isTrue();
+        assertThat(thingPredicate.test(NON_MATCHING_THING_LESSER)).isFalse();
+        assertThat(thingPredicate.test(MATCHING_THING)).isTrue();
+    }
+
+    @Test
+    public void testThingJsonPredicateMatchesLikeThingPredicate() {
+        final String filter = "and(" +
+                "exists(features/foo)," +
+                "eq(_namespace,\"org.eclipse.ditto\")," +
+                "gt(features/foo/properties/aLong," + (MATCHING_THING_LONG - 1) + ")" +
+                ")";
+        final Predicate<JsonObject> jsonPredicate = ThingJsonPredicateVisitor.apply(createCriteria(filter));
+        assertThat(jsonPredicate.test(MATCHING_THING.toJson(field -> true))).isTrue();
+        assertThat(jsonPredicate.test(NON_MATCHING_THING_LESSER.toJson(field -> true))).isFalse();
+        assertThat(createPredicate(filter).test(MATCHING_THING)).isTrue();
+    }
+
 }
@@ -15,8 +15,11 @@ package org.eclipse.ditto.services.concierge.cache.update;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.trie.TrieBasedPolicyEnforcer;
 import org.eclipse.ditto.services.utils.cache.Cache;
 import org.eclipse.ditto.services.utils.cache.EntityId;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
@@ -29,6 +32,10 @@ import akka.actor.Props;
 
 /**
  * An actor which subscribes to Policy Events and updates caches when necessary.
+ * <p>
+ * Events which change a single policy entry are applied to the cached enforcer if it has the preceding revision; the
+ * cache entry is then replaced by the patched copy of the enforcer. All other events invalidate the cache entry, so
+ * that the enforcer is reloaded from the policies shard region.
  */
 public class PolicyCacheUpdateActor extends AbstractPubSubListenerActor {
 
@@ -71,6 +78,25 @@ public class PolicyCacheUpdateActor extends AbstractPubSubListenerActor {
 
     private void handleEvent(final PolicyEvent policyEvent) {
         final EntityId key = EntityId.of(PolicyCommand.RESOURCE_TYPE, policyEvent.getId());
-        policyEnforcerCache.invalidate(key);
+        if (!PolicyEnforcerUpdater.isApplicable(policyEvent) || !updateCachedEnforcer(key, policyEvent)) {
+            policyEnforcerCache.invalidate(key);
+        }
+    }
+
+    private boolean updateCachedEnforcer(final EntityId key, final PolicyEvent policyEvent) {
+        final CompletableFuture<Optional<Entry<Enforcer>>> cached = policyEnforcerCache.getIfPresent(key);
+        if (!cached.isDone() || cached.isCompletedExceptionally()) {
+            // the entry is being loaded and may or may not include the event already
+            return false;
+        }
+        return cached.join()
+                .filter(Entry::exists)
+                .filter(entry -> entry.getRevision() + 1 == policyEvent.getRevision())
+                .filter(entry -> entry.getValueOrThrow() instanceof TrieBasedPolicyEnforcer)
+                .flatMap(entry -> PolicyEnforcerUpdater.apply((TrieBasedPolicyEnforcer) entry.getValueOrThrow(),
+                        policyEvent)
+                        .map(enforcer -> policyEnforcerCache
+                                .replace(key, entry, Entry.of(policyEvent.getRevision(), enforcer))))
+                .orElse(false);
     }
 }
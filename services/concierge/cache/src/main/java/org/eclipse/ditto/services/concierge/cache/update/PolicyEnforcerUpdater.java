@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.cache.update;
+
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.enforcers.trie.TrieBasedPolicyEnforcer;
+import org.eclipse.ditto.model.policies.Label;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.Resources;
+import org.eclipse.ditto.model.policies.Subjects;
+import org.eclipse.ditto.signals.events.policies.PolicyEntryCreated;
+import org.eclipse.ditto.signals.events.policies.PolicyEntryDeleted;
+import org.eclipse.ditto.signals.events.policies.PolicyEntryModified;
+import org.eclipse.ditto.signals.events.policies.PolicyEvent;
+import org.eclipse.ditto.signals.events.policies.ResourceCreated;
+import org.eclipse.ditto.signals.events.policies.ResourceDeleted;
+import org.eclipse.ditto.signals.events.policies.ResourceModified;
+import org.eclipse.ditto.signals.events.policies.ResourcesModified;
+import org.eclipse.ditto.signals.events.policies.SubjectCreated;
+import org.eclipse.ditto.signals.events.policies.SubjectDeleted;
+import org.eclipse.ditto.signals.events.policies.SubjectModified;
+import org.eclipse.ditto.signals.events.policies.SubjectsModified;
+
+/**
+ * Applies policy events which change a single policy entry to a {@link TrieBasedPolicyEnforcer} without reloading
+ * the policy.
+ */
+@Immutable
+final class PolicyEnforcerUpdater {
+
+    private PolicyEnforcerUpdater() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Checks whether a policy event can be applied by {@link #apply(TrieBasedPolicyEnforcer, PolicyEvent)}.
+     *
+     * @param policyEvent the policy event.
+     * @return {@code true} if the event changes a single policy entry.
+     */
+    static boolean isApplicable(final PolicyEvent policyEvent) {
+        return policyEvent instanceof PolicyEntryCreated ||
+                policyEvent instanceof PolicyEntryModified ||
+                policyEvent instanceof PolicyEntryDeleted ||
+                policyEvent instanceof SubjectCreated ||
+                policyEvent instanceof SubjectModified ||
+                policyEvent instanceof SubjectsModified ||
+                policyEvent instanceof SubjectDeleted ||
+                policyEvent instanceof ResourceCreated ||
+                policyEvent instanceof ResourceModified ||
+                policyEvent instanceof ResourcesModified ||
+                policyEvent instanceof ResourceDeleted;
+    }
+
+    /**
+     * Applies a policy event to the enforcer of the policy before the event.
+     *
+     * @param enforcer the enforcer of the policy before the event.
+     * @param policyEvent the policy event.
+     * @return the enforcer of the policy after the event, or an empty Optional if the event is not applicable or
+     * refers to a policy entry the enforcer does not know.
+     */
+    static Optional<TrieBasedPolicyEnforcer> apply(final TrieBasedPolicyEnforcer enforcer,
+            final PolicyEvent policyEvent) {
+
+        final Optional<TrieBasedPolicyEnforcer> result;
+        if (policyEvent instanceof PolicyEntryCreated) {
+            result = Optional.of(enforcer.setPolicyEntry(((PolicyEntryCreated) policyEvent).getPolicyEntry()));
+        } else if (policyEvent instanceof PolicyEntryModified) {
+            result = Optional.of(enforcer.setPolicyEntry(((PolicyEntryModified) policyEvent).getPolicyEntry()));
+        } else if (policyEvent instanceof PolicyEntryDeleted) {
+            result = Optional.of(enforcer.removePolicyEntry(((PolicyEntryDeleted) policyEvent).getLabel()));
+        } else if (policyEvent instanceof SubjectCreated) {
+            final SubjectCreated subjectCreated = (SubjectCreated) policyEvent;
+            result = updateSubjects(enforcer, subjectCreated.getLabel(),
+                    subjects -> subjects.setSubject(subjectCreated.getSubject()));
+        } else if (policyEvent instanceof SubjectModified) {
+            final SubjectModified subjectModified = (SubjectModified) policyEvent;
+            result = updateSubjects(enforcer, subjectModified.getLabel(),
+                    subjects -> subjects.setSubject(subjectModified.getSubject()));
+        } else if (policyEvent instanceof SubjectsModified) {
+            final SubjectsModified subjectsModified = (SubjectsModified) policyEvent;
+            result = updateSubjects(enforcer, subjectsModified.getLabel(),
+                    subjects -> subjectsModified.getSubjects());
+        } else if (policyEvent instanceof SubjectDeleted) {
+            final SubjectDeleted subjectDeleted = (SubjectDeleted) policyEvent;
+            result = updateSubjects(enforcer, subjectDeleted.getLabel(),
+                    subjects -> subjects.removeSubject(subjectDeleted.getSubjectId()));
+        } else if (policyEvent instanceof ResourceCreated) {
+            final ResourceCreated resourceCreated = (ResourceCreated) policyEvent;
+            result = updateResources(enforcer, resourceCreated.getLabel(),
+                    resources -> resources.setResource(resourceCreated.getResource()));
+        } else if (policyEvent instanceof ResourceModified) {
+            final ResourceModified resourceModified = (ResourceModified) policyEvent;
+            result = updateResources(enforcer, resourceModified.getLabel(),
+                    resources -> resources.setResource(resourceModified.getResource()));
+        } else if (policyEvent instanceof ResourcesModified) {
+            final ResourcesModified resourcesModified = (ResourcesModified) policyEvent;
+            result = updateResources(enforcer, resourcesModified.getLabel(),
+                    resources -> resourcesModified.getResources());
+        } else if (policyEvent instanceof ResourceDeleted) {
+            final ResourceDeleted resourceDeleted = (ResourceDeleted) policyEvent;
+            result = updateResources(enforcer, resourceDeleted.getLabel(),
+                    resources -> resources.removeResource(resourceDeleted.getResourceKey()));
+        } else {
+            result = Optional.empty();
+        }
+        return result;
+    }
+
+    private static Optional<TrieBasedPolicyEnforcer> updateSubjects(final TrieBasedPolicyEnforcer enforcer,
+            final Label label, final UnaryOperator<Subjects> subjectsUpdate) {
+
+        return enforcer.getPolicyEntry(label)
+                .map(policyEntry -> PoliciesModelFactory.newPolicyEntry(label,
+                        subjectsUpdate.apply(policyEntry.getSubjects()), policyEntry.getResources()))
+                .map(enforcer::setPolicyEntry);
+    }
+
+    private static Optional<TrieBasedPolicyEnforcer> updateResources(final TrieBasedPolicyEnforcer enforcer,
+            final Label label, final UnaryOperator<Resources> resourcesUpdate) {
+
+        return enforcer.getPolicyEntry(label)
+                .map(policyEntry -> PoliciesModelFactory.newPolicyEntry(label, policyEntry.getSubjects(),
+                        resourcesUpdate.apply(policyEntry.getResources())))
+                .map(enforcer::setPolicyEntry);
+    }
+
+}
@@ -19,13 +19,25 @@ import static org.mockito.Mockito.when;
 import org.assertj.core.api.Assertions;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.Label;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.policies.Subject;
+import org.eclipse.ditto.model.policies.SubjectType;
 import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CaffeineCache;
 import org.eclipse.ditto.services.utils.cache.EntityId;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
 import org.eclipse.ditto.signals.events.policies.PolicyEvent;
+import org.eclipse.ditto.signals.events.policies.SubjectCreated;
 import org.eclipse.ditto.signals.events.things.AttributeModified;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -33,6 +45,8 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.actor.Props;
@@ -112,6 +126,58 @@ public final class PolicyCacheUpdateActorTest {
         assertInvalidation(false);
     }
 
+    @Test
+    public void subjectCreatedUpdatesCachedEnforcer() {
+        final Cache<EntityId, Entry<Enforcer>> enforcerCache = CaffeineCache.of(Caffeine.newBuilder());
+        final ActorRef underTest =
+                system.actorOf(PolicyCacheUpdateActor.props(enforcerCache, pubSubMediatorProbe.ref(), "0"));
+        final Label label = Label.of("DEFAULT");
+        final Policy policy = PoliciesModelFactory.newPolicyBuilder(POLICY_ID)
+                .forLabel(label)
+                .setSubject("test:admin", SubjectType.GENERATED)
+                .setGrantedPermissions("thing", "/", "READ")
+                .setRevision(REVISION)
+                .build();
+        enforcerCache.put(ENTITY_ID, Entry.of(REVISION, PolicyEnforcers.defaultEvaluator(policy)));
+
+        final SubjectCreated subjectCreated =
+                SubjectCreated.of(POLICY_ID, label, Subject.newInstance("test:device", SubjectType.GENERATED),
+                        REVISION + 1, DITTO_HEADERS);
+        underTest.tell(subjectCreated, testKit.getRef());
+
+        awaitAssert(() -> {
+            final Entry<Enforcer> entry = enforcerCache.getBlocking(ENTITY_ID).orElseThrow(AssertionError::new);
+            Assertions.assertThat(entry.getRevision()).isEqualTo(REVISION + 1);
+            Assertions.assertThat(entry.getValueOrThrow().hasUnrestrictedPermissions(
+                    ResourceKey.newInstance("thing", "/"),
+                    AuthorizationContext.newInstance(AuthorizationSubject.newInstance("test:device")),
+                    Permissions.newInstance("READ")))
+                    .isTrue();
+        });
+    }
+
+    @Test
+    public void eventWithRevisionGapTriggersInvalidation() {
+        final Cache<EntityId, Entry<Enforcer>> enforcerCache = CaffeineCache.of(Caffeine.newBuilder());
+        final ActorRef underTest =
+                system.actorOf(PolicyCacheUpdateActor.props(enforcerCache, pubSubMediatorProbe.ref(), "0"));
+        final Label label = Label.of("DEFAULT");
+        final Policy policy = PoliciesModelFactory.newPolicyBuilder(POLICY_ID)
+                .forLabel(label)
+                .setSubject("test:admin", SubjectType.GENERATED)
+                .setGrantedPermissions("thing", "/", "READ")
+                .setRevision(REVISION)
+                .build();
+        enforcerCache.put(ENTITY_ID, Entry.of(REVISION, PolicyEnforcers.defaultEvaluator(policy)));
+
+        final SubjectCreated subjectCreated =
+                SubjectCreated.of(POLICY_ID, label, Subject.newInstance("test:device", SubjectType.GENERATED),
+                        REVISION + 2, DITTO_HEADERS);
+        underTest.tell(subjectCreated, testKit.getRef());
+
+        awaitAssert(() -> Assertions.assertThat(enforcerCache.asMap()).doesNotContainKey(ENTITY_ID));
+    }
+
     private void sendEvent(final Object message) {
         updateActor.tell(message, testKit.getRef());
     }
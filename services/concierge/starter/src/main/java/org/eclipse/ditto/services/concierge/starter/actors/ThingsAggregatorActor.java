@@ -154,9 +154,8 @@ public final class ThingsAggregatorActor extends AbstractActor {
                                         .build())
                                 .orElse(RetrieveThing.of(thingId, dittoHeaders));
                     } else {
-                        toBeWrapped = Optional.ofNullable(selectedFields)
-                                .map(sf -> SudoRetrieveThing.of(thingId, sf, dittoHeaders))
-                                .orElse(SudoRetrieveThing.of(thingId, dittoHeaders));
+                        toBeWrapped = createSudoRetrieveThing(thingId, selectedFields,
+                                ((SudoRetrieveThings) command).useOriginalSchemaVersion(), dittoHeaders);
                     }
                     return ConciergeWrapper.wrapForEnforcerRouter(toBeWrapped);
                 })
@@ -169,6 +168,20 @@ public final class ThingsAggregatorActor extends AbstractActor {
                 .to(resultReceiver);
     }
 
+    private static SudoRetrieveThing createSudoRetrieveThing(final String thingId,
+            @Nullable final JsonFieldSelector selectedFields,
+            final boolean useOriginalSchemaVersion,
+            final DittoHeaders dittoHeaders) {
+
+        if (useOriginalSchemaVersion) {
+            return SudoRetrieveThing.withOriginalSchemaVersion(thingId, selectedFields, dittoHeaders);
+        } else {
+            return Optional.ofNullable(selectedFields)
+                    .map(sf -> SudoRetrieveThing.of(thingId, sf, dittoHeaders))
+                    .orElse(SudoRetrieveThing.of(thingId, dittoHeaders));
+        }
+    }
+
     private int calculateParallelism(final List<String> thingIds) {
         final int size = thingIds.size();
         if (size < (maxParallelism / 2)) {
@@ -48,6 +48,8 @@ import org.eclipse.ditto.services.utils.cache.CacheFactory;
 import org.eclipse.ditto.services.utils.cache.EntityId;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.services.utils.cacheloaders.AclEnforcerCacheLoader;
+import org.eclipse.ditto.services.utils.cacheloaders.EnforcerCacheWeigher;
+import org.eclipse.ditto.services.utils.cacheloaders.EntityIdCacheWeigher;
 import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerCacheLoader;
 import org.eclipse.ditto.services.utils.cacheloaders.ThingEnforcementIdCacheLoader;
 import org.eclipse.ditto.services.utils.cluster.ClusterUtil;
@@ -97,21 +99,24 @@ public final class DefaultEnforcerActorFactory extends AbstractEnforcerActorFact
         final Cache<EntityId, Entry<EntityId>> thingIdCache =
                 CacheFactory.createCache(thingEnforcerIdCacheLoader, configReader.caches().id(),
                         ID_CACHE_METRIC_NAME_PREFIX + ThingCommand.RESOURCE_TYPE,
-                        actorSystem.dispatchers().lookup("thing-id-cache-dispatcher"));
+                        actorSystem.dispatchers().lookup("thing-id-cache-dispatcher"),
+                        EntityIdCacheWeigher.INSTANCE);
 
         final AsyncCacheLoader<EntityId, Entry<Enforcer>> policyEnforcerCacheLoader =
                 new PolicyEnforcerCacheLoader(askTimeout, policiesShardRegionProxy);
         final Cache<EntityId, Entry<Enforcer>> policyEnforcerCache =
                 CacheFactory.createCache(policyEnforcerCacheLoader, configReader.caches().enforcer(),
                         ENFORCER_CACHE_METRIC_NAME_PREFIX + "policy",
-                        actorSystem.dispatchers().lookup("policy-enforcer-cache-dispatcher"));
+                        actorSystem.dispatchers().lookup("policy-enforcer-cache-dispatcher"),
+                        EnforcerCacheWeigher.INSTANCE);
 
         final AsyncCacheLoader<EntityId, Entry<Enforcer>> aclEnforcerCacheLoader =
                 new AclEnforcerCacheLoader(askTimeout, thingsShardRegionProxy);
         final Cache<EntityId, Entry<Enforcer>> aclEnforcerCache =
                 CacheFactory.createCache(aclEnforcerCacheLoader, configReader.caches().enforcer(),
                         ENFORCER_CACHE_METRIC_NAME_PREFIX + "acl",
-                        actorSystem.dispatchers().lookup("acl-enforcer-cache-dispatcher"));
+                        actorSystem.dispatchers().lookup("acl-enforcer-cache-dispatcher"),
+                        EnforcerCacheWeigher.INSTANCE);
 
         // pre-enforcer
         final BlockedNamespaces blockedNamespaces = BlockedNamespaces.of(actorSystem);
@@ -15,7 +15,9 @@ package org.eclipse.ditto.services.connectivity.mapping.javascript;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nullable;
 
@@ -25,8 +27,8 @@ import org.eclipse.ditto.services.connectivity.mapping.MessageMapper;
 import org.eclipse.ditto.services.connectivity.mapping.MessageMapperConfiguration;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.mozilla.javascript.Context;
-import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.RhinoException;
+import org.mozilla.javascript.Script;
 import org.mozilla.javascript.Scriptable;
 
 import com.typesafe.config.Config;
@@ -49,7 +51,12 @@ final class JavaScriptMessageMapperRhino implements MessageMapper {
     private static final String CONFIG_JAVASCRIPT_MAX_SCRIPT_EXECUTION_TIME = "javascript.maxScriptExecutionTime";
     private static final String CONFIG_JAVASCRIPT_MAX_SCRIPT_STACK_DEPTH = "javascript.maxScriptStackDepth";
 
-    @Nullable private ContextFactory contextFactory;
+    /**
+     * The libraries are the same for all mappers, compile each of them only once.
+     */
+    private static final Map<String, Script> COMPILED_LIBRARIES = new ConcurrentHashMap<>();
+
+    @Nullable private SandboxingContextFactory contextFactory;
     @Nullable private JavaScriptMessageMapperConfiguration configuration;
 
     private MappingFunction<ExternalMessage, Optional<Adaptable>> incomingMapping = DefaultIncomingMapping.get();
@@ -110,20 +117,15 @@ final class JavaScriptMessageMapperRhino implements MessageMapper {
 
     private void initLibraries(final Context cx, final Scriptable scope) {
         if (getConfiguration().map(JavaScriptMessageMapperConfiguration::isLoadLongJS).orElse(false)) {
-            loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(WEBJARS_LONG)),
-                    WEBJARS_LONG);
+            loadJavascriptLibrary(cx, scope, WEBJARS_LONG);
         }
         if (getConfiguration().map(JavaScriptMessageMapperConfiguration::isLoadBytebufferJS).orElse(false)) {
-            loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(WEBJARS_BYTEBUFFER)),
-                    WEBJARS_BYTEBUFFER);
+            loadJavascriptLibrary(cx, scope, WEBJARS_BYTEBUFFER);
         }
 
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(DITTO_SCOPE_SCRIPT)),
-                DITTO_SCOPE_SCRIPT);
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(INCOMING_SCRIPT)),
-                INCOMING_SCRIPT);
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(OUTGOING_SCRIPT)),
-                OUTGOING_SCRIPT);
+        loadJavascriptLibrary(cx, scope, DITTO_SCOPE_SCRIPT);
+        loadJavascriptLibrary(cx, scope, INCOMING_SCRIPT);
+        loadJavascriptLibrary(cx, scope, OUTGOING_SCRIPT);
 
         final String userIncomingScript = getConfiguration()
                 .flatMap(JavaScriptMessageMapperConfiguration::getIncomingScript)
@@ -132,9 +134,9 @@ final class JavaScriptMessageMapperRhino implements MessageMapper {
             // shortcut: the user defined an empty incoming mapping script -> assume that the ExternalMessage is in DittoProtocol
             incomingMapping = DefaultIncomingMapping.get();
         } else {
-            incomingMapping = new ScriptedIncomingMapping(contextFactory, scope);
             cx.evaluateString(scope, userIncomingScript,
                     JavaScriptMessageMapperConfigurationProperties.INCOMING_SCRIPT, 1, null);
+            incomingMapping = new ScriptedIncomingMapping(contextFactory, scope);
         }
 
         final String userOutgoingScript = getConfiguration()
@@ -144,9 +146,9 @@ final class JavaScriptMessageMapperRhino implements MessageMapper {
             // shortcut: the user defined an empty outgoing mapping script -> send the Adaptable as DittoProtocol JSON
             outgoingMapping = DefaultOutgoingMapping.get();
         } else {
-            outgoingMapping = new ScriptedOutgoingMapping(contextFactory, scope);
             cx.evaluateString(scope, userOutgoingScript,
                     JavaScriptMessageMapperConfigurationProperties.OUTGOING_SCRIPT, 1, null);
+            outgoingMapping = new ScriptedOutgoingMapping(contextFactory, scope);
         }
     }
 
@@ -154,11 +156,14 @@ final class JavaScriptMessageMapperRhino implements MessageMapper {
         return Optional.ofNullable(configuration);
     }
 
-    private void loadJavascriptLibrary(final Context cx, final Scriptable scope, final Reader reader,
-            final String libraryName) {
+    private void loadJavascriptLibrary(final Context cx, final Scriptable scope, final String libraryName) {
+        COMPILED_LIBRARIES.computeIfAbsent(libraryName, name -> compileJavascriptLibrary(cx, name))
+                .exec(cx, scope);
+    }
 
-        try {
-            cx.evaluateReader(scope, reader, libraryName, 1, null);
+    private Script compileJavascriptLibrary(final Context cx, final String libraryName) {
+        try (final Reader reader = new InputStreamReader(getClass().getResourceAsStream(libraryName))) {
+            return cx.compileReader(reader, libraryName, 1, null);
         } catch (final IOException e) {
             throw new IllegalStateException("Could not load script <" + libraryName + ">", e);
         }
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.mozilla.javascript.Callable;
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.NativeArray;
+import org.mozilla.javascript.NativeJSON;
+import org.mozilla.javascript.NativeObject;
+import org.mozilla.javascript.ScriptRuntime;
+import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.ScriptableObject;
+import org.mozilla.javascript.Undefined;
+import org.mozilla.javascript.Wrapper;
+
+/**
+ * Converts between Rhino JavaScript objects and Ditto JSON values without serializing them to JSON strings in between.
+ * The conversion yields the same results as {@code JSON.stringify} and {@code JSON.parse} would: objects defining
+ * {@code toJSON()} are converted by the result of that function, and cyclic objects are rejected with a
+ * {@code TypeError}.
+ */
+final class RhinoJsonConverter {
+
+    private RhinoJsonConverter() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Converts the passed JavaScript value, e.g. the result of a mapping function, to a JSON value.
+     *
+     * @param cx the current context.
+     * @param scope the scope the value was created in.
+     * @param value the JavaScript value.
+     * @return the JSON value.
+     */
+    static JsonValue toJsonValue(final Context cx, final Scriptable scope, @Nullable final Object value) {
+        return toJsonValue(cx, scope, "", value, Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    /**
+     * Converts the passed JSON value to a JavaScript value.
+     *
+     * @param cx the current context.
+     * @param scope the scope to create JavaScript objects and arrays in.
+     * @param jsonValue the JSON value.
+     * @return the JavaScript value.
+     */
+    @Nullable
+    static Object toJavaScript(final Context cx, final Scriptable scope, final JsonValue jsonValue) {
+        if (jsonValue.isNull()) {
+            return null;
+        } else if (jsonValue.isString()) {
+            return jsonValue.asString();
+        } else if (jsonValue.isBoolean()) {
+            return jsonValue.asBoolean();
+        } else if (jsonValue.isNumber()) {
+            return jsonValue.asDouble();
+        } else if (jsonValue.isArray()) {
+            final JsonArray jsonArray = jsonValue.asArray();
+            final Object[] elements = new Object[jsonArray.getSize()];
+            int i = 0;
+            for (final JsonValue element : jsonArray) {
+                elements[i++] = toJavaScript(cx, scope, element);
+            }
+            return cx.newArray(scope, elements);
+        } else {
+            final Scriptable object = cx.newObject(scope);
+            for (final JsonField field : jsonValue.asObject()) {
+                ScriptableObject.putProperty(object, field.getKeyName(),
+                        toJavaScript(cx, scope, field.getValue()));
+            }
+            return object;
+        }
+    }
+
+    private static JsonValue toJsonValue(final Context cx, final Scriptable scope, final String key,
+            @Nullable final Object value, final Set<Scriptable> ancestors) {
+
+        // like JSON.stringify, call toJSON() once, e.g. of dates, and convert its result:
+        final Object json = value instanceof Scriptable && !(value instanceof Callable)
+                ? callToJson(cx, scope, key, (Scriptable) value)
+                : value;
+        if (null == json || json instanceof Undefined || json instanceof Callable || Scriptable.NOT_FOUND == json) {
+            return JsonFactory.nullLiteral();
+        } else if (json instanceof Wrapper) {
+            return toJsonValue(cx, scope, key, ((Wrapper) json).unwrap(), ancestors);
+        } else if (json instanceof CharSequence) {
+            return JsonFactory.newValue(json.toString());
+        } else if (json instanceof Boolean) {
+            return JsonFactory.newValue((Boolean) json);
+        } else if (json instanceof Number) {
+            return toJsonNumber(((Number) json).doubleValue());
+        } else if (json instanceof NativeArray) {
+            final NativeArray array = (NativeArray) json;
+            enter(array, ancestors);
+            final JsonArray jsonArray = toJsonArray(cx, scope, array, ancestors);
+            ancestors.remove(array);
+            return jsonArray;
+        } else if (json instanceof NativeObject) {
+            final NativeObject object = (NativeObject) json;
+            enter(object, ancestors);
+            final JsonObject jsonObject = toJsonObject(cx, scope, object, ancestors);
+            ancestors.remove(object);
+            return jsonObject;
+        } else {
+            // e.g. boxed primitives:
+            final Object stringified = NativeJSON.stringify(cx, scope, json, null, null);
+            return stringified instanceof CharSequence
+                    ? JsonFactory.readFrom(stringified.toString())
+                    : JsonFactory.nullLiteral();
+        }
+    }
+
+    /**
+     * Calls {@code toJSON} of the passed object like {@code JSON.stringify} does.
+     *
+     * @return the result of {@code toJSON}, or the object itself if it defines no {@code toJSON} function.
+     */
+    @Nullable
+    private static Object callToJson(final Context cx, final Scriptable scope, final String key,
+            final Scriptable object) {
+        final Object toJson = ScriptableObject.getProperty(object, "toJSON");
+        return toJson instanceof Callable
+                ? ((Callable) toJson).call(cx, scope, object, new Object[]{key})
+                : object;
+    }
+
+    private static void enter(final Scriptable object, final Set<Scriptable> ancestors) {
+        if (!ancestors.add(object)) {
+            // the same error as JSON.stringify instead of a StackOverflowError
+            throw ScriptRuntime.typeError1("msg.cyclic.value", object.getClassName());
+        }
+    }
+
+    private static JsonValue toJsonNumber(final double number) {
+        if (Double.isNaN(number) || Double.isInfinite(number)) {
+            return JsonFactory.nullLiteral();
+        } else if (number == Math.rint(number) && Math.abs(number) < 1e21) {
+            // JavaScript serializes integral numbers without fraction
+            if (number >= Integer.MIN_VALUE && number <= Integer.MAX_VALUE) {
+                return JsonFactory.newValue((int) number);
+            } else if (number >= Long.MIN_VALUE && number <= Long.MAX_VALUE) {
+                return JsonFactory.newValue((long) number);
+            }
+        }
+        return JsonFactory.newValue(number);
+    }
+
+    private static JsonArray toJsonArray(final Context cx, final Scriptable scope, final NativeArray array,
+            final Set<Scriptable> ancestors) {
+        final JsonArrayBuilder builder = JsonFactory.newArrayBuilder();
+        final long length = array.getLength();
+        for (int i = 0; i < length; i++) {
+            builder.add(toJsonValue(cx, scope, String.valueOf(i), array.get(i, array), ancestors));
+        }
+        return builder.build();
+    }
+
+    private static JsonObject toJsonObject(final Context cx, final Scriptable scope, final NativeObject object,
+            final Set<Scriptable> ancestors) {
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+        for (final Object id : object.getIds()) {
+            final String key = id.toString();
+            final Object value = id instanceof Integer
+                    ? object.get((Integer) id, object)
+                    : object.get(key, object);
+            // like JSON.stringify, omit undefined values and functions:
+            if (!(value instanceof Undefined) && !(value instanceof Callable) && Scriptable.NOT_FOUND != value) {
+                builder.set(JsonFactory.newField(JsonFactory.newKey(key),
+                        toJsonValue(cx, scope, key, value, ancestors)));
+            }
+        }
+        return builder.build();
+    }
+
+}
@@ -13,6 +13,11 @@
 package org.eclipse.ditto.services.connectivity.mapping.javascript;
 
 import java.time.Duration;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.BiFunction;
+
+import javax.annotation.Nullable;
 
 import org.mozilla.javascript.Callable;
 import org.mozilla.javascript.Context;
@@ -34,6 +39,13 @@ final class SandboxingContextFactory extends ContextFactory {
      */
     private static final int OPTIMIZATION_LEVEL = -1;
 
+    /**
+     * The Contexts and scopes reused per thread, weakly keyed by the factory, so that they are released together with
+     * the mapper owning the factory instead of staying reachable from every thread which ever ran its scripts.
+     */
+    private static final ThreadLocal<Map<SandboxingContextFactory, ThreadState>> THREAD_STATES =
+            ThreadLocal.withInitial(WeakHashMap::new);
+
     private final Duration maxScriptExecutionTime;
     private final int maxStackDepth;
 
@@ -50,6 +62,37 @@ final class SandboxingContextFactory extends ContextFactory {
         this.maxStackDepth = maxStackDepth;
     }
 
+    /**
+     * Calls the passed {@code function} with a Context and a scope which are created once per thread and reused by
+     * all further calls on that thread. The thread scope has the {@code sharedScope} as prototype, so everything
+     * defined there is visible in it, while variables set by the called scripts stay in the thread scope.
+     *
+     * @param sharedScope the scope containing the loaded libraries and mapping functions.
+     * @param function the function to call with the Context and the thread scope.
+     * @param <T> the type of the result.
+     * @return the result of the function.
+     */
+    <T> T callInThreadScope(final Scriptable sharedScope, final BiFunction<Context, Scriptable, T> function) {
+        final ThreadState threadState = THREAD_STATES.get().computeIfAbsent(this, factory -> new ThreadState());
+        if (null == threadState.context) {
+            // a Context references its factory; a copy of this factory keeps the weak key collectable
+            threadState.context = new SandboxingContextFactory(maxScriptExecutionTime, maxStackDepth).makeContext();
+        }
+        final Context cx = enterContext(threadState.context);
+        try {
+            if (null == threadState.scope || threadState.sharedScope != sharedScope) {
+                final Scriptable threadScope = cx.newObject(sharedScope);
+                threadScope.setPrototype(sharedScope);
+                threadScope.setParentScope(null);
+                threadState.scope = threadScope;
+                threadState.sharedScope = sharedScope;
+            }
+            return function.apply(cx, threadState.scope);
+        } finally {
+            Context.exit();
+        }
+    }
+
     @Override
     protected Context makeContext() {
         final StartTimeAwareContext cx = new StartTimeAwareContext(this);
@@ -64,6 +107,7 @@ final class SandboxingContextFactory extends ContextFactory {
     public boolean hasFeature(final Context cx, final int featureIndex) {
         switch (featureIndex) {
             case Context.FEATURE_MEMBER_EXPR_AS_FUNCTION_NAME:
+            case Context.FEATURE_DYNAMIC_SCOPE: // functions of the shared scope are called in the thread scopes
                 return true;
         }
         return super.hasFeature(cx, featureIndex);
@@ -99,4 +143,14 @@ final class SandboxingContextFactory extends ContextFactory {
         }
     }
 
+    /**
+     * The Context and scope reused by one thread.
+     */
+    private static final class ThreadState {
+
+        @Nullable private Context context;
+        @Nullable private Scriptable sharedScope;
+        @Nullable private Scriptable scope;
+    }
+
 }
@@ -15,9 +15,6 @@ package org.eclipse.ditto.services.connectivity.mapping.javascript;
 import java.nio.ByteBuffer;
 import java.util.Optional;
 
-import javax.annotation.Nullable;
-
-import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -25,8 +22,6 @@ import org.eclipse.ditto.model.connectivity.MessageMappingFailedException;
 import org.eclipse.ditto.protocoladapter.Adaptable;
 import org.eclipse.ditto.protocoladapter.ProtocolFactory;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
-import org.mozilla.javascript.ContextFactory;
-import org.mozilla.javascript.NativeJSON;
 import org.mozilla.javascript.NativeObject;
 import org.mozilla.javascript.RhinoException;
 import org.mozilla.javascript.Scriptable;
@@ -44,20 +39,20 @@ public class ScriptedIncomingMapping implements MappingFunction<ExternalMessage,
 
     private static final String INCOMING_FUNCTION_NAME = "mapToDittoProtocolMsgWrapper";
 
-    @Nullable
-    private ContextFactory contextFactory;
-    @Nullable
-    private Scriptable scope;
+    private final SandboxingContextFactory contextFactory;
+    private final Scriptable scope;
+    private final org.mozilla.javascript.Function mapToDittoProtocolMsgWrapper;
 
-    ScriptedIncomingMapping(@Nullable final ContextFactory contextFactory, @Nullable final Scriptable scope) {
+    ScriptedIncomingMapping(final SandboxingContextFactory contextFactory, final Scriptable scope) {
         this.contextFactory = contextFactory;
         this.scope = scope;
+        mapToDittoProtocolMsgWrapper = (org.mozilla.javascript.Function) scope.get(INCOMING_FUNCTION_NAME, scope);
     }
 
     @Override
     public Optional<Adaptable> apply(final ExternalMessage message) {
         try {
-            return Optional.ofNullable((Adaptable) contextFactory.call(cx -> {
+            return Optional.ofNullable(contextFactory.callInThreadScope(scope, (cx, threadScope) -> {
                 final NativeObject headersObj = new NativeObject();
                 message.getHeaders().forEach((key, value) -> headersObj.put(key, headersObj, value));
 
@@ -66,9 +61,7 @@ public class ScriptedIncomingMapping implements MappingFunction<ExternalMessage,
                     final ByteBuffer byteBuffer = message.getBytePayload().get();
                     final byte[] array = byteBuffer.array();
                     bytePayload = new NativeArrayBuffer(array.length);
-                    for (int a = 0; a < array.length; a++) {
-                        bytePayload.getBuffer()[a] = array[a];
-                    }
+                    System.arraycopy(array, 0, bytePayload.getBuffer(), 0, array.length);
                 } else {
                     bytePayload = null;
                 }
@@ -82,19 +75,17 @@ public class ScriptedIncomingMapping implements MappingFunction<ExternalMessage,
                 externalMessage.put(EXTERNAL_MESSAGE_BYTE_PAYLOAD, externalMessage, bytePayload);
                 externalMessage.put(EXTERNAL_MESSAGE_CONTENT_TYPE, externalMessage, contentType);
 
-                final org.mozilla.javascript.Function
-                        mapToDittoProtocolMsgWrapper = (org.mozilla.javascript.Function) scope.get(INCOMING_FUNCTION_NAME, scope);
-                final Object result = mapToDittoProtocolMsgWrapper.call(cx, scope, scope, new Object[] {externalMessage});
+                final Object result = mapToDittoProtocolMsgWrapper.call(cx, threadScope, threadScope,
+                        new Object[]{externalMessage});
 
                 if (result == null) {
                     // return null if result is null causing the wrapping Optional to be empty
                     return null;
                 }
 
-                final String dittoProtocolJsonStr = (String) NativeJSON.stringify(cx, scope, result, null, null);
-
                 return DittoJsonException.wrapJsonRuntimeException(() -> {
-                    final JsonObject jsonObject = JsonFactory.readFrom(dittoProtocolJsonStr).asObject();
+                    // convert the mapped JavaScript object directly without serializing it to a string in between:
+                    final JsonObject jsonObject = RhinoJsonConverter.toJsonValue(cx, threadScope, result).asObject();
                     return ProtocolFactory.jsonifiableAdaptableFromJson(jsonObject);
                 });
             }));
@@ -23,7 +23,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-import javax.annotation.Nullable;
 import javax.script.Bindings;
 
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -35,10 +34,6 @@ import org.eclipse.ditto.services.connectivity.mapping.MessageMapper;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageBuilder;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
-import org.mozilla.javascript.Callable;
-import org.mozilla.javascript.Context;
-import org.mozilla.javascript.ContextFactory;
-import org.mozilla.javascript.NativeJSON;
 import org.mozilla.javascript.NativeObject;
 import org.mozilla.javascript.RhinoException;
 import org.mozilla.javascript.Scriptable;
@@ -57,28 +52,27 @@ public class ScriptedOutgoingMapping implements MappingFunction<Adaptable, Optio
 
     private static final String OUTGOING_FUNCTION_NAME = "mapFromDittoProtocolMsgWrapper";
 
-    @Nullable
-    private ContextFactory contextFactory;
-    @Nullable
-    private Scriptable scope;
+    private final SandboxingContextFactory contextFactory;
+    private final Scriptable scope;
+    private final org.mozilla.javascript.Function mapFromDittoProtocolMsgWrapper;
 
-    ScriptedOutgoingMapping(@Nullable final ContextFactory contextFactory, @Nullable final Scriptable scope) {
+    ScriptedOutgoingMapping(final SandboxingContextFactory contextFactory, final Scriptable scope) {
         this.contextFactory = contextFactory;
         this.scope = scope;
+        mapFromDittoProtocolMsgWrapper = (org.mozilla.javascript.Function) scope.get(OUTGOING_FUNCTION_NAME, scope);
     }
 
     @Override
     public Optional<ExternalMessage> apply(final Adaptable adaptable) {
         try {
             final JsonifiableAdaptable jsonifiableAdaptable = ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable);
-            return Optional.ofNullable((ExternalMessage) contextFactory.call(cx -> {
+            return Optional.ofNullable(contextFactory.callInThreadScope(scope, (cx, threadScope) -> {
+                // convert the Ditto Protocol message directly without serializing it to a string in between:
                 final Object dittoProtocolMessage =
-                        NativeJSON.parse(cx, scope, jsonifiableAdaptable.toJsonString(), new NullCallable());
+                        RhinoJsonConverter.toJavaScript(cx, threadScope, jsonifiableAdaptable.toJson());
 
-                final org.mozilla.javascript.Function
-                        mapFromDittoProtocolMsgWrapper = (org.mozilla.javascript.Function) scope.get(OUTGOING_FUNCTION_NAME, scope);
                 final NativeObject result =
-                        (NativeObject) mapFromDittoProtocolMsgWrapper.call(cx, scope, scope,
+                        (NativeObject) mapFromDittoProtocolMsgWrapper.call(cx, threadScope, threadScope,
                                 new Object[]{dittoProtocolMessage});
 
                 if (result == null) {
@@ -166,13 +160,4 @@ public class ScriptedOutgoingMapping implements MappingFunction<Adaptable, Optio
         }
         return Optional.empty();
     }
-
-    private static class NullCallable implements Callable {
-
-        @Override
-        public Object call(final Context context, final Scriptable scope, final Scriptable holdable,
-                final Object[] objects) {
-            return objects[1];
-        }
-    }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.mapping.javascript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.EcmaError;
+import org.mozilla.javascript.NativeJSON;
+import org.mozilla.javascript.Scriptable;
+
+/**
+ * Tests {@link RhinoJsonConverter}.
+ */
+public class RhinoJsonConverterTest {
+
+    private static final String JSON = "{\"topic\":\"org.eclipse.ditto/thing/things/twin/commands/modify\"," +
+            "\"headers\":{\"correlation-id\":\"4711\",\"content-type\":\"application/json\"}," +
+            "\"path\":\"/attributes\"," +
+            "\"value\":{\"int\":42,\"long\":1234567890123,\"double\":23.5,\"negative\":-1,\"bool\":true," +
+            "\"nothing\":null,\"array\":[1,\"two\",{\"three\":3},[],null],\"empty\":{}}}";
+
+    private Context cx;
+    private Scriptable scope;
+
+    @Before
+    public void setUp() {
+        cx = Context.enter();
+        scope = cx.initSafeStandardObjects();
+    }
+
+    @After
+    public void tearDown() {
+        Context.exit();
+    }
+
+    @Test
+    public void convertsJavaScriptObjectLikeJsonStringify() {
+        final Object javaScriptObject = cx.evaluateString(scope, "(" + JSON + ")", "test", 1, null);
+
+        final JsonValue converted = RhinoJsonConverter.toJsonValue(cx, scope, javaScriptObject);
+
+        assertThat(converted).isEqualTo(JsonFactory.readFrom(JSON));
+        assertThat(converted.toString())
+                .isEqualTo(NativeJSON.stringify(cx, scope, javaScriptObject, null, null).toString());
+    }
+
+    @Test
+    public void omitsUndefinedValuesAndFunctions() {
+        final Object javaScriptObject =
+                cx.evaluateString(scope, "({a: undefined, b: function() {}, c: 1, d: [undefined, NaN]})", "test", 1,
+                        null);
+
+        final JsonValue converted = RhinoJsonConverter.toJsonValue(cx, scope, javaScriptObject);
+
+        assertThat(converted).isEqualTo(JsonFactory.readFrom("{\"c\":1,\"d\":[null,null]}"));
+    }
+
+    @Test
+    public void convertsResultOfToJsonLikeJsonStringify() {
+        final Object javaScriptObject = cx.evaluateString(scope,
+                "({a: {toJSON: function(key) { return key + '!'; }}, b: [new Date(0)]})", "test", 1, null);
+
+        final JsonValue converted = RhinoJsonConverter.toJsonValue(cx, scope, javaScriptObject);
+
+        assertThat(converted.toString())
+                .isEqualTo(NativeJSON.stringify(cx, scope, javaScriptObject, null, null).toString())
+                .isEqualTo("{\"a\":\"a!\",\"b\":[\"1970-01-01T00:00:00.000Z\"]}");
+    }
+
+    @Test
+    public void rejectsCyclicObjectsLikeJsonStringify() {
+        final Object javaScriptObject = cx.evaluateString(scope,
+                "var cyclic = {shared: {}}; cyclic.array = [cyclic.shared, cyclic.shared, cyclic]; cyclic", "test",
+                1, null);
+
+        assertThatExceptionOfType(EcmaError.class)
+                .isThrownBy(() -> RhinoJsonConverter.toJsonValue(cx, scope, javaScriptObject))
+                .withMessageStartingWith("TypeError");
+    }
+
+    @Test
+    public void convertsJsonToJavaScriptLikeJsonParse() {
+        final JsonObject jsonObject = JsonFactory.newObject(JSON);
+
+        final Object javaScriptObject = RhinoJsonConverter.toJavaScript(cx, scope, jsonObject);
+
+        assertThat(NativeJSON.stringify(cx, scope, javaScriptObject, null, null).toString()).isEqualTo(JSON);
+    }
+
+}
@@ -86,9 +86,7 @@ import akka.actor.Props;
 import akka.actor.Status;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.japi.pf.FSMStateFunctionBuilder;
-import akka.routing.DefaultResizer;
-import akka.routing.Resizer;
-import akka.routing.RoundRobinPool;
+import akka.routing.ConsistentHashingPool;
 import scala.concurrent.duration.Duration;
 import scala.concurrent.duration.FiniteDuration;
 import scala.util.Either;
@@ -109,6 +107,7 @@ public abstract class BaseClientActor extends AbstractFSM<BaseClientState, BaseC
     protected static final int TEST_CONNECTION_TIMEOUT = 10;
 
     private static final int SOCKET_CHECK_TIMEOUT_MS = 2000;
+    private static final String MESSAGE_MAPPING_PROCESSOR_DISPATCHER = "message-mapping-processor-dispatcher";
 
     protected final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
     private final ActorRef conciergeForwarder;
@@ -810,8 +809,8 @@ public abstract class BaseClientActor extends AbstractFSM<BaseClientState, BaseC
     }
 
     /**
-     * Starts the {@link MessageMappingProcessorActor} responsible for payload transformation/mapping as child actor
-     * behind a (cluster node local) RoundRobin pool and a dynamic resizer from the current mapping context.
+     * Starts the {@link MessageMappingProcessorActor}s responsible for payload transformation/mapping as child actors
+     * behind a (cluster node local) consistent hashing pool from the current mapping context.
      */
     protected Either<DittoRuntimeException, ActorRef> startMessageMappingProcessor() {
         final MappingContext mappingContext = stateData().getConnection().getMappingContext().orElse(null);
@@ -819,8 +818,10 @@ public abstract class BaseClientActor extends AbstractFSM<BaseClientState, BaseC
     }
 
     /**
-     * Starts the {@link MessageMappingProcessorActor} responsible for payload transformation/mapping as child actor
-     * behind a (cluster node local) RoundRobin pool and a dynamic resizer.
+     * Starts the {@link MessageMappingProcessorActor}s responsible for payload transformation/mapping as child actors
+     * behind a (cluster node local) consistent hashing pool. The pool has as many workers as the processor pool size of
+     * the connection; messages concerning the same thing or device are always mapped by the same worker and thus keep
+     * their order (see {@link MessageMappingHashMapper}).
      *
      * @param mappingContext the MappingContext containing information about how to map external messages
      */
@@ -847,13 +848,13 @@ public abstract class BaseClientActor extends AbstractFSM<BaseClientState, BaseC
                     connection.getProcessorPoolSize());
             final Props props =
                     MessageMappingProcessorActor.props(getPublisherActor(), conciergeForwarder, processor,
-                            connectionId());
+                            connectionId())
+                            .withDispatcher(MESSAGE_MAPPING_PROCESSOR_DISPATCHER);
 
-            final Resizer resizer = new DefaultResizer(1, connection.getProcessorPoolSize());
-            messageMappingProcessorActor = getContext().actorOf(new RoundRobinPool(1)
-                    .withDispatcher("message-mapping-processor-dispatcher")
-                    .withResizer(resizer)
-                    .props(props), nextChildActorName(MessageMappingProcessorActor.ACTOR_NAME));
+            messageMappingProcessorActor = getContext().actorOf(
+                    new ConsistentHashingPool(connection.getProcessorPoolSize())
+                            .withHashMapper(MessageMappingHashMapper.getInstance())
+                            .props(props), nextChildActorName(MessageMappingProcessorActor.ACTOR_NAME));
         } else {
             log.info("MessageMappingProcessor already instantiated: not initializing again.");
         }
@@ -14,6 +14,7 @@ package org.eclipse.ditto.services.connectivity.messaging;
 
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
+import java.time.Duration;
 import java.time.Instant;
 
 import javax.annotation.Nullable;
@@ -23,12 +24,15 @@ import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
 import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
 import org.eclipse.ditto.model.connectivity.HeaderMapping;
 import org.eclipse.ditto.model.connectivity.ResourceStatus;
+import org.eclipse.ditto.services.connectivity.messaging.internal.AcknowledgeableMessage;
 import org.eclipse.ditto.services.connectivity.messaging.metrics.ConnectionMetricsCollector;
 import org.eclipse.ditto.services.connectivity.messaging.metrics.ConnectivityCounterRegistry;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.utils.config.ConfigUtil;
 
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
+import akka.pattern.PatternsCS;
 
 /**
  * Base class for consumer actors that holds common fields and handles the address status.
@@ -65,6 +69,27 @@ public abstract class BaseConsumerActor extends AbstractActor {
                 resourceStatus != null ? resourceStatus.getStatusDetails().orElse(null) : null);
     }
 
+    /**
+     * Passes the message on to the message mapping and waits until it was handed over to concierge.
+     * The callbacks are not run in the context of this actor and must not access its state.
+     *
+     * @param externalMessage the consumed message.
+     * @param ackTimeout how long to wait for the message mapping.
+     * @param onAcknowledged called after the message was handed over.
+     * @param onTimeout called if the message was not handed over in time.
+     */
+    protected void forwardAcknowledgeable(final ExternalMessage externalMessage, final Duration ackTimeout,
+            final Runnable onAcknowledged, final Runnable onTimeout) {
+        PatternsCS.ask(messageMappingProcessor, AcknowledgeableMessage.of(externalMessage), ackTimeout)
+                .whenComplete((acknowledgement, error) -> {
+                    if (null == error) {
+                        onAcknowledged.run();
+                    } else {
+                        onTimeout.run();
+                    }
+                });
+    }
+
     protected void handleAddressStatus(final ResourceStatus resourceStatus) {
         if (resourceStatus.getResourceType() == ResourceStatus.ResourceType.UNKNOWN) {
             this.resourceStatus = ConnectivityModelFactory.newSourceStatus(ConfigUtil.instanceIdentifier(),
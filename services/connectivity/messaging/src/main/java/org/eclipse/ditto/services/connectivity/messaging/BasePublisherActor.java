@@ -17,12 +17,14 @@ import static org.eclipse.ditto.model.base.headers.DittoHeaderDefinition.CORRELA
 
 import java.time.Instant;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -34,6 +36,7 @@ import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
 import org.eclipse.ditto.model.connectivity.ResourceStatus;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.model.placeholders.ExpressionResolver;
+import org.eclipse.ditto.model.placeholders.ExpressionTemplate;
 import org.eclipse.ditto.model.placeholders.HeadersPlaceholder;
 import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
 import org.eclipse.ditto.model.placeholders.PlaceholderFilter;
@@ -42,20 +45,31 @@ import org.eclipse.ditto.model.placeholders.TopicPathPlaceholder;
 import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressStatus;
 import org.eclipse.ditto.services.connectivity.messaging.metrics.ConnectionMetricsCollector;
 import org.eclipse.ditto.services.connectivity.messaging.metrics.ConnectivityCounterRegistry;
+import org.eclipse.ditto.services.connectivity.util.ConnectionConfigReader;
+import org.eclipse.ditto.services.connectivity.util.PublisherConfigReader;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageBuilder;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.config.ConfigUtil;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.signals.base.Signal;
 
 import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.japi.pf.ReceiveBuilder;
+import scala.concurrent.duration.FiniteDuration;
 
 /**
  * Base class for publisher actors. Holds the map of configured targets.
+ * <p>
+ * If batching is enabled in the publisher config, messages to targets are grouped per publish target and published
+ * in batches of up to {@code batch.max-size} messages at the latest {@code batch.max-delay} after the first message of
+ * a batch. Publishers which do not override {@link #publishBatch(PublishBatch)} publish the messages of a batch one by
+ * one. Size and latency of the batches are reported per target.
+ * </p>
  *
  * @param <T> the type of targets for this actor
  */
@@ -65,13 +79,22 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
     private static final ThingPlaceholder THING_PLACEHOLDER = PlaceholderFactory.newThingPlaceholder();
     private static final TopicPathPlaceholder TOPIC_PLACEHOLDER = PlaceholderFactory.newTopicPathPlaceholder();
 
+    private static final String BATCH_SIZE_METRIC = "connectivity_publisher_batch_size";
+    private static final String BATCH_LATENCY_METRIC = "connectivity_publisher_batch_latency";
+    private static final String CONNECTION_ID_TAG = "id";
+    private static final String TARGET_TAG = "target";
+
     protected final String connectionId;
     protected final List<Target> targets;
     protected final Map<Target, ResourceStatus> resourceStatusMap;
 
     private final ConnectionMetricsCollector responseDroppedCounter;
     private final ConnectionMetricsCollector responsePublishedCounter;
-
+    private final Map<String, ExpressionTemplate> headerMappingTemplates;
+    private final boolean batchEnabled;
+    private final int batchMaxSize;
+    private final FiniteDuration batchMaxDelay;
+    private final Map<T, PublishBatch<T>> batches;
 
     protected BasePublisherActor(final String connectionId, final List<Target> targets) {
         this.connectionId = checkNotNull(connectionId, "connectionId");
@@ -83,6 +106,39 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
                         ConnectivityStatus.OPEN, target.getAddress(), "Started at " + now)));
         responseDroppedCounter = ConnectivityCounterRegistry.getResponseDroppedCounter(this.connectionId);
         responsePublishedCounter = ConnectivityCounterRegistry.getResponsePublishedCounter(connectionId);
+        headerMappingTemplates = new HashMap<>();
+        targets.forEach(target -> target.getHeaderMapping().ifPresent(mapping -> mapping.getMapping().values()
+                .forEach(template -> getHeaderMappingTemplate(headerMappingTemplates, template))));
+
+        final PublisherConfigReader configReader =
+                ConnectionConfigReader.fromRawConfig(getContext().system().settings().config()).publisher();
+        batchEnabled = configReader.batchEnabled();
+        batchMaxSize = configReader.batchMaxSize();
+        batchMaxDelay = FiniteDuration.apply(configReader.batchMaxDelay().toMillis(), TimeUnit.MILLISECONDS);
+        batches = new HashMap<>();
+    }
+
+    /**
+     * Publishes the messages still waiting in batches and then lets the subclass
+     * {@link #releaseResources() release its resources}.
+     *
+     * @throws Exception if releasing the resources failed.
+     */
+    @Override
+    public final void postStop() throws Exception {
+        new ArrayList<>(batches.values()).forEach(this::flushBatch);
+        releaseResources();
+        super.postStop();
+    }
+
+    /**
+     * Releases the resources needed for publishing, e. g. producers. Called when this actor stopped, after the
+     * messages waiting in batches were published. Does nothing by default.
+     *
+     * @throws Exception if releasing the resources failed.
+     */
+    protected void releaseResources() throws Exception {
+        // nothing to release by default
     }
 
     @Override
@@ -128,8 +184,12 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
                         try {
                             final T publishTarget = toPublishTarget(target.getAddress());
                             final ExternalMessage messageWithMappedHeaders =
-                                    applyHeaderMapping(outbound, target, log());
-                            publishMessage(target, publishTarget, messageWithMappedHeaders, publishedCounter);
+                                    applyHeaderMapping(outbound, target, headerMappingTemplates, log());
+                            if (isPublishingBatches()) {
+                                addToBatch(target, publishTarget, messageWithMappedHeaders, publishedCounter);
+                            } else {
+                                publishMessage(target, publishTarget, messageWithMappedHeaders, publishedCounter);
+                            }
                         } catch (final DittoRuntimeException e) {
                             publishedCounter.recordFailure();
                             log().warning("Got unexpected DittoRuntimeException when applying header mapping - " +
@@ -138,6 +198,13 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
                         }
                     });
                 })
+                .match(FlushBatch.class, flush -> {
+                    final PublishBatch<T> batch = batches.get(flush.publishTarget);
+                    // the batch may have been published already because it was full
+                    if (null != batch && batch == flush.batch) {
+                        flushBatch(batch);
+                    }
+                })
                 .match(RetrieveAddressStatus.class, ram -> getCurrentTargetStatus().forEach(rs ->
                         getSender().tell(rs, getSelf())))
                 .matchAny(m -> {
@@ -149,6 +216,36 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
         return receiveBuilder.build();
     }
 
+    private void addToBatch(final Target target, final T publishTarget, final ExternalMessage message,
+            final ConnectionMetricsCollector publishedCounter) {
+
+        PublishBatch<T> batch = batches.get(publishTarget);
+        if (null == batch) {
+            batch = new PublishBatch<>(publishTarget, DittoMetrics.timer(BATCH_LATENCY_METRIC)
+                    .tag(CONNECTION_ID_TAG, connectionId)
+                    .tag(TARGET_TAG, target.getOriginalAddress())
+                    .start());
+            batches.put(publishTarget, batch);
+            getContext().system().scheduler().scheduleOnce(batchMaxDelay, getSelf(),
+                    new FlushBatch(publishTarget, batch), getContext().dispatcher(), ActorRef.noSender());
+        }
+        batch.add(new PublishBatch.Entry(target, message, publishedCounter, getSender()));
+        if (batch.size() >= batchMaxSize) {
+            flushBatch(batch);
+        }
+    }
+
+    private void flushBatch(final PublishBatch<T> batch) {
+        batches.remove(batch.getPublishTarget());
+        final Target firstTarget = batch.getEntries().get(0).getTarget();
+        DittoMetrics.histogram(BATCH_SIZE_METRIC)
+                .tag(CONNECTION_ID_TAG, connectionId)
+                .tag(TARGET_TAG, null != firstTarget ? firstTarget.getOriginalAddress() : "")
+                .record((long) batch.size());
+        log().debug("Publishing batch of <{}> messages to <{}>.", batch.size(), batch.getPublishTarget());
+        publishBatch(batch);
+    }
+
     private Collection<ResourceStatus> getCurrentTargetStatus() {
         if (resourceStatusMap.isEmpty()) {
             return Collections.singletonList(
@@ -199,6 +296,31 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
     protected abstract void publishMessage(@Nullable final Target target, final T publishTarget,
             final ExternalMessage message, final ConnectionMetricsCollector publishedConnector);
 
+    /**
+     * @return whether messages to targets are published in batches.
+     */
+    protected final boolean isPublishingBatches() {
+        return batchEnabled;
+    }
+
+    /**
+     * Publishes the messages of the passed {@code batch} which all go to the same publish target. By default, each
+     * message is published on its own by {@link #publishMessage(Target, PublishTarget, ExternalMessage,
+     * ConnectionMetricsCollector)}. Overriding implementations must
+     * {@link PublishBatch#complete(PublishBatch.Entry, boolean) complete} every message of the batch once it was
+     * published or publishing it failed.
+     *
+     * @param batch the batch to publish.
+     */
+    protected void publishBatch(final PublishBatch<T> batch) {
+        for (final PublishBatch.Entry entry : batch.getEntries()) {
+            publishMessage(entry.getTarget(), batch.getPublishTarget(), entry.getMessage(),
+                    entry.getPublishedCounter());
+            // publishMessage records the outcome on the published counter itself
+            batch.handedOver();
+        }
+    }
+
     /**
      * @return the logger to use.
      */
@@ -216,16 +338,19 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
 
     /**
      * Applies the optional "header mapping" potentially configured on the passed {@code target} on the passed {@code
-     * outboundSignal}.
+     * outboundSignal} using the already parsed templates of the header mapping.
      *
      * @param outboundSignal the OutboundSignal containing the {@link ExternalMessage} with headers potentially
      * containing placeholders.
      * @param target the {@link Target} to extract the {@link org.eclipse.ditto.model.connectivity.HeaderMapping} from.
+     * @param headerMappingTemplates the parsed templates of header mappings by their template string, templates not
+     * contained yet are parsed and added.
      * @param log the logger to use for logging.
      * @return the ExternalMessage with replaced headers
      */
     static ExternalMessage applyHeaderMapping(final OutboundSignal.WithExternalMessage outboundSignal,
-            final Target target, final DiagnosticLoggingAdapter log) {
+            final Target target, final Map<String, ExpressionTemplate> headerMappingTemplates,
+            final DiagnosticLoggingAdapter log) {
 
         final ExternalMessage originalMessage = outboundSignal.getExternalMessage();
         final Map<String, String> originalHeaders = new HashMap<>(originalMessage.getHeaders());
@@ -259,7 +384,8 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
 
             final Map<String, String> mappedHeaders = mapping.getMapping().entrySet().stream()
                     .map(e -> new AbstractMap.SimpleEntry<>(e.getKey(),
-                            PlaceholderFilter.apply(e.getValue(), expressionResolver, true))
+                            PlaceholderFilter.apply(getHeaderMappingTemplate(headerMappingTemplates, e.getValue()),
+                                    expressionResolver, true))
                     )
                     .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
 
@@ -273,4 +399,21 @@ public abstract class BasePublisherActor<T extends PublishTarget> extends Abstra
         }).orElseGet(messageBuilder::build);
     }
 
+    private static ExpressionTemplate getHeaderMappingTemplate(
+            final Map<String, ExpressionTemplate> headerMappingTemplates, final String template) {
+        return headerMappingTemplates.computeIfAbsent(template, PlaceholderFactory::newExpressionTemplate);
+    }
+
+    private static final class FlushBatch {
+
+        private final Object publishTarget;
+        private final PublishBatch<?> batch;
+
+        private FlushBatch(final Object publishTarget, final PublishBatch<?> batch) {
+            this.publishTarget = publishTarget;
+            this.batch = batch;
+        }
+
+    }
+
 }
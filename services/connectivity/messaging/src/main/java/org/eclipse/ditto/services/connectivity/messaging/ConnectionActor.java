@@ -19,6 +19,7 @@ import java.text.MessageFormat;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -54,6 +55,7 @@ import org.eclipse.ditto.services.connectivity.util.ConnectionConfigReader;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignalFactory;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.cluster.NamespacedPubSubTopics;
 import org.eclipse.ditto.services.utils.config.ConfigUtil;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.signals.base.Signal;
@@ -163,10 +165,11 @@ public final class ConnectionActor extends AbstractPersistentActor {
     private long lastSnapshotSequenceNr = -1L;
     private boolean snapshotInProgress = false;
 
-    private Set<Topic> uniqueTopics = Collections.emptySet();
+    private Set<String> uniqueTopics = Collections.emptySet();
 
     private final FiniteDuration flushPendingResponsesTimeout;
     private final java.time.Duration clientActorAskTimeout;
+    private final boolean namespacedTopics;
     @Nullable private Cancellable stopSelfIfDeletedTrigger;
 
     private ConnectionActor(final String connectionId,
@@ -197,6 +200,7 @@ public final class ConnectionActor extends AbstractPersistentActor {
         final java.time.Duration javaFlushTimeout = configReader.flushPendingResponsesTimeout();
         flushPendingResponsesTimeout = Duration.create(javaFlushTimeout.toMillis(), TimeUnit.MILLISECONDS);
         clientActorAskTimeout = configReader.clientActorAskTimeout();
+        namespacedTopics = NamespacedPubSubTopics.isEnabled(getContext().system().settings().config());
 
         LogUtil.enhanceLogWithCustomField(log, BaseClientData.MDC_CONNECTION_ID, connectionId);
     }
@@ -815,9 +819,7 @@ public final class ConnectionActor extends AbstractPersistentActor {
         // unsubscribe to previously subscribed topics
         unsubscribeFromEvents();
 
-        uniqueTopics = connection.getTargets().stream()
-                .flatMap(target -> target.getTopics().stream().map(FilteredTopic::getTopic))
-                .collect(Collectors.toSet());
+        uniqueTopics = determinePubSubTopics(connection.getTargets(), namespacedTopics);
 
         forEachPubSubTopicDo(pubSubTopic -> {
             final DistributedPubSubMediator.Subscribe subscribe =
@@ -839,9 +841,41 @@ public final class ConnectionActor extends AbstractPersistentActor {
     }
 
     private void forEachPubSubTopicDo(final Consumer<String> topicConsumer) {
-        uniqueTopics.stream()
+        uniqueTopics.forEach(topicConsumer);
+    }
+
+    /**
+     * Determines the pub-sub topics to subscribe to for the given targets. If namespaced topics are enabled, twin
+     * events are only received from the partitions of their namespaces if each target publishing them is restricted
+     * to some namespaces.
+     */
+    private static Set<String> determinePubSubTopics(final List<Target> targets, final boolean namespacedTopics) {
+        final List<FilteredTopic> filteredTopics = targets.stream()
+                .flatMap(target -> target.getTopics().stream())
+                .collect(Collectors.toList());
+
+        final Set<String> pubSubTopics = new LinkedHashSet<>();
+        filteredTopics.stream()
+                .map(FilteredTopic::getTopic)
+                .filter(topic -> Topic.TWIN_EVENTS != topic)
                 .map(Topic::getPubSubTopic)
-                .forEach(topicConsumer);
+                .forEach(pubSubTopics::add);
+
+        final List<FilteredTopic> twinEventTopics = filteredTopics.stream()
+                .filter(filteredTopic -> Topic.TWIN_EVENTS == filteredTopic.getTopic())
+                .collect(Collectors.toList());
+        if (!twinEventTopics.isEmpty()) {
+            final boolean allRestrictedToNamespaces = namespacedTopics && twinEventTopics.stream()
+                    .noneMatch(filteredTopic -> filteredTopic.getNamespaces().isEmpty());
+            final Set<String> namespaces = allRestrictedToNamespaces
+                    ? twinEventTopics.stream()
+                    .flatMap(filteredTopic -> filteredTopic.getNamespaces().stream())
+                    .collect(Collectors.toCollection(LinkedHashSet::new))
+                    : Collections.emptySet();
+            pubSubTopics.addAll(
+                    NamespacedPubSubTopics.forNamespaces(Topic.TWIN_EVENTS.getPubSubTopic(), namespaces));
+        }
+        return pubSubTopics;
     }
 
     private void handleCommandDuringInitialization(final ConnectivityCommand command) {
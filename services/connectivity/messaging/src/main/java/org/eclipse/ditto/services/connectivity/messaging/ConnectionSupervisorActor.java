@@ -55,6 +55,11 @@ import scala.concurrent.duration.FiniteDuration;
  */
 public final class ConnectionSupervisorActor extends AbstractActor {
 
+    /**
+     * Name of the supervised persistence actor of the connection.
+     */
+    static final String PERSISTENCE_ACTOR_NAME = "pa";
+
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
     private final String connectionId;
@@ -190,7 +195,7 @@ public final class ConnectionSupervisorActor extends AbstractActor {
         LogUtil.enhanceLogWithCustomField(log, BaseClientData.MDC_CONNECTION_ID, connectionId);
         if (child == null) {
             log.debug("Starting persistence actor for Connection with ID '{}'", connectionId);
-            final ActorRef childRef = getContext().actorOf(persistenceActorProps, "pa");
+            final ActorRef childRef = getContext().actorOf(persistenceActorProps, PERSISTENCE_ACTOR_NAME);
             child = getContext().watch(childRef);
         }
     }
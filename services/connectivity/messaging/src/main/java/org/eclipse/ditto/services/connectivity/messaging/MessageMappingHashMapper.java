@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.services.connectivity.messaging.internal.AcknowledgeableMessage;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
+import org.eclipse.ditto.signals.base.WithId;
+
+import akka.routing.ConsistentHashingRouter;
+
+/**
+ * Determines the key by which messages are distributed among the {@link MessageMappingProcessorActor}s of a client
+ * actor. Messages with the same key are always processed by the same worker and thus in the order they were sent:
+ * <ul>
+ * <li>signals and outbound signals are keyed by their thing ID,</li>
+ * <li>external messages are keyed by the device they originate from if a message header identifies it (e.g. the
+ * Kafka key or the MQTT topic), otherwise by their source address.</li>
+ * </ul>
+ * Every message gets a key, as the consistent hashing router would drop messages without one.
+ */
+@Immutable
+final class MessageMappingHashMapper implements ConsistentHashingRouter.ConsistentHashMapper {
+
+    /**
+     * Key of all messages which are not related to a thing or a device.
+     */
+    static final String DEFAULT_KEY = "";
+
+    /**
+     * Headers of external messages identifying the device which sent them, in the order of their precedence.
+     */
+    private static final List<String> DEVICE_HEADERS = Collections.unmodifiableList(Arrays.asList(
+            "device_id", // Eclipse Hono
+            "kafka.key",
+            "mqtt.topic"
+    ));
+
+    private static final MessageMappingHashMapper INSTANCE = new MessageMappingHashMapper();
+
+    private MessageMappingHashMapper() {
+        super();
+    }
+
+    /**
+     * Returns an instance of {@code MessageMappingHashMapper}.
+     *
+     * @return the instance.
+     */
+    static MessageMappingHashMapper getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Object hashKey(@Nullable final Object message) {
+        final String key;
+        if (message instanceof OutboundSignal) {
+            key = ((OutboundSignal) message).getSource().getId();
+        } else if (message instanceof WithId) {
+            key = ((WithId) message).getId();
+        } else if (message instanceof ExternalMessage) {
+            key = getDeviceKey((ExternalMessage) message);
+        } else if (message instanceof AcknowledgeableMessage) {
+            key = getDeviceKey(((AcknowledgeableMessage) message).getMessage());
+        } else if (message instanceof DittoRuntimeException) {
+            key = ((DittoRuntimeException) message).getDittoHeaders().getCorrelationId().orElse(DEFAULT_KEY);
+        } else {
+            key = DEFAULT_KEY;
+        }
+        return null != key ? key : DEFAULT_KEY;
+    }
+
+    private static String getDeviceKey(final ExternalMessage externalMessage) {
+        for (final String deviceHeader : DEVICE_HEADERS) {
+            final Optional<String> deviceKey = externalMessage.findHeader(deviceHeader);
+            if (deviceKey.isPresent()) {
+                return deviceKey.get();
+            }
+        }
+        return externalMessage.getSourceAddress().orElse(DEFAULT_KEY);
+    }
+
+}
@@ -40,7 +40,6 @@ import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.base.common.ConditionChecker;
 import org.eclipse.ditto.model.base.common.HttpStatusCode;
-import org.eclipse.ditto.model.base.common.Placeholders;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
@@ -53,12 +52,14 @@ import org.eclipse.ditto.model.connectivity.MetricType;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.model.placeholders.EnforcementFilter;
 import org.eclipse.ditto.model.placeholders.ExpressionResolver;
+import org.eclipse.ditto.model.placeholders.ExpressionTemplate;
 import org.eclipse.ditto.model.placeholders.HeadersPlaceholder;
 import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
 import org.eclipse.ditto.model.placeholders.PlaceholderFilter;
 import org.eclipse.ditto.model.placeholders.ThingPlaceholder;
 import org.eclipse.ditto.model.placeholders.TopicPathPlaceholder;
 import org.eclipse.ditto.protocoladapter.TopicPath;
+import org.eclipse.ditto.services.connectivity.messaging.internal.AcknowledgeableMessage;
 import org.eclipse.ditto.services.connectivity.messaging.metrics.ConnectionMetricsCollector;
 import org.eclipse.ditto.services.connectivity.messaging.metrics.ConnectivityCounterRegistry;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
@@ -73,6 +74,7 @@ import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.commands.base.CommandResponse;
 import org.eclipse.ditto.signals.commands.things.ThingErrorResponse;
 
+import akka.Done;
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
 import akka.actor.Props;
@@ -160,6 +162,7 @@ public final class MessageMappingProcessorActor extends AbstractActor {
     public Receive createReceive() {
         return ReceiveBuilder.create()
                 .match(ExternalMessage.class, this::handleInboundMessage)
+                .match(AcknowledgeableMessage.class, this::handleAcknowledgeableMessage)
                 .match(CommandResponse.class, this::handleCommandResponse)
                 .match(OutboundSignal.class, this::handleOutboundSignal)
                 .match(Signal.class, this::handleSignal)
@@ -187,6 +190,12 @@ public final class MessageMappingProcessorActor extends AbstractActor {
         }
     }
 
+    private void handleAcknowledgeableMessage(final AcknowledgeableMessage acknowledgeableMessage) {
+        handleInboundMessage(acknowledgeableMessage.getMessage());
+        // the message was handled, regardless whether it was passed on, dropped or answered with an error
+        getSender().tell(Done.getInstance(), getSelf());
+    }
+
     private void mapExternalMessageToSignalAndForwardToConcierge(final ExternalMessage externalMessage) {
         final String source = externalMessage.getSourceAddress().orElse("unknown");
         final ExternalMessage messageWithAuthSubject = placeholderSubstitution.apply(externalMessage);
@@ -399,9 +408,12 @@ public final class MessageMappingProcessorActor extends AbstractActor {
         private static final TopicPathPlaceholder TOPIC_PLACEHOLDER = PlaceholderFactory.newTopicPathPlaceholder();
 
         private final DiagnosticLoggingAdapter log;
+        private final Map<String, ExpressionTemplate> addressTemplates;
 
         private PlaceholderInTargetAddressSubstitution(final DiagnosticLoggingAdapter log) {
             this.log = log;
+            // target addresses are part of the connection, parse each of them once:
+            addressTemplates = new ConcurrentHashMap<>();
         }
 
         @Override
@@ -411,7 +423,7 @@ public final class MessageMappingProcessorActor extends AbstractActor {
             if (outboundSignal
                     .getTargets()
                     .stream()
-                    .anyMatch(t -> Placeholders.containsAnyPlaceholder(t.getAddress()))) {
+                    .anyMatch(t -> getAddressTemplate(t).containsPlaceholders())) {
 
                 final ExpressionResolver expressionResolver = PlaceholderFactory.newExpressionResolver(
                         PlaceholderFactory.newPlaceholderResolver(HEADERS_PLACEHOLDER, externalMessage.getHeaders()),
@@ -422,7 +434,7 @@ public final class MessageMappingProcessorActor extends AbstractActor {
 
                 final List<Target> targets = outboundSignal.getTargets().stream().map(t -> {
                     final String address =
-                            PlaceholderFilter.apply(t.getAddress(), expressionResolver, true);
+                            PlaceholderFilter.apply(getAddressTemplate(t), expressionResolver, true);
                     return ConnectivityModelFactory.newTarget(t, address, t.getQos().orElse(null));
                 }).collect(Collectors.toList());
                 final OutboundSignal modifiedOutboundSignal =
@@ -434,6 +446,10 @@ public final class MessageMappingProcessorActor extends AbstractActor {
                         externalMessage);
             }
         }
+
+        private ExpressionTemplate getAddressTemplate(final Target target) {
+            return addressTemplates.computeIfAbsent(target.getAddress(), PlaceholderFactory::newExpressionTemplate);
+        }
     }
 
     static final class PlaceholderSubstitution implements Function<ExternalMessage, ExternalMessage> {
@@ -537,9 +553,12 @@ public final class MessageMappingProcessorActor extends AbstractActor {
         private static final TopicPathPlaceholder TOPIC_PLACEHOLDER = PlaceholderFactory.newTopicPathPlaceholder();
 
         private final DiagnosticLoggingAdapter log;
+        private final Map<String, ExpressionTemplate> headerMappingTemplates;
 
         ApplyHeaderMapping(final DiagnosticLoggingAdapter log) {
             this.log = log;
+            // header mappings are part of the connection, parse each of them once:
+            headerMappingTemplates = new ConcurrentHashMap<>();
         }
 
         @Override
@@ -560,7 +579,8 @@ public final class MessageMappingProcessorActor extends AbstractActor {
                 final DittoHeadersBuilder dittoHeadersBuilder = dittoHeaders.toBuilder();
                 mapping.getMapping().entrySet().stream()
                         .map(e -> newEntry(e.getKey(),
-                                PlaceholderFilter.apply(e.getValue(), expressionResolver, true))
+                                PlaceholderFilter.apply(getHeaderMappingTemplate(e.getValue()), expressionResolver,
+                                        true))
                         )
                         .forEach(e -> dittoHeadersBuilder.putHeader(e.getKey(), e.getValue()));
 
@@ -571,6 +591,10 @@ public final class MessageMappingProcessorActor extends AbstractActor {
             }).orElse(signal.getDittoHeaders());
         }
 
+        private ExpressionTemplate getHeaderMappingTemplate(final String template) {
+            return headerMappingTemplates.computeIfAbsent(template, PlaceholderFactory::newExpressionTemplate);
+        }
+
         private static Map.Entry<String, String> newEntry(final String key, final String value) {
             return new AbstractMap.SimpleImmutableEntry<>(key, value);
         }
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+
+import com.typesafe.config.Config;
+
+import akka.actor.ActorPath;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.dispatch.Envelope;
+import akka.dispatch.MailboxType;
+import akka.dispatch.MessageQueue;
+import akka.dispatch.ProducesMessageQueue;
+import akka.dispatch.UnboundedMessageQueueSemantics;
+
+/**
+ * Unbounded mailbox of the {@link MessageMappingProcessorActor}s which reports the number of enqueued messages of each
+ * actor as gauge {@value #QUEUE_SIZE_GAUGE} tagged with the connection ID and the name of the routee. Routees of the
+ * same connection started after a reconnect report to the same gauges, so that their number stays bounded by the
+ * processor pool size.
+ */
+public final class MessageMappingProcessorMailbox implements MailboxType,
+        ProducesMessageQueue<MessageMappingProcessorMailbox.MessageMappingProcessorMessageQueue> {
+
+    /**
+     * Name of the gauge reporting the number of messages waiting to be mapped by a message mapping processor actor.
+     */
+    static final String QUEUE_SIZE_GAUGE = "connectivity_message_mapping_queue_size";
+
+    private static final String CONNECTION_ID_TAG = "id";
+    private static final String ROUTEE_TAG = "routee";
+    private static final String UNKNOWN = "unknown";
+
+    /**
+     * Creates a new {@code MessageMappingProcessorMailbox}.
+     * This constructor signature must exist, it will be called by Akka.
+     *
+     * @param settings the ActorSystem settings.
+     * @param config the config.
+     */
+    public MessageMappingProcessorMailbox(final ActorSystem.Settings settings, final Config config) {
+        super();
+    }
+
+    @Override
+    public MessageQueue create(final scala.Option<ActorRef> owner, final scala.Option<ActorSystem> system) {
+        final String connectionId = owner.isDefined() ? getConnectionId(owner.get().path()) : UNKNOWN;
+        final String routee = owner.isDefined() ? owner.get().path().name() : UNKNOWN;
+        return new MessageMappingProcessorMessageQueue(DittoMetrics.gauge(QUEUE_SIZE_GAUGE)
+                .tag(CONNECTION_ID_TAG, connectionId)
+                .tag(ROUTEE_TAG, routee));
+    }
+
+    /**
+     * Finds the ID of the connection a message mapping processor actor belongs to in its path, which contains the
+     * {@link ConnectionSupervisorActor} named by the URL encoded connection ID followed by its persistence actor.
+     *
+     * @param path the path of the message mapping processor actor.
+     * @return the connection ID or {@code "unknown"} if the path contains no connection supervisor.
+     */
+    static String getConnectionId(final ActorPath path) {
+        final List<String> elements = new ArrayList<>();
+        path.getElements().forEach(elements::add);
+        final int supervisorIndex = elements.lastIndexOf(ConnectionSupervisorActor.PERSISTENCE_ACTOR_NAME) - 1;
+        if (supervisorIndex < 0) {
+            return UNKNOWN;
+        }
+        try {
+            return URLDecoder.decode(elements.get(supervisorIndex), StandardCharsets.UTF_8.name());
+        } catch (final UnsupportedEncodingException e) {
+            throw new IllegalStateException("Unsupported encoding", e);
+        }
+    }
+
+    /**
+     * The MessageQueue implementation.
+     */
+    static final class MessageMappingProcessorMessageQueue implements MessageQueue, UnboundedMessageQueueSemantics {
+
+        private final Queue<Envelope> queue;
+        private final Gauge queueSize;
+
+        MessageMappingProcessorMessageQueue(final Gauge queueSize) {
+            queue = new ConcurrentLinkedQueue<>();
+            this.queueSize = queueSize;
+        }
+
+        @Override
+        public void enqueue(final ActorRef receiver, final Envelope handle) {
+            queue.add(handle);
+            queueSize.increment();
+        }
+
+        @Override
+        public Envelope dequeue() {
+            final Envelope envelope = queue.poll();
+            if (null != envelope) {
+                queueSize.decrement();
+            }
+            return envelope;
+        }
+
+        @Override
+        public int numberOfMessages() {
+            return queue.size();
+        }
+
+        @Override
+        public boolean hasMessages() {
+            return !queue.isEmpty();
+        }
+
+        @Override
+        public void cleanUp(final ActorRef owner, final MessageQueue deadLetters) {
+            // the gauge may be shared with the routee replacing the owner; remove only the messages of this queue
+            Envelope envelope = dequeue();
+            while (envelope != null) {
+                deadLetters.enqueue(owner, envelope);
+                envelope = dequeue();
+            }
+        }
+    }
+
+}
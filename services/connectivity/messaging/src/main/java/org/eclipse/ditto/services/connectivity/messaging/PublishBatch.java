@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.connectivity.Target;
+import org.eclipse.ditto.services.connectivity.messaging.metrics.ConnectionMetricsCollector;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
+
+import akka.actor.ActorRef;
+
+/**
+ * Outbound messages to the same publish target which are published together. The batch is filled by the publisher
+ * actor; after it was handed over for publishing, its messages may be completed from any thread, e.g. by listeners
+ * of the broker client. The latency timer of the batch is stopped by the thread completing its last message.
+ *
+ * @param <T> the type of the publish target.
+ */
+@ThreadSafe
+public final class PublishBatch<T extends PublishTarget> {
+
+    private final T publishTarget;
+    private final List<Entry> entries;
+    private final StartedTimer latencyTimer;
+    private final AtomicInteger pending;
+
+    PublishBatch(final T publishTarget, final StartedTimer latencyTimer) {
+        this.publishTarget = publishTarget;
+        this.latencyTimer = latencyTimer;
+        entries = Collections.synchronizedList(new ArrayList<>());
+        pending = new AtomicInteger();
+    }
+
+    void add(final Entry entry) {
+        pending.incrementAndGet();
+        entries.add(entry);
+    }
+
+    /**
+     * @return the target all messages of this batch are published to.
+     */
+    public T getPublishTarget() {
+        return publishTarget;
+    }
+
+    /**
+     * @return the messages of this batch in the order they were sent to the publisher.
+     */
+    public List<Entry> getEntries() {
+        return Collections.unmodifiableList(new ArrayList<>(entries));
+    }
+
+    /**
+     * @return the number of messages in this batch.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Records that the passed message of this batch was published. May be called from any thread, but only once per
+     * message.
+     *
+     * @param entry the message.
+     * @param success whether the message was published successfully.
+     */
+    public void complete(final Entry entry, final boolean success) {
+        if (success) {
+            entry.getPublishedCounter().recordSuccess();
+        } else {
+            entry.getPublishedCounter().recordFailure();
+        }
+        handedOver();
+    }
+
+    /**
+     * Records that a message of this batch was handed over to a publisher which records the outcome on the published
+     * counter itself. May be called from any thread, but only once per message.
+     */
+    void handedOver() {
+        if (pending.decrementAndGet() == 0) {
+            latencyTimer.stop();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "publishTarget=" + publishTarget +
+                ", size=" + size() +
+                ", pending=" + pending +
+                "]";
+    }
+
+    /**
+     * A message of a batch.
+     */
+    public static final class Entry {
+
+        @Nullable private final Target target;
+        private final ExternalMessage message;
+        private final ConnectionMetricsCollector publishedCounter;
+        private final ActorRef sender;
+
+        Entry(@Nullable final Target target, final ExternalMessage message,
+                final ConnectionMetricsCollector publishedCounter, final ActorRef sender) {
+            this.target = target;
+            this.message = message;
+            this.publishedCounter = publishedCounter;
+            this.sender = sender;
+        }
+
+        /**
+         * @return the configured target of the message.
+         */
+        @Nullable
+        public Target getTarget() {
+            return target;
+        }
+
+        /**
+         * @return the message with mapped headers.
+         */
+        public ExternalMessage getMessage() {
+            return message;
+        }
+
+        /**
+         * @return the counter of published messages of the target.
+         */
+        public ConnectionMetricsCollector getPublishedCounter() {
+            return publishedCounter;
+        }
+
+        /**
+         * @return the sender of the message, to be notified if publishing failed.
+         */
+        public ActorRef getSender() {
+            return sender;
+        }
+
+    }
+
+}
@@ -16,7 +16,9 @@ import static org.eclipse.ditto.protocoladapter.TopicPath.Criterion.COMMANDS;
 import static org.eclipse.ditto.protocoladapter.TopicPath.Criterion.EVENTS;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -24,19 +26,19 @@ import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.FilteredTopic;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.model.connectivity.Topic;
-import org.eclipse.ditto.model.query.criteria.Criteria;
 import org.eclipse.ditto.model.query.criteria.CriteriaFactory;
 import org.eclipse.ditto.model.query.criteria.CriteriaFactoryImpl;
 import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactory;
 import org.eclipse.ditto.model.query.filter.QueryFilterCriteriaFactory;
 import org.eclipse.ditto.model.query.things.ModelBasedThingsFieldExpressionFactory;
-import org.eclipse.ditto.model.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.model.query.things.ThingJsonPredicateVisitor;
 import org.eclipse.ditto.protocoladapter.TopicPath;
 import org.eclipse.ditto.services.connectivity.messaging.metrics.ConnectivityCounterRegistry;
 import org.eclipse.ditto.signals.base.Signal;
@@ -60,19 +62,38 @@ import org.eclipse.ditto.signals.events.things.ThingEventToThingConverter;
 final class SignalFilter {
 
     private final Connection connection;
-    private final QueryFilterCriteriaFactory queryFilterCriteriaFactory;
+    private final Map<FilteredTopic, Predicate<JsonObject>> compiledFilters;
 
     /**
      * Constructs a new SignalFilter instance with the given {@code connection}.
+     * The RQL filters of the targets' topics are parsed once here.
      *
      * @param connection the connection to filter the signals on.
+     * @throws org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException if the optional filter string of a
+     * Target cannot be mapped to a valid criterion
      */
     SignalFilter(final Connection connection) {
         this.connection = connection;
+        compiledFilters = compileFilters(connection);
+    }
+
+    private static Map<FilteredTopic, Predicate<JsonObject>> compileFilters(final Connection connection) {
         final CriteriaFactory criteriaFactory = new CriteriaFactoryImpl();
         final ThingsFieldExpressionFactory fieldExpressionFactory =
                 new ModelBasedThingsFieldExpressionFactory();
-        queryFilterCriteriaFactory = new QueryFilterCriteriaFactory(criteriaFactory, fieldExpressionFactory);
+        final QueryFilterCriteriaFactory queryFilterCriteriaFactory =
+                new QueryFilterCriteriaFactory(criteriaFactory, fieldExpressionFactory);
+
+        final Map<FilteredTopic, Predicate<JsonObject>> result = new HashMap<>();
+        connection.getTargets().stream()
+                .flatMap(target -> target.getTopics().stream())
+                .filter(FilteredTopic::hasFilter)
+                .distinct()
+                .forEach(filteredTopic -> filteredTopic.getFilter()
+                        .map(filter -> queryFilterCriteriaFactory.filterCriteria(filter, DittoHeaders.empty()))
+                        .map(ThingJsonPredicateVisitor::apply)
+                        .ifPresent(compiledFilter -> result.put(filteredTopic, compiledFilter)));
+        return result;
     }
 
     /**
@@ -80,16 +101,15 @@ final class SignalFilter {
      *
      * @param signal the signal to filter / determine the {@link Target}s for
      * @return the determined Targets for the passed in {@code signal}
-     * @throws org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException if the optional filter string of a
-     * Target cannot be mapped to a valid criterion
      */
     List<Target> filter(final Signal<?> signal) {
+        final ThingJsonSupplier thingJsonSupplier = new ThingJsonSupplier(signal);
         return connection.getTargets().stream()
                 .filter(t -> isTargetAuthorized(t, signal)) // this is cheaper, so check this first
                 // count authorized targets
                 .peek(authorizedTarget -> ConnectivityCounterRegistry.getOutboundDispatchedCounter(connection.getId(),
                         authorizedTarget.getAddress()).recordSuccess())
-                .filter(t -> isTargetSubscribedForTopic(t, signal))
+                .filter(t -> isTargetSubscribedForTopic(t, signal, thingJsonSupplier))
                 // count authorized + filtered targets
                 .peek(filteredTarget -> ConnectivityCounterRegistry.getOutboundFilteredCounter(connection.getId(),
                         filteredTarget.getAddress()).recordSuccess())
@@ -103,19 +123,25 @@ final class SignalFilter {
         return !Collections.disjoint(authorizedReadSubjects, connectionSubjects);
     }
 
-    private boolean isTargetSubscribedForTopic(final Target target, final Signal<?> signal) {
+    private boolean isTargetSubscribedForTopic(final Target target, final Signal<?> signal,
+            final ThingJsonSupplier thingJsonSupplier) {
+
         return target.getTopics().stream()
                 .filter(applyTopicFilter(signal))
-                .filter(applyRqlFilter(signal))
-                .anyMatch(applyNamespaceFilter(signal));
+                .filter(applyNamespaceFilter(signal)) // this is cheaper, so check this first
+                .anyMatch(applyRqlFilter(thingJsonSupplier));
     }
 
     private static Predicate<FilteredTopic> applyTopicFilter(final Signal<?> signal) {
-        return t -> t.getTopic().equals(topicFromSignal(signal).orElse(null));
+        final Topic topic = topicFromSignal(signal).orElse(null);
+        return t -> t.getTopic().equals(topic);
     }
 
-    private Predicate<FilteredTopic> applyRqlFilter(final Signal<?> signal) {
-        return t -> !t.hasFilter() || t.getFilter().filter(f -> matchesFilter(f, signal)).isPresent();
+    private Predicate<FilteredTopic> applyRqlFilter(final ThingJsonSupplier thingJsonSupplier) {
+        return t -> {
+            final Predicate<JsonObject> compiledFilter = compiledFilters.get(t);
+            return null == compiledFilter || matchesFilter(compiledFilter, thingJsonSupplier);
+        };
     }
 
     private static Predicate<FilteredTopic> applyNamespaceFilter(final WithId signal) {
@@ -126,30 +152,20 @@ final class SignalFilter {
         return withId.getId().split(":", 2)[0];
     }
 
-    private boolean matchesFilter(final String filter, final Signal<?> signal) {
+    private static boolean matchesFilter(final Predicate<JsonObject> compiledFilter,
+            final ThingJsonSupplier thingJsonSupplier) {
 
-        if (signal instanceof ThingEvent) {
+        if (thingJsonSupplier.isThingEvent()) {
 
             // currently only ThingEvents may be filtered
-            return ThingEventToThingConverter.thingEventToThing((ThingEvent) signal)
-                    .filter(thing -> ThingPredicateVisitor.apply(parseCriteria(filter, signal.getDittoHeaders()))
-                            .test(thing)
-                    )
+            return thingJsonSupplier.get()
+                    .filter(compiledFilter)
                     .isPresent();
         } else {
             return true;
         }
     }
 
-    /**
-     * @throws org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException if the filter string cannot be
-     * mapped to a
-     * valid criterion
-     */
-    private Criteria parseCriteria(final String filter, final DittoHeaders dittoHeaders) {
-        return queryFilterCriteriaFactory.filterCriteria(filter, dittoHeaders);
-    }
-
     private static Optional<Topic> topicFromSignal(final Signal<?> signal) {
         // only things as group supported
         final TopicPath.Group group = signal instanceof WithThingId ? TopicPath.Group.THINGS : null;
@@ -196,4 +212,33 @@ final class SignalFilter {
         return criterion;
     }
 
+    /**
+     * Creates the Thing JSON of a ThingEvent at most once for all targets it is filtered for.
+     */
+    private static final class ThingJsonSupplier {
+
+        private final Signal<?> signal;
+        private Optional<JsonObject> thingJson;
+        private boolean converted;
+
+        private ThingJsonSupplier(final Signal<?> signal) {
+            this.signal = signal;
+            thingJson = Optional.empty();
+            converted = false;
+        }
+
+        private boolean isThingEvent() {
+            return signal instanceof ThingEvent;
+        }
+
+        private Optional<JsonObject> get() {
+            if (!converted) {
+                thingJson = ThingEventToThingConverter.thingEventToThingJson((ThingEvent<?>) signal);
+                converted = true;
+            }
+            return thingJson;
+        }
+
+    }
+
 }
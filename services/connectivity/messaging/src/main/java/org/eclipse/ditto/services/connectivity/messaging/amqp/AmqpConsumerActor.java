@@ -16,6 +16,7 @@ import static java.util.stream.Collectors.toMap;
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.AbstractMap;
 import java.util.HashMap;
 import java.util.Map;
@@ -32,6 +33,7 @@ import javax.jms.MessageListener;
 import javax.jms.TextMessage;
 
 import org.apache.qpid.jms.message.JmsMessage;
+import org.apache.qpid.jms.message.JmsMessageSupport;
 import org.apache.qpid.jms.message.facade.JmsMessageFacade;
 import org.apache.qpid.jms.provider.amqp.message.AmqpJmsMessageFacade;
 import org.apache.qpid.proton.amqp.Symbol;
@@ -46,6 +48,8 @@ import org.eclipse.ditto.model.placeholders.EnforcementFilterFactory;
 import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
 import org.eclipse.ditto.services.connectivity.messaging.BaseConsumerActor;
 import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressStatus;
+import org.eclipse.ditto.services.connectivity.util.Amqp10ConfigReader;
+import org.eclipse.ditto.services.connectivity.util.ConnectionConfigReader;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageBuilder;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
@@ -59,6 +63,10 @@ import akka.japi.pf.ReceiveBuilder;
 
 /**
  * Actor which receives message from an AMQP source and forwards them to a {@code MessageMappingProcessorActor}.
+ * <p>
+ * If configured to acknowledge after processing, a message is acknowledged only after the message mapping handed it
+ * over to concierge; messages which are not handed over in time are released for redelivery.
+ * </p>
  */
 final class AmqpConsumerActor extends BaseConsumerActor implements MessageListener {
 
@@ -70,6 +78,8 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
     private final MessageConsumer messageConsumer;
     private final EnforcementFilterFactory<Map<String, String>, String> headerEnforcementFilterFactory;
+    private final boolean acknowledgeAfterProcessing;
+    private final Duration ackTimeout;
 
     private AmqpConsumerActor(final String connectionId, final String sourceAddress,
             final MessageConsumer messageConsumer,
@@ -84,6 +94,11 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
         headerEnforcementFilterFactory = enforcement != null ? EnforcementFactoryFactory
                 .newEnforcementFilterFactory(enforcement, PlaceholderFactory.newHeadersPlaceholder()) :
                 input -> null;
+
+        final Amqp10ConfigReader configReader =
+                ConnectionConfigReader.fromRawConfig(getContext().system().settings().config()).amqp10();
+        acknowledgeAfterProcessing = configReader.acknowledgeAfterProcessing();
+        ackTimeout = configReader.ackTimeout();
     }
 
     /**
@@ -146,6 +161,7 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
     }
 
     private void handleJmsMessage(final JmsMessage message) {
+        boolean acknowledgeImmediately = true;
         Map<String, String> headers = null;
         try {
             headers = extractHeadersMapFromJmsMessage(message);
@@ -162,7 +178,13 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
                 log.debug("Received message from AMQP 1.0 ({}): {}", externalMessage.getHeaders(),
                         externalMessage.getTextPayload().orElse("binary"));
             }
-            messageMappingProcessor.forward(externalMessage, getContext());
+            if (acknowledgeAfterProcessing) {
+                acknowledgeImmediately = false;
+                forwardAcknowledgeable(externalMessage, ackTimeout, () -> acknowledge(message),
+                        () -> releaseForRedelivery(message));
+            } else {
+                messageMappingProcessor.forward(externalMessage, getContext());
+            }
         } catch (final DittoRuntimeException e) {
             inboundCounter.recordFailure();
             log.info("Got DittoRuntimeException '{}' when command was parsed: {}", e.getErrorCode(), e.getMessage());
@@ -175,15 +197,31 @@ final class AmqpConsumerActor extends BaseConsumerActor implements MessageListen
             inboundCounter.recordFailure();
             log.error(e, "Unexpected {}: {}", e.getClass().getName(), e.getMessage());
         } finally {
-            try {
-                // we use the manual acknowledge mode so we always have to ack the message
-                message.acknowledge();
-            } catch (final JMSException e) {
-                log.error(e, "Failed to ack an AMQP message");
+            // we use the manual acknowledge mode so we always have to ack the message
+            if (acknowledgeImmediately) {
+                acknowledge(message);
             }
         }
     }
 
+    private void acknowledge(final JmsMessage message) {
+        try {
+            message.acknowledge();
+        } catch (final JMSException | RuntimeException e) {
+            log.error(e, "Failed to ack an AMQP message");
+        }
+    }
+
+    private void releaseForRedelivery(final JmsMessage message) {
+        log.info("AMQP message was not processed in time, releasing it for redelivery.");
+        try {
+            message.setIntProperty(JmsMessageSupport.JMS_AMQP_ACK_TYPE, JmsMessageSupport.MODIFIED_FAILED);
+            message.acknowledge();
+        } catch (final JMSException | RuntimeException e) {
+            log.error(e, "Failed to release an AMQP message");
+        }
+    }
+
     private ExternalMessageBuilder extractPayloadFromMessage(final JmsMessage message,
             final ExternalMessageBuilder builder) throws JMSException {
         if (message instanceof TextMessage) {
@@ -41,6 +41,7 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.connectivity.MessageSendingFailedException;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.services.connectivity.messaging.BasePublisherActor;
+import org.eclipse.ditto.services.connectivity.messaging.PublishBatch;
 import org.eclipse.ditto.services.connectivity.messaging.metrics.ConnectionMetricsCollector;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
@@ -177,14 +178,60 @@ public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
         }
     }
 
+    /**
+     * Sends all messages of the batch asynchronously without waiting for the previous message to be accepted by the
+     * broker; the batch completes when the completion listeners of all its messages were called.
+     */
+    @Override
+    protected void publishBatch(final PublishBatch<AmqpTarget> batch) {
+        final MessageProducer producer = getProducer(batch.getPublishTarget().getJmsDestination());
+        if (producer == null) {
+            log.warning("No producer for destination {} available.", batch.getPublishTarget());
+            batch.getEntries().forEach(entry -> {
+                final MessageSendingFailedException sendFailedException = MessageSendingFailedException.newBuilder()
+                        .message("Failed to send message, no producer available.")
+                        .dittoHeaders(DittoHeaders.of(entry.getMessage().getInternalHeaders()))
+                        .build();
+                entry.getSender().tell(sendFailedException, getSelf());
+                batch.complete(entry, false);
+            });
+            return;
+        }
+        log.debug("Attempt to send batch of {} messages with producer {}.", batch.size(), producer);
+        for (final PublishBatch.Entry entry : batch.getEntries()) {
+            final ExternalMessage message = entry.getMessage();
+            try {
+                producer.send(toJmsMessage(message), new CompletionListener() {
+                    @Override
+                    public void onCompletion(final Message jmsMessage) {
+                        batch.complete(entry, true);
+                    }
+
+                    @Override
+                    public void onException(final Message messageFailedToSend, final Exception exception) {
+                        notifySendException(message, exception, entry.getSender());
+                        batch.complete(entry, false);
+                    }
+                });
+            } catch (final JMSException e) {
+                notifySendException(message, e, entry.getSender());
+                batch.complete(entry, false);
+            }
+        }
+    }
+
     private void handleSendException(final ExternalMessage message, final Exception e, final ActorRef sender,
             final ConnectionMetricsCollector publishedCounter) {
+        publishedCounter.recordFailure();
+        notifySendException(message, e, sender);
+    }
+
+    private void notifySendException(final ExternalMessage message, final Exception e, final ActorRef sender) {
         log.info("Failed to send JMS message: [{}] {}", e.getClass().getSimpleName(), e.getMessage());
         final MessageSendingFailedException sendFailedException = MessageSendingFailedException.newBuilder()
                 .cause(e)
                 .dittoHeaders(DittoHeaders.of(message.getInternalHeaders()))
                 .build();
-        publishedCounter.recordFailure();
         sender.tell(sendFailedException, getSelf());
     }
 
@@ -249,8 +296,7 @@ public final class AmqpPublisherActor extends BasePublisherActor<AmqpTarget> {
     }
 
     @Override
-    public void postStop() throws Exception {
-        super.postStop();       
+    protected void releaseResources() {
         producerMap.forEach((target, producer) -> {
             try {
                 log.debug("Closing AMQP Producer for '{}'", target);
@@ -32,9 +32,11 @@ import javax.naming.NamingException;
 
 import org.apache.qpid.jms.JmsConnection;
 import org.apache.qpid.jms.JmsQueue;
+import org.apache.qpid.jms.JmsSession;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.Source;
 import org.eclipse.ditto.services.connectivity.messaging.internal.ImmutableConnectionFailure;
+import org.eclipse.ditto.services.connectivity.util.ConnectionConfigReader;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.signals.commands.connectivity.exceptions.ConnectionFailedException;
 
@@ -71,6 +73,7 @@ public final class JMSConnectionHandlingActor extends AbstractActor {
     private final Connection connection;
     private final ExceptionListener exceptionListener;
     private final JmsConnectionFactory jmsConnectionFactory;
+    private final int acknowledgeMode;
 
     private JMSConnectionHandlingActor(final Connection connection, final ExceptionListener exceptionListener,
             final JmsConnectionFactory jmsConnectionFactory) {
@@ -78,6 +81,11 @@ public final class JMSConnectionHandlingActor extends AbstractActor {
         this.connection = checkNotNull(connection, "connection");
         this.exceptionListener = exceptionListener;
         this.jmsConnectionFactory = jmsConnectionFactory;
+        // with client acknowledge, acknowledging one message acknowledges all messages consumed by the session
+        // before; messages acknowledged after processing must be acknowledged individually
+        acknowledgeMode = ConnectionConfigReader.fromRawConfig(getContext().system().settings().config())
+                .amqp10()
+                .acknowledgeAfterProcessing() ? JmsSession.INDIVIDUAL_ACKNOWLEDGE : Session.CLIENT_ACKNOWLEDGE;
     }
 
     /**
@@ -174,7 +182,7 @@ public final class JMSConnectionHandlingActor extends AbstractActor {
 
         try {
             @SuppressWarnings("squid:S2095") final Session jmsSession =
-                    jmsConnection.createSession(Session.CLIENT_ACKNOWLEDGE);
+                    jmsConnection.createSession(acknowledgeMode);
             log.debug("Session created.");
 
             final List<ConsumerData> consumers = createConsumers(jmsSession);
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.internal;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+
+/**
+ * Actor message wrapping an inbound {@link ExternalMessage} whose sender expects an acknowledgement.
+ * <p>
+ * The {@code MessageMappingProcessorActor} replies with {@link akka.Done} to the sender as soon as the message was
+ * handled, i. e. after the mapped signal was passed on or after the message was dropped or answered with an error.
+ * Consumers use the acknowledgement to confirm a message to the broker and to limit the number of messages in flight.
+ * </p>
+ */
+@Immutable
+public final class AcknowledgeableMessage {
+
+    private final ExternalMessage message;
+
+    private AcknowledgeableMessage(final ExternalMessage message) {
+        this.message = message;
+    }
+
+    /**
+     * Creates a new {@code AcknowledgeableMessage}.
+     *
+     * @param message the inbound message.
+     * @return the message to send to the {@code MessageMappingProcessorActor}.
+     * @throws NullPointerException if {@code message} is {@code null}.
+     */
+    public static AcknowledgeableMessage of(final ExternalMessage message) {
+        return new AcknowledgeableMessage(checkNotNull(message, "message"));
+    }
+
+    /**
+     * @return the inbound message.
+     */
+    public ExternalMessage getMessage() {
+        return message;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final AcknowledgeableMessage that = (AcknowledgeableMessage) o;
+        return Objects.equals(message, that.message);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(message);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "message=" + message +
+                "]";
+    }
+
+}
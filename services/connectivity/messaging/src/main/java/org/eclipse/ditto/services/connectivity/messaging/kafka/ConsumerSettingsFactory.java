@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.services.connectivity.util.KafkaConfigReader;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import akka.kafka.CommitterSettings;
+import akka.kafka.ConsumerSettings;
+
+/**
+ * Creates {@link akka.kafka.ConsumerSettings} and {@link akka.kafka.CommitterSettings} from a given
+ * {@link org.eclipse.ditto.model.connectivity.Connection} configuration.
+ */
+final class ConsumerSettingsFactory {
+
+    /**
+     * Key of the specific config defining the consumer group of a connection. The default group is the ID of the
+     * connection.
+     */
+    static final String SPECIFIC_CONFIG_GROUP_ID_KEY = "groupId";
+
+    private static final String DEFAULT_CONSUMER_CONFIG_PATH = "akka.kafka.consumer";
+    private static final String DEFAULT_COMMITTER_CONFIG_PATH = "akka.kafka.committer";
+
+    private static final ConsumerSettingsFactory INSTANCE = new ConsumerSettingsFactory();
+    private static final Deserializer<String> KEY_DESERIALIZER = new StringDeserializer();
+    private static final Deserializer<String> VALUE_DESERIALIZER = KEY_DESERIALIZER;
+
+    static ConsumerSettingsFactory getInstance() {
+        return INSTANCE;
+    }
+
+    ConsumerSettings<String, String> createConsumerSettings(final Connection connection,
+            final KafkaConfigReader config) {
+        final Config consumerConfig = withDefaults(config.internalConsumerSettings(), DEFAULT_CONSUMER_CONFIG_PATH);
+        ConsumerSettings<String, String> settings =
+                ConsumerSettings.create(consumerConfig, KEY_DESERIALIZER, VALUE_DESERIALIZER);
+
+        settings = addMetadata(connection, settings);
+        settings = addSecurityProtocol(connection, settings);
+        settings = addSpecificConfigs(settings, connection);
+
+        return settings;
+    }
+
+    CommitterSettings createCommitterSettings(final KafkaConfigReader config) {
+        return CommitterSettings.create(withDefaults(config.committerSettings(), DEFAULT_COMMITTER_CONFIG_PATH));
+    }
+
+    private static Config withDefaults(final Config config, final String defaultConfigPath) {
+        return config.withFallback(ConfigFactory.defaultReference().getConfig(defaultConfigPath));
+    }
+
+    private static ConsumerSettings<String, String> addMetadata(final Connection connection,
+            final ConsumerSettings<String, String> settings) {
+        final String groupId =
+                connection.getSpecificConfig().getOrDefault(SPECIFIC_CONFIG_GROUP_ID_KEY, connection.getId());
+        return settings.withClientId(ProducerSettingsFactory.getClientId(connection))
+                .withGroupId(groupId);
+    }
+
+    private static ConsumerSettings<String, String> addSecurityProtocol(final Connection connection,
+            final ConsumerSettings<String, String> settings) {
+        return settings.withProperty(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG,
+                ProducerSettingsFactory.getSecurityProtocol(connection));
+    }
+
+    private static ConsumerSettings<String, String> addSpecificConfigs(
+            final ConsumerSettings<String, String> settings, final Connection connection) {
+        ConsumerSettings<String, String> currentSettings = settings;
+        for (final KafkaSpecificConfig specificConfig : ProducerSettingsFactory.getSpecificConfigs()) {
+            currentSettings = specificConfig.apply(currentSettings, connection);
+        }
+        return currentSettings;
+    }
+
+}
@@ -12,26 +12,45 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+import org.apache.kafka.common.TopicPartition;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.services.connectivity.util.KafkaConfigReader;
 
+import akka.Done;
+import akka.NotUsed;
+import akka.japi.Pair;
+import akka.kafka.CommitterSettings;
+import akka.kafka.ConsumerMessage;
+import akka.kafka.ConsumerSettings;
 import akka.kafka.ProducerMessage;
 import akka.kafka.ProducerSettings;
+import akka.kafka.Subscriptions;
+import akka.kafka.javadsl.Committer;
+import akka.kafka.javadsl.Consumer;
 import akka.kafka.javadsl.Producer;
 import akka.stream.javadsl.Flow;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
 
 /**
- * Creates Kafka sinks.
+ * Creates Kafka sinks and sources.
  */
 final class DefaultKafkaConnectionFactory implements KafkaConnectionFactory {
 
     private final Connection connection;
     private final ProducerSettings<String, String> settings;
+    private final ConsumerSettings<String, String> consumerSettings;
+    private final CommitterSettings committerSettings;
 
     DefaultKafkaConnectionFactory(final Connection connection,
             final KafkaConfigReader config) {
         this.connection = connection;
         settings = ProducerSettingsFactory.getInstance().createProducerSettings(connection, config);
+        consumerSettings = ConsumerSettingsFactory.getInstance().createConsumerSettings(connection, config);
+        committerSettings = ConsumerSettingsFactory.getInstance().createCommitterSettings(config);
     }
 
     @Override
@@ -44,4 +63,15 @@ final class DefaultKafkaConnectionFactory implements KafkaConnectionFactory {
         return Producer.flexiFlow(settings);
     }
 
+    @Override
+    public Source<Pair<TopicPartition, Source<ConsumerMessage.CommittableMessage<String, String>, NotUsed>>, Consumer.Control> newPartitionedSource(
+            final Set<String> topics) {
+        return Consumer.committablePartitionedSource(consumerSettings, Subscriptions.topics(topics));
+    }
+
+    @Override
+    public Sink<ConsumerMessage.Committable, CompletionStage<Done>> newCommitterSink() {
+        return Committer.sink(committerSettings);
+    }
+
 }
@@ -22,6 +22,7 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidException;
 
+import akka.kafka.ConsumerSettings;
 import akka.kafka.ProducerSettings;
 
 /**
@@ -86,19 +87,40 @@ public final class KafkaAuthenticationSpecificConfig implements KafkaSpecificCon
     @Override
     public ProducerSettings<String, String> apply(final ProducerSettings<String, String> producerSettings,
             final Connection connection) {
+        final Optional<String> jaasConfig = getJaasConfig(connection);
+        if (jaasConfig.isPresent()) {
+            return producerSettings.withProperty(SaslConfigs.SASL_MECHANISM, getSaslMechanism(connection))
+                    .withProperty(SaslConfigs.SASL_JAAS_CONFIG, jaasConfig.get());
+        }
+
+        return producerSettings;
+    }
+
+    @Override
+    public ConsumerSettings<String, String> apply(final ConsumerSettings<String, String> consumerSettings,
+            final Connection connection) {
+        final Optional<String> jaasConfig = getJaasConfig(connection);
+        if (jaasConfig.isPresent()) {
+            return consumerSettings.withProperty(SaslConfigs.SASL_MECHANISM, getSaslMechanism(connection))
+                    .withProperty(SaslConfigs.SASL_JAAS_CONFIG, jaasConfig.get());
+        }
+
+        return consumerSettings;
+    }
+
+    private Optional<String> getJaasConfig(final Connection connection) {
         final Optional<String> username = connection.getUsername();
         final Optional<String> password = connection.getPassword();
         // chose to not use isApplicable() but directly check username and password since we need to Optional#get them.
         if (isValid(connection) && username.isPresent() && password.isPresent()) {
-            final String saslMechanism = getSaslMechanismOrDefault(connection).toUpperCase();
-            final String loginModule = getLoginModuleForSaslMechanism(saslMechanism);
-            final String jaasConfig = getJaasConfig(loginModule, username.get(), password.get());
-
-            return producerSettings.withProperty(SaslConfigs.SASL_MECHANISM, saslMechanism)
-                    .withProperty(SaslConfigs.SASL_JAAS_CONFIG, jaasConfig);
+            final String loginModule = getLoginModuleForSaslMechanism(getSaslMechanism(connection));
+            return Optional.of(getJaasConfig(loginModule, username.get(), password.get()));
         }
+        return Optional.empty();
+    }
 
-        return producerSettings;
+    private String getSaslMechanism(final Connection connection) {
+        return getSaslMechanismOrDefault(connection).toUpperCase();
     }
 
     private String getJaasConfig(final String loginModule, final String username, final String password) {
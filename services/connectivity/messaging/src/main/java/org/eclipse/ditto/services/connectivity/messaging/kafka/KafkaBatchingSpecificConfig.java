@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import java.text.MessageFormat;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidException;
+
+import akka.kafka.ConsumerSettings;
+import akka.kafka.ProducerSettings;
+
+/**
+ * Configures how the producer of a connection batches outbound messages. The specific config of a connection may
+ * contain the time in milliseconds the producer waits for further messages of a batch ({@code lingerMs}) and the
+ * maximum size of a batch in bytes ({@code batchSize}). Both are optional; the defaults of the Kafka client apply if
+ * they are not set.
+ */
+public final class KafkaBatchingSpecificConfig implements KafkaSpecificConfig {
+
+    static final String SPECIFIC_CONFIG_LINGER_MS_KEY = "lingerMs";
+    static final String SPECIFIC_CONFIG_BATCH_SIZE_KEY = "batchSize";
+
+    private static final String INVALID_VALUE = "The provided value ''{0}'' of ''{1}'' is not a non-negative integer";
+
+    private static KafkaBatchingSpecificConfig instance;
+
+    private KafkaBatchingSpecificConfig() {
+
+    }
+
+    public static KafkaBatchingSpecificConfig getInstance() {
+        if (null == instance) {
+            instance = new KafkaBatchingSpecificConfig();
+        }
+        return instance;
+    }
+
+    @Override
+    public boolean isApplicable(final Connection connection) {
+        final Map<String, String> specificConfig = connection.getSpecificConfig();
+        return specificConfig.containsKey(SPECIFIC_CONFIG_LINGER_MS_KEY) ||
+                specificConfig.containsKey(SPECIFIC_CONFIG_BATCH_SIZE_KEY);
+    }
+
+    @Override
+    public void validateOrThrow(final Connection connection, final DittoHeaders dittoHeaders) {
+        validateOrThrow(connection, SPECIFIC_CONFIG_LINGER_MS_KEY, dittoHeaders);
+        validateOrThrow(connection, SPECIFIC_CONFIG_BATCH_SIZE_KEY, dittoHeaders);
+    }
+
+    @Override
+    public boolean isValid(final Connection connection) {
+        return isValid(connection, SPECIFIC_CONFIG_LINGER_MS_KEY) && isValid(connection, SPECIFIC_CONFIG_BATCH_SIZE_KEY);
+    }
+
+    @Override
+    public ProducerSettings<String, String> apply(final ProducerSettings<String, String> producerSettings,
+            final Connection connection) {
+        if (!isApplicable(connection) || !isValid(connection)) {
+            return producerSettings;
+        }
+        ProducerSettings<String, String> settings = producerSettings;
+        final String lingerMs = getValue(connection, SPECIFIC_CONFIG_LINGER_MS_KEY);
+        if (null != lingerMs) {
+            settings = settings.withProperty(ProducerConfig.LINGER_MS_CONFIG, lingerMs.trim());
+        }
+        final String batchSize = getValue(connection, SPECIFIC_CONFIG_BATCH_SIZE_KEY);
+        if (null != batchSize) {
+            settings = settings.withProperty(ProducerConfig.BATCH_SIZE_CONFIG, batchSize.trim());
+        }
+        return settings;
+    }
+
+    @Override
+    public ConsumerSettings<String, String> apply(final ConsumerSettings<String, String> consumerSettings,
+            final Connection connection) {
+        // batching only applies to producers
+        return consumerSettings;
+    }
+
+    private static void validateOrThrow(final Connection connection, final String key,
+            final DittoHeaders dittoHeaders) {
+        if (!isValid(connection, key)) {
+            final String message = MessageFormat.format(INVALID_VALUE, getValue(connection, key), key);
+            throw ConnectionConfigurationInvalidException.newBuilder(message)
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        }
+    }
+
+    private static boolean isValid(final Connection connection, final String key) {
+        final String value = getValue(connection, key);
+        if (null == value) {
+            return true;
+        }
+        try {
+            return 0 <= Integer.parseInt(value.trim());
+        } catch (final NumberFormatException e) {
+            return false;
+        }
+    }
+
+    @Nullable
+    private static String getValue(final Connection connection, final String key) {
+        return connection.getSpecificConfig().get(key);
+    }
+
+}
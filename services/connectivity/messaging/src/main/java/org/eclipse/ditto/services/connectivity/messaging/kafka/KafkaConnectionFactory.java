@@ -12,15 +12,25 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+
+import org.apache.kafka.common.TopicPartition;
 import org.eclipse.ditto.model.connectivity.Connection;
 import org.eclipse.ditto.services.connectivity.util.KafkaConfigReader;
 
+import akka.Done;
 import akka.NotUsed;
+import akka.japi.Pair;
+import akka.kafka.ConsumerMessage;
 import akka.kafka.ProducerMessage;
+import akka.kafka.javadsl.Consumer;
 import akka.stream.javadsl.Flow;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
 
 /**
- * Creates Kafka sinks.
+ * Creates Kafka sinks and sources.
  */
 public interface KafkaConnectionFactory {
 
@@ -38,6 +48,23 @@ public interface KafkaConnectionFactory {
      */
     <T> Flow<ProducerMessage.Envelope<String, String, T>, ProducerMessage.Results<String, String, T>, NotUsed> newFlow();
 
+    /**
+     * Create an Akka stream source of the partitions of the given topics which are assigned to the consumer group of
+     * the connection. Each partition is emitted together with the source of its messages.
+     *
+     * @param topics the topics to subscribe to.
+     * @return Akka stream source that consumes Kafka messages from the broker partition by partition.
+     */
+    Source<Pair<TopicPartition, Source<ConsumerMessage.CommittableMessage<String, String>, NotUsed>>, Consumer.Control>
+    newPartitionedSource(Set<String> topics);
+
+    /**
+     * Create an Akka stream sink which commits the offsets of consumed Kafka messages in batches.
+     *
+     * @return Akka stream sink that commits offsets to the broker.
+     */
+    Sink<ConsumerMessage.Committable, CompletionStage<Done>> newCommitterSink();
+
     /**
      * Create a default Kafka connection factory.
      *
@@ -0,0 +1,314 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
+import org.eclipse.ditto.model.connectivity.Source;
+import org.eclipse.ditto.model.placeholders.EnforcementFactoryFactory;
+import org.eclipse.ditto.model.placeholders.EnforcementFilter;
+import org.eclipse.ditto.model.placeholders.EnforcementFilterFactory;
+import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.services.connectivity.messaging.BaseClientData;
+import org.eclipse.ditto.services.connectivity.messaging.BaseConsumerActor;
+import org.eclipse.ditto.services.connectivity.messaging.internal.AcknowledgeableMessage;
+import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressStatus;
+import org.eclipse.ditto.services.connectivity.util.KafkaConfigReader;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.config.ConfigUtil;
+
+import akka.Done;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.actor.Status;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.Creator;
+import akka.japi.Pair;
+import akka.kafka.ConsumerMessage;
+import akka.kafka.javadsl.Consumer;
+import akka.pattern.PatternsCS;
+import akka.stream.ActorMaterializer;
+import akka.stream.Materializer;
+import akka.stream.javadsl.Keep;
+import scala.concurrent.duration.FiniteDuration;
+
+/**
+ * Actor which consumes the messages of the topics of one source from a Kafka broker and forwards them to a
+ * {@code MessageMappingProcessorActor}.
+ * <p>
+ * The partitions assigned to the consumer are consumed in parallel. Each message is sent to the
+ * {@code MessageMappingProcessorActor} as {@link AcknowledgeableMessage}; its offset is committed only after the
+ * message was acknowledged. Since a bounded number of messages per partition is awaiting acknowledgement, a slow
+ * message mapping backpressures the consumption. If a message is not acknowledged in time, the consumption is
+ * restarted from the last committed offsets.
+ * </p>
+ * <p>
+ * At most {@code max-partitions} partitions are consumed by one consumer. Because the stream of a partition only
+ * completes when the partition is revoked, assigning more partitions would leave the excess partitions unconsumed;
+ * the consumer stream fails instead and is restarted, so that the source status reports the misconfiguration.
+ * </p>
+ */
+public final class KafkaConsumerActor extends BaseConsumerActor {
+
+    static final String ACTOR_NAME_PREFIX = "kafkaConsumer-";
+    static final String KAFKA_TOPIC_HEADER = "kafka.topic";
+    static final String KAFKA_KEY_HEADER = "kafka.key";
+
+    private static final FiniteDuration RESTART_DELAY = FiniteDuration.apply(1L, TimeUnit.SECONDS);
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+    private final String connectionId;
+    private final Set<String> topics;
+    private final KafkaConnectionFactory connectionFactory;
+    private final ActorRef kafkaClientActor;
+    private final int parallelism;
+    private final int maxPartitions;
+    private final long ackTimeoutMillis;
+    private final boolean dryRun;
+    @Nullable private final EnforcementFilterFactory<String, String> topicEnforcementFilterFactory;
+    private final Materializer materializer;
+
+    private boolean shuttingDown = false;
+    @Nullable private Consumer.Control consumerControl;
+
+    private KafkaConsumerActor(final String connectionId, final Source source,
+            final ActorRef messageMappingProcessor,
+            final KafkaConnectionFactory connectionFactory,
+            final KafkaConfigReader config,
+            final ActorRef kafkaClientActor,
+            final boolean dryRun) {
+        super(connectionId, String.join(";", source.getAddresses()), messageMappingProcessor,
+                source.getAuthorizationContext(), source.getHeaderMapping().orElse(null));
+        this.connectionId = connectionId;
+        topics = new LinkedHashSet<>(source.getAddresses());
+        this.connectionFactory = connectionFactory;
+        this.kafkaClientActor = kafkaClientActor;
+        parallelism = config.consumerParallelism();
+        maxPartitions = config.consumerMaxPartitions();
+        ackTimeoutMillis = config.consumerAckTimeout().toMillis();
+        this.dryRun = dryRun;
+        topicEnforcementFilterFactory = source.getEnforcement()
+                .map(enforcement -> EnforcementFactoryFactory.newEnforcementFilterFactory(enforcement,
+                        PlaceholderFactory.newSourceAddressPlaceholder()))
+                .orElse(null);
+        materializer = ActorMaterializer.create(getContext());
+    }
+
+    /**
+     * Creates Akka configuration object for this actor.
+     *
+     * @param connectionId ID of the connection this consumer belongs to.
+     * @param source the source whose addresses are the topics to consume.
+     * @param messageMappingProcessor the ActorRef to the {@code MessageMappingProcessor}.
+     * @param connectionFactory the factory to create Kafka sources with.
+     * @param config the Kafka config reader.
+     * @param kafkaClientActor the ActorRef to the Kafka Client Actor.
+     * @param dryRun whether this consumer is only created for a test or not.
+     * @return the Akka configuration Props object.
+     */
+    static Props props(final String connectionId, final Source source, final ActorRef messageMappingProcessor,
+            final KafkaConnectionFactory connectionFactory, final KafkaConfigReader config,
+            final ActorRef kafkaClientActor, final boolean dryRun) {
+        return Props.create(KafkaConsumerActor.class, new Creator<KafkaConsumerActor>() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public KafkaConsumerActor create() {
+                return new KafkaConsumerActor(connectionId, source, messageMappingProcessor, connectionFactory,
+                        config, kafkaClientActor, dryRun);
+            }
+        });
+    }
+
+    @Override
+    public void preStart() {
+        if (dryRun) {
+            logWithConnectionId().info("Not consuming topics <{}> in dry run mode.", topics);
+        } else {
+            startConsumerStream();
+        }
+        kafkaClientActor.tell(new Status.Success(Done.getInstance()), getSelf());
+    }
+
+    @Override
+    public void postStop() {
+        shuttingDown = true;
+        stopConsumerStream();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return receiveBuilder()
+                .match(ConsumerRecord.class, this::handleConsumerRecord)
+                .match(RetrieveAddressStatus.class, ram -> getSender().tell(getCurrentSourceStatus(), getSelf()))
+                .match(Status.Failure.class, this::handleStreamFailure)
+                .matchEquals(RestartConsumerStream.INSTANCE, restart -> startConsumerStream())
+                .matchAny(unhandled -> {
+                    log.info("Unhandled message: {}", unhandled);
+                    unhandled(unhandled);
+                })
+                .build();
+    }
+
+    private void startConsumerStream() {
+        if (shuttingDown) {
+            return;
+        }
+        logWithConnectionId().info("Starting to consume topics <{}>.", topics);
+        final ActorRef self = getSelf();
+        final AtomicInteger assignedPartitions = new AtomicInteger();
+        // one more partition than the limit is pulled to detect that the limit is exceeded instead of waiting forever
+        final Pair<Consumer.Control, CompletionStage<Done>> materializedValues =
+                connectionFactory.newPartitionedSource(topics)
+                        .flatMapMerge(maxPartitions + 1, partition -> {
+                            if (assignedPartitions.incrementAndGet() > maxPartitions) {
+                                throw new IllegalStateException("More than <" + maxPartitions +
+                                        "> partitions of topics <" + topics + "> are assigned to the consumer. " +
+                                        "Increase the configured max-partitions.");
+                            }
+                            return partition.second()
+                                    .mapAsync(parallelism, message -> acknowledge(self, message, ackTimeoutMillis))
+                                    .watchTermination((notUsed, done) -> {
+                                        done.whenComplete((result, error) -> assignedPartitions.decrementAndGet());
+                                        return notUsed;
+                                    });
+                        })
+                        .toMat(connectionFactory.newCommitterSink(), Keep.both())
+                        .run(materializer);
+        consumerControl = materializedValues.first();
+        materializedValues.second().whenComplete((done, error) -> {
+            if (null != error) {
+                self.tell(new Status.Failure(error), ActorRef.noSender());
+            } else {
+                self.tell(new Status.Failure(new IllegalStateException("Consumer stream completed.")),
+                        ActorRef.noSender());
+            }
+        });
+        resourceStatus = ConnectivityModelFactory.newSourceStatus(ConfigUtil.instanceIdentifier(),
+                ConnectivityStatus.OPEN, sourceAddress, "Consuming since " + Instant.now());
+    }
+
+    /**
+     * Passes the consumed message through this actor to the message mapping and completes with the offset of the
+     * message as soon as the message mapping acknowledged it. Messages of one partition are acknowledged in order,
+     * thus each committed offset covers all previous messages of its partition.
+     */
+    private static CompletionStage<ConsumerMessage.Committable> acknowledge(final ActorRef consumerActor,
+            final ConsumerMessage.CommittableMessage<String, String> message, final long ackTimeoutMillis) {
+        return PatternsCS.ask(consumerActor, message.record(), ackTimeoutMillis)
+                .thenApply(acknowledgement -> message.committableOffset());
+    }
+
+    private void handleConsumerRecord(final ConsumerRecord<?, ?> consumerRecord) {
+        try {
+            log.debug("Received Kafka message on topic <{}> partition <{}> at offset <{}>.", consumerRecord.topic(),
+                    consumerRecord.partition(), consumerRecord.offset());
+            final ExternalMessage externalMessage = ExternalMessageFactory
+                    .newExternalMessageBuilder(mapConsumerRecordHeaders(consumerRecord))
+                    .withText(null != consumerRecord.value() ? String.valueOf(consumerRecord.value()) : null)
+                    .withAuthorizationContext(authorizationContext)
+                    .withEnforcement(getEnforcementFilter(consumerRecord.topic()))
+                    .withHeaderMapping(headerMapping)
+                    .withSourceAddress(consumerRecord.topic())
+                    .build();
+            inboundCounter.recordSuccess();
+            // the message mapping acknowledges the message directly to the waiting consumer stream
+            messageMappingProcessor.tell(AcknowledgeableMessage.of(externalMessage), getSender());
+        } catch (final Exception e) {
+            inboundCounter.recordFailure();
+            log.info("Failed to handle Kafka message: {}", e.getMessage());
+            // acknowledge messages which can't be handled at all; consuming them again would fail again
+            getSender().tell(Done.getInstance(), getSelf());
+        }
+    }
+
+    private static Map<String, String> mapConsumerRecordHeaders(final ConsumerRecord<?, ?> consumerRecord) {
+        final Map<String, String> headers = new HashMap<>();
+        for (final Header header : consumerRecord.headers()) {
+            if (null != header.value()) {
+                headers.put(header.key(), new String(header.value(), StandardCharsets.UTF_8));
+            }
+        }
+        headers.put(KAFKA_TOPIC_HEADER, consumerRecord.topic());
+        if (null != consumerRecord.key()) {
+            headers.put(KAFKA_KEY_HEADER, String.valueOf(consumerRecord.key()));
+        }
+        return headers;
+    }
+
+    @Nullable
+    private EnforcementFilter<String> getEnforcementFilter(final String topic) {
+        if (topicEnforcementFilterFactory != null) {
+            return topicEnforcementFilterFactory.getFilter(topic);
+        } else {
+            return null;
+        }
+    }
+
+    private void handleStreamFailure(final Status.Failure failure) {
+        consumerControl = null;
+        if (shuttingDown) {
+            return;
+        }
+        // offsets of unacknowledged messages were not committed; the restarted stream consumes these messages again
+        logWithConnectionId().warning("Consumer stream of topics <{}> terminated with <{}>: <{}>. Restarting it.",
+                topics, failure.cause().getClass().getSimpleName(), failure.cause().getMessage());
+        resourceStatus = ConnectivityModelFactory.newSourceStatus(ConfigUtil.instanceIdentifier(),
+                ConnectivityStatus.FAILED, sourceAddress, "Restarting after failure: " + failure.cause().getMessage());
+        getContext().getSystem().scheduler().scheduleOnce(RESTART_DELAY, getSelf(), RestartConsumerStream.INSTANCE,
+                getContext().getDispatcher(), ActorRef.noSender());
+    }
+
+    private void stopConsumerStream() {
+        if (null != consumerControl) {
+            logWithConnectionId().info("Stopping to consume topics <{}>.", topics);
+            consumerControl.shutdown();
+            consumerControl = null;
+        }
+    }
+
+    private DiagnosticLoggingAdapter logWithConnectionId() {
+        LogUtil.enhanceLogWithCustomField(log, BaseClientData.MDC_CONNECTION_ID, connectionId);
+        return log;
+    }
+
+    /**
+     * Message that restarts the consumer stream after a failure.
+     */
+    private static final class RestartConsumerStream {
+
+        private static final RestartConsumerStream INSTANCE = new RestartConsumerStream();
+
+        private RestartConsumerStream() {
+            // intentionally empty
+        }
+
+    }
+
+}
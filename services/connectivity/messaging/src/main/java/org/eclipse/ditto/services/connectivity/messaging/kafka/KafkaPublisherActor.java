@@ -13,9 +13,17 @@
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
-import java.util.function.BiFunction;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -30,9 +38,15 @@ import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.services.connectivity.messaging.BaseClientData;
 import org.eclipse.ditto.services.connectivity.messaging.BasePublisherActor;
 import org.eclipse.ditto.services.connectivity.messaging.metrics.ConnectionMetricsCollector;
+import org.eclipse.ditto.services.connectivity.util.ConnectionConfigReader;
+import org.eclipse.ditto.services.connectivity.util.KafkaConfigReader;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 
 import akka.Done;
 import akka.actor.ActorRef;
@@ -45,27 +59,58 @@ import akka.japi.pf.ReceiveBuilder;
 import akka.kafka.ProducerMessage;
 import akka.stream.ActorMaterializer;
 import akka.stream.OverflowStrategy;
+import akka.stream.QueueOfferResult;
 import akka.stream.javadsl.Keep;
 import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
+import akka.stream.javadsl.SourceQueueWithComplete;
 import akka.util.ByteString;
+import scala.concurrent.duration.FiniteDuration;
 
 /**
  * Responsible for publishing {@link org.eclipse.ditto.services.models.connectivity.ExternalMessage}s into an Kafka
  * broker.
+ * <p>
+ * Outbound messages are buffered in a bounded queue in front of the Kafka producer. At most as many messages as fit
+ * into the queue are unpublished at any time, so that they can be offered to the queue without waiting for each other
+ * and are produced in the order they were published. While the producer has no capacity left, messages wait in a
+ * bounded local overflow buffer; offering the oldest of them is retried with a linearly growing backoff and only
+ * after the configured number of retries the message is dropped. Messages published while the overflow buffer is full
+ * are dropped immediately. Queue depth, dropped messages and the latency until the broker acknowledged a message are
+ * reported per target.
+ * </p>
+ * <p>
+ * If the producer fails, the messages it did not publish are counted as dropped and a new producer is started by
+ * this actor.
+ * </p>
  */
 public final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
 
     static final String ACTOR_NAME = "kafkaPublisher";
 
+    private static final String QUEUE_SIZE_METRIC = "connectivity_kafka_producer_queue_size";
+    private static final String DROPPED_METRIC = "connectivity_kafka_producer_dropped";
+    private static final String LATENCY_METRIC = "connectivity_kafka_producer_latency";
+    private static final String CONNECTION_ID_TAG = "id";
+    private static final String TARGET_TAG = "target";
+    private static final String RESPONSES_TARGET = "_responses";
+
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
     private final ActorRef kafkaClientActor;
     private final KafkaConnectionFactory connectionFactory;
     private final boolean dryRun;
+    private final int queueSize;
+    private final int maxRetries;
+    private final long retryBackoffMillis;
+    private final Map<String, Gauge> queueSizeGauges;
+    private final Map<String, Counter> droppedCounters;
+    private final Deque<ProducerMessage.Envelope<String, String, PublishContext>> overflowBuffer;
 
     private boolean shuttingDown = false;
-    private ActorRef sourceActor;
+    private boolean retryScheduled = false;
+    private int offerAttempt = 0;
+    @Nullable private ProducerStream producerStream;
 
     private KafkaPublisherActor(final String connectionId, final List<Target> targets,
             final KafkaConnectionFactory factory,
@@ -76,6 +121,15 @@ public final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTa
         this.dryRun = dryRun;
         this.connectionFactory = factory;
 
+        final KafkaConfigReader configReader =
+                ConnectionConfigReader.fromRawConfig(getContext().system().settings().config()).kafka();
+        queueSize = configReader.producerQueueSize();
+        maxRetries = configReader.producerMaxRetries();
+        retryBackoffMillis = configReader.producerRetryBackoff().toMillis();
+        queueSizeGauges = new HashMap<>();
+        droppedCounters = new HashMap<>();
+        overflowBuffer = new ArrayDeque<>();
+
         this.startInternalKafkaProducer();
         this.reportInitialConnectionState();
     }
@@ -103,17 +157,14 @@ public final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTa
         });
     }
 
-    private static Sink<ProducerMessage.Results<String, String, ConnectionMetricsCollector>, CompletionStage<Done>> publishSuccessSink() {
-
-        // basically, we don't know if the 'publish' will succeed or fail. We would need to write our own
-        // GraphStage actor for Kafka and MQTT, since alpakka doesn't provide this useful information for us.
-        return Sink.foreach(results -> results.passThrough().recordSuccess());
-    }
-
     @Override
     protected void preEnhancement(final ReceiveBuilder receiveBuilder) {
         receiveBuilder.match(OutboundSignal.WithExternalMessage.class, this::isDryRun,
                 outbound -> log.info("Message dropped in dry run mode: {}", outbound))
+                .matchEquals(ProducerReady.INSTANCE, ready -> offerBufferedMessages())
+                .matchEquals(RetryOffer.INSTANCE, retry -> retryOffer())
+                .match(OfferFailure.class, this::handleOfferFailure)
+                .match(ProducerTerminated.class, this::handleProducerTerminated)
                 .matchEquals(GracefulStop.INSTANCE, unused -> this.stopGracefully());
     }
 
@@ -136,25 +187,96 @@ public final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTa
     protected void publishMessage(@Nullable final Target target, final KafkaPublishTarget publishTarget,
             final ExternalMessage message, final ConnectionMetricsCollector publishedCounter) {
 
-        publishMessage(publishTarget, message, publishedCounter);
+        final String targetName = null != target ? target.getOriginalAddress() : RESPONSES_TARGET;
+        final StartedTimer latencyTimer = DittoMetrics.timer(LATENCY_METRIC)
+                .tag(CONNECTION_ID_TAG, connectionId)
+                .tag(TARGET_TAG, targetName)
+                .start();
+        final PublishContext context = new PublishContext(publishedCounter, getQueueSizeGauge(targetName),
+                getDroppedCounter(targetName), latencyTimer);
+        if (overflowBuffer.size() >= queueSize) {
+            logWithConnectionId().warning("Dropping message because the overflow buffer of size <{}> is full.",
+                    queueSize);
+            context.dropped(false);
+        } else {
+            context.queueSize.increment();
+            overflowBuffer.add(mapExternalMessageToKafkaMessage(publishTarget, message, context));
+            offerBufferedMessages();
+        }
     }
 
-    private void publishMessage(final KafkaPublishTarget publishTarget, final ExternalMessage message,
-            final ConnectionMetricsCollector publishedCounter) {
+    /**
+     * Offers buffered messages to the queue of the Kafka producer in the order they were published as long as the
+     * producer has capacity left. The offers do not wait for each other, because a message offered with capacity left
+     * is never rejected by the full queue and thus never overtaken by newer ones. If messages are left in the buffer,
+     * offering them is retried after a backoff unless the producer reports capacity earlier.
+     */
+    private void offerBufferedMessages() {
+        if (null == producerStream) {
+            return;
+        }
+        while (!overflowBuffer.isEmpty() && producerStream.hasCapacity()) {
+            producerStream.offer(overflowBuffer.remove());
+            offerAttempt = 0;
+        }
+        if (!overflowBuffer.isEmpty() && !retryScheduled && !shuttingDown) {
+            retryScheduled = true;
+            getContext().system().scheduler().scheduleOnce(
+                    FiniteDuration.apply(retryBackoffMillis * (offerAttempt + 1), TimeUnit.MILLISECONDS),
+                    getSelf(), RetryOffer.INSTANCE, getContext().dispatcher(), ActorRef.noSender());
+        }
+    }
+
+    private void retryOffer() {
+        retryScheduled = false;
+        if (!overflowBuffer.isEmpty() && null != producerStream && !producerStream.hasCapacity()) {
+            if (offerAttempt < maxRetries) {
+                offerAttempt++;
+                logWithConnectionId().debug("Producer queue is full, retrying message in attempt <{}>.",
+                        offerAttempt);
+            } else {
+                logWithConnectionId().warning("Dropping message after <{}> attempts because the producer queue of " +
+                        "size <{}> is full.", offerAttempt + 1, queueSize);
+                overflowBuffer.remove().passThrough().dropped(true);
+                offerAttempt = 0;
+            }
+        }
+        offerBufferedMessages();
+    }
+
+    private void handleOfferFailure(final OfferFailure offerFailure) {
+        if (null != offerFailure.error) {
+            logWithConnectionId().error(offerFailure.error,
+                    "Dropping message because offering it to the producer queue failed.");
+        } else {
+            logWithConnectionId().error("Dropping message because the producer queue rejected it with <{}>.",
+                    offerFailure.result);
+        }
+        offerFailure.producerStream.remove(offerFailure.context);
+        offerFailure.context.dropped(true);
+        offerBufferedMessages();
+    }
+
+    private Gauge getQueueSizeGauge(final String targetName) {
+        return queueSizeGauges.computeIfAbsent(targetName, name -> DittoMetrics.gauge(QUEUE_SIZE_METRIC)
+                .tag(CONNECTION_ID_TAG, connectionId)
+                .tag(TARGET_TAG, name));
+    }
 
-        final ProducerMessage.Envelope<String, String, ConnectionMetricsCollector> kafkaMessage =
-                mapExternalMessageToKafkaMessage(publishTarget, message, publishedCounter);
-        sourceActor.tell(kafkaMessage, getSelf());
+    private Counter getDroppedCounter(final String targetName) {
+        return droppedCounters.computeIfAbsent(targetName, name -> DittoMetrics.counter(DROPPED_METRIC)
+                .tag(CONNECTION_ID_TAG, connectionId)
+                .tag(TARGET_TAG, name));
     }
 
     private boolean isDryRun() {
         return dryRun;
     }
 
-    private static ProducerMessage.Envelope<String, String, ConnectionMetricsCollector> mapExternalMessageToKafkaMessage(
+    private static ProducerMessage.Envelope<String, String, PublishContext> mapExternalMessageToKafkaMessage(
             final KafkaPublishTarget publishTarget,
             final ExternalMessage externalMessage,
-            final ConnectionMetricsCollector metricsCollector) {
+            final PublishContext context) {
 
         final String payload = mapExternalMessagePayload(externalMessage);
         final Iterable<Header> headers = mapExternalMessageHeaders(externalMessage);
@@ -164,7 +286,7 @@ public final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTa
                         publishTarget.getPartition().orElse(null),
                         publishTarget.getKey().orElse(null),
                         payload, headers);
-        return ProducerMessage.single(record, metricsCollector);
+        return ProducerMessage.single(record, context);
     }
 
     private static Iterable<Header> mapExternalMessageHeaders(final ExternalMessage externalMessage) {
@@ -189,12 +311,16 @@ public final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTa
         return "";
     }
 
-    private Done handleCompletionOrFailure(final Done done, @Nullable final Throwable throwable) {
+    private void handleProducerTerminated(final ProducerTerminated producerTerminated) {
         // when getting here, the Kafka producer will have finished its work either because it got an exception or because
         // the stream (it is built upon) is finished. Since the stream is never expected to finish, we will try to
         // restart the producer most of the times. Only when it was intentionally stopped (#shuttingDown), we will not
         // restart it.
-        if (null == throwable) {
+        @Nullable final Throwable throwable = producerTerminated.error;
+        if (producerTerminated.producerStream != producerStream) {
+            logWithConnectionId().debug("Ignoring termination of a replaced internal Kafka producer.");
+
+        } else if (null == throwable) {
             logWithConnectionId().info("Internal kafka publisher completed.");
             restartInternalKafkaProducer();
 
@@ -220,36 +346,41 @@ public final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTa
             restartInternalKafkaProducer();
 
         }
-
-        return done;
     }
 
     private void startInternalKafkaProducer() {
         logWithConnectionId().info("Starting internal Kafka producer.");
-        this.sourceActor = createInternalKafkaProducer(connectionFactory, this::handleCompletionOrFailure);
+        producerStream = new ProducerStream(connectionFactory);
     }
 
     private void restartInternalKafkaProducer() {
         logWithConnectionId().info("Restarting internal Kafka producer");
-        this.sourceActor = createInternalKafkaProducer(connectionFactory, this::handleCompletionOrFailure);
+        if (null != producerStream) {
+            // the failed producer does not publish the messages it buffered any more
+            final int lostMessages = producerStream.dropUnpublished();
+            if (0 < lostMessages) {
+                logWithConnectionId().warning("Dropped <{}> messages which the failed producer did not publish.",
+                        lostMessages);
+            }
+        }
+        resetQueueSizeGauges();
+        startInternalKafkaProducer();
+        offerBufferedMessages();
     }
 
-    private ActorRef createInternalKafkaProducer(final KafkaConnectionFactory factory,
-            final BiFunction<Done, Throwable, Done> completionOrFailureHandler) {
-        final Pair<ActorRef, CompletionStage<Done>> materializedFlowedValues =
-                Source.<ProducerMessage.Envelope<String, String, ConnectionMetricsCollector>>actorRef(100,
-                        OverflowStrategy.dropHead())
-                        .via(factory.newFlow())
-                        .toMat(KafkaPublisherActor.publishSuccessSink(), Keep.both())
-                        .run(ActorMaterializer.create(getContext()));
-        materializedFlowedValues.second().handleAsync(completionOrFailureHandler);
-        return materializedFlowedValues.first();
+    /**
+     * Sets the queue size of each target to the number of its messages in the overflow buffer, which are the only
+     * buffered messages while no producer is running.
+     */
+    private void resetQueueSizeGauges() {
+        queueSizeGauges.values().forEach(gauge -> gauge.set(0L));
+        overflowBuffer.forEach(envelope -> envelope.passThrough().queueSize.increment());
     }
 
     private void stopInternalKafkaProducer() {
         logWithConnectionId().info("Stopping internal Kafka producer.");
-        if (null != sourceActor) {
-            sourceActor.tell(new Status.Success("stopped"), ActorRef.noSender());
+        if (null != producerStream) {
+            producerStream.sourceQueue.complete();
         }
     }
 
@@ -275,6 +406,191 @@ public final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTa
         getContext().stop(getSelf());
     }
 
+    /**
+     * The running Kafka producer: a stream from a bounded queue through the Kafka flow. It keeps track of the messages
+     * which were offered to it but not published yet.
+     */
+    private final class ProducerStream {
+
+        private final SourceQueueWithComplete<ProducerMessage.Envelope<String, String, PublishContext>> sourceQueue;
+        private final Set<PublishContext> unpublished;
+        private final AtomicInteger unpublishedCount;
+
+        private ProducerStream(final KafkaConnectionFactory factory) {
+            unpublished = ConcurrentHashMap.newKeySet();
+            unpublishedCount = new AtomicInteger();
+
+            final ActorRef self = getSelf();
+            final Pair<SourceQueueWithComplete<ProducerMessage.Envelope<String, String, PublishContext>>, CompletionStage<Done>>
+                    materializedFlowedValues =
+                    Source.<ProducerMessage.Envelope<String, String, PublishContext>>queue(queueSize,
+                            OverflowStrategy.dropNew())
+                            .via(factory.newFlow())
+                            .toMat(publishSuccessSink(self), Keep.both())
+                            .run(ActorMaterializer.create(getContext()));
+            sourceQueue = materializedFlowedValues.first();
+            // let the actor handle the termination, as it accesses the state of the actor
+            materializedFlowedValues.second().whenComplete((done, error) ->
+                    self.tell(new ProducerTerminated(this, error), ActorRef.noSender()));
+        }
+
+        private Sink<ProducerMessage.Results<String, String, PublishContext>, CompletionStage<Done>> publishSuccessSink(
+                final ActorRef self) {
+
+            // basically, we don't know if the 'publish' will succeed or fail. We would need to write our own
+            // GraphStage actor for Kafka and MQTT, since alpakka doesn't provide this useful information for us.
+            return Sink.foreach(results -> {
+                final PublishContext context = results.passThrough();
+                context.published();
+                if (unpublished.remove(context) && unpublishedCount.decrementAndGet() == queueSize - 1) {
+                    // the producer had no capacity left before
+                    self.tell(ProducerReady.INSTANCE, ActorRef.noSender());
+                }
+            });
+        }
+
+        private boolean hasCapacity() {
+            return unpublishedCount.get() < queueSize;
+        }
+
+        private void offer(final ProducerMessage.Envelope<String, String, PublishContext> envelope) {
+            final PublishContext context = envelope.passThrough();
+            unpublished.add(context);
+            unpublishedCount.incrementAndGet();
+            final ActorRef self = getSelf();
+            sourceQueue.offer(envelope).whenComplete((result, error) -> {
+                if (null != error || !QueueOfferResult.Enqueued$.MODULE$.equals(result)) {
+                    self.tell(new OfferFailure(this, context, result, error), ActorRef.noSender());
+                }
+            });
+        }
+
+        private void remove(final PublishContext context) {
+            if (unpublished.remove(context)) {
+                unpublishedCount.decrementAndGet();
+            }
+        }
+
+        /**
+         * Drops the messages which were offered to this producer but not published. Must only be called after the
+         * stream terminated.
+         *
+         * @return the number of dropped messages.
+         */
+        private int dropUnpublished() {
+            final int result = unpublished.size();
+            // the queue size gauges are reset afterwards
+            unpublished.forEach(context -> context.dropped(false));
+            unpublished.clear();
+            unpublishedCount.set(0);
+            return result;
+        }
+
+    }
+
+    /**
+     * Travels with a message through the Kafka producer to record its metrics once it was published or dropped. Only
+     * the first of these outcomes is recorded.
+     */
+    private static final class PublishContext {
+
+        private final ConnectionMetricsCollector publishedCounter;
+        private final Gauge queueSize;
+        private final Counter droppedCounter;
+        private final StartedTimer latencyTimer;
+        private final AtomicBoolean completed;
+
+        private PublishContext(final ConnectionMetricsCollector publishedCounter, final Gauge queueSize,
+                final Counter droppedCounter, final StartedTimer latencyTimer) {
+            this.publishedCounter = publishedCounter;
+            this.queueSize = queueSize;
+            this.droppedCounter = droppedCounter;
+            this.latencyTimer = latencyTimer;
+            completed = new AtomicBoolean(false);
+        }
+
+        private void published() {
+            if (completed.compareAndSet(false, true)) {
+                queueSize.decrement();
+                latencyTimer.stop();
+                publishedCounter.recordSuccess();
+            }
+        }
+
+        private void dropped(final boolean queued) {
+            if (completed.compareAndSet(false, true)) {
+                if (queued) {
+                    queueSize.decrement();
+                }
+                latencyTimer.stop();
+                droppedCounter.increment();
+                publishedCounter.recordFailure();
+            }
+        }
+
+    }
+
+    /**
+     * Message that the Kafka producer has capacity again after it had none left.
+     */
+    private static final class ProducerReady {
+
+        private static final ProducerReady INSTANCE = new ProducerReady();
+
+        private ProducerReady() {
+            // intentionally empty
+        }
+
+    }
+
+    /**
+     * Message that offering a message to the queue of a Kafka producer failed or that the queue rejected it.
+     */
+    private static final class OfferFailure {
+
+        private final ProducerStream producerStream;
+        private final PublishContext context;
+        @Nullable private final QueueOfferResult result;
+        @Nullable private final Throwable error;
+
+        private OfferFailure(final ProducerStream producerStream, final PublishContext context,
+                @Nullable final QueueOfferResult result, @Nullable final Throwable error) {
+            this.producerStream = producerStream;
+            this.context = context;
+            this.result = result;
+            this.error = error;
+        }
+
+    }
+
+    /**
+     * Message that the stream of a Kafka producer terminated.
+     */
+    private static final class ProducerTerminated {
+
+        private final ProducerStream producerStream;
+        @Nullable private final Throwable error;
+
+        private ProducerTerminated(final ProducerStream producerStream, @Nullable final Throwable error) {
+            this.producerStream = producerStream;
+            this.error = error;
+        }
+
+    }
+
+    /**
+     * Message to retry offering the oldest buffered message which did not fit into the queue of the Kafka producer.
+     */
+    private static final class RetryOffer {
+
+        private static final RetryOffer INSTANCE = new RetryOffer();
+
+        private RetryOffer() {
+            // intentionally empty
+        }
+
+    }
+
     /**
      * Message that allows gracefully stopping the publisher actor.
      */
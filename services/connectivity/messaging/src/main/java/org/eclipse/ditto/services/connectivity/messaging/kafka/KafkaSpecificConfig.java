@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.connectivity.messaging.kafka;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.connectivity.Connection;
 
+import akka.kafka.ConsumerSettings;
 import akka.kafka.ProducerSettings;
 
 /**
@@ -55,4 +56,16 @@ public interface KafkaSpecificConfig {
      */
     ProducerSettings<String, String> apply(ProducerSettings<String, String> producerSettings, Connection connection);
 
+    /**
+     * Apply this kafka config to the given {@code consumerSettings}.
+     *
+     * This method will only add configuration to the {@code consumerSettings} if the config {@code isApplicable}
+     * and {@code isValid}.
+     *
+     * @param consumerSettings the consumer settings to which the kafka config is appended.
+     * @param connection the connection which contains the specific config.
+     * @return the {@code consumerSettings} enhanced with new configuration provided by the kafka config.
+     */
+    ConsumerSettings<String, String> apply(ConsumerSettings<String, String> consumerSettings, Connection connection);
+
 }
@@ -13,6 +13,7 @@
 package org.eclipse.ditto.services.connectivity.messaging.kafka;
 
 import static org.eclipse.ditto.model.placeholders.PlaceholderFactory.newHeadersPlaceholder;
+import static org.eclipse.ditto.model.placeholders.PlaceholderFactory.newSourceAddressPlaceholder;
 import static org.eclipse.ditto.model.placeholders.PlaceholderFactory.newThingPlaceholder;
 import static org.eclipse.ditto.model.placeholders.PlaceholderFactory.newTopicPathPlaceholder;
 
@@ -52,7 +53,8 @@ public final class KafkaValidator extends AbstractProtocolValidator {
             Collections.unmodifiableList(Arrays.asList("tcp", "ssl"));
 
     private static final Collection<KafkaSpecificConfig> SPECIFIC_CONFIGS =
-            Collections.unmodifiableList(Arrays.asList(KafkaAuthenticationSpecificConfig.getInstance(), KafkaBootstrapServerSpecificConfig.getInstance()));
+            Collections.unmodifiableList(Arrays.asList(KafkaAuthenticationSpecificConfig.getInstance(),
+                    KafkaBootstrapServerSpecificConfig.getInstance(), KafkaBatchingSpecificConfig.getInstance()));
 
     /**
      * Create a new {@code MqttConnectionSpec}.
@@ -79,10 +81,16 @@ public final class KafkaValidator extends AbstractProtocolValidator {
     @Override
     protected void validateSource(final Source source, final DittoHeaders dittoHeaders,
             final Supplier<String> sourceDescription) {
-        final String message = "Kafka connectivity currently does not provide sources.";
-        throw ConnectionConfigurationInvalidException.newBuilder(message)
-                .dittoHeaders(dittoHeaders)
-                .build();
+        // source addresses are the topics to consume and may not contain placeholders
+        final String noPlaceholderReplacement = UUID.randomUUID().toString();
+        source.getAddresses().forEach(address -> validateTopic(address, dittoHeaders, noPlaceholderReplacement));
+
+        source.getEnforcement().ifPresent(enforcement -> {
+            validateTemplate(enforcement.getInput(), dittoHeaders, newSourceAddressPlaceholder());
+            enforcement.getFilters().forEach(filterTemplate ->
+                    validateTemplate(filterTemplate, dittoHeaders, newThingPlaceholder()));
+        });
+        source.getHeaderMapping().ifPresent(mapping -> validateHeaderMapping(mapping, dittoHeaders));
     }
 
     @Override
@@ -33,7 +33,7 @@ final class ProducerSettingsFactory {
 
     private static final Collection<KafkaSpecificConfig> SPECIFIC_CONFIGS =
             Collections.unmodifiableList(Arrays.asList(KafkaAuthenticationSpecificConfig.getInstance(),
-                    KafkaBootstrapServerSpecificConfig.getInstance()));
+                    KafkaBootstrapServerSpecificConfig.getInstance(), KafkaBatchingSpecificConfig.getInstance()));
 
     private static final ProducerSettingsFactory INSTANCE = new ProducerSettingsFactory();
     private static final Serializer<String> KEY_SERIALIZER = new StringSerializer();
@@ -57,10 +57,7 @@ final class ProducerSettingsFactory {
 
     private ProducerSettings<String, String> addMetadata(final Connection connection,
             final ProducerSettings<String, String> settings) {
-        // identify the connected Kafka client by the connectionId followed by the instance index
-        // (in order to be able to differentiate if a clientCount >1 was configured):
-        return settings.withProperty(CommonClientConfigs.CLIENT_ID_CONFIG, connection.getId() + "-" +
-                ConfigUtil.instanceIdentifier());
+        return settings.withProperty(CommonClientConfigs.CLIENT_ID_CONFIG, getClientId(connection));
     }
 
     private ProducerSettings<String, String> addSpecificConfigs(final ProducerSettings<String, String> settings,
@@ -74,30 +71,44 @@ final class ProducerSettingsFactory {
 
     private ProducerSettings<String, String> addSecurityProtocol(final Connection connection,
             final ProducerSettings<String, String> settings) {
-        if (isAuthenticatedConnection(connection)) {
-            return addAuthenticatedSecurityProtocol(connection, settings);
-        }
-        return addUnauthenticatedSecurityProtocol(connection, settings);
+        return settings.withProperty(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG, getSecurityProtocol(connection));
     }
 
-    private static boolean isAuthenticatedConnection(final Connection connection) {
-        return KafkaAuthenticationSpecificConfig.getInstance().isApplicable(connection);
+    /**
+     * Identifies the connected Kafka client by the connectionId followed by the instance index (in order to be able
+     * to differentiate if a clientCount >1 was configured).
+     *
+     * @param connection the connection.
+     * @return the client ID.
+     */
+    static String getClientId(final Connection connection) {
+        return connection.getId() + "-" + ConfigUtil.instanceIdentifier();
     }
 
-    private static ProducerSettings<String, String> addAuthenticatedSecurityProtocol(final Connection connection,
-            final ProducerSettings<String, String> settings) {
-        if (isSecureConnection(connection)) {
-            return settings.withProperty(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG, "SASL_SSL");
+    /**
+     * Determines the security protocol of the given connection.
+     *
+     * @param connection the connection.
+     * @return the security protocol.
+     */
+    static String getSecurityProtocol(final Connection connection) {
+        if (isAuthenticatedConnection(connection)) {
+            return isSecureConnection(connection) ? "SASL_SSL" : "SASL_PLAINTEXT";
         }
-        return settings.withProperty(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG, "SASL_PLAINTEXT");
+        return isSecureConnection(connection) ? "SSL" : "PLAINTEXT";
     }
 
-    private static ProducerSettings<String, String> addUnauthenticatedSecurityProtocol(final Connection connection,
-            final ProducerSettings<String, String> settings) {
-        if (isSecureConnection(connection)) {
-            return settings.withProperty(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG, "SSL");
-        }
-        return settings.withProperty(CommonClientConfigs.SECURITY_PROTOCOL_CONFIG, "PLAINTEXT");
+    /**
+     * The specific configs which are applied to the settings of Kafka clients.
+     *
+     * @return the specific configs.
+     */
+    static Collection<KafkaSpecificConfig> getSpecificConfigs() {
+        return SPECIFIC_CONFIGS;
+    }
+
+    private static boolean isAuthenticatedConnection(final Connection connection) {
+        return KafkaAuthenticationSpecificConfig.getInstance().isApplicable(connection);
     }
 
     private static boolean isSecureConnection(final Connection connection) {
@@ -54,7 +54,9 @@ public final class ConnectionMetricsCollector {
      * Record a successful operation.
      */
     public void recordSuccess() {
-        LOGGER.trace("Increment success counter ({},{},{})", metricDirection, address, metricType);
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace("Increment success counter ({},{},{})", metricDirection, address, metricType);
+        }
         counter.increment();
     }
 
@@ -62,7 +64,9 @@ public final class ConnectionMetricsCollector {
      * Record a failed operation.
      */
     public void recordFailure() {
-        LOGGER.trace("Increment failure counter ({},{},{})", metricDirection, address, metricType);
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace("Increment failure counter ({},{},{})", metricDirection, address, metricType);
+        }
         counter.increment(false);
     }
 
@@ -15,28 +15,29 @@ package org.eclipse.ditto.services.connectivity.messaging.metrics;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * Simple implementation of a sliding window using a map. Depending on the given parameters
+ * Lock-free implementation of a sliding window using ring buffers. Depending on the given parameters
  * {@code window} and {@code duration} this implementation holds counter for time slots of size {@code duration} to
- * fill the {@code window}.
+ * fill the {@code window}. Incrementing the counter neither locks nor allocates except when a time slot starts.
  */
 public final class SlidingWindowCounter {
 
     private final Clock clock;
     private final MeasurementWindow[] windows;
-    private final ConcurrentMap<Long, Long> successMeasurements = new ConcurrentHashMap<>();
-    private final ConcurrentMap<Long, Long> failureMeasurements = new ConcurrentHashMap<>();
+    private final SlotRing[] successMeasurements;
+    private final SlotRing[] failureMeasurements;
 
-    private final AtomicLong lastSuccessTimestamp = new AtomicLong(Instant.EPOCH.toEpochMilli());
-    private final AtomicLong lastFailureTimestamp = new AtomicLong(Instant.EPOCH.toEpochMilli());
-    private final Duration minResolution;
+    private final LongAccumulator lastSuccessTimestamp =
+            new LongAccumulator(Math::max, Instant.EPOCH.toEpochMilli());
+    private final LongAccumulator lastFailureTimestamp =
+            new LongAccumulator(Math::max, Instant.EPOCH.toEpochMilli());
 
     /**
      * Instantiates a new {@link SlidingWindowCounter} that records the measurements for the given time windows.
@@ -47,10 +48,12 @@ public final class SlidingWindowCounter {
         this.clock = clock;
         this.windows = windows;
 
-        minResolution = Stream.of(windows)
-                .map(MeasurementWindow::getResolution)
-                .min(Duration::compareTo)
-                .orElse(Duration.ofMinutes(5));
+        successMeasurements = new SlotRing[windows.length];
+        failureMeasurements = new SlotRing[windows.length];
+        for (int i = 0; i < windows.length; i++) {
+            successMeasurements[i] = new SlotRing(windows[i]);
+            failureMeasurements[i] = new SlotRing(windows[i]);
+        }
     }
 
     /**
@@ -82,7 +85,7 @@ public final class SlidingWindowCounter {
      * @param success whether to increment success or failure count
      */
     void increment(final boolean success) {
-        increment(success, clock.instant().toEpochMilli());
+        increment(success, clock.millis());
     }
 
     /**
@@ -92,55 +95,17 @@ public final class SlidingWindowCounter {
      * @param ts the timestamp when the operation happened (mostly useful for testing)
      */
     void increment(final boolean success, final long ts) {
-        final long previousTimestamp;
+        final SlotRing[] measurements;
         if (success) {
-            previousTimestamp = updateTimestampAndReturnPrevious(lastSuccessTimestamp, ts);
-            incrementMeasurements(ts, successMeasurements);
+            lastSuccessTimestamp.accumulate(ts);
+            measurements = successMeasurements;
         } else {
-            previousTimestamp = updateTimestampAndReturnPrevious(lastFailureTimestamp, ts);
-            incrementMeasurements(ts, failureMeasurements);
-        }
-
-        // if diff between current and last timestamp is too large, cleanup old measurements
-        if (previousTimestamp > ts - minResolution.toMillis()) {
-            cleanUpOldMeasurements();
-        }
-    }
-
-    private long updateTimestampAndReturnPrevious(final AtomicLong toUpdate, final long ts) {
-        return toUpdate.getAndUpdate(previous -> Math.max(previous, ts));
-    }
-
-    private void incrementMeasurements(final long ts, final Map<Long, Long> measurements) {
-        for (final MeasurementWindow window : windows) {
-            final long slot = getSlot(ts, window.getResolution().toMillis());
-            measurements.compute(slot, (key, value) -> (value == null) ? 1 : value + 1);
+            lastFailureTimestamp.accumulate(ts);
+            measurements = failureMeasurements;
         }
-    }
-
-    private void cleanUpOldMeasurements() {
-        cleanUpOldMeasurements(successMeasurements);
-        cleanUpOldMeasurements(failureMeasurements);
-    }
-
-    private void cleanUpOldMeasurements(final Map<Long, Long> measurements) {
-        measurements.entrySet().removeIf(e -> isOld(e.getKey()));
-    }
-
-    private boolean isOld(long slot) {
-        final long now = clock.instant().toEpochMilli();
-        for (final MeasurementWindow window : windows) {
-            final long resolutionInMs = window.getResolution().toMillis();
-            final long windowInMs = window.getWindow().toMillis();
-            // max slot is the current slot for this window
-            final long max = getSlot(now, resolutionInMs);
-            // min slot is current slot minus window size
-            final long min = getSlot(now - windowInMs, resolutionInMs);
-            if (slot <= max && slot >= min) {
-                return false;
-            }
+        for (final SlotRing ring : measurements) {
+            ring.increment(ts);
         }
-        return true;
     }
 
     /**
@@ -159,27 +124,14 @@ public final class SlidingWindowCounter {
     /**
      * Gets counts for all measurement windows given.
      *
-     * @param measurements the measurements map to use
+     * @param measurements the measurements to use
      * @return the counts for all windows
      */
-    private Map<Duration, Long> getCounts(final Map<Long, Long> measurements) {
+    private Map<Duration, Long> getCounts(final SlotRing[] measurements) {
         final Map<Duration, Long> result = new HashMap<>();
-        final long now = clock.instant().toEpochMilli();
-        for (final MeasurementWindow window : windows) {
-            // min is where we start to sum up the slots
-            final long windowInMs = window.getWindow().toMillis();
-            final long resolutionInMs = window.getResolution().toMillis();
-            final long min = getSlot(now - windowInMs, resolutionInMs);
-            // max is the current active time slot
-            final long max = getSlot(now, resolutionInMs);
-            long sum = 0;
-            for (final Map.Entry<Long, Long> e : measurements.entrySet()) {
-                long slot = e.getKey();
-                if (slot > min && slot <= max) {
-                    sum += e.getValue();
-                }
-            }
-            result.put(window.getWindow(), sum);
+        final long now = clock.millis();
+        for (int i = 0; i < windows.length; i++) {
+            result.put(windows[i].getWindow(), measurements[i].sum(now));
         }
         return result;
     }
@@ -192,22 +144,115 @@ public final class SlidingWindowCounter {
         reset(failureMeasurements);
     }
 
-    private void reset(final Map<Long, Long> measurements) {
-        measurements.clear();
-    }
-
-    private long getSlot(long ts, final long resolutionInMs) {
-        return ts / resolutionInMs;
+    private static void reset(final SlotRing[] measurements) {
+        for (final SlotRing ring : measurements) {
+            ring.reset();
+        }
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
-                ", successMeasurements=" + successMeasurements +
-                ", failureMeasurements=" + failureMeasurements +
+                "windows=" + Arrays.toString(windows) +
+                ", successMeasurements=" + Arrays.toString(successMeasurements) +
+                ", failureMeasurements=" + Arrays.toString(failureMeasurements) +
                 ", lastSuccessTimestamp=" + lastSuccessTimestamp +
                 ", lastFailureTimestamp=" + lastFailureTimestamp +
                 "]";
     }
 
+    /**
+     * Ring buffer holding the counts of the time slots of one measurement window. A time slot {@code n} covers the
+     * timestamps from {@code n * resolution} (inclusive) to {@code (n + 1) * resolution} (exclusive) and is stored at
+     * index {@code n % size}. When a newer time slot reaches an index, it replaces the outdated time slot there, so
+     * rotating the window costs O(1) and outdated measurements never need to be cleaned up.
+     * <p>
+     * The ring holds twice as many time slots as the window in order to keep the measurements inside the window even
+     * if timestamps ahead of the clock were recorded.
+     * </p>
+     */
+    private static final class SlotRing {
+
+        private final long windowInMs;
+        private final long resolutionInMs;
+        private final AtomicReferenceArray<Slot> slots;
+
+        private SlotRing(final MeasurementWindow window) {
+            windowInMs = window.getWindow().toMillis();
+            resolutionInMs = window.getResolution().toMillis();
+            final long slotsPerWindow = (windowInMs + resolutionInMs - 1) / resolutionInMs;
+            slots = new AtomicReferenceArray<>((int) (2 * slotsPerWindow + 1));
+        }
+
+        private void increment(final long ts) {
+            final long slotNumber = getSlot(ts);
+            final int index = getIndex(slotNumber);
+            Slot slot = slots.get(index);
+            while (null == slot || slot.number < slotNumber) {
+                final Slot newSlot = new Slot(slotNumber);
+                if (slots.compareAndSet(index, slot, newSlot)) {
+                    slot = newSlot;
+                } else {
+                    slot = slots.get(index);
+                }
+            }
+            // measurements older than the ring are outside of the window and not counted
+            if (slot.number == slotNumber) {
+                slot.count.increment();
+            }
+        }
+
+        private long sum(final long now) {
+            // min is where we start to sum up the slots
+            final long min = getSlot(now - windowInMs);
+            // max is the current active time slot
+            final long max = getSlot(now);
+            long sum = 0;
+            for (int i = 0; i < slots.length(); i++) {
+                final Slot slot = slots.get(i);
+                if (null != slot && slot.number > min && slot.number <= max) {
+                    sum += slot.count.sum();
+                }
+            }
+            return sum;
+        }
+
+        private void reset() {
+            for (int i = 0; i < slots.length(); i++) {
+                slots.set(i, null);
+            }
+        }
+
+        private long getSlot(final long ts) {
+            return ts / resolutionInMs;
+        }
+
+        private int getIndex(final long slotNumber) {
+            return (int) Math.floorMod(slotNumber, (long) slots.length());
+        }
+
+        @Override
+        public String toString() {
+            return slots.toString();
+        }
+
+    }
+
+    private static final class Slot {
+
+        private final long number;
+        private final LongAdder count;
+
+        private Slot(final long number) {
+            this.number = number;
+            count = new LongAdder();
+        }
+
+        @Override
+        public String toString() {
+            return number + "=" + count;
+        }
+
+    }
+
 }
@@ -26,6 +26,7 @@ import akka.stream.alpakka.mqtt.MqttConnectionSettings;
 import akka.stream.alpakka.mqtt.MqttMessage;
 import akka.stream.alpakka.mqtt.MqttQoS;
 import akka.stream.alpakka.mqtt.MqttSubscriptions;
+import akka.stream.alpakka.mqtt.javadsl.MqttMessageWithAck;
 import akka.stream.alpakka.mqtt.javadsl.MqttSink;
 import akka.stream.javadsl.Sink;
 
@@ -51,11 +52,11 @@ final class DefaultMqttConnectionFactory implements MqttConnectionFactory {
     }
 
     @Override
-    public akka.stream.javadsl.Source<MqttMessage, CompletionStage<Done>> newSource(final Source mqttSource,
+    public akka.stream.javadsl.Source<MqttMessageWithAck, CompletionStage<Done>> newSource(final Source mqttSource,
             final int bufferSize) {
         final String clientId = connectionId() + "-source" + mqttSource.getIndex();
         final MqttConnectionSettings connectionSettings = settings.withClientId(clientId);
-        return akka.stream.alpakka.mqtt.javadsl.MqttSource.atMostOnce(
+        return akka.stream.alpakka.mqtt.javadsl.MqttSource.atLeastOnce(
                 connectionSettings,
                 MqttSubscriptions.create(getSubscriptions(mqttSource)),
                 bufferSize);
@@ -52,7 +52,7 @@ import akka.stream.Outlet;
 import akka.stream.SharedKillSwitch;
 import akka.stream.SinkShape;
 import akka.stream.UniformFanOutShape;
-import akka.stream.alpakka.mqtt.MqttMessage;
+import akka.stream.alpakka.mqtt.javadsl.MqttMessageWithAck;
 import akka.stream.javadsl.Balance;
 import akka.stream.javadsl.GraphDSL;
 import akka.stream.javadsl.Keep;
@@ -239,10 +239,10 @@ public final class MqttClientActor extends BaseClientActor {
         }
 
         // failover implemented by factory
-        final akka.stream.javadsl.Source<MqttMessage, CompletionStage<Done>> mqttStreamSource =
+        final akka.stream.javadsl.Source<MqttMessageWithAck, CompletionStage<Done>> mqttStreamSource =
                 factory.newSource(source, sourceBufferSize);
 
-        final Graph<SinkShape<MqttMessage>, NotUsed> consumerLoadBalancer =
+        final Graph<SinkShape<MqttMessageWithAck>, NotUsed> consumerLoadBalancer =
                 createConsumerLoadBalancer(consumerByActorNameWithIndex.values());
 
         final CompletionStage<Done> subscriptionInitialized =
@@ -20,6 +20,7 @@ import org.eclipse.ditto.model.connectivity.Source;
 
 import akka.Done;
 import akka.stream.alpakka.mqtt.MqttMessage;
+import akka.stream.alpakka.mqtt.javadsl.MqttMessageWithAck;
 import akka.stream.javadsl.Sink;
 
 /**
@@ -35,13 +36,14 @@ public interface MqttConnectionFactory {
     String connectionId();
 
     /**
-     * Create an Akka stream source of MQTT messages.
+     * Create an Akka stream source of MQTT messages which are acknowledged to the broker only on demand.
      *
      * @param mqttSource Connection source containing topics to subscribe to.
      * @param bufferSize maximum number of messages to keep for QoS 1 and 2.
      * @return Akka stream source that emits MQTT messages from the broker.
      */
-    akka.stream.javadsl.Source<MqttMessage, CompletionStage<Done>> newSource(Source mqttSource, int bufferSize);
+    akka.stream.javadsl.Source<MqttMessageWithAck, CompletionStage<Done>> newSource(Source mqttSource,
+            int bufferSize);
 
     /**
      * Create an Akka stream sink of MQTT messages.
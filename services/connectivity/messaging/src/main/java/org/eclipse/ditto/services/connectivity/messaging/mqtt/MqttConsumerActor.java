@@ -14,6 +14,7 @@ package org.eclipse.ditto.services.connectivity.messaging.mqtt;
 
 import static org.eclipse.ditto.services.connectivity.messaging.mqtt.MqttClientActor.ConsumerStreamMessage.STREAM_ACK;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Objects;
 
@@ -27,28 +28,45 @@ import org.eclipse.ditto.model.placeholders.EnforcementFilterFactory;
 import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
 import org.eclipse.ditto.services.connectivity.messaging.BaseConsumerActor;
 import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressStatus;
+import org.eclipse.ditto.services.connectivity.util.ConnectionConfigReader;
+import org.eclipse.ditto.services.connectivity.util.MqttConfigReader;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
 
 import akka.actor.ActorRef;
 import akka.actor.Props;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.japi.Creator;
 import akka.stream.alpakka.mqtt.MqttMessage;
+import akka.stream.alpakka.mqtt.javadsl.MqttMessageWithAck;
 
 /**
  * Actor which receives message from a MQTT broker and forwards them to a {@code MessageMappingProcessorActor}.
+ * <p>
+ * A message is acknowledged to the broker only after the message mapping passed it on. At most the configured
+ * in-flight window of messages awaits acknowledgement; while the window is full, the consumer stream is not asked for
+ * further messages, which in turn lets the broker stop sending once its in-flight limit is reached.
+ * </p>
  */
 public final class MqttConsumerActor extends BaseConsumerActor {
 
     static final String ACTOR_NAME_PREFIX = "mqttConsumer-";
     private static final String MQTT_TOPIC_HEADER = "mqtt.topic";
+    private static final String PENDING_ACKS_METRIC = "connectivity_mqtt_pending_acks";
 
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
     private final ActorRef deadLetters;
     private final boolean dryRun;
     @Nullable private final EnforcementFilterFactory<String, String> topicEnforcementFilterFactory;
+    private final int inFlightWindow;
+    private final Duration ackTimeout;
+    private final Gauge pendingAcksGauge;
+
+    private int pendingAcks = 0;
+    @Nullable private ActorRef deferredStreamAckRecipient;
 
     private MqttConsumerActor(final String connectionId, final ActorRef messageMappingProcessor,
             final AuthorizationContext sourceAuthorizationContext, @Nullable final Enforcement enforcement,
@@ -63,6 +81,14 @@ public final class MqttConsumerActor extends BaseConsumerActor {
         } else {
             topicEnforcementFilterFactory = null;
         }
+
+        final MqttConfigReader configReader =
+                ConnectionConfigReader.fromRawConfig(getContext().system().settings().config()).mqtt();
+        inFlightWindow = configReader.sourceInFlightWindow();
+        ackTimeout = configReader.ackTimeout();
+        pendingAcksGauge = DittoMetrics.gauge(PENDING_ACKS_METRIC)
+                .tag("id", connectionId)
+                .tag("source", sourceAddress);
     }
 
     /**
@@ -95,9 +121,11 @@ public final class MqttConsumerActor extends BaseConsumerActor {
     @Override
     public Receive createReceive() {
         return receiveBuilder()
-                .match(MqttMessage.class, this::isDryRun,
-                        message -> log.info("Dropping message in dryRun mode: {}", message))
-                .match(MqttMessage.class, this::handleMqttMessage)
+                .match(MqttMessageWithAck.class, this::isDryRun,
+                        message -> log.info("Dropping message in dryRun mode: {}", message.message()))
+                .match(MqttMessageWithAck.class, this::handleMqttMessage)
+                .matchEquals(MessageAcknowledged.INSTANCE, acknowledged -> handleMessageAcknowledged())
+                .match(AckTimedOut.class, this::handleAckTimedOut)
                 .match(RetrieveAddressStatus.class, ram -> getSender().tell(getCurrentSourceStatus(), getSelf()))
                 .match(MqttClientActor.ConsumerStreamMessage.class, this::handleConsumerStreamMessage)
                 .matchAny(unhandled -> {
@@ -107,7 +135,17 @@ public final class MqttConsumerActor extends BaseConsumerActor {
                 .build();
     }
 
-    private void handleMqttMessage(final MqttMessage message) {
+    @Override
+    public void postStop() throws Exception {
+        // acknowledgements of pending messages can no longer reach this actor
+        for (int i = 0; i < pendingAcks; i++) {
+            pendingAcksGauge.decrement();
+        }
+        super.postStop();
+    }
+
+    private void handleMqttMessage(final MqttMessageWithAck messageWithAck) {
+        final MqttMessage message = messageWithAck.message();
         try {
             log.debug("Received MQTT message on topic {}: {}", message.topic(), message.payload().utf8String());
             final HashMap<String, String> headers = new HashMap<>();
@@ -119,14 +157,53 @@ public final class MqttConsumerActor extends BaseConsumerActor {
                     .withSourceAddress(sourceAddress)
                     .build();
             inboundCounter.recordSuccess();
-            messageMappingProcessor.tell(externalMessage, getSelf());
-            replyStreamAck();
+            forwardWithinInFlightWindow(externalMessage, messageWithAck);
         } catch (final Exception e) {
             inboundCounter.recordFailure();
             log.info("Failed to handle MQTT message: {}", e.getMessage());
+            // messages which can't be handled at all would fail again when redelivered
+            messageWithAck.ack();
+            replyStreamAck(getSender());
+        }
+    }
+
+    private void forwardWithinInFlightWindow(final ExternalMessage externalMessage,
+            final MqttMessageWithAck messageWithAck) {
+        final ActorRef self = getSelf();
+        pendingAcks++;
+        pendingAcksGauge.increment();
+        forwardAcknowledgeable(externalMessage, ackTimeout,
+                () -> {
+                    messageWithAck.ack();
+                    self.tell(MessageAcknowledged.INSTANCE, ActorRef.noSender());
+                },
+                () -> self.tell(new AckTimedOut(messageWithAck), ActorRef.noSender()));
+        if (pendingAcks < inFlightWindow) {
+            replyStreamAck(getSender());
+        } else {
+            // the stream is asked for the next message as soon as a pending message was acknowledged
+            deferredStreamAckRecipient = getSender();
         }
     }
 
+    private void handleMessageAcknowledged() {
+        pendingAcks--;
+        pendingAcksGauge.decrement();
+        if (null != deferredStreamAckRecipient && pendingAcks < inFlightWindow) {
+            replyStreamAck(deferredStreamAckRecipient);
+            deferredStreamAckRecipient = null;
+        }
+    }
+
+    private void handleAckTimedOut(final AckTimedOut ackTimedOut) {
+        // MQTT has no way to reject a message; acknowledge it so that it does not block the window
+        final MqttMessageWithAck messageWithAck = ackTimedOut.messageWithAck;
+        log.warning("Message on topic <{}> was not passed on within <{}>, acknowledging it anyway.",
+                messageWithAck.message().topic(), ackTimeout);
+        messageWithAck.ack();
+        handleMessageAcknowledged();
+    }
+
     @Nullable
     private EnforcementFilter getEnforcementFilter(final String topic) {
         if (topicEnforcementFilterFactory != null) {
@@ -143,7 +220,7 @@ public final class MqttConsumerActor extends BaseConsumerActor {
     private void handleConsumerStreamMessage(final MqttClientActor.ConsumerStreamMessage message) {
         switch (message) {
             case STREAM_STARTED:
-                replyStreamAck();
+                replyStreamAck(getSender());
                 break;
             case STREAM_ENDED:
                 // sometimes Akka sends STREAM_ENDED out-of-band before the last stream element
@@ -155,11 +232,31 @@ public final class MqttConsumerActor extends BaseConsumerActor {
         }
     }
 
-    private void replyStreamAck() {
-        final ActorRef sender = getSender();
-        // check sender against deadLetters because stream actor terminates itself before waiting for the final ACK
-        if (!Objects.equals(sender, deadLetters)) {
-            sender.tell(STREAM_ACK, getSelf());
+    private void replyStreamAck(final ActorRef recipient) {
+        // check recipient against deadLetters because stream actor terminates itself before waiting for the final ACK
+        if (!Objects.equals(recipient, deadLetters)) {
+            recipient.tell(STREAM_ACK, getSelf());
+        }
+    }
+
+    /**
+     * Message to self when a pending message was acknowledged to the broker.
+     */
+    private enum MessageAcknowledged {
+
+        INSTANCE
+    }
+
+    /**
+     * Message to self when a pending message was not passed on in time.
+     */
+    private static final class AckTimedOut {
+
+        private final MqttMessageWithAck messageWithAck;
+
+        private AckTimedOut(final MqttMessageWithAck messageWithAck) {
+            this.messageWithAck = messageWithAck;
         }
+
     }
 }
@@ -41,6 +41,8 @@ import org.eclipse.ditto.services.connectivity.messaging.BaseClientState;
 import org.eclipse.ditto.services.connectivity.messaging.internal.ClientConnected;
 import org.eclipse.ditto.services.connectivity.messaging.internal.ClientDisconnected;
 import org.eclipse.ditto.services.connectivity.messaging.internal.ImmutableConnectionFailure;
+import org.eclipse.ditto.services.connectivity.util.ConnectionConfigReader;
+import org.eclipse.ditto.services.connectivity.util.RabbitMQConfigReader;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.config.ConfigUtil;
 import org.eclipse.ditto.signals.commands.connectivity.exceptions.ConnectionFailedException;
@@ -84,6 +86,7 @@ public final class RabbitMQClientActor extends BaseClientActor {
 
     private final Map<String, String> consumedTagsToAddresses;
     private final Map<String, ActorRef> consumerByAddressWithIndex;
+    private final RabbitMQConfigReader configReader;
 
     /*
      * This constructor is called via reflection by the static method propsForTest.
@@ -99,6 +102,7 @@ public final class RabbitMQClientActor extends BaseClientActor {
         this.rabbitConnectionFactoryFactory = rabbitConnectionFactoryFactory;
         consumedTagsToAddresses = new HashMap<>();
         consumerByAddressWithIndex = new HashMap<>();
+        configReader = ConnectionConfigReader.fromRawConfig(getContext().system().settings().config()).rabbitmq();
     }
 
     /*
@@ -347,6 +351,7 @@ public final class RabbitMQClientActor extends BaseClientActor {
     private void startConsumers(final Channel channel) {
         final Optional<ActorRef> messageMappingProcessor = getMessageMappingProcessorActor();
         if (messageMappingProcessor.isPresent()) {
+            applyPrefetchCount(channel);
             getSourcesOrEmptyList().forEach(source ->
                     source.getAddresses().forEach(sourceAddress -> {
                         for (int i = 0; i < source.getConsumerCount(); i++) {
@@ -357,7 +362,8 @@ public final class RabbitMQClientActor extends BaseClientActor {
                             final ActorRef consumer = startChildActorConflictFree(
                                     CONSUMER_ACTOR_PREFIX + addressWithIndex,
                                     RabbitMQConsumerActor.props(sourceAddress, messageMappingProcessor.get(),
-                                            authorizationContext, enforcement, headerMapping, connectionId()));
+                                            authorizationContext, enforcement, headerMapping, connectionId(),
+                                            channel));
                             consumerByAddressWithIndex.put(addressWithIndex, consumer);
                             try {
                                 final String consumerTag = channel.basicConsume(sourceAddress, false,
@@ -375,6 +381,18 @@ public final class RabbitMQClientActor extends BaseClientActor {
         }
     }
 
+    private void applyPrefetchCount(final Channel channel) {
+        final int prefetchCount = configReader.prefetchCount();
+        if (prefetchCount > 0) {
+            try {
+                // applies to each consumer started on the channel afterwards
+                channel.basicQos(prefetchCount);
+            } catch (final IOException e) {
+                log.warning("Failed to set prefetch count <{}>: <{}>", prefetchCount, e.getMessage());
+            }
+        }
+    }
+
     private void ensureQueuesExist(final Channel channel) {
         final Collection<String> missingQueues = new ArrayList<>();
         getSourcesOrEmptyList().forEach(consumer ->
@@ -495,10 +513,13 @@ public final class RabbitMQClientActor extends BaseClientActor {
             } catch (final Exception e) {
                 log.info("Failed to process delivery <{}>: {}", envelope.getDeliveryTag(), e.getMessage());
             } finally {
-                try {
-                    getChannel().basicAck(envelope.getDeliveryTag(), false);
-                } catch (final IOException e) {
-                    log.info("Failed to ack delivery <{}>: {}", envelope.getDeliveryTag(), e.getMessage());
+                // otherwise the consumer actor acknowledges the delivery after it was processed
+                if (!configReader.acknowledgeAfterProcessing()) {
+                    try {
+                        getChannel().basicAck(envelope.getDeliveryTag(), false);
+                    } catch (final IOException e) {
+                        log.info("Failed to ack delivery <{}>: {}", envelope.getDeliveryTag(), e.getMessage());
+                    }
                 }
             }
         }
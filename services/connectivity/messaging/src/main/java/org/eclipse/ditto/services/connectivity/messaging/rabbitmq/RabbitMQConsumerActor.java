@@ -12,7 +12,9 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.rabbitmq;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -37,12 +39,15 @@ import org.eclipse.ditto.model.placeholders.EnforcementFilterFactory;
 import org.eclipse.ditto.model.placeholders.PlaceholderFactory;
 import org.eclipse.ditto.services.connectivity.messaging.BaseConsumerActor;
 import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressStatus;
+import org.eclipse.ditto.services.connectivity.util.ConnectionConfigReader;
+import org.eclipse.ditto.services.connectivity.util.RabbitMQConfigReader;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageBuilder;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 
 import com.rabbitmq.client.BasicProperties;
+import com.rabbitmq.client.Channel;
 import com.rabbitmq.client.Delivery;
 import com.rabbitmq.client.Envelope;
 
@@ -55,6 +60,10 @@ import akka.japi.pf.ReceiveBuilder;
 
 /**
  * Actor which receives message from an RabbitMQ source and forwards them to a {@code MessageMappingProcessorActor}.
+ * <p>
+ * If configured to acknowledge after processing, a delivery is acknowledged only after the message mapping handed
+ * it over to concierge; deliveries which are not handed over in time are rejected and redelivered by the broker.
+ * </p>
  */
 public final class RabbitMQConsumerActor extends BaseConsumerActor {
 
@@ -65,11 +74,20 @@ public final class RabbitMQConsumerActor extends BaseConsumerActor {
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
     private final EnforcementFilterFactory<Map<String, String>, String> headerEnforcementFilterFactory;
+    private final Channel channel;
+    private final boolean acknowledgeAfterProcessing;
+    private final Duration ackTimeout;
 
     private RabbitMQConsumerActor(final String connectionId, final String sourceAddress,
             final ActorRef messageMappingProcessor, final AuthorizationContext authorizationContext,
-            @Nullable final Enforcement enforcement, @Nullable final HeaderMapping headerMapping) {
+            @Nullable final Enforcement enforcement, @Nullable final HeaderMapping headerMapping,
+            final Channel channel) {
         super(connectionId, sourceAddress, messageMappingProcessor, authorizationContext, headerMapping);
+        this.channel = channel;
+        final RabbitMQConfigReader configReader =
+                ConnectionConfigReader.fromRawConfig(getContext().system().settings().config()).rabbitmq();
+        acknowledgeAfterProcessing = configReader.acknowledgeAfterProcessing();
+        ackTimeout = configReader.ackTimeout();
         headerEnforcementFilterFactory =
                 enforcement != null ? EnforcementFactoryFactory.newEnforcementFilterFactory(enforcement,
                         PlaceholderFactory.newHeadersPlaceholder()) : input -> null;
@@ -84,11 +102,12 @@ public final class RabbitMQConsumerActor extends BaseConsumerActor {
      * @param authorizationContext the authorization context of this source
      * @param enforcement the enforcement configuration
      * @param headerMapping optional header mappings
+     * @param channel the channel the source is consumed on
      * @return the Akka configuration Props object.
      */
     static Props props(final String source, final ActorRef messageMappingProcessor, final
     AuthorizationContext authorizationContext, @Nullable final Enforcement enforcement,
-            @Nullable final HeaderMapping headerMapping, final String connectionId) {
+            @Nullable final HeaderMapping headerMapping, final String connectionId, final Channel channel) {
         return Props.create(
                 RabbitMQConsumerActor.class, new Creator<RabbitMQConsumerActor>() {
                     private static final long serialVersionUID = 1L;
@@ -96,7 +115,7 @@ public final class RabbitMQConsumerActor extends BaseConsumerActor {
                     @Override
                     public RabbitMQConsumerActor create() {
                         return new RabbitMQConsumerActor(connectionId, source, messageMappingProcessor,
-                                authorizationContext, enforcement, headerMapping);
+                                authorizationContext, enforcement, headerMapping, channel);
                     }
                 });
     }
@@ -142,7 +161,13 @@ public final class RabbitMQConsumerActor extends BaseConsumerActor {
             externalMessageBuilder.withSourceAddress(sourceAddress);
             final ExternalMessage externalMessage = externalMessageBuilder.build();
             inboundCounter.recordSuccess();
-            messageMappingProcessor.forward(externalMessage, getContext());
+            if (acknowledgeAfterProcessing) {
+                final long deliveryTag = envelope.getDeliveryTag();
+                forwardAcknowledgeable(externalMessage, ackTimeout, () -> ack(deliveryTag),
+                        () -> rejectForRedelivery(deliveryTag));
+            } else {
+                messageMappingProcessor.forward(externalMessage, getContext());
+            }
         } catch (final DittoRuntimeException e) {
             log.warning("Processing delivery {} failed: {}", envelope.getDeliveryTag(), e.getMessage(), e);
             inboundCounter.recordFailure();
@@ -150,9 +175,36 @@ public final class RabbitMQConsumerActor extends BaseConsumerActor {
                 // send response if headers were extracted successfully
                 messageMappingProcessor.forward(e.setDittoHeaders(DittoHeaders.of(headers)), getContext());
             }
+            ackUnprocessable(envelope);
         } catch (final Exception e) {
             log.warning("Processing delivery {} failed: {}", envelope.getDeliveryTag(), e.getMessage(), e);
             inboundCounter.recordFailure();
+            ackUnprocessable(envelope);
+        }
+    }
+
+    private void ackUnprocessable(final Envelope envelope) {
+        // deliveries which can't be processed at all would fail again when redelivered
+        if (acknowledgeAfterProcessing) {
+            ack(envelope.getDeliveryTag());
+        }
+    }
+
+    private void ack(final long deliveryTag) {
+        try {
+            channel.basicAck(deliveryTag, false);
+        } catch (final IOException | RuntimeException e) {
+            // delivery tags are only valid on their channel; after a channel recovery the broker redelivers
+            log.info("Failed to ack delivery <{}>: {}", deliveryTag, e.getMessage());
+        }
+    }
+
+    private void rejectForRedelivery(final long deliveryTag) {
+        log.info("Delivery <{}> was not processed in time, rejecting it for redelivery.", deliveryTag);
+        try {
+            channel.basicNack(deliveryTag, false, true);
+        } catch (final IOException | RuntimeException e) {
+            log.info("Failed to reject delivery <{}>: {}", deliveryTag, e.getMessage());
         }
     }
 
@@ -18,6 +18,8 @@ import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -29,6 +31,7 @@ import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
 import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.services.connectivity.messaging.BasePublisherActor;
+import org.eclipse.ditto.services.connectivity.messaging.PublishBatch;
 import org.eclipse.ditto.services.connectivity.messaging.metrics.ConnectionMetricsCollector;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
@@ -37,6 +40,7 @@ import org.eclipse.ditto.services.utils.config.ConfigUtil;
 import com.newmotion.akka.rabbitmq.ChannelCreated;
 import com.newmotion.akka.rabbitmq.ChannelMessage;
 import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.ConfirmListener;
 
 import akka.actor.ActorRef;
 import akka.actor.Props;
@@ -56,6 +60,11 @@ import akka.japi.pf.ReceiveBuilder;
  * <li>{@code address="target/routingKey"}: signals are published to exchange {@code target} with routing key {@code
  * routingKey}</li>
  * </ul>
+ * <p>
+ * If messages are published in batches, the publisher channel is put into confirm mode and a batch completes when the
+ * broker confirmed all of its messages. Confirms are handled asynchronously, so publishing is not blocked by the
+ * round-trips to the broker.
+ * </p>
  */
 public final class RabbitMQPublisherActor extends BasePublisherActor<RabbitMQTarget> {
 
@@ -68,10 +77,13 @@ public final class RabbitMQPublisherActor extends BasePublisherActor<RabbitMQTar
 
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
+    private final ConcurrentNavigableMap<Long, PendingConfirm> pendingConfirms;
+
     @Nullable private ActorRef channelActor;
 
     private RabbitMQPublisherActor(final List<Target> targets, final String connectionId) {
         super(connectionId, targets);
+        pendingConfirms = new ConcurrentSkipListMap<>();
     }
 
     /**
@@ -97,6 +109,9 @@ public final class RabbitMQPublisherActor extends BasePublisherActor<RabbitMQTar
         receiveBuilder
                 .match(ChannelCreated.class, channelCreated -> {
                     this.channelActor = channelCreated.channel();
+                    if (isPublishingBatches()) {
+                        enableConfirms(channelCreated.channel());
+                    }
 
                     final Set<String> exchanges = targets.stream()
                             .map(t -> toPublishTarget(t.getAddress()))
@@ -164,6 +179,115 @@ public final class RabbitMQPublisherActor extends BasePublisherActor<RabbitMQTar
             return;
         }
 
+        final AMQP.BasicProperties basicProperties = toBasicProperties(message);
+        final byte[] body = toBody(message);
+
+        final ChannelMessage channelMessage = ChannelMessage.apply(channel -> {
+            try {
+                log.debug("Publishing to exchange <{}> and routing key <{}>: {}", publishTarget.getExchange(),
+                        publishTarget.getRoutingKey(), basicProperties);
+                channel.basicPublish(publishTarget.getExchange(), publishTarget.getRoutingKey(), basicProperties,
+                        body);
+                publishedCounter.recordSuccess();
+            } catch (final Exception e) {
+                log.warning("Failed to publish message to RabbitMQ: {}", e.getMessage());
+                publishedCounter.recordFailure();
+            }
+            return null;
+        }, false);
+
+        channelActor.tell(channelMessage, getSelf());
+    }
+
+    @Override
+    protected void publishBatch(final PublishBatch<RabbitMQTarget> batch) {
+        final RabbitMQTarget publishTarget = batch.getPublishTarget();
+        if (channelActor == null || publishTarget.getRoutingKey() == null) {
+            log.info("No channel or routing key available, dropping batch of <{}> messages to <{}>.", batch.size(),
+                    publishTarget);
+            batch.getEntries().forEach(entry -> batch.complete(entry, false));
+            return;
+        }
+
+        final ChannelMessage channelMessage = ChannelMessage.apply(channel -> {
+            log.debug("Publishing batch of <{}> messages to exchange <{}> and routing key <{}>.", batch.size(),
+                    publishTarget.getExchange(), publishTarget.getRoutingKey());
+            for (final PublishBatch.Entry entry : batch.getEntries()) {
+                // the sequence number is 0 if the channel was recreated and is not yet in confirm mode
+                final long sequenceNumber = channel.getNextPublishSeqNo();
+                final PendingConfirm pendingConfirm = new PendingConfirm(batch, entry);
+                if (sequenceNumber > 0) {
+                    pendingConfirms.put(sequenceNumber, pendingConfirm);
+                }
+                try {
+                    final ExternalMessage message = entry.getMessage();
+                    channel.basicPublish(publishTarget.getExchange(), publishTarget.getRoutingKey(),
+                            toBasicProperties(message), toBody(message));
+                    if (sequenceNumber == 0) {
+                        pendingConfirm.complete(true);
+                    }
+                } catch (final Exception e) {
+                    log.warning("Failed to publish message to RabbitMQ: {}", e.getMessage());
+                    if (sequenceNumber == 0 || pendingConfirms.remove(sequenceNumber, pendingConfirm)) {
+                        pendingConfirm.complete(false);
+                    }
+                }
+            }
+            return null;
+        }, false);
+
+        channelActor.tell(channelMessage, getSelf());
+    }
+
+    private void enableConfirms(final ActorRef channelActorRef) {
+        // messages published on a previous channel are never confirmed
+        failPendingConfirms();
+        final ChannelMessage channelMessage = ChannelMessage.apply(channel -> {
+            try {
+                channel.confirmSelect();
+                channel.addConfirmListener(new BatchConfirmListener());
+                log.debug("Enabled publisher confirms on channel <{}>.", channel);
+            } catch (final IOException e) {
+                log.warning("Failed to enable publisher confirms: {}", e.getMessage());
+            }
+            return null;
+        }, false);
+        channelActorRef.tell(channelMessage, getSelf());
+    }
+
+    private void failPendingConfirms() {
+        Map.Entry<Long, PendingConfirm> pending = pendingConfirms.pollFirstEntry();
+        while (pending != null) {
+            pending.getValue().complete(false);
+            pending = pendingConfirms.pollFirstEntry();
+        }
+    }
+
+    /*
+     * Called by the RabbitMQ client - must be thread-safe.
+     */
+    private void confirm(final long deliveryTag, final boolean multiple, final boolean ack) {
+        if (multiple) {
+            Map.Entry<Long, PendingConfirm> pending = pendingConfirms.firstEntry();
+            while (pending != null && pending.getKey() <= deliveryTag) {
+                if (pendingConfirms.remove(pending.getKey(), pending.getValue())) {
+                    pending.getValue().complete(ack);
+                }
+                pending = pendingConfirms.firstEntry();
+            }
+        } else {
+            final PendingConfirm pending = pendingConfirms.remove(deliveryTag);
+            if (pending != null) {
+                pending.complete(ack);
+            }
+        }
+        if (!ack) {
+            log.warning("Broker rejected published message(s) up to delivery tag <{}> (multiple: {}).", deliveryTag,
+                    multiple);
+        }
+    }
+
+    private static AMQP.BasicProperties toBasicProperties(final ExternalMessage message) {
         final Map<String, String> messageHeaders = message.getHeaders();
         final String contentType = messageHeaders.get(ExternalMessage.CONTENT_TYPE_HEADER);
         final String correlationId = messageHeaders.get(DittoHeaderDefinition.CORRELATION_ID.getKey());
@@ -172,38 +296,54 @@ public final class RabbitMQPublisherActor extends BasePublisherActor<RabbitMQTar
                 .stream()
                 .collect(Collectors.toMap(Map.Entry::getKey, e -> (Object) e.getValue()));
 
-        final AMQP.BasicProperties basicProperties = new AMQP.BasicProperties.Builder()
+        return new AMQP.BasicProperties.Builder()
                 .contentType(contentType)
                 .correlationId(correlationId)
                 .headers(stringObjectMap)
                 .build();
+    }
 
-        final byte[] body;
+    private static byte[] toBody(final ExternalMessage message) {
         if (message.isTextMessage()) {
-            body = message.getTextPayload()
+            final String contentType = message.getHeaders().get(ExternalMessage.CONTENT_TYPE_HEADER);
+            return message.getTextPayload()
                     .map(text -> text.getBytes(CharsetDeterminer.getInstance().apply(contentType)))
                     .orElseThrow(() -> new IllegalArgumentException("Failed to convert text to bytes."));
         } else {
-            body = message.getBytePayload()
+            return message.getBytePayload()
                     .map(ByteBuffer::array)
                     .orElse(new byte[]{});
         }
+    }
 
-        final ChannelMessage channelMessage = ChannelMessage.apply(channel -> {
-            try {
-                log.debug("Publishing to exchange <{}> and routing key <{}>: {}", publishTarget.getExchange(),
-                        publishTarget.getRoutingKey(), basicProperties);
-                channel.basicPublish(publishTarget.getExchange(), publishTarget.getRoutingKey(), basicProperties,
-                        body);
-                publishedCounter.recordSuccess();
-            } catch (final Exception e) {
-                log.warning("Failed to publish message to RabbitMQ: {}", e.getMessage());
-                publishedCounter.recordFailure();
-            }
-            return null;
-        }, false);
+    private final class BatchConfirmListener implements ConfirmListener {
+
+        @Override
+        public void handleAck(final long deliveryTag, final boolean multiple) {
+            confirm(deliveryTag, multiple, true);
+        }
+
+        @Override
+        public void handleNack(final long deliveryTag, final boolean multiple) {
+            confirm(deliveryTag, multiple, false);
+        }
+
+    }
+
+    private static final class PendingConfirm {
+
+        private final PublishBatch<RabbitMQTarget> batch;
+        private final PublishBatch.Entry entry;
+
+        private PendingConfirm(final PublishBatch<RabbitMQTarget> batch, final PublishBatch.Entry entry) {
+            this.batch = batch;
+            this.entry = entry;
+        }
+
+        private void complete(final boolean success) {
+            batch.complete(entry, success);
+        }
 
-        channelActor.tell(channelMessage, getSelf());
     }
 
 }
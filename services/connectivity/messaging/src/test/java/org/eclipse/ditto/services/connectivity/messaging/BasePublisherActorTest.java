@@ -26,6 +26,7 @@ import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
 import org.eclipse.ditto.model.connectivity.HeaderMapping;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.model.connectivity.Topic;
+import org.eclipse.ditto.model.placeholders.ExpressionTemplate;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
@@ -85,8 +86,9 @@ public class BasePublisherActorTest {
                 OutboundSignalFactory.newMappedOutboundSignal(outboundSignal, externalMessage);
 
         // when
+        final Map<String, ExpressionTemplate> headerMappingTemplates = new HashMap<>();
         final ExternalMessage headerMappedExternalMessage = BasePublisherActor.applyHeaderMapping(mappedOutboundSignal, target,
-                Mockito.mock(DiagnosticLoggingAdapter.class));
+                headerMappingTemplates, Mockito.mock(DiagnosticLoggingAdapter.class));
 
         // then
         final Map<String, String> expectedHeaders = new HashMap<>();
@@ -98,5 +100,7 @@ public class BasePublisherActorTest {
 
         final Map<String, String> actualHeaders = headerMappedExternalMessage.getHeaders();
         Assertions.assertThat(actualHeaders).containsOnly(expectedHeaders.entrySet().toArray(new Map.Entry[0]));
+        // the parsed templates are kept for the next message
+        Assertions.assertThat(headerMappingTemplates).containsOnlyKeys(headerMappingMap.values());
     }
 }
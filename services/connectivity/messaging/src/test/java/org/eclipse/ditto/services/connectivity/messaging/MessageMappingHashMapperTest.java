@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.services.connectivity.messaging.internal.AcknowledgeableMessage;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
+import org.eclipse.ditto.services.models.connectivity.OutboundSignalFactory;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.junit.Test;
+
+/**
+ * Tests {@link MessageMappingHashMapper}.
+ */
+public class MessageMappingHashMapperTest {
+
+    private static final String THING_ID = "org.eclipse.ditto:thing";
+    private static final String SOURCE_ADDRESS = "telemetry/tenant";
+
+    private final MessageMappingHashMapper underTest = MessageMappingHashMapper.getInstance();
+
+    @Test
+    public void signalsAreKeyedByThingId() {
+        final RetrieveThing retrieveThing = RetrieveThing.of(THING_ID, DittoHeaders.empty());
+
+        assertThat(underTest.hashKey(retrieveThing)).isEqualTo(THING_ID);
+        assertThat(underTest.hashKey(OutboundSignalFactory.newOutboundSignal(retrieveThing, Collections.emptyList())))
+                .isEqualTo(THING_ID);
+    }
+
+    @Test
+    public void externalMessagesAreKeyedByDevice() {
+        final Map<String, String> headers = new HashMap<>();
+        headers.put("mqtt.topic", "devices/sensor-1");
+        headers.put("device_id", "sensor-1");
+        final ExternalMessage externalMessage = ExternalMessageFactory.newExternalMessageBuilder(headers)
+                .withSourceAddress(SOURCE_ADDRESS)
+                .build();
+
+        assertThat(underTest.hashKey(externalMessage)).isEqualTo("sensor-1");
+        assertThat(underTest.hashKey(AcknowledgeableMessage.of(externalMessage))).isEqualTo("sensor-1");
+    }
+
+    @Test
+    public void externalMessagesWithoutDeviceAreKeyedBySourceAddress() {
+        final ExternalMessage externalMessage =
+                ExternalMessageFactory.newExternalMessageBuilder(Collections.singletonMap("content-type", "text/plain"))
+                        .withSourceAddress(SOURCE_ADDRESS)
+                        .build();
+
+        assertThat(underTest.hashKey(externalMessage)).isEqualTo(SOURCE_ADDRESS);
+    }
+
+    @Test
+    public void otherMessagesGetDefaultKey() {
+        assertThat(underTest.hashKey(new Object())).isEqualTo(MessageMappingHashMapper.DEFAULT_KEY);
+        assertThat(underTest.hashKey(null)).isEqualTo(MessageMappingHashMapper.DEFAULT_KEY);
+        assertThat(underTest.hashKey(ExternalMessageFactory.newExternalMessageBuilder(Collections.emptyMap()).build()))
+                .isEqualTo(MessageMappingHashMapper.DEFAULT_KEY);
+    }
+
+}
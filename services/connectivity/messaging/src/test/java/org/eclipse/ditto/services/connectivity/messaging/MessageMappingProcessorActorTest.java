@@ -53,6 +53,7 @@ import org.eclipse.ditto.model.placeholders.Placeholder;
 import org.eclipse.ditto.protocoladapter.DittoProtocolAdapter;
 import org.eclipse.ditto.protocoladapter.JsonifiableAdaptable;
 import org.eclipse.ditto.protocoladapter.ProtocolFactory;
+import org.eclipse.ditto.services.connectivity.messaging.internal.AcknowledgeableMessage;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
 import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
 import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
@@ -67,10 +68,12 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.mockito.Mockito;
 
+import akka.Done;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.actor.Props;
 import akka.event.DiagnosticLoggingAdapter;
+import akka.testkit.TestProbe;
 import akka.testkit.javadsl.TestKit;
 
 /**
@@ -103,6 +106,29 @@ public class MessageMappingProcessorActorTest {
         testExternalMessageInDittoProtocolIsProcessed(null, true);
     }
 
+    @Test
+    public void testAcknowledgeableMessageIsProcessedAndAcknowledged() {
+        new TestKit(actorSystem) {{
+            final ActorRef messageMappingProcessorActor = createMessageMappingProcessorActor(getRef());
+            final TestProbe consumer = TestProbe.apply(actorSystem);
+            final ModifyAttribute modifyCommand = createModifyAttributeCommand();
+            final ExternalMessage externalMessage =
+                    ExternalMessageFactory.newExternalMessageBuilder(modifyCommand.getDittoHeaders())
+                            .withText(ProtocolFactory
+                                    .wrapAsJsonifiableAdaptable(DITTO_PROTOCOL_ADAPTER.toAdaptable(modifyCommand))
+                                    .toJsonString())
+                            .withAuthorizationContext(AUTHORIZATION_CONTEXT)
+                            .build();
+
+            messageMappingProcessorActor.tell(AcknowledgeableMessage.of(externalMessage), consumer.ref());
+
+            final ModifyAttribute modifyAttribute = expectMsgClass(ModifyAttribute.class);
+            assertThat(modifyAttribute.getDittoHeaders().getCorrelationId()).contains(
+                    modifyCommand.getDittoHeaders().getCorrelationId().orElse(null));
+            consumer.expectMsg(Done.getInstance());
+        }};
+    }
+
     @Test
     public void testTopicPlaceholderInTargetIsResolved() {
         new TestKit(actorSystem) {{
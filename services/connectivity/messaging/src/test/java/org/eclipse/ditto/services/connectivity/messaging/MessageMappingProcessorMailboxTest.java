@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import akka.actor.ActorPaths;
+
+/**
+ * Unit test for {@link MessageMappingProcessorMailbox}.
+ */
+public final class MessageMappingProcessorMailboxTest {
+
+    @Test
+    public void connectionIdIsDecodedFromPathOfConnectionSupervisor() {
+        final String connectionId = MessageMappingProcessorMailbox.getConnectionId(ActorPaths.fromString(
+                "akka.tcp://ditto-cluster@127.0.0.1:2551/remote/akka.tcp/ditto-cluster@127.0.0.1:2552/user/" +
+                        "connectivityRoot/connectionSupervisor/my%3Aconnection/pa/$a/c1/messageMappingProcessor3/$b"));
+
+        assertThat(connectionId).isEqualTo("my:connection");
+    }
+
+    @Test
+    public void connectionIdIsUnknownOutsideOfConnectionSupervisor() {
+        final String connectionId = MessageMappingProcessorMailbox.getConnectionId(
+                ActorPaths.fromString("akka://AkkaTestSystem/user/messageMappingProcessor/$a"));
+
+        assertThat(connectionId).isEqualTo("unknown");
+    }
+
+}
@@ -36,6 +36,7 @@ import org.eclipse.ditto.model.connectivity.HeaderMapping;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.protocoladapter.TopicPath;
+import org.eclipse.ditto.signals.events.things.AttributeModified;
 import org.eclipse.ditto.signals.events.things.ThingModified;
 import org.junit.Test;
 
@@ -175,4 +176,42 @@ public class SignalFilterWithFilterTest {
                 .assertThat(filteredTargets)
                 .contains(targetA, targetD); // THEN: only targetA and targetD should be in the filtered targets
     }
+
+    @Test
+    public void applySignalFilterWithRqlFilterToSubsequentAttributeEvents() {
+
+        // targetA does filter for all namespaces and filters that attribute "test" is between 23 and 50
+        final String filterA = "and(gt(attributes/test,23),lt(attributes/test,50))";
+        final Target targetA = newTarget("twin/a", newAuthContext(AUTHORIZED), HEADER_MAPPING, null,
+                newFilteredTopic(TWIN_EVENTS, Collections.emptyList(), filterA));
+
+        // targetB does filter for all namespaces and filters that the "test" attribute exists in namespace "foo"
+        final String filterB = "and(exists(attributes/test),eq(_namespace,\"foo\"))";
+        final Target targetB = newTarget("twin/b", newAuthContext(AUTHORIZED), HEADER_MAPPING, null,
+                newFilteredTopic(TWIN_EVENTS, Collections.emptyList(), filterB));
+
+        final Connection connection = ConnectivityModelFactory
+                .newConnectionBuilder(CONNECTION, ConnectionType.AMQP_10, ConnectivityStatus.OPEN, URI)
+                .targets(Arrays.asList(targetA, targetB))
+                .build();
+
+        final DittoHeaders headers = DittoHeaders.newBuilder().readSubjects(Arrays.asList(AUTHORIZED.getId()))
+                .build();
+        final SignalFilter signalFilter = new SignalFilter(connection);
+
+        // WHEN: the "test" value is modified to 42, then to 66 with the same (compiled) filters
+        Assertions
+                .assertThat(signalFilter.filter(AttributeModified.of("foo:bar13", JsonPointer.of("test"),
+                        JsonValue.of(42), 3L, headers)))
+                .isEqualTo(Arrays.asList(targetA, targetB));
+        Assertions
+                .assertThat(signalFilter.filter(AttributeModified.of("foo:bar13", JsonPointer.of("test"),
+                        JsonValue.of(66), 4L, headers)))
+                .isEqualTo(Collections.singletonList(targetB));
+        Assertions
+                .assertThat(signalFilter.filter(AttributeModified.of("bar:foo13", JsonPointer.of("other"),
+                        JsonValue.of(42), 5L, headers)))
+                .isEmpty();
+    }
+
 }
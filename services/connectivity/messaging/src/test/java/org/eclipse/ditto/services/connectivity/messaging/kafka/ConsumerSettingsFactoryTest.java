@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.services.connectivity.messaging.TestConstants.Authorization.AUTHORIZATION_CONTEXT;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectionType;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
+import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.services.connectivity.util.ConnectionConfigReader;
+import org.eclipse.ditto.services.connectivity.util.KafkaConfigReader;
+import org.junit.Test;
+
+import akka.kafka.ConsumerSettings;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.connectivity.messaging.kafka.ConsumerSettingsFactory}.
+ */
+public class ConsumerSettingsFactoryTest {
+
+    private static final String[] BOOTSTRAP_SERVERS = {
+            "foo:123",
+            "bar:456",
+            "baz:789"
+    };
+    private static final String ADDITIONAL_BOOTSTRAP_SERVERS = Arrays.stream(BOOTSTRAP_SERVERS)
+            .limit(BOOTSTRAP_SERVERS.length - 1L)
+            .collect(Collectors.joining(","));
+    private static final String USERNAME = "user";
+    @SuppressWarnings("squid:S2068")
+    private static final String PASSWORD = "pw";
+    private static final String URI = "tcp://" + USERNAME + ":" + PASSWORD + "@" + BOOTSTRAP_SERVERS[BOOTSTRAP_SERVERS.length - 1];
+    private static final String CONNECTION_ID = "kafka";
+    private static final String SOURCE_ADDRESS = "events";
+    private static final Map<String, String> SPECIFIC_CONFIG = new HashMap<>();
+    private static final KafkaConfigReader CONFIG_READER = ConnectionConfigReader.fromRawConfig(TestConstants.CONFIG).kafka();
+
+    static {
+        SPECIFIC_CONFIG.put("bootstrapServers", ADDITIONAL_BOOTSTRAP_SERVERS);
+    }
+
+    private final ConsumerSettingsFactory underTest = ConsumerSettingsFactory.getInstance();
+
+    @Test
+    public void addsBootstrapServers() {
+        final ConsumerSettings<String, String> settings = settings(SPECIFIC_CONFIG);
+
+        final List<String> servers = settings.properties().get(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG)
+                .map(s -> Arrays.asList(s.split(",")))
+                .getOrElse(null);
+        assertThat(servers).containsExactlyInAnyOrder(BOOTSTRAP_SERVERS);
+    }
+
+    @Test
+    public void usesConnectionIdAsDefaultGroupId() {
+        final ConsumerSettings<String, String> settings = settings(SPECIFIC_CONFIG);
+
+        assertThat(settings.properties().get(ConsumerConfig.GROUP_ID_CONFIG).getOrElse(null))
+                .isEqualTo(CONNECTION_ID);
+    }
+
+    @Test
+    public void usesGroupIdOfSpecificConfig() {
+        final Map<String, String> specificConfig = new HashMap<>(SPECIFIC_CONFIG);
+        specificConfig.put(ConsumerSettingsFactory.SPECIFIC_CONFIG_GROUP_ID_KEY, "group");
+        final ConsumerSettings<String, String> settings = settings(specificConfig);
+
+        assertThat(settings.properties().get(ConsumerConfig.GROUP_ID_CONFIG).getOrElse(null)).isEqualTo("group");
+    }
+
+    @Test
+    public void fallsBackToDefaultsOfAkkaStreamKafka() {
+        final ConsumerSettings<String, String> settings = settings(SPECIFIC_CONFIG);
+
+        assertThat(settings.pollInterval()).isNotNull();
+        assertThat(settings.properties().get(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG).getOrElse(null))
+                .isEqualTo("false");
+    }
+
+    private ConsumerSettings<String, String> settings(final Map<String, String> specificConfig) {
+        return underTest.createConsumerSettings(connection(specificConfig), CONFIG_READER);
+    }
+
+    private static Connection connection(final Map<String, String> specificConfig) {
+        return ConnectivityModelFactory.newConnectionBuilder(CONNECTION_ID, ConnectionType.KAFKA,
+                ConnectivityStatus.OPEN, URI)
+                .sources(singletonList(ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, SOURCE_ADDRESS)))
+                .specificConfig(specificConfig)
+                .build();
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.eclipse.ditto.services.connectivity.messaging.TestConstants.Authorization.AUTHORIZATION_CONTEXT;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.connectivity.Connection;
+import org.eclipse.ditto.model.connectivity.ConnectionConfigurationInvalidException;
+import org.eclipse.ditto.model.connectivity.ConnectionType;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
+import org.eclipse.ditto.model.connectivity.Topic;
+import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.services.connectivity.util.ConnectionConfigReader;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+
+import akka.kafka.ProducerSettings;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.connectivity.messaging.kafka.KafkaBatchingSpecificConfig}.
+ */
+public class KafkaBatchingSpecificConfigTest {
+
+    private static final DittoHeaders HEADERS = DittoHeaders.empty();
+    private static final Config CONFIG =
+            ConnectionConfigReader.fromRawConfig(TestConstants.CONFIG).kafka().internalProducerSettings();
+    private static final ProducerSettings<String, String>
+            DEFAULT_PRODUCER_SETTINGS = ProducerSettings.create(CONFIG, new StringSerializer(), new StringSerializer());
+
+    private final KafkaBatchingSpecificConfig batchingSpecificConfig = KafkaBatchingSpecificConfig.getInstance();
+
+    @Test
+    public void shouldOnlyBeApplicableIfBatchingIsConfigured() {
+        assertThat(batchingSpecificConfig.isApplicable(connectionWithBatching(null, null))).isFalse();
+        assertThat(batchingSpecificConfig.isApplicable(connectionWithBatching("5", null))).isTrue();
+        assertThat(batchingSpecificConfig.isApplicable(connectionWithBatching(null, "16384"))).isTrue();
+    }
+
+    @Test
+    public void shouldValidateNonNegativeIntegers() {
+        batchingSpecificConfig.validateOrThrow(connectionWithBatching("0", "16384"), HEADERS);
+        batchingSpecificConfig.validateOrThrow(connectionWithBatching(null, null), HEADERS);
+        assertThat(batchingSpecificConfig.isValid(connectionWithBatching("5", " 100 "))).isTrue();
+    }
+
+    @Test
+    public void shouldNotValidateInvalidValues() {
+        shouldNotValidate(connectionWithBatching("-1", null));
+        shouldNotValidate(connectionWithBatching(null, "big"));
+        shouldNotValidate(connectionWithBatching("", "16384"));
+    }
+
+    @Test
+    public void shouldApplyConfiguredValues() {
+        final ProducerSettings<String, String> settings =
+                batchingSpecificConfig.apply(DEFAULT_PRODUCER_SETTINGS, connectionWithBatching("5", "32768"));
+        assertThat(settings.properties().get(ProducerConfig.LINGER_MS_CONFIG).get()).isEqualTo("5");
+        assertThat(settings.properties().get(ProducerConfig.BATCH_SIZE_CONFIG).get()).isEqualTo("32768");
+    }
+
+    @Test
+    public void shouldNotApplyInvalidValues() {
+        final ProducerSettings<String, String> settings =
+                batchingSpecificConfig.apply(DEFAULT_PRODUCER_SETTINGS, connectionWithBatching("-5", "32768"));
+        assertThat(settings).isSameAs(DEFAULT_PRODUCER_SETTINGS);
+    }
+
+    private void shouldNotValidate(final Connection connection) {
+        assertThat(batchingSpecificConfig.isValid(connection)).isFalse();
+        assertThatExceptionOfType(ConnectionConfigurationInvalidException.class)
+                .isThrownBy(() -> batchingSpecificConfig.validateOrThrow(connection, HEADERS));
+    }
+
+    private static Connection connectionWithBatching(@Nullable final String lingerMs,
+            @Nullable final String batchSize) {
+        final Map<String, String> specificConfig = new HashMap<>();
+        if (null != lingerMs) {
+            specificConfig.put(KafkaBatchingSpecificConfig.SPECIFIC_CONFIG_LINGER_MS_KEY, lingerMs);
+        }
+        if (null != batchSize) {
+            specificConfig.put(KafkaBatchingSpecificConfig.SPECIFIC_CONFIG_BATCH_SIZE_KEY, batchSize);
+        }
+        return ConnectivityModelFactory.newConnectionBuilder("kafka", ConnectionType.KAFKA,
+                ConnectivityStatus.OPEN, "tcp://localhost:9092")
+                .targets(singletonList(ConnectivityModelFactory.newTarget("target", AUTHORIZATION_CONTEXT, null, 1,
+                        Topic.LIVE_EVENTS)))
+                .specificConfig(specificConfig)
+                .build();
+    }
+
+}
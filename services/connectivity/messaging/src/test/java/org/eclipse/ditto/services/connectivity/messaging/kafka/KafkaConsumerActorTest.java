@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.services.connectivity.messaging.TestConstants.Authorization.AUTHORIZATION_CONTEXT;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.awaitility.Awaitility;
+import org.eclipse.ditto.model.connectivity.ConnectivityModelFactory;
+import org.eclipse.ditto.model.connectivity.ConnectivityStatus;
+import org.eclipse.ditto.model.connectivity.ResourceStatus;
+import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.services.connectivity.messaging.internal.AcknowledgeableMessage;
+import org.eclipse.ditto.services.connectivity.messaging.internal.RetrieveAddressStatus;
+import org.eclipse.ditto.services.connectivity.util.ConnectionConfigReader;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import akka.Done;
+import akka.NotUsed;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Status;
+import akka.japi.Pair;
+import akka.kafka.ConsumerMessage;
+import akka.kafka.javadsl.Consumer;
+import akka.pattern.PatternsCS;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.connectivity.messaging.kafka.KafkaConsumerActor}.
+ */
+public class KafkaConsumerActorTest {
+
+    private static final String TOPIC = "events";
+
+    private static ActorSystem actorSystem;
+
+    private final List<ConsumerMessage.Committable> committed = new CopyOnWriteArrayList<>();
+    private KafkaConnectionFactory connectionFactory;
+
+    @BeforeClass
+    public static void setUp() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", TestConstants.CONFIG);
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        TestKit.shutdownActorSystem(actorSystem, scala.concurrent.duration.Duration.apply(5, TimeUnit.SECONDS),
+                false);
+    }
+
+    @Before
+    public void setupMocks() {
+        connectionFactory = mock(KafkaConnectionFactory.class);
+        final Consumer.Control control = mock(Consumer.Control.class);
+        final List<Pair<TopicPartition, Source<ConsumerMessage.CommittableMessage<String, String>, NotUsed>>>
+                partitions = Arrays.asList(partition(0), partition(1));
+        when(connectionFactory.newPartitionedSource(anySet()))
+                .thenReturn(Source.from(partitions)
+                        .concat(Source.maybe())
+                        .mapMaterializedValue(notUsed -> control));
+        when(connectionFactory.newCommitterSink()).thenReturn(Sink.foreach(committed::add));
+    }
+
+    @Test
+    public void consumedMessagesAreCommittedAfterAcknowledgement() {
+        new TestKit(actorSystem) {{
+            final TestProbe messageMappingProcessor = TestProbe.apply(actorSystem);
+            final ActorRef underTest = actorSystem.actorOf(KafkaConsumerActor.props("theConnection",
+                    ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, TOPIC),
+                    messageMappingProcessor.ref(), connectionFactory,
+                    ConnectionConfigReader.fromRawConfig(TestConstants.CONFIG).kafka(), getRef(), false));
+            expectMsgClass(Status.Success.class);
+
+            // both partitions are consumed in parallel
+            for (int i = 0; i < 4; i++) {
+                final AcknowledgeableMessage message =
+                        messageMappingProcessor.expectMsgClass(AcknowledgeableMessage.class);
+                final ExternalMessage externalMessage = message.getMessage();
+                assertThat(externalMessage.getTextPayload()).contains("payload");
+                assertThat(externalMessage.getSourceAddress()).contains(TOPIC);
+                assertThat(externalMessage.getHeaders()).containsEntry(KafkaConsumerActor.KAFKA_TOPIC_HEADER, TOPIC);
+                assertThat(committed).isEmpty();
+                messageMappingProcessor.reply(Done.getInstance());
+            }
+
+            Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> committed.size() == 4);
+            actorSystem.stop(underTest);
+        }};
+    }
+
+    @Test
+    public void consumerFailsIfMorePartitionsThanMaxPartitionsAreAssigned() {
+        final Config config = ConfigFactory.parseString("ditto.connectivity.connection.kafka.consumer.max-partitions=1")
+                .withFallback(TestConstants.CONFIG);
+        new TestKit(actorSystem) {{
+            final TestProbe messageMappingProcessor = TestProbe.apply(actorSystem);
+            final ActorRef underTest = actorSystem.actorOf(KafkaConsumerActor.props("theConnection",
+                    ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, TOPIC),
+                    messageMappingProcessor.ref(), connectionFactory,
+                    ConnectionConfigReader.fromRawConfig(config).kafka(), getRef(), false));
+            expectMsgClass(Status.Success.class);
+
+            // the first partition is not completed while its messages are not acknowledged
+            Awaitility.await().atMost(5, TimeUnit.SECONDS).until(() -> {
+                final ResourceStatus status = (ResourceStatus) PatternsCS.ask(underTest,
+                        RetrieveAddressStatus.getInstance(), 1000L).toCompletableFuture().get();
+                return status.getStatus() == ConnectivityStatus.FAILED &&
+                        status.getStatusDetails().filter(details -> details.contains("max-partitions")).isPresent();
+            });
+            actorSystem.stop(underTest);
+        }};
+    }
+
+    @Test
+    public void noMessagesAreConsumedInDryRun() {
+        new TestKit(actorSystem) {{
+            final TestProbe messageMappingProcessor = TestProbe.apply(actorSystem);
+            actorSystem.actorOf(KafkaConsumerActor.props("theConnection",
+                    ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, TOPIC),
+                    messageMappingProcessor.ref(), connectionFactory,
+                    ConnectionConfigReader.fromRawConfig(TestConstants.CONFIG).kafka(), getRef(), true));
+            expectMsgClass(Status.Success.class);
+
+            messageMappingProcessor.expectNoMessage();
+        }};
+    }
+
+    private static Pair<TopicPartition, Source<ConsumerMessage.CommittableMessage<String, String>, NotUsed>> partition(
+            final int partition) {
+        final Source<ConsumerMessage.CommittableMessage<String, String>, NotUsed> messages =
+                Source.from(Arrays.asList(message(partition, 0L), message(partition, 1L)));
+        return Pair.create(new TopicPartition(TOPIC, partition), messages);
+    }
+
+    private static ConsumerMessage.CommittableMessage<String, String> message(final int partition,
+            final long offset) {
+        return new ConsumerMessage.CommittableMessage<>(
+                new ConsumerRecord<>(TOPIC, partition, offset, "key", "payload"),
+                mock(ConsumerMessage.CommittableOffset.class));
+    }
+
+}
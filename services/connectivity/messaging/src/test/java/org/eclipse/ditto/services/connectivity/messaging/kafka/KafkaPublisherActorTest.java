@@ -21,21 +21,38 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.kafka.common.header.Header;
 import org.apache.kafka.common.header.internals.RecordHeader;
 import org.awaitility.Awaitility;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.services.connectivity.messaging.AbstractPublisherActorTest;
 import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessage;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
+import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
+import org.eclipse.ditto.services.models.connectivity.OutboundSignalFactory;
+import org.eclipse.ditto.signals.base.Signal;
+import org.junit.Test;
 import org.mockito.Mockito;
 
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorIdentity;
 import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.actor.Identify;
 import akka.actor.Props;
 import akka.actor.Status;
 import akka.kafka.ProducerMessage;
 import akka.stream.javadsl.Flow;
 import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
 
 /**
  * Unit test for {@link org.eclipse.ditto.services.connectivity.messaging.kafka.KafkaPublisherActor}.
@@ -111,6 +128,101 @@ public class KafkaPublisherActorTest extends AbstractPublisherActorTest {
         return OUTBOUND_ADDRESS;
     }
 
+    @Test
+    public void messagesWaitInOverflowBufferInOrderAndAreDroppedIfItIsFull() throws Exception {
+        final ActorSystem system = createActorSystemWithProducerConfig(2, 100);
+        try {
+            new TestKit(system) {{
+                final CompletableFuture<Void> gate = new CompletableFuture<>();
+                final List<String> published = new CopyOnWriteArrayList<>();
+                final ActorRef underTest = createPublisherActorWithGatedFlow(system, gate, published);
+
+                // 2 messages fill the producer, 2 wait in the overflow buffer and the last one is dropped
+                for (int i = 0; i < 5; i++) {
+                    underTest.tell(createOutboundSignal("payload-" + i), getRef());
+                }
+                underTest.tell(new Identify(1), getRef());
+                expectMsgClass(ActorIdentity.class);
+                // the buffered messages are retried while the producer has no capacity
+                TimeUnit.MILLISECONDS.sleep(200L);
+                gate.complete(null);
+
+                Awaitility.await().until(() -> published.size() >= 4);
+                TimeUnit.MILLISECONDS.sleep(200L);
+                assertThat(published).containsExactly("payload-0", "payload-1", "payload-2", "payload-3");
+            }};
+        } finally {
+            TestKit.shutdownActorSystem(system);
+        }
+    }
+
+    @Test
+    public void bufferedMessageIsDroppedAfterMaxRetries() throws Exception {
+        final ActorSystem system = createActorSystemWithProducerConfig(1, 2);
+        try {
+            new TestKit(system) {{
+                final CompletableFuture<Void> gate = new CompletableFuture<>();
+                final List<String> published = new CopyOnWriteArrayList<>();
+                final ActorRef underTest = createPublisherActorWithGatedFlow(system, gate, published);
+
+                underTest.tell(createOutboundSignal("payload-0"), getRef());
+                underTest.tell(createOutboundSignal("payload-1"), getRef());
+                // retries after 10ms, 20ms and 30ms, then payload-1 is dropped
+                TimeUnit.MILLISECONDS.sleep(500L);
+                gate.complete(null);
+                underTest.tell(createOutboundSignal("payload-2"), getRef());
+
+                Awaitility.await().until(() -> published.size() >= 2);
+                TimeUnit.MILLISECONDS.sleep(200L);
+                assertThat(published).containsExactly("payload-0", "payload-2");
+            }};
+        } finally {
+            TestKit.shutdownActorSystem(system);
+        }
+    }
+
+    private static ActorSystem createActorSystemWithProducerConfig(final int queueSize, final int maxRetries) {
+        final Config config = ConfigFactory.parseString("ditto.connectivity.connection.kafka.producer {\n" +
+                "  queue-size = " + queueSize + "\n" +
+                "  max-retries = " + maxRetries + "\n" +
+                "  retry-backoff = 10ms\n" +
+                "}")
+                .withFallback(ConfigFactory.load("test"));
+        return ActorSystem.create("AkkaTestSystemWithProducerConfig", config);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ActorRef createPublisherActorWithGatedFlow(final ActorSystem system, final CompletableFuture<Void> gate,
+            final List<String> published) {
+
+        final KafkaConnectionFactory gatedConnectionFactory = mock(KafkaConnectionFactory.class);
+        when(gatedConnectionFactory.newFlow())
+                .thenReturn(Flow.<ProducerMessage.Envelope<String, String, Object>>create()
+                        .mapAsync(1, envelope -> gate.thenApply(unused -> {
+                            final ProducerMessage.Message<String, String, Object> message =
+                                    (ProducerMessage.Message<String, String, Object>) envelope;
+                            published.add(message.record().value());
+                            return createResult(message);
+                        })));
+        final TestProbe gatedClientActor = TestProbe.apply(system);
+        final ActorRef publisherActor = system.actorOf(KafkaPublisherActor.props("theConnection",
+                Collections.emptyList(), gatedConnectionFactory, gatedClientActor.ref(), false));
+        gatedClientActor.expectMsgClass(Status.Success.class);
+        return publisherActor;
+    }
+
+    private OutboundSignal.WithExternalMessage createOutboundSignal(final String payload) {
+        final OutboundSignal outboundSignal = mock(OutboundSignal.class);
+        final Signal source = mock(Signal.class);
+        when(source.getId()).thenReturn(TestConstants.Things.THING_ID);
+        when(source.getDittoHeaders()).thenReturn(DittoHeaders.empty());
+        when(outboundSignal.getSource()).thenReturn(source);
+        when(outboundSignal.getTargets()).thenReturn(Collections.singletonList(createTestTarget()));
+        final ExternalMessage externalMessage =
+                ExternalMessageFactory.newExternalMessageBuilder(DittoHeaders.empty()).withText(payload).build();
+        return OutboundSignalFactory.newMappedOutboundSignal(outboundSignal, externalMessage);
+    }
+
     private void shouldContainHeader(final List<Header> headers, final String key, final String value) {
         final RecordHeader expectedHeader = new RecordHeader(key, value.getBytes(StandardCharsets.US_ASCII));
         assertThat(headers).contains(expectedHeader);
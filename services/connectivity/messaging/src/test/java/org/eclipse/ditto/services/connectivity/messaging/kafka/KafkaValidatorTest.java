@@ -43,12 +43,20 @@ public class KafkaValidatorTest {
     }
 
     @Test
-    public void testSourcesAreInvalid() {
-        verifyConnectionConfigurationInvalidExceptionIsThrownForSource(source());
+    public void testValidSourceAddress() {
+        KafkaValidator.newInstance().validateSource(source("events"), DittoHeaders.empty(), () -> "");
+        KafkaValidator.newInstance().validateSource(source("ditto.events_v-1"), DittoHeaders.empty(), () -> "");
     }
 
-    private Source source() {
-        return ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, "any");
+    @Test
+    public void testInvalidSourceAddress() {
+        verifyConnectionConfigurationInvalidExceptionIsThrownForSource(source(""));
+        verifyConnectionConfigurationInvalidExceptionIsThrownForSource(source("events/"));
+        verifyConnectionConfigurationInvalidExceptionIsThrownForSource(source("ditto/{{thing:id}}"));
+    }
+
+    private Source source(final String address) {
+        return ConnectivityModelFactory.newSource(AUTHORIZATION_CONTEXT, address);
     }
 
     private void verifyConnectionConfigurationInvalidExceptionIsThrownForSource(final Source source) {
@@ -17,6 +17,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.time.Clock;
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Test;
 
@@ -63,4 +66,49 @@ public class SlidingWindowCounterTest {
 
     }
 
+    @Test
+    public void testMeasurementsOutsideOfWindowAreNotCounted() {
+        final SlidingWindowCounter counter = new SlidingWindowCounter(Clock.systemUTC(), MeasurementWindow.ONE_MINUTE);
+        final long now = System.currentTimeMillis();
+
+        final long resolution = MeasurementWindow.ONE_MINUTE.getResolution().toMillis();
+        final long slotsPerWindow = MeasurementWindow.ONE_MINUTE.getWindow().toMillis() / resolution;
+
+        counter.increment(true, now - MeasurementWindow.ONE_HOUR.getWindow().toMillis());
+        counter.increment(true, now);
+        // an outdated measurement sharing the ring index of the current time slot must not replace it
+        counter.increment(true, now - (2 * slotsPerWindow + 1) * resolution);
+
+        assertThat(counter.getCounts(true)).containsEntry(MeasurementWindow.ONE_MINUTE.getWindow(), 1L);
+
+        counter.reset();
+        assertThat(counter.getCounts(true)).containsEntry(MeasurementWindow.ONE_MINUTE.getWindow(), 0L);
+    }
+
+    @Test
+    public void testConcurrentIncrements() throws InterruptedException {
+        final SlidingWindowCounter counter = new SlidingWindowCounter(Clock.systemUTC(),
+                MeasurementWindow.ONE_MINUTE,
+                MeasurementWindow.ONE_HOUR);
+        final long ts = System.currentTimeMillis();
+        final int threads = 8;
+        final int incrementsPerThread = 10_000;
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            executorService.submit(() -> {
+                for (int j = 0; j < incrementsPerThread; j++) {
+                    counter.increment(j % 2 == 0, ts);
+                }
+            });
+        }
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        final long expected = threads * incrementsPerThread / 2;
+        assertThat(counter.getCounts(true)).containsEntry(MeasurementWindow.ONE_HOUR.getWindow(), expected);
+        assertThat(counter.getCounts(false)).containsEntry(MeasurementWindow.ONE_HOUR.getWindow(), expected);
+        assertThat(counter.getLastSuccessMeasurementAt()).isEqualTo(ts);
+    }
+
 }
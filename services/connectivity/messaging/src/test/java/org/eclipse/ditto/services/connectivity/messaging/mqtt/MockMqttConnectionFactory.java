@@ -30,6 +30,7 @@ import akka.Done;
 import akka.actor.ActorRef;
 import akka.japi.function.Predicate;
 import akka.stream.alpakka.mqtt.MqttMessage;
+import akka.stream.alpakka.mqtt.javadsl.MqttMessageWithAck;
 import akka.stream.javadsl.Flow;
 import akka.stream.javadsl.Sink;
 
@@ -75,13 +76,15 @@ final class MockMqttConnectionFactory implements MqttConnectionFactory {
     }
 
     @Override
-    public akka.stream.javadsl.Source<MqttMessage, CompletionStage<Done>> newSource(final Source mqttSource,
+    public akka.stream.javadsl.Source<MqttMessageWithAck, CompletionStage<Done>> newSource(final Source mqttSource,
             final int bufferSize) {
         if (error != null) {
-            return akka.stream.javadsl.Source.<MqttMessage>failed(error).mapMaterializedValue(this::failedFuture);
+            return akka.stream.javadsl.Source.<MqttMessageWithAck>failed(error)
+                    .mapMaterializedValue(this::failedFuture);
         } else {
             return akka.stream.javadsl.Source.from(messages)
                     .filter(MockMqttConnectionFactory.topicMatches(mqttSource.getAddresses()))
+                    .<MqttMessageWithAck>map(MockMqttMessageWithAck::new)
                     .mapMaterializedValue(whatever -> CompletableFuture.completedFuture(Done.getInstance()));
         }
     }
@@ -110,4 +113,23 @@ final class MockMqttConnectionFactory implements MqttConnectionFactory {
     private static boolean matchesMqttFilter(final String filter, final String topic) {
         return topic.matches(filter.replaceAll("\\+", "[^/]*").replaceAll("#", ".*"));
     }
+
+    private static final class MockMqttMessageWithAck implements MqttMessageWithAck {
+
+        private final MqttMessage message;
+
+        private MockMqttMessageWithAck(final MqttMessage message) {
+            this.message = message;
+        }
+
+        @Override
+        public MqttMessage message() {
+            return message;
+        }
+
+        @Override
+        public CompletionStage<Done> ack() {
+            return CompletableFuture.completedFuture(Done.getInstance());
+        }
+    }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.messaging.mqtt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.services.connectivity.messaging.mqtt.MqttClientActor.ConsumerStreamMessage.STREAM_ACK;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.awaitility.Awaitility;
+import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.services.connectivity.messaging.internal.AcknowledgeableMessage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+import akka.Done;
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.stream.alpakka.mqtt.MqttMessage;
+import akka.stream.alpakka.mqtt.javadsl.MqttMessageWithAck;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
+import akka.util.ByteString;
+import scala.concurrent.duration.Duration;
+
+/**
+ * Unit test for {@link MqttConsumerActor}.
+ */
+public final class MqttConsumerActorTest {
+
+    private static final String CONNECTION_ID = "theConnection";
+    private static final String TOPIC = "eclipse/ditto";
+
+    private ActorSystem actorSystem;
+    private TestProbe messageMappingProcessor;
+    private TestProbe consumerStream;
+    private ActorRef underTest;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", ConfigFactory.load("test")
+                .withValue("ditto.connectivity.connection.mqtt.source-in-flight-window",
+                        ConfigValueFactory.fromAnyRef(2))
+                .withValue("ditto.connectivity.connection.mqtt.ack-timeout",
+                        ConfigValueFactory.fromAnyRef("1s")));
+        messageMappingProcessor = TestProbe.apply(actorSystem);
+        consumerStream = TestProbe.apply(actorSystem);
+        underTest = actorSystem.actorOf(MqttConsumerActor.props(CONNECTION_ID, messageMappingProcessor.ref(),
+                TestConstants.Authorization.AUTHORIZATION_CONTEXT, null, false, TOPIC));
+    }
+
+    @After
+    public void tearDown() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Test
+    public void streamIsAskedForNextMessageOnlyWithinInFlightWindow() {
+        final CountingMqttMessageWithAck first = new CountingMqttMessageWithAck();
+        final CountingMqttMessageWithAck second = new CountingMqttMessageWithAck();
+
+        underTest.tell(first, consumerStream.ref());
+        messageMappingProcessor.expectMsgClass(AcknowledgeableMessage.class);
+        final ActorRef firstAcknowledgementRecipient = messageMappingProcessor.sender();
+        consumerStream.expectMsg(STREAM_ACK);
+
+        // the window of 2 pending messages is full: the stream acknowledgement is deferred
+        underTest.tell(second, consumerStream.ref());
+        messageMappingProcessor.expectMsgClass(AcknowledgeableMessage.class);
+        consumerStream.expectNoMessage(Duration.create(200L, TimeUnit.MILLISECONDS));
+        assertThat(first.acks.get()).isZero();
+
+        firstAcknowledgementRecipient.tell(Done.getInstance(), ActorRef.noSender());
+        consumerStream.expectMsg(STREAM_ACK);
+        assertThat(first.acks.get()).isEqualTo(1);
+        assertThat(second.acks.get()).isZero();
+    }
+
+    @Test
+    public void messageIsAcknowledgedIfNotPassedOnInTime() {
+        final CountingMqttMessageWithAck first = new CountingMqttMessageWithAck();
+        final CountingMqttMessageWithAck second = new CountingMqttMessageWithAck();
+
+        underTest.tell(first, consumerStream.ref());
+        consumerStream.expectMsg(STREAM_ACK);
+        underTest.tell(second, consumerStream.ref());
+        messageMappingProcessor.expectMsgClass(AcknowledgeableMessage.class);
+        messageMappingProcessor.expectMsgClass(AcknowledgeableMessage.class);
+
+        // the deferred stream acknowledgement is sent once a pending message timed out
+        consumerStream.expectMsg(STREAM_ACK);
+        Awaitility.await().atMost(3, TimeUnit.SECONDS)
+                .until(() -> first.acks.get() == 1 && second.acks.get() == 1);
+    }
+
+    private static final class CountingMqttMessageWithAck implements MqttMessageWithAck {
+
+        private final AtomicInteger acks = new AtomicInteger();
+
+        @Override
+        public MqttMessage message() {
+            return MqttMessage.create(TOPIC, ByteString.fromString("payload", StandardCharsets.UTF_8.name()));
+        }
+
+        @Override
+        public CompletionStage<Done> ack() {
+            acks.incrementAndGet();
+            return CompletableFuture.completedFuture(Done.getInstance());
+        }
+
+    }
+
+}
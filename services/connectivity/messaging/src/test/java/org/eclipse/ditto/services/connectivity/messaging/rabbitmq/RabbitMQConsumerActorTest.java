@@ -12,6 +12,11 @@
  */
 package org.eclipse.ditto.services.connectivity.messaging.rabbitmq;
 
+import static org.eclipse.ditto.services.connectivity.messaging.TestConstants.header;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
@@ -19,13 +24,23 @@ import java.util.Map;
 import org.eclipse.ditto.model.base.common.DittoConstants;
 import org.eclipse.ditto.services.connectivity.messaging.AbstractConsumerActorTest;
 import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.services.connectivity.messaging.internal.AcknowledgeableMessage;
+import org.junit.Test;
+import org.mockito.Mockito;
 
 import com.rabbitmq.client.AMQP;
+import com.rabbitmq.client.Channel;
 import com.rabbitmq.client.Delivery;
 import com.rabbitmq.client.Envelope;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
 
+import akka.Done;
 import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
 import akka.actor.Props;
+import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
 
 /**
  * Unit test for {@link RabbitMQConsumerActor}.
@@ -39,7 +54,58 @@ public final class RabbitMQConsumerActorTest extends AbstractConsumerActorTest<D
     protected Props getConsumerActorProps(final ActorRef mappingActor) {
         return RabbitMQConsumerActor.props("rmq-consumer", mappingActor,
                 TestConstants.Authorization.AUTHORIZATION_CONTEXT, ENFORCEMENT, TestConstants.HEADER_MAPPING,
-                CONNECTION_ID);
+                CONNECTION_ID, Mockito.mock(Channel.class));
+    }
+
+    @Test
+    public void deliveryIsAcknowledgedAfterProcessing() throws Exception {
+        final ActorSystem system = createSystemAcknowledgingAfterProcessing();
+        try {
+            final Channel channel = Mockito.mock(Channel.class);
+            final TestProbe messageMappingProcessor = TestProbe.apply(system);
+            final ActorRef underTest = system.actorOf(RabbitMQConsumerActor.props("rmq-consumer",
+                    messageMappingProcessor.ref(), TestConstants.Authorization.AUTHORIZATION_CONTEXT, ENFORCEMENT,
+                    TestConstants.HEADER_MAPPING, CONNECTION_ID, channel));
+
+            underTest.tell(getInboundMessage(header("device_id", TestConstants.Things.THING_ID)),
+                    ActorRef.noSender());
+            messageMappingProcessor.expectMsgClass(AcknowledgeableMessage.class);
+            verify(channel, never()).basicAck(ENVELOPE.getDeliveryTag(), false);
+
+            messageMappingProcessor.reply(Done.getInstance());
+            verify(channel, timeout(3000L)).basicAck(ENVELOPE.getDeliveryTag(), false);
+        } finally {
+            TestKit.shutdownActorSystem(system);
+        }
+    }
+
+    @Test
+    public void deliveryIsRejectedIfNotProcessedInTime() throws Exception {
+        final ActorSystem system = createSystemAcknowledgingAfterProcessing();
+        try {
+            final Channel channel = Mockito.mock(Channel.class);
+            final TestProbe messageMappingProcessor = TestProbe.apply(system);
+            final ActorRef underTest = system.actorOf(RabbitMQConsumerActor.props("rmq-consumer",
+                    messageMappingProcessor.ref(), TestConstants.Authorization.AUTHORIZATION_CONTEXT, ENFORCEMENT,
+                    TestConstants.HEADER_MAPPING, CONNECTION_ID, channel));
+
+            underTest.tell(getInboundMessage(header("device_id", TestConstants.Things.THING_ID)),
+                    ActorRef.noSender());
+            messageMappingProcessor.expectMsgClass(AcknowledgeableMessage.class);
+
+            verify(channel, timeout(3000L)).basicNack(ENVELOPE.getDeliveryTag(), false, true);
+            verify(channel, never()).basicAck(ENVELOPE.getDeliveryTag(), false);
+        } finally {
+            TestKit.shutdownActorSystem(system);
+        }
+    }
+
+    private static ActorSystem createSystemAcknowledgingAfterProcessing() {
+        return ActorSystem.create("AkkaTestSystemAcknowledgingAfterProcessing", ConfigFactory.load("test")
+                .withValue("ditto.connectivity.connection.rabbitmq.acknowledge-after-processing",
+                        ConfigValueFactory.fromAnyRef(true))
+                .withValue("ditto.connectivity.connection.rabbitmq.ack-timeout",
+                        ConfigValueFactory.fromAnyRef("500ms")));
     }
 
     @Override
@@ -15,15 +15,25 @@ package org.eclipse.ditto.services.connectivity.messaging.rabbitmq;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
 
 import java.util.Collections;
+import java.util.concurrent.TimeUnit;
 
 import javax.jms.JMSException;
 
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.connectivity.Target;
 import org.eclipse.ditto.services.connectivity.messaging.AbstractPublisherActorTest;
 import org.eclipse.ditto.services.connectivity.messaging.TestConstants;
+import org.eclipse.ditto.services.models.connectivity.ExternalMessageFactory;
+import org.eclipse.ditto.services.models.connectivity.OutboundSignal;
+import org.eclipse.ditto.services.models.connectivity.OutboundSignalFactory;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
@@ -31,10 +41,15 @@ import com.newmotion.akka.rabbitmq.ChannelCreated;
 import com.newmotion.akka.rabbitmq.ChannelMessage;
 import com.rabbitmq.client.AMQP;
 import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.ConfirmListener;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
 
 import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
 import akka.actor.Props;
 import akka.testkit.TestProbe;
+import akka.testkit.javadsl.TestKit;
 
 public class RabbitMQPublisherActorTest extends AbstractPublisherActorTest {
 
@@ -85,6 +100,59 @@ public class RabbitMQPublisherActorTest extends AbstractPublisherActorTest {
         assertThat(propertiesCaptor.getValue().getHeaders().get("device_id")).isEqualTo(TestConstants.Things.THING_ID);
     }
 
+    @Test
+    public void testPublishMessagesInConfirmedBatches() throws Exception {
+        final ActorSystem batchingActorSystem = ActorSystem.create("AkkaTestSystemWithBatching",
+                ConfigFactory.load("test")
+                        .withValue("ditto.connectivity.connection.publisher.batch.enabled",
+                                ConfigValueFactory.fromAnyRef(true))
+                        .withValue("ditto.connectivity.connection.publisher.batch.max-size",
+                                ConfigValueFactory.fromAnyRef(3))
+                        .withValue("ditto.connectivity.connection.publisher.batch.max-delay",
+                                ConfigValueFactory.fromAnyRef("10s")));
+        try {
+            final TestProbe channelProbe = new TestProbe(batchingActorSystem);
+            final ActorRef publisherActor = batchingActorSystem.actorOf(getPublisherActorProps());
+            publisherActor.tell(ChannelCreated.apply(channelProbe.ref()), ActorRef.noSender());
+
+            final Channel channel = mock(Channel.class);
+            when(channel.getNextPublishSeqNo()).thenReturn(1L, 2L, 3L);
+
+            // the channel is put into confirm mode before the exchanges are checked
+            channelProbe.expectMsgClass(ChannelMessage.class).onChannel().apply(channel);
+            Mockito.verify(channel).confirmSelect();
+            final ArgumentCaptor<ConfirmListener> confirmListenerCaptor =
+                    ArgumentCaptor.forClass(ConfirmListener.class);
+            Mockito.verify(channel).addConfirmListener(confirmListenerCaptor.capture());
+            channelProbe.expectMsgClass(ChannelMessage.class);
+
+            final OutboundSignal.WithExternalMessage outboundSignal = createOutboundSignal();
+            for (int i = 0; i < 3; i++) {
+                publisherActor.tell(outboundSignal, ActorRef.noSender());
+            }
+
+            // a full batch is published in a single channel message without waiting for max-delay
+            final ChannelMessage batchMessage = channelProbe.expectMsgClass(
+                    scala.concurrent.duration.Duration.apply(5, TimeUnit.SECONDS), ChannelMessage.class);
+            batchMessage.onChannel().apply(channel);
+            Mockito.verify(channel, times(3)).basicPublish(eq("exchange"), eq("outbound"),
+                    any(AMQP.BasicProperties.class), any(byte[].class));
+            channelProbe.expectNoMessage(scala.concurrent.duration.Duration.apply(200, TimeUnit.MILLISECONDS));
+
+            confirmListenerCaptor.getValue().handleAck(3L, true);
+        } finally {
+            TestKit.shutdownActorSystem(batchingActorSystem);
+        }
+    }
+
+    private OutboundSignal.WithExternalMessage createOutboundSignal() {
+        final RetrieveThing source = RetrieveThing.of(TestConstants.Things.THING_ID, DittoHeaders.empty());
+        final OutboundSignal outboundSignal =
+                OutboundSignalFactory.newOutboundSignal(source, Collections.singletonList(createTestTarget()));
+        return OutboundSignalFactory.newMappedOutboundSignal(outboundSignal,
+                ExternalMessageFactory.newExternalMessageBuilder(Collections.emptyMap()).withText("payload").build());
+    }
+
     protected String getOutboundAddress() {
         return "exchange/outbound";
     }
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.util;
+
+import java.time.Duration;
+
+import org.eclipse.ditto.services.utils.config.AbstractConfigReader;
+
+import com.typesafe.config.Config;
+
+/**
+ * Config reader for the protocol AMQP 1.0.
+ */
+public final class Amqp10ConfigReader extends AbstractConfigReader {
+
+    /**
+     * Creates a Amqp10ConfigReader.
+     *
+     * @param config the underlying Config object.
+     */
+    Amqp10ConfigReader(final Config config) {
+        super(config);
+    }
+
+    /**
+     * Whether consumed messages are acknowledged individually after they were passed on to concierge instead of
+     * immediately on delivery. The default value is false.
+     *
+     * @return whether messages are acknowledged after processing.
+     */
+    public boolean acknowledgeAfterProcessing() {
+        return getIfPresent("acknowledge-after-processing", config::getBoolean).orElse(false);
+    }
+
+    /**
+     * Maximum time to wait for the processing of a consumed message before it is released for redelivery. Only
+     * relevant if messages are acknowledged after processing. The default value is 60s.
+     *
+     * @return the acknowledgement timeout.
+     */
+    public Duration ackTimeout() {
+        return getIfPresent("ack-timeout", config::getDuration).orElseGet(() -> Duration.ofSeconds(60L));
+    }
+}
@@ -81,6 +81,33 @@ public final class ConnectionConfigReader extends AbstractConfigReader {
         return new MqttConfigReader(getChildOrEmpty("mqtt"));
     }
 
+    /**
+     * Config specific to the protocol AMQP 0.9.1 (RabbitMQ).
+     *
+     * @return the RabbitMQ config reader.
+     */
+    public RabbitMQConfigReader rabbitmq() {
+        return new RabbitMQConfigReader(getChildOrEmpty("rabbitmq"));
+    }
+
+    /**
+     * Config specific to the protocol AMQP 1.0.
+     *
+     * @return the AMQP 1.0 config reader.
+     */
+    public Amqp10ConfigReader amqp10() {
+        return new Amqp10ConfigReader(getChildOrEmpty("amqp10"));
+    }
+
+    /**
+     * Config of the publishers of the protocols AMQP 1.0, AMQP 0.9.1 (RabbitMQ) and MQTT.
+     *
+     * @return the publisher config reader.
+     */
+    public PublisherConfigReader publisher() {
+        return new PublisherConfigReader(getChildOrEmpty("publisher"));
+    }
+
     /**
      * Config specific to the protocol Kafka.
      *
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.connectivity.util;
 
+import java.time.Duration;
+
 import org.eclipse.ditto.services.utils.config.AbstractConfigReader;
 
 import com.typesafe.config.Config;
@@ -40,4 +42,83 @@ public final class KafkaConfigReader extends AbstractConfigReader {
         return getChildOrEmpty("producer.internal");
     }
 
+    /**
+     * Maximum number of messages of a Kafka connection which are buffered for being produced. The default value is
+     * 1000. The same number of messages is kept in order in a local overflow buffer while the buffer is full.
+     *
+     * @return maximum number of buffered outbound messages.
+     */
+    public int producerQueueSize() {
+        return getIfPresent("producer.queue-size", config::getInt).orElse(1000);
+    }
+
+    /**
+     * Maximum number of retries to buffer an outbound message while the buffer is full. The default value is 3.
+     *
+     * @return maximum number of retries before an outbound message is dropped.
+     */
+    public int producerMaxRetries() {
+        return getIfPresent("producer.max-retries", config::getInt).orElse(3);
+    }
+
+    /**
+     * Delay before the first retry to buffer an outbound message; the delay grows linearly with each retry. The
+     * default value is 100ms.
+     *
+     * @return the retry backoff.
+     */
+    public Duration producerRetryBackoff() {
+        return getIfPresent("producer.retry-backoff", config::getDuration).orElseGet(() -> Duration.ofMillis(100L));
+    }
+
+    /**
+     * Configuration for consumers needed by akka-stream-kafka. Settings which are not configured fall back to the
+     * defaults of akka-stream-kafka.
+     *
+     * @see <a href="https://doc.akka.io/docs/akka-stream-kafka/current/consumer.html#settings">akka-stream-kafka Consumer settings</a>
+     * @return internal consumer configuration needed by akka-stream-kafka client.
+     */
+    public Config internalConsumerSettings() {
+        return getChildOrEmpty("consumer.internal");
+    }
+
+    /**
+     * Configuration of the batches in which the offsets of consumed messages are committed. Settings which are not
+     * configured fall back to the defaults of akka-stream-kafka.
+     *
+     * @return committer configuration needed by akka-stream-kafka client.
+     */
+    public Config committerSettings() {
+        return getChildOrEmpty("consumer.committer");
+    }
+
+    /**
+     * Maximum number of messages of one partition which are processed at the same time. The default value is 10.
+     *
+     * @return maximum number of unacknowledged messages per partition.
+     */
+    public int consumerParallelism() {
+        return getIfPresent("consumer.parallelism", config::getInt).orElse(10);
+    }
+
+    /**
+     * Maximum number of partitions which are consumed in parallel by one consumer. The default value is 100. A
+     * consumer fails while more partitions of its topics are assigned to it.
+     *
+     * @return maximum number of partitions consumed in parallel.
+     */
+    public int consumerMaxPartitions() {
+        return getIfPresent("consumer.max-partitions", config::getInt).orElse(100);
+    }
+
+    /**
+     * Timeout for the acknowledgement of a consumed message by the message mapping. If the timeout is exceeded, the
+     * consumer restarts from the last committed offsets. The default value is 60s.
+     *
+     * @return the acknowledgement timeout.
+     */
+    public Duration consumerAckTimeout() {
+        return getIfPresent("consumer.ack-timeout", config::getDuration).orElseGet(() -> Duration.ofSeconds(60L));
+    }
+
 }
@@ -12,6 +12,8 @@
  */
 package org.eclipse.ditto.services.connectivity.util;
 
+import java.time.Duration;
+
 import org.eclipse.ditto.services.utils.config.AbstractConfigReader;
 
 import com.typesafe.config.Config;
@@ -38,4 +40,24 @@ public final class MqttConfigReader extends AbstractConfigReader {
     public int sourceBufferSize() {
         return getIfPresent("source-buffer-size", config::getInt).orElse(8);
     }
+
+    /**
+     * Maximum number of messages of each MQTT source consumer which were passed on to the message mapping but not
+     * yet acknowledged to the broker. The default value is 100.
+     *
+     * @return maximum number of unacknowledged messages.
+     */
+    public int sourceInFlightWindow() {
+        return getIfPresent("source-in-flight-window", config::getInt).orElse(100);
+    }
+
+    /**
+     * Maximum time to wait for the message mapping to pass on a consumed message before it is acknowledged anyway.
+     * The default value is 60s.
+     *
+     * @return the acknowledgement timeout.
+     */
+    public Duration ackTimeout() {
+        return getIfPresent("ack-timeout", config::getDuration).orElseGet(() -> Duration.ofSeconds(60L));
+    }
 }
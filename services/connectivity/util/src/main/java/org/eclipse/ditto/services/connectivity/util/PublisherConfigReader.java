@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.util;
+
+import java.time.Duration;
+
+import org.eclipse.ditto.services.utils.config.AbstractConfigReader;
+
+import com.typesafe.config.Config;
+
+/**
+ * Config reader for the publishers of all connection types.
+ */
+public final class PublisherConfigReader extends AbstractConfigReader {
+
+    /**
+     * Creates a PublisherConfigReader.
+     *
+     * @param config the underlying Config object.
+     */
+    PublisherConfigReader(final Config config) {
+        super(config);
+    }
+
+    /**
+     * Whether outbound messages are grouped per target and published in batches instead of one by one. The default
+     * value is false.
+     *
+     * @return whether messages are published in batches.
+     */
+    public boolean batchEnabled() {
+        return getIfPresent("batch.enabled", config::getBoolean).orElse(false);
+    }
+
+    /**
+     * Maximum number of messages of a batch; a batch reaching this size is published immediately. The default value
+     * is 100.
+     *
+     * @return the maximum batch size.
+     */
+    public int batchMaxSize() {
+        return getIfPresent("batch.max-size", config::getInt).orElse(100);
+    }
+
+    /**
+     * Maximum time a message waits in a batch before the batch is published. The default value is 10ms.
+     *
+     * @return the maximum batch delay.
+     */
+    public Duration batchMaxDelay() {
+        return getIfPresent("batch.max-delay", config::getDuration).orElseGet(() -> Duration.ofMillis(10L));
+    }
+}
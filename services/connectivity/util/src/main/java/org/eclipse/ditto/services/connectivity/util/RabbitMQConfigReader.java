@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.connectivity.util;
+
+import java.time.Duration;
+
+import org.eclipse.ditto.services.utils.config.AbstractConfigReader;
+
+import com.typesafe.config.Config;
+
+/**
+ * Config reader for the protocol AMQP 0.9.1 (RabbitMQ).
+ */
+public final class RabbitMQConfigReader extends AbstractConfigReader {
+
+    /**
+     * Creates a RabbitMQConfigReader.
+     *
+     * @param config the underlying Config object.
+     */
+    RabbitMQConfigReader(final Config config) {
+        super(config);
+    }
+
+    /**
+     * Whether consumed messages are acknowledged only after they were passed on to concierge instead of immediately
+     * on delivery. The default value is false.
+     *
+     * @return whether messages are acknowledged after processing.
+     */
+    public boolean acknowledgeAfterProcessing() {
+        return getIfPresent("acknowledge-after-processing", config::getBoolean).orElse(false);
+    }
+
+    /**
+     * Maximum time to wait for the processing of a consumed message before it is rejected and redelivered. Only
+     * relevant if messages are acknowledged after processing. The default value is 60s.
+     *
+     * @return the acknowledgement timeout.
+     */
+    public Duration ackTimeout() {
+        return getIfPresent("ack-timeout", config::getDuration).orElseGet(() -> Duration.ofSeconds(60L));
+    }
+
+    /**
+     * Maximum number of unacknowledged messages of each consumer (basic.qos). The default value 0 means unlimited.
+     *
+     * @return the prefetch count.
+     */
+    public int prefetchCount() {
+        return getIfPresent("prefetch-count", config::getInt).orElse(0);
+    }
+}
@@ -34,6 +34,7 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.messages.Message;
 import org.eclipse.ditto.model.messages.MessageTimeoutException;
 import org.eclipse.ditto.protocoladapter.HeaderTranslator;
+import org.eclipse.ditto.services.gateway.endpoints.utils.HttpUtils;
 import org.eclipse.ditto.services.gateway.starter.service.util.ConfigKeys;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.signals.base.WithOptionalEntity;
@@ -199,7 +200,7 @@ public final class HttpRequestActor extends AbstractActor {
         if (hasPlainTextContentType(dittoHeaders)) {
             return response.withEntity(CONTENT_TYPE_TEXT, ByteString.fromString(entity.asString()));
         }
-        return response.withEntity(CONTENT_TYPE_JSON, ByteString.fromString(entity.toString()));
+        return response.withEntity(CONTENT_TYPE_JSON, HttpUtils.toByteString(entity));
     }
 
     private static HttpResponse addEntityAccordingToContentType(final HttpResponse response, final String entityPlain,
@@ -194,7 +194,10 @@ public final class RouteFactory {
      * @return the route.
      */
     public ThingSearchRoute newThingSearchRoute() {
-        return new ThingSearchRoute(proxyActor, actorSystem);
+        return new ThingSearchRoute(proxyActor, actorSystem,
+                config.getDuration(ConfigKeys.SEARCH_STREAM_TIMEOUT),
+                config.getInt(ConfigKeys.SEARCH_STREAM_RETRIEVAL_BATCH_SIZE),
+                config.getInt(ConfigKeys.SEARCH_STREAM_RETRIEVAL_PARALLELISM));
     }
 
     /**
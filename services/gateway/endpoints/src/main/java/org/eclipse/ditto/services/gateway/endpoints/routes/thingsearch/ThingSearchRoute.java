@@ -12,7 +12,11 @@
  */
 package org.eclipse.ditto.services.gateway.endpoints.routes.thingsearch;
 
+import static akka.http.javadsl.server.Directives.complete;
+import static akka.http.javadsl.server.Directives.completeOK;
 import static akka.http.javadsl.server.Directives.get;
+import static akka.http.javadsl.server.Directives.onSuccess;
+import static akka.http.javadsl.server.Directives.optionalHeaderValueByType;
 import static akka.http.javadsl.server.Directives.parameterOptional;
 import static akka.http.javadsl.server.Directives.path;
 import static akka.http.javadsl.server.Directives.pathEndOrSingleSlash;
@@ -21,28 +25,66 @@ import static org.eclipse.ditto.services.gateway.endpoints.routes.thingsearch.Th
 import static org.eclipse.ditto.services.gateway.endpoints.routes.thingsearch.ThingSearchParameter.NAMESPACES;
 import static org.eclipse.ditto.services.gateway.endpoints.routes.thingsearch.ThingSearchParameter.OPTION;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.services.gateway.endpoints.directives.CustomPathMatchers;
 import org.eclipse.ditto.services.gateway.endpoints.routes.AbstractRoute;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
+import org.eclipse.ditto.signals.commands.base.exceptions.GatewayServiceTimeoutException;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingsResponse;
 import org.eclipse.ditto.signals.commands.thingsearch.query.CountThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
+import org.eclipse.ditto.signals.commands.thingsearch.query.StreamThings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import akka.NotUsed;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
+import akka.http.javadsl.marshalling.sse.EventStreamMarshalling;
+import akka.http.javadsl.model.HttpCharsets;
+import akka.http.javadsl.model.HttpEntities;
+import akka.http.javadsl.model.HttpResponse;
+import akka.http.javadsl.model.MediaType;
+import akka.http.javadsl.model.MediaTypes;
+import akka.http.javadsl.model.headers.Accept;
+import akka.http.javadsl.model.sse.ServerSentEvent;
 import akka.http.javadsl.server.Directives;
 import akka.http.javadsl.server.RequestContext;
 import akka.http.javadsl.server.Route;
+import akka.japi.pf.PFBuilder;
+import akka.pattern.AskTimeoutException;
+import akka.pattern.Patterns;
+import akka.stream.SourceRef;
+import akka.stream.javadsl.Source;
+import akka.util.ByteString;
+import scala.PartialFunction;
 
 /**
  * Builder for creating Akka HTTP routes for {@code /search/things}.
+ * <p>
+ * The route {@code /search/things/stream} responds with all things matching the filter as newline-delimited JSON or
+ * as server-sent events. Since the response status is sent before the first thing, an error during streaming ends the
+ * response with the JSON of the error: as last line of newline-delimited JSON, or as event of type
+ * {@value #STREAM_ERROR_EVENT_TYPE}.
+ * </p>
  */
 public final class ThingSearchRoute extends AbstractRoute {
 
@@ -50,16 +92,38 @@ public final class ThingSearchRoute extends AbstractRoute {
     public static final String PATH_THINGS = "things";
 
     private static final String PATH_COUNT = "count";
+    private static final String PATH_STREAM = "stream";
+
+    private static final MediaType.WithFixedCharset APPLICATION_NDJSON =
+            MediaTypes.customWithFixedCharset("application", "x-ndjson", HttpCharsets.UTF_8);
+
+    private static final Duration SSE_KEEP_ALIVE = Duration.ofSeconds(1);
+    private static final String STREAM_ERROR_EVENT_TYPE = "error";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ThingSearchRoute.class);
+
+    private final Duration streamTimeout;
+    private final int streamRetrievalBatchSize;
+    private final int streamRetrievalParallelism;
 
     /**
      * Constructs the {@code /search/things} route builder.
      *
      * @param proxyActor an actor selection of the command delegating actor.
      * @param actorSystem the ActorSystem to use.
+     * @param streamTimeout the timeout of starting a stream of search results and of retrieving each batch of things
+     * of the stream.
+     * @param streamRetrievalBatchSize the number of things to retrieve with each request while streaming.
+     * @param streamRetrievalParallelism the number of batches of things to retrieve concurrently while streaming.
      * @throws NullPointerException if any argument is {@code null}.
      */
-    public ThingSearchRoute(final ActorRef proxyActor, final ActorSystem actorSystem) {
+    public ThingSearchRoute(final ActorRef proxyActor, final ActorSystem actorSystem, final Duration streamTimeout,
+            final int streamRetrievalBatchSize, final int streamRetrievalParallelism) {
+
         super(proxyActor, actorSystem);
+        this.streamTimeout = streamTimeout;
+        this.streamRetrievalBatchSize = streamRetrievalBatchSize;
+        this.streamRetrievalParallelism = streamRetrievalParallelism;
     }
 
     /**
@@ -74,6 +138,8 @@ public final class ThingSearchRoute extends AbstractRoute {
                                 Directives.route(
                                         // /search/things/count
                                         path(PATH_COUNT, () -> countThings(ctx, dittoHeaders)),
+                                        // /search/things/stream
+                                        path(PATH_STREAM, () -> streamThings(dittoHeaders)),
                                         // /search/things
                                         pathEndOrSingleSlash(() -> searchThings(ctx, dittoHeaders))
                                 )
@@ -114,6 +180,137 @@ public final class ThingSearchRoute extends AbstractRoute {
                         dittoHeaders))));
     }
 
+    /*
+     * Describes {@code /search/things/stream} route.
+     *
+     * @return {@code /search/things/stream} route.
+     */
+    private Route streamThings(final DittoHeaders dittoHeaders) {
+        // GET things/stream?filter=<filterString>
+        //                  &fields=<fieldsString>
+        //                  &namespaces=<namespacesString>
+        return get(() -> thingSearchParameterOptional(params -> optionalHeaderValueByType(Accept.class, accept -> {
+            final StreamThings streamThings = StreamThings.of(calculateFilter(params.get(FILTER)),
+                    calculateNamespaces(params.get(NAMESPACES)), dittoHeaders);
+            final JsonFieldSelector selectedFields =
+                    AbstractRoute.calculateSelectedFields(params.get(FIELDS)).orElse(null);
+
+            return onSuccess(Patterns.ask(proxyActor, streamThings, streamTimeout), response -> {
+                final Source<String, NotUsed> things =
+                        retrieveThings(toThingIds(response, dittoHeaders), selectedFields, dittoHeaders);
+                if (accept.filter(ThingSearchRoute::acceptsEventStream).isPresent()) {
+                    return completeOK(things.map(ServerSentEvent::create)
+                                    .recover(endStreamWithError(dittoHeaders, error ->
+                                            ServerSentEvent.create(error.toJsonString(), STREAM_ERROR_EVENT_TYPE)))
+                                    .keepAlive(SSE_KEEP_ALIVE, ServerSentEvent::heartbeat),
+                            EventStreamMarshalling.toEventStream());
+                } else {
+                    return complete(HttpResponse.create()
+                            .withEntity(HttpEntities.createChunked(APPLICATION_NDJSON.toContentType(),
+                                    things.map(thing -> ByteString.fromString(thing + "\n"))
+                                            .recover(endStreamWithError(dittoHeaders, error ->
+                                                    ByteString.fromString(error.toJsonString() + "\n"))))));
+                }
+            });
+        })));
+    }
+
+    /**
+     * Retrieve the things of a stream of thing IDs in batches through the proxy actor, so that the things are
+     * enforced and their fields are selected exactly as for a search query. Several batches are retrieved
+     * concurrently; the things are emitted in the order of their IDs.
+     */
+    private Source<String, NotUsed> retrieveThings(final Source<String, NotUsed> thingIds,
+            @Nullable final JsonFieldSelector selectedFields, final DittoHeaders dittoHeaders) {
+
+        return thingIds.grouped(streamRetrievalBatchSize)
+                .mapAsync(streamRetrievalParallelism, batch -> Patterns.ask(proxyActor,
+                        RetrieveThings.getBuilder(batch)
+                                .dittoHeaders(dittoHeaders)
+                                .selectedFields(selectedFields)
+                                .build(),
+                        streamTimeout))
+                .mapConcat(response -> toThingJsonStrings(response, dittoHeaders));
+    }
+
+    /**
+     * Replace the failure of a stream by a last element describing the error, since the response status has been
+     * sent already.
+     */
+    private static <T> PartialFunction<Throwable, T> endStreamWithError(final DittoHeaders dittoHeaders,
+            final Function<DittoRuntimeException, T> toErrorElement) {
+
+        return new PFBuilder<Throwable, T>()
+                .matchAny(error -> {
+                    final DittoRuntimeException dittoRuntimeException = toDittoRuntimeException(error, dittoHeaders);
+                    LogUtil.logWithCorrelationId(LOGGER, dittoHeaders, logger ->
+                            logger.warn("Streaming search results failed: <{}>", error.toString()));
+                    return toErrorElement.apply(dittoRuntimeException);
+                })
+                .build();
+    }
+
+    private static DittoRuntimeException toDittoRuntimeException(final Throwable error,
+            final DittoHeaders dittoHeaders) {
+
+        final Throwable cause = error instanceof CompletionException && error.getCause() != null
+                ? error.getCause()
+                : error;
+        if (cause instanceof DittoRuntimeException) {
+            return (DittoRuntimeException) cause;
+        } else if (cause instanceof AskTimeoutException) {
+            return GatewayServiceTimeoutException.newBuilder()
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        } else {
+            return GatewayInternalErrorException.newBuilder()
+                    .cause(cause)
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Source<String, NotUsed> toThingIds(final Object response, final DittoHeaders dittoHeaders) {
+        if (response instanceof SourceRef) {
+            return ((SourceRef<String>) response).getSource();
+        } else {
+            throw asDittoRuntimeException(response, dittoHeaders);
+        }
+    }
+
+    private static List<String> toThingJsonStrings(final Object response, final DittoHeaders dittoHeaders) {
+        if (response instanceof RetrieveThingsResponse) {
+            final RetrieveThingsResponse retrieveThingsResponse = (RetrieveThingsResponse) response;
+            return retrieveThingsResponse.getEntity(retrieveThingsResponse.getImplementedSchemaVersion())
+                    .asArray()
+                    .stream()
+                    .map(JsonValue::toString)
+                    .collect(Collectors.toList());
+        } else {
+            throw asDittoRuntimeException(response, dittoHeaders);
+        }
+    }
+
+    private static DittoRuntimeException asDittoRuntimeException(final Object response,
+            final DittoHeaders dittoHeaders) {
+
+        if (response instanceof DittoRuntimeException) {
+            return (DittoRuntimeException) response;
+        } else {
+            return GatewayInternalErrorException.newBuilder()
+                    .message("Unexpected response while streaming things: " + response)
+                    .dittoHeaders(dittoHeaders)
+                    .build();
+        }
+    }
+
+    private static boolean acceptsEventStream(final Accept accept) {
+        return StreamSupport.stream(accept.getMediaRanges().spliterator(), false)
+                .filter(mediaRange -> !"*".equals(mediaRange.mainType()))
+                .anyMatch(mediaRange -> mediaRange.matches(MediaTypes.TEXT_EVENT_STREAM));
+    }
+
     private static Route thingSearchParameterOptional(
             final Function<EnumMap<ThingSearchParameter, Optional<String>>, Route> inner) {
 
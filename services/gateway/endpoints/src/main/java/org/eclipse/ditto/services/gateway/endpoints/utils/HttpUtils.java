@@ -12,13 +12,19 @@
  */
 package org.eclipse.ditto.services.gateway.endpoints.utils;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.json.JsonValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import akka.http.javadsl.model.HttpRequest;
 import akka.http.javadsl.model.headers.RawRequestURI;
+import akka.util.ByteString;
+import akka.util.ByteStringBuilder;
 
 /**
  * Utilities for Akka-Http.
@@ -49,4 +55,22 @@ public final class HttpUtils {
                 });
     }
 
+    /**
+     * Encodes the JSON string of the given JSON value as UTF-8 directly into a ByteString, i. e. without creating the
+     * JSON string in memory first.
+     *
+     * @param jsonValue the JSON value to be used as HTTP entity.
+     * @return the UTF-8 encoded JSON string.
+     */
+    public static ByteString toByteString(final JsonValue jsonValue) {
+        final ByteStringBuilder byteStringBuilder = new ByteStringBuilder();
+        try {
+            jsonValue.writeTo(byteStringBuilder.asOutputStream());
+        } catch (final IOException e) {
+            // ByteStringBuilder does not throw IOExceptions
+            throw new UncheckedIOException(e);
+        }
+        return byteStringBuilder.result();
+    }
+
 }
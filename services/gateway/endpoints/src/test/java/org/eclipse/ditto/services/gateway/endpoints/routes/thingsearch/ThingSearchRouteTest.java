@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.gateway.endpoints.routes.thingsearch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.services.gateway.endpoints.EndpointTestBase;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingsResponse;
+import org.eclipse.ditto.signals.commands.thingsearch.query.StreamThings;
+import org.junit.Test;
+
+import akka.http.javadsl.model.HttpRequest;
+import akka.http.javadsl.model.MediaTypes;
+import akka.http.javadsl.model.StatusCodes;
+import akka.http.javadsl.model.headers.Accept;
+import akka.http.javadsl.server.Route;
+import akka.http.javadsl.testkit.TestRoute;
+import akka.http.javadsl.testkit.TestRouteResult;
+import akka.stream.javadsl.Source;
+import akka.stream.javadsl.StreamRefs;
+
+/**
+ * Tests {@link ThingSearchRoute}.
+ */
+public final class ThingSearchRouteTest extends EndpointTestBase {
+
+    private static final String STREAM_PATH = "/search/things/stream";
+    private static final List<String> THING_IDS =
+            Arrays.asList("org.eclipse.ditto:thing1", "org.eclipse.ditto:thing2", "org.eclipse.ditto:thing3",
+                    "org.eclipse.ditto:thing4", "org.eclipse.ditto:thing5");
+    private static final int BATCH_SIZE = 2;
+    private static final int PARALLELISM = 2;
+
+    @Test
+    public void streamThingsAsNewlineDelimitedJson() {
+        final TestRoute underTest = createRoute(null);
+
+        final TestRouteResult result = underTest.run(HttpRequest.GET(STREAM_PATH));
+
+        result.assertStatusCode(StatusCodes.OK);
+        assertThat(entityToString(result.entity())).isEqualTo(THING_IDS.stream()
+                .map(ThingSearchRouteTest::thingJson)
+                .collect(Collectors.joining("\n", "", "\n")));
+    }
+
+    @Test
+    public void streamThingsAsServerSentEvents() {
+        final TestRoute underTest = createRoute(null);
+
+        final TestRouteResult result = underTest.run(HttpRequest.GET(STREAM_PATH)
+                .addHeader(Accept.create(MediaTypes.TEXT_EVENT_STREAM.toRange())));
+
+        result.assertStatusCode(StatusCodes.OK);
+        result.assertMediaType(MediaTypes.TEXT_EVENT_STREAM);
+        final String entity = entityToString(result.entity());
+        THING_IDS.forEach(thingId -> assertThat(entity).contains("data:" + thingJson(thingId) + "\n"));
+    }
+
+    @Test
+    public void failureWhileStreamingEndsNewlineDelimitedJsonWithError() {
+        final String inaccessibleThingId = THING_IDS.get(3);
+        final TestRoute underTest = createRoute(inaccessibleThingId);
+
+        final TestRouteResult result = underTest.run(HttpRequest.GET(STREAM_PATH));
+
+        // the things of the batches before the failed batch are streamed, then the error
+        result.assertStatusCode(StatusCodes.OK);
+        assertThat(entityToString(result.entity())).isEqualTo(thingJson(THING_IDS.get(0)) + "\n" +
+                thingJson(THING_IDS.get(1)) + "\n" +
+                thingNotAccessible(inaccessibleThingId).toJsonString() + "\n");
+    }
+
+    @Test
+    public void failureWhileStreamingEndsServerSentEventsWithErrorEvent() {
+        final String inaccessibleThingId = THING_IDS.get(3);
+        final TestRoute underTest = createRoute(inaccessibleThingId);
+
+        final TestRouteResult result = underTest.run(HttpRequest.GET(STREAM_PATH)
+                .addHeader(Accept.create(MediaTypes.TEXT_EVENT_STREAM.toRange())));
+
+        result.assertStatusCode(StatusCodes.OK);
+        final String entity = entityToString(result.entity());
+        assertThat(entity).contains("data:" + thingJson(THING_IDS.get(1)) + "\n");
+        assertThat(entity).doesNotContain("data:" + thingJson(THING_IDS.get(4)) + "\n");
+        assertThat(entity).contains("event:error\n");
+        assertThat(entity).contains("data:" + thingNotAccessible(inaccessibleThingId).toJsonString() + "\n");
+    }
+
+    private TestRoute createRoute(@Nullable final String inaccessibleThingId) {
+        final ThingSearchRoute thingSearchRoute = new ThingSearchRoute(
+                createDummyResponseActor(message -> respond(message, inaccessibleThingId)), system(),
+                Duration.ofSeconds(5), BATCH_SIZE, PARALLELISM);
+        final Route route =
+                extractRequestContext(ctx -> thingSearchRoute.buildSearchRoute(ctx, DittoHeaders.empty()));
+        return testRoute(route);
+    }
+
+    private Optional<Object> respond(final Object message, @Nullable final String inaccessibleThingId) {
+        if (message instanceof StreamThings) {
+            return Optional.of(Source.from(THING_IDS)
+                    .runWith(StreamRefs.sourceRef(), materializer())
+                    .toCompletableFuture()
+                    .join());
+        } else if (message instanceof RetrieveThings) {
+            final List<String> thingIds = ((RetrieveThings) message).getThingIds();
+            if (thingIds.contains(inaccessibleThingId)) {
+                return Optional.of(thingNotAccessible(inaccessibleThingId));
+            }
+            return Optional.of(RetrieveThingsResponse.of(thingIds.stream()
+                    .map(ThingSearchRouteTest::thingJson)
+                    .collect(Collectors.toList()), null, DittoHeaders.empty()));
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private static String thingJson(final String thingId) {
+        return "{\"thingId\":\"" + thingId + "\"}";
+    }
+
+    private static ThingNotAccessibleException thingNotAccessible(final String thingId) {
+        return ThingNotAccessibleException.newBuilder(thingId).dittoHeaders(DittoHeaders.empty()).build();
+    }
+
+}
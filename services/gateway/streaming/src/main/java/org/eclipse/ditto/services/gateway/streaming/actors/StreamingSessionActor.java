@@ -12,7 +12,6 @@
  */
 package org.eclipse.ditto.services.gateway.streaming.actors;
 
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.HashSet;
@@ -38,6 +37,7 @@ import org.eclipse.ditto.services.gateway.streaming.StopStreaming;
 import org.eclipse.ditto.services.gateway.streaming.StreamingAck;
 import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.cluster.NamespacedPubSubTopics;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.base.WithId;
 import org.eclipse.ditto.signals.commands.base.CommandResponse;
@@ -75,7 +75,10 @@ final class StreamingSessionActor extends AbstractActor {
     private final String type;
     private final ActorRef pubSubMediator;
     private final ActorRef eventAndResponsePublisher;
-    private final Set<StreamingType> outstandingSubscriptionAcks;
+    private final boolean namespacedTopics;
+    private final Map<StreamingType, Set<String>> outstandingSubscriptionAcks;
+    private final Map<StreamingType, Set<String>> outstandingUnsubscriptionAcks;
+    private final Map<StreamingType, Set<String>> topicsForStreamingTypes;
 
     private List<String> authorizationSubjects;
     private Map<StreamingType, List<String>> namespacesForStreamingTypes;
@@ -87,7 +90,10 @@ final class StreamingSessionActor extends AbstractActor {
         this.type = type;
         this.pubSubMediator = pubSubMediator;
         this.eventAndResponsePublisher = eventAndResponsePublisher;
-        outstandingSubscriptionAcks = new HashSet<>();
+        namespacedTopics = NamespacedPubSubTopics.isEnabled(getContext().getSystem().settings().config());
+        outstandingSubscriptionAcks = new EnumMap<>(StreamingType.class);
+        outstandingUnsubscriptionAcks = new EnumMap<>(StreamingType.class);
+        topicsForStreamingTypes = new EnumMap<>(StreamingType.class);
         namespacesForStreamingTypes = new EnumMap<>(StreamingType.class);
         eventFilterCriteriaForStreamingTypes = new EnumMap<>(StreamingType.class);
 
@@ -164,12 +170,20 @@ final class StreamingSessionActor extends AbstractActor {
                     logger.debug("Got 'StartStreaming' message in <{}> session, subscribing for <{}> in Cluster..",
                             type, startStreaming.getStreamingType().name());
 
-                    outstandingSubscriptionAcks.add(startStreaming.getStreamingType());
+                    final Set<String> topics = determineTopics(startStreaming);
+                    outstandingSubscriptionAcks.put(startStreaming.getStreamingType(), new HashSet<>(topics));
+                    final Set<String> previousTopics =
+                            topicsForStreamingTypes.put(startStreaming.getStreamingType(), topics);
+                    if (null != previousTopics) {
+                        // namespaces may have changed, in Cluster: Unsubscribe from topics no longer needed
+                        previousTopics.stream()
+                                .filter(topic -> !topics.contains(topic))
+                                .forEach(this::unsubscribe);
+                    }
                     // In Cluster: Subscribe
-                    pubSubMediator.tell(new DistributedPubSubMediator.Subscribe(
-                            startStreaming.getStreamingType().getDistributedPubSubTopic(),
-                            connectionCorrelationId,
-                            getSelf()), getSelf());
+                    topics.forEach(topic -> pubSubMediator.tell(
+                            new DistributedPubSubMediator.Subscribe(topic, connectionCorrelationId, getSelf()),
+                            getSelf()));
                 })
                 .match(StopStreaming.class, stopStreaming -> {
                     LogUtil.enhanceLogWithCorrelationId(logger, connectionCorrelationId);
@@ -179,15 +193,24 @@ final class StreamingSessionActor extends AbstractActor {
                     namespacesForStreamingTypes.remove(stopStreaming.getStreamingType());
                     eventFilterCriteriaForStreamingTypes.remove(stopStreaming.getStreamingType());
 
+                    final Set<String> topics = Optional.ofNullable(
+                            topicsForStreamingTypes.remove(stopStreaming.getStreamingType()))
+                            .orElseGet(() -> Collections.singleton(
+                                    stopStreaming.getStreamingType().getDistributedPubSubTopic()));
+                    outstandingUnsubscriptionAcks.put(stopStreaming.getStreamingType(), new HashSet<>(topics));
                     // In Cluster: Unsubscribe
-                    pubSubMediator.tell(new DistributedPubSubMediator.Unsubscribe(
-                            stopStreaming.getStreamingType().getDistributedPubSubTopic(),
-                            connectionCorrelationId, getSelf()), getSelf());
+                    topics.forEach(this::unsubscribe);
                 })
                 .match(DistributedPubSubMediator.SubscribeAck.class, subscribeAck -> {
                     LogUtil.enhanceLogWithCorrelationId(logger, connectionCorrelationId);
                     final String topic = subscribeAck.subscribe().topic();
-                    final StreamingType streamingType = StreamingType.fromTopic(topic);
+                    final StreamingType streamingType =
+                            StreamingType.fromTopic(NamespacedPubSubTopics.getPlainTopic(topic));
+                    if (!isLastOutstandingAck(outstandingSubscriptionAcks, streamingType, topic)) {
+                        logger.debug("Subscribed to <{}>, waiting for the other topics of <{}> in <{}> session",
+                                topic, streamingType, type);
+                        return;
+                    }
                     final ActorRef self = getSelf();
                     /* send the StreamingAck with a little delay, as the akka doc states:
                      * The acknowledgment means that the subscription is registered, but it can still take some time
@@ -203,7 +226,13 @@ final class StreamingSessionActor extends AbstractActor {
                 .match(DistributedPubSubMediator.UnsubscribeAck.class, unsubscribeAck -> {
                     LogUtil.enhanceLogWithCorrelationId(logger, connectionCorrelationId);
                     final String topic = unsubscribeAck.unsubscribe().topic();
-                    final StreamingType streamingType = StreamingType.fromTopic(topic);
+                    final StreamingType streamingType =
+                            StreamingType.fromTopic(NamespacedPubSubTopics.getPlainTopic(topic));
+                    if (!isLastOutstandingAck(outstandingUnsubscriptionAcks, streamingType, topic)) {
+                        logger.debug("Unsubscribed from <{}>, waiting for the other topics of <{}> in <{}> session",
+                                topic, streamingType, type);
+                        return;
+                    }
 
                     final ActorRef self = getSelf();
                     /* send the StreamingAck with a little delay, as the akka doc states:
@@ -227,11 +256,8 @@ final class StreamingSessionActor extends AbstractActor {
                     // In Cluster: Unsubscribe from ThingEvents:
                     logger.info("<{}> connection was closed, unsubscribing from Streams in Cluster..", type);
 
-                    Arrays.stream(StreamingType.values())
-                            .map(StreamingType::getDistributedPubSubTopic)
-                            .forEach(topic ->
-                                    pubSubMediator.tell(new DistributedPubSubMediator.Unsubscribe(topic,
-                                            connectionCorrelationId, getSelf()), getSelf()));
+                    topicsForStreamingTypes.values().forEach(topics -> topics.forEach(this::unsubscribe));
+                    topicsForStreamingTypes.clear();
 
                     getContext().getSystem()
                             .scheduler()
@@ -245,6 +271,41 @@ final class StreamingSessionActor extends AbstractActor {
                 .build();
     }
 
+    /**
+     * Determines the pub/sub topics to subscribe to: if namespaced topics are enabled, twin events restricted to some
+     * namespaces are only received from the partitions of these namespaces, all other streaming types from their plain
+     * topic.
+     */
+    private Set<String> determineTopics(final StartStreaming startStreaming) {
+        final StreamingType streamingType = startStreaming.getStreamingType();
+        final String topic = streamingType.getDistributedPubSubTopic();
+        if (namespacedTopics && StreamingType.EVENTS == streamingType) {
+            return NamespacedPubSubTopics.forNamespaces(topic, startStreaming.getNamespaces());
+        }
+        return Collections.singleton(topic);
+    }
+
+    /**
+     * Removes the acknowledged topic from the outstanding acknowledgements of its streaming type.
+     *
+     * @return whether the streaming type has no more outstanding acknowledgements after removing the topic.
+     */
+    private static boolean isLastOutstandingAck(final Map<StreamingType, Set<String>> outstandingAcks,
+            final StreamingType streamingType, final String topic) {
+
+        final Set<String> outstandingTopics = outstandingAcks.get(streamingType);
+        if (null == outstandingTopics) {
+            return true;
+        }
+        outstandingTopics.remove(topic);
+        return outstandingTopics.isEmpty();
+    }
+
+    private void unsubscribe(final String topic) {
+        pubSubMediator.tell(new DistributedPubSubMediator.Unsubscribe(topic, connectionCorrelationId, getSelf()),
+                getSelf());
+    }
+
     private void handleSignal(final Signal<?> signal) {
         LogUtil.enhanceLogWithCorrelationId(logger, signal);
 
@@ -341,7 +402,8 @@ final class StreamingSessionActor extends AbstractActor {
     }
 
     private void acknowledgeSubscription(final StreamingType streamingType, final ActorRef self) {
-        if (outstandingSubscriptionAcks.contains(streamingType)) {
+        final Set<String> outstandingTopics = outstandingSubscriptionAcks.get(streamingType);
+        if (null != outstandingTopics && outstandingTopics.isEmpty()) {
             outstandingSubscriptionAcks.remove(streamingType);
             eventAndResponsePublisher.tell(new StreamingAck(streamingType, true), self);
             logger.debug("Subscribed to Cluster <{}> in <{}> session", streamingType, type);
@@ -351,8 +413,14 @@ final class StreamingSessionActor extends AbstractActor {
     }
 
     private void acknowledgeUnsubscription(final StreamingType streamingType, final ActorRef self) {
-        eventAndResponsePublisher.tell(new StreamingAck(streamingType, false), self);
-        logger.debug("Unsubscribed from Cluster <{}> in <{}> session", streamingType, type);
+        final Set<String> outstandingTopics = outstandingUnsubscriptionAcks.get(streamingType);
+        if (null != outstandingTopics && outstandingTopics.isEmpty()) {
+            outstandingUnsubscriptionAcks.remove(streamingType);
+            eventAndResponsePublisher.tell(new StreamingAck(streamingType, false), self);
+            logger.debug("Unsubscribed from Cluster <{}> in <{}> session", streamingType, type);
+        } else {
+            logger.debug("Unsubscription already acked for type <{}> in <{}> session", streamingType, type);
+        }
     }
 
     /**
@@ -81,6 +81,20 @@ public final class ConfigKeys {
      */
     public static final String CLAIMMESSAGE_MAX_TIMEOUT = CLAIMMESSAGE_PREFIX + "max-timeout";
 
+    private static final String SEARCH_STREAM_PREFIX = GATEWAY_PREFIX + "search.stream.";
+    /**
+     * The timeout of starting a stream of search results and of retrieving each batch of things of the stream.
+     */
+    public static final String SEARCH_STREAM_TIMEOUT = SEARCH_STREAM_PREFIX + "timeout";
+    /**
+     * The number of things retrieved with each request while streaming search results.
+     */
+    public static final String SEARCH_STREAM_RETRIEVAL_BATCH_SIZE = SEARCH_STREAM_PREFIX + "retrieval-batch-size";
+    /**
+     * The number of batches of things retrieved concurrently while streaming search results.
+     */
+    public static final String SEARCH_STREAM_RETRIEVAL_PARALLELISM = SEARCH_STREAM_PREFIX + "retrieval-parallelism";
+
     private static final String AUTHENTICATION_PREFIX = GATEWAY_PREFIX + "authentication.";
     private static final String AUTHENTICATION_DUMMY_PREFIX = AUTHENTICATION_PREFIX + "dummy.";
     /**
@@ -39,6 +39,7 @@ import org.eclipse.ditto.services.things.persistence.snapshotting.ThingSnapshott
 import org.eclipse.ditto.services.things.persistence.strategies.AbstractReceiveStrategy;
 import org.eclipse.ditto.services.things.starter.util.ConfigKeys;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.cluster.NamespacedPubSubTopics;
 import org.eclipse.ditto.signals.base.WithThingId;
 import org.eclipse.ditto.signals.base.WithType;
 import org.eclipse.ditto.signals.commands.base.Command;
@@ -91,6 +92,7 @@ public final class ThingPersistenceActor extends AbstractPersistentActor impleme
 
     private final String thingId;
     private final ActorRef pubSubMediator;
+    @Nullable private final String namespacedEventsTopic;
     private final ThingSnapshotter<?, ?> thingSnapshotter;
     private final DiagnosticLoggingAdapter log;
     private final java.time.Duration activityCheckInterval;
@@ -117,6 +119,9 @@ public final class ThingPersistenceActor extends AbstractPersistentActor impleme
         thing = null;
 
         final Config config = getContext().system().settings().config();
+        namespacedEventsTopic = NamespacedPubSubTopics.isEnabled(config)
+                ? NamespacedPubSubTopics.forEntityId(ThingEvent.TYPE_PREFIX, thingId)
+                : null;
         activityCheckInterval = config.getDuration(ConfigKeys.Thing.ACTIVITY_CHECK_INTERVAL);
         activityCheckDeletedInterval = config.getDuration(ConfigKeys.Thing.ACTIVITY_CHECK_DELETED_INTERVAL);
 
@@ -480,6 +485,11 @@ public final class ThingPersistenceActor extends AbstractPersistentActor impleme
         // publish via cluster pubSub (as we cannot expect that Websocket sessions interested in this event
         // are running on the same cluster node):
         pubSubMediator.tell(new DistributedPubSubMediator.Publish(ThingEvent.TYPE_PREFIX, event, true), getSelf());
+        if (null != namespacedEventsTopic) {
+            // publish to the partition of the Thing's namespace as well for subscribers restricted to some namespaces;
+            // messages are only sent to cluster nodes with subscribers for the topic:
+            pubSubMediator.tell(new DistributedPubSubMediator.Publish(namespacedEventsTopic, event, true), getSelf());
+        }
     }
 
 
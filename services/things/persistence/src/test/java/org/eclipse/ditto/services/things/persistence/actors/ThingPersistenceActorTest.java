@@ -28,6 +28,7 @@ import static org.eclipse.ditto.services.things.persistence.actors.ETagTestUtils
 import static org.eclipse.ditto.services.things.persistence.actors.ETagTestUtils.retrieveThingResponse;
 
 import java.time.Instant;
+import java.util.Collections;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
@@ -61,6 +62,7 @@ import org.eclipse.ditto.model.things.ThingBuilder;
 import org.eclipse.ditto.model.things.ThingLifecycle;
 import org.eclipse.ditto.model.things.ThingTooLargeException;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.utils.cluster.NamespacedPubSubTopics;
 import org.eclipse.ditto.services.utils.test.Retry;
 import org.eclipse.ditto.signals.commands.common.Shutdown;
 import org.eclipse.ditto.signals.commands.common.ShutdownReasonFactory;
@@ -285,6 +287,32 @@ public final class ThingPersistenceActorTest extends PersistenceActorTestBase {
         };
     }
 
+    @Test
+    public void createThingPublishesEventToNamespacePartitionIfEnabled() {
+        TestKit.shutdownActorSystem(actorSystem);
+        setup(ConfigFactory.parseMap(Collections.singletonMap(NamespacedPubSubTopics.CONFIG_KEY_ENABLED, true)));
+
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final TestKit pubSub = new TestKit(actorSystem);
+                final ActorRef underTest = createPersistenceActorWithPubSubFor(thing, pubSub.getRef());
+
+                final CreateThing createThing = CreateThing.of(thing, null, dittoHeadersV2);
+                underTest.tell(createThing, getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                final ThingEvent event = ThingCreated.of(thing, 1L, dittoHeadersV2);
+                assertPublishEvent(pubSub, event);
+                final DistributedPubSubMediator.Publish namespacedResult =
+                        pubSub.expectMsgClass(DistributedPubSubMediator.Publish.class);
+                Assertions.assertThat(namespacedResult.topic())
+                        .isEqualTo(NamespacedPubSubTopics.forEntityId(ThingEvent.TYPE_PREFIX, event.getThingId()));
+                Assertions.assertThat(namespacedResult.msg()).isInstanceOf(ThingCreated.class);
+            }
+        };
+    }
+
     @Test
     public void modifyThingV1() {
         final Thing thing = createThingV1WithRandomId();
@@ -1551,6 +1579,7 @@ public final class ThingPersistenceActorTest extends PersistenceActorTestBase {
     private void assertPublishEvent(final TestKit pubSubMediator, final ThingEvent event) {
         final DistributedPubSubMediator.Publish result =
                 pubSubMediator.expectMsgClass(DistributedPubSubMediator.Publish.class);
+        Assertions.assertThat(result.topic()).isEqualTo(ThingEvent.TYPE_PREFIX);
         final ThingEvent msg = (ThingEvent) result.msg();
         Assertions.assertThat(msg.toJson())
                 .isEqualTo(event.toJson().set(msg.toJson().getField(Event.JsonFields.TIMESTAMP.getPointer()).get()));
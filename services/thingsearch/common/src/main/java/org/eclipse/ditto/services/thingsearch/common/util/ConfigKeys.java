@@ -92,6 +92,17 @@ public final class ConfigKeys {
      */
     public static final String THING_UPDATER_MAX_IDLE_TIME = SEARCH_UPDATER_PREFIX + "max-idle-time";
 
+    /**
+     * Controls whether ThingUpdaters apply Thing events locally instead of having each changed Thing retrieved.
+     */
+    public static final String THING_UPDATER_EVENT_SOURCED = SEARCH_UPDATER_PREFIX + "event-sourced";
+
+    /**
+     * How long an event-sourced ThingUpdater keeps its Thing without receiving events.
+     */
+    public static final String THING_UPDATER_EVENT_SOURCED_MAX_IDLE_TIME =
+            SEARCH_UPDATER_PREFIX + "event-sourced-max-idle-time";
+
     private static final String SYNC_PREFIX = SEARCH_UPDATER_PREFIX + "sync.";
 
     /**
@@ -30,7 +30,9 @@ import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.model.query.Query;
+import org.eclipse.ditto.model.query.SortDirection;
 import org.eclipse.ditto.model.query.SortOption;
+import org.eclipse.ditto.model.query.expression.SimpleFieldExpressionImpl;
 import org.eclipse.ditto.services.models.thingsearch.SearchNamespaceReportResult;
 import org.eclipse.ditto.services.models.thingsearch.SearchNamespaceResultEntry;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
@@ -45,9 +47,12 @@ import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
 import org.eclipse.ditto.services.utils.persistence.mongo.indices.IndexInitializer;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayQueryTimeExceededException;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.mongodb.MongoExecutionTimeoutException;
 import com.mongodb.ReadPreference;
 import com.mongodb.client.model.CountOptions;
+import com.mongodb.client.model.Filters;
 import com.mongodb.reactivestreams.client.AggregatePublisher;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
@@ -63,15 +68,40 @@ import scala.PartialFunction;
 
 /**
  * Persistence Service Implementation for asynchronous MongoDB search.
+ * <p>
+ * Pages are retrieved by range queries on the sort keys instead of skipping all preceding documents whenever the
+ * position of the previous page is known, so that paging through a result takes the same time per page regardless of
+ * its depth:
+ * </p>
+ * <ul>
+ * <li>A query with a seek anchor, i.e. the sort values of the last result of the previous page as carried by a
+ * search cursor, seeks to the anchor. Its ordering is made total by the thing ID as tie-breaker.</li>
+ * <li>Each page of a query whose sort options end with the thing ID remembers the sort values of its last result as
+ * anchor for the offset of the next page. A query with skip seeks to the remembered anchor of the same filter,
+ * ordering and offset if there is one, so that sequential skip/limit paging is translated to seeking. The anchors are
+ * bounded in number and age and local to this instance; a query without remembered anchor falls back to skip.</li>
+ * </ul>
+ * <p>
+ * Other queries are sorted by their sort options only and use skip.
+ * </p>
  */
 public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
 
+    private static final SortOption TIE_BREAKER =
+            new SortOption(new SimpleFieldExpressionImpl(PersistenceConstants.FIELD_ID), SortDirection.ASC);
+
+    private static final int MAX_SEEK_ANCHORS = 1_000;
+    private static final Duration SEEK_ANCHOR_EXPIRY = Duration.ofMinutes(5);
+
+    private static final int STREAM_BATCH_SIZE = 1000;
+
     private final MongoCollection<Document> collection;
     private final LoggingAdapter log;
 
     private final IndexInitializer indexInitializer;
     private final Duration maxQueryTime;
     private final MongoHints hints;
+    private final Cache<String, JsonArray> seekAnchors;
 
     /**
      * Initializes the things search persistence with a passed in {@code persistence}.
@@ -90,6 +120,10 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         indexInitializer = IndexInitializer.of(database, materializer);
         maxQueryTime = MongoConfig.of(actorSystem.settings().config()).getMaxQueryTime();
         hints = MongoHints.empty();
+        seekAnchors = Caffeine.newBuilder()
+                .maximumSize(MAX_SEEK_ANCHORS)
+                .expireAfterWrite(SEEK_ANCHOR_EXPIRY)
+                .build();
     }
 
     private MongoThingsSearchPersistence(
@@ -97,13 +131,15 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
             final LoggingAdapter log,
             final IndexInitializer indexInitializer,
             final Duration maxQueryTime,
-            final MongoHints hints) {
+            final MongoHints hints,
+            final Cache<String, JsonArray> seekAnchors) {
 
         this.collection = collection;
         this.log = log;
         this.indexInitializer = indexInitializer;
         this.maxQueryTime = maxQueryTime;
         this.hints = hints;
+        this.seekAnchors = seekAnchors;
     }
 
     /**
@@ -114,7 +150,8 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
      */
     public MongoThingsSearchPersistence withHintsByNamespace(final String jsonString) {
         final MongoHints hints = MongoHints.byNamespace(jsonString);
-        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints);
+        return new MongoThingsSearchPersistence(collection, log, indexInitializer, maxQueryTime, hints,
+                seekAnchors);
     }
 
     @Override
@@ -179,7 +216,8 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
     @Override
     public Source<ResultList<String>, NotUsed> findAll(final Query query,
             @Nullable final List<String> authorizationSubjectIds,
-            @Nullable final Set<String> namespaces) {
+            @Nullable final Set<String> namespaces,
+            @Nullable final JsonArray seekAnchor) {
 
         checkNotNull(query, "query");
 
@@ -188,28 +226,96 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
             log.debug("findAll with query filter <{}>.", queryFilter);
         }
 
-        final Bson sortOptions = getMongoSort(query);
-
         final int limit = query.getLimit();
         final int skip = query.getSkip();
         final int limitPlusOne = limit + 1;
-        final Bson projection = GetSortBsonVisitor.projections(query.getSortOptions());
+
+        final List<SortOption> sortOptions;
+        final Bson filter;
+        final int skipAfterSeek;
+        @Nullable final String seekAnchorPrefix;
+        if (seekAnchor != null) {
+            sortOptions = withTieBreaker(query.getSortOptions());
+            filter = Filters.and(queryFilter, GetSortBsonVisitor.seekFilter(query.getSortOptions(), seekAnchor));
+            skipAfterSeek = skip;
+            seekAnchorPrefix = null;
+        } else {
+            sortOptions = query.getSortOptions();
+            seekAnchorPrefix = isSortedById(sortOptions) ? getSeekAnchorPrefix(queryFilter, sortOptions) : null;
+            final JsonArray rememberedSeekAnchor = seekAnchorPrefix != null && skip > 0
+                    ? seekAnchors.getIfPresent(seekAnchorPrefix + skip)
+                    : null;
+            if (rememberedSeekAnchor != null) {
+                filter = Filters.and(queryFilter, GetSortBsonVisitor.seekFilter(sortOptions, rememberedSeekAnchor));
+                skipAfterSeek = 0;
+            } else {
+                filter = queryFilter;
+                skipAfterSeek = skip;
+            }
+        }
+        final Bson mongoSort = getMongoSort(query, sortOptions);
+        final Bson projection = GetSortBsonVisitor.projections(sortOptions);
 
         return Source.fromPublisher(
-                collection.find(queryFilter, Document.class)
+                collection.find(filter, Document.class)
                         .hint(hints.getHint(namespaces).orElse(null))
-                        .sort(sortOptions)
+                        .sort(mongoSort)
                         .limit(limitPlusOne)
-                        .skip(skip)
+                        .skip(skipAfterSeek)
                         .projection(projection)
                         .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS))
                 .grouped(limitPlusOne)
                 .orElse(Source.single(Collections.emptyList()))
-                .map(resultsPlus0ne -> toResultList(resultsPlus0ne, skip, limit, query.getSortOptions()))
+                .map(resultsPlus0ne -> {
+                    final ResultList<String> resultList =
+                            toResultList(resultsPlus0ne, skip, limit, query.getSortOptions());
+                    if (seekAnchorPrefix != null) {
+                        rememberSeekAnchor(resultList, seekAnchorPrefix);
+                    }
+                    return resultList;
+                })
                 .mapError(handleMongoExecutionTimeExceededException())
                 .log("findAll");
     }
 
+    @Override
+    public Source<String, NotUsed> findAllUnlimited(final Query query,
+            @Nullable final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces) {
+
+        checkNotNull(query, "query");
+
+        final BsonDocument queryFilter = getMongoFilter(query, authorizationSubjectIds);
+        if (log.isDebugEnabled()) {
+            log.debug("findAllUnlimited with query filter <{}>.", queryFilter);
+        }
+
+        final Bson sortOptions = getMongoSort(query, query.getSortOptions());
+        final Bson projection = new Document(PersistenceConstants.FIELD_ID, true);
+
+        // max time bounds the time the database spends on the cursor, not the time the consumer takes between
+        // batches; a cursor whose consumer stops requesting batches is closed by the database after its idle timeout
+        return Source.fromPublisher(
+                collection.find(queryFilter, Document.class)
+                        .hint(hints.getHint(namespaces).orElse(null))
+                        .sort(sortOptions)
+                        .batchSize(STREAM_BATCH_SIZE)
+                        .projection(projection)
+                        .noCursorTimeout(false)
+                        .maxTime(maxQueryTime.getSeconds(), TimeUnit.SECONDS))
+                .map(document -> document.getString(PersistenceConstants.FIELD_ID))
+                .mapError(handleMongoExecutionTimeExceededException())
+                .log("findAllUnlimited");
+    }
+
+    private void rememberSeekAnchor(final ResultList<String> resultList, final String seekAnchorPrefix) {
+        final long nextPageOffset = resultList.nextPageOffset();
+        if (nextPageOffset != ResultList.NO_NEXT_PAGE && nextPageOffset <= Integer.MAX_VALUE) {
+            resultList.lastResultSortValues()
+                    .ifPresent(sortValues -> seekAnchors.put(seekAnchorPrefix + nextPageOffset, sortValues));
+        }
+    }
+
     private ResultList<String> toResultList(final List<Document> resultsPlus0ne, final int skip, final int limit,
             final List<SortOption> sortOptions) {
 
@@ -248,11 +354,44 @@ public class MongoThingsSearchPersistence implements ThingsSearchPersistence {
         }
     }
 
-    private static Bson getMongoSort(final Query query) {
-        final MongoQuery mongoQuery = (MongoQuery) query;
+    private static Bson getMongoSort(final Query query, final List<SortOption> sortOptions) {
+        final MongoQuery mongoQuery =
+                new MongoQuery(query.getCriteria(), sortOptions, query.getLimit(), query.getSkip());
         return mongoQuery.getSortOptionsAsBson();
     }
 
+    /**
+     * Make the ordering of sort options total by appending the thing ID if it is not already sorted by.
+     * Documents with the same values of the sort keys are then ordered by their ID, which never changes the order
+     * of documents with distinct values and makes the position of each document unique for seeking.
+     *
+     * @param sortOptions sort options of a query.
+     * @return sort options ending with the thing ID.
+     */
+    private static List<SortOption> withTieBreaker(final List<SortOption> sortOptions) {
+        if (isSortedById(sortOptions)) {
+            return sortOptions;
+        } else {
+            final List<SortOption> sortOptionsWithTieBreaker = new ArrayList<>(sortOptions);
+            sortOptionsWithTieBreaker.add(TIE_BREAKER);
+            return sortOptionsWithTieBreaker;
+        }
+    }
+
+    private static boolean isSortedById(final List<SortOption> sortOptions) {
+        return sortOptions.stream()
+                .map(sortOption -> GetSortBsonVisitor.path(sortOption.getSortExpression()))
+                .anyMatch(PersistenceConstants.FIELD_ID::equals);
+    }
+
+    private static String getSeekAnchorPrefix(final BsonDocument queryFilter, final List<SortOption> sortOptions) {
+        final String ordering = sortOptions.stream()
+                .map(sortOption -> GetSortBsonVisitor.path(sortOption.getSortExpression()) + ":" +
+                        sortOption.getSortDirection())
+                .collect(Collectors.joining(","));
+        return queryFilter.toJson() + "|" + ordering + "|";
+    }
+
     private PartialFunction<Throwable, Throwable> handleMongoExecutionTimeExceededException() {
         return new PFBuilder<Throwable, Throwable>()
                 .match(Throwable.class, error ->
@@ -18,6 +18,7 @@ import java.util.concurrent.CompletionStage;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.model.query.Query;
 import org.eclipse.ditto.services.models.thingsearch.SearchNamespaceReportResult;
 
@@ -73,7 +74,39 @@ public interface ThingsSearchPersistence {
      * @return an {@link Source} which emits the IDs.
      * @throws NullPointerException if {@code query} is {@code null}.
      */
+    default Source<ResultList<String>, NotUsed> findAll(final Query query, final List<String> authorizationSubjectIds,
+            @Nullable final Set<String> namespaces) {
+        return findAll(query, authorizationSubjectIds, namespaces, null);
+    }
+
+    /**
+     * Returns the IDs for all found documents after a position in the ordering of the query's sort options.
+     *
+     * @param query the query for matching. Its sort options must end with the thing ID if a seek anchor is given.
+     * @param authorizationSubjectIds authorization subject IDs.
+     * @param namespaces namespaces to execute searches in, or null to search in all namespaces.
+     * @param seekAnchor values of the sort options marking the position after which results start, e.g. as carried
+     * by a search cursor, or null to start with the first result.
+     * @return an {@link Source} which emits the IDs.
+     * @throws NullPointerException if {@code query} is {@code null}.
+     * @throws IllegalArgumentException if the seek anchor does not match the sort options of the query.
+     */
     Source<ResultList<String>, NotUsed> findAll(Query query, List<String> authorizationSubjectIds,
+            @Nullable Set<String> namespaces, @Nullable JsonArray seekAnchor);
+
+    /**
+     * Returns the IDs of all documents found by the given {@code query} one by one, ignoring its limit and skip.
+     * The IDs are read from a single database cursor, so that consumers may process any number of results with
+     * backpressure instead of paging through them. The database spends at most the maximum query time on the cursor
+     * and closes it when the consumer stops requesting results for longer than the cursor idle timeout.
+     *
+     * @param query the query for matching.
+     * @param authorizationSubjectIds authorization subject IDs.
+     * @param namespaces namespaces to execute searches in, or null to search in all namespaces.
+     * @return an {@link Source} which emits the IDs.
+     * @throws NullPointerException if {@code query} is {@code null}.
+     */
+    Source<String, NotUsed> findAllUnlimited(Query query, List<String> authorizationSubjectIds,
             @Nullable Set<String> namespaces);
 
     /**
@@ -16,14 +16,21 @@ import static java.util.Objects.requireNonNull;
 import static org.eclipse.ditto.services.thingsearch.persistence.MongoSortKeyMappingFunction.mapSortKey;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ATTRIBUTES;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_FEATURES;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_PROPERTIES;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_SORTING;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.SLASH;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 
+import org.bson.BsonDocument;
+import org.bson.BsonNull;
+import org.bson.BsonType;
+import org.bson.BsonValue;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.eclipse.ditto.json.JsonArray;
@@ -34,7 +41,9 @@ import org.eclipse.ditto.model.query.SortDirection;
 import org.eclipse.ditto.model.query.SortOption;
 import org.eclipse.ditto.model.query.expression.SortFieldExpression;
 import org.eclipse.ditto.model.query.expression.visitors.SortFieldExpressionVisitor;
+import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.JsonToBson;
 
+import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.Sorts;
 
 /**
@@ -42,6 +51,17 @@ import com.mongodb.client.model.Sorts;
  */
 public final class GetSortBsonVisitor implements SortFieldExpressionVisitor<String> {
 
+    /**
+     * Types of non-null values in the search index in the order MongoDB sorts values of different types.
+     * Types in the same list are compared by value.
+     */
+    private static final List<List<BsonType>> TYPE_ORDER = Arrays.asList(
+            Arrays.asList(BsonType.INT32, BsonType.INT64, BsonType.DOUBLE, BsonType.DECIMAL128),
+            Collections.singletonList(BsonType.STRING),
+            Collections.singletonList(BsonType.DOCUMENT),
+            Collections.singletonList(BsonType.ARRAY),
+            Collections.singletonList(BsonType.BOOLEAN));
+
     private GetSortBsonVisitor() {}
 
     /**
@@ -87,6 +107,26 @@ public final class GetSortBsonVisitor implements SortFieldExpressionVisitor<Stri
         return builder.build();
     }
 
+    /**
+     * Create a filter for documents strictly after a position in the ordering of sort options, so that a page can be
+     * retrieved by a range query instead of skipping all documents before it. The ordering must be total, e.g. by
+     * ending with the thing ID, for the filter to not exclude documents with the same sort values as the position.
+     * Values of different types are ordered by type as MongoDB sorts them; null and missing values are equal and
+     * precede all other values.
+     *
+     * @param sortOptions sort options.
+     * @param previousValues values of the sort keys at the position as computed by {@code sortValuesAsArray}.
+     * @return filter for documents after the position.
+     * @throws IllegalArgumentException if the number of sort options and values differ.
+     */
+    public static Bson seekFilter(final List<SortOption> sortOptions, final JsonArray previousValues) {
+        if (sortOptions.isEmpty() || sortOptions.size() != previousValues.getSize()) {
+            throw new IllegalArgumentException("Sort options <" + sortOptions + "> do not match previous values <" +
+                    previousValues + ">.");
+        }
+        return seekFilterImpl(sortOptions, previousValues, 0);
+    }
+
     /**
      * Translate a sort field expression into a path of the Bson document.
      *
@@ -140,6 +180,79 @@ public final class GetSortBsonVisitor implements SortFieldExpressionVisitor<Stri
         return Collections.singletonList(sort);
     }
 
+    private static Bson seekFilterImpl(final List<SortOption> sortOptions, final JsonArray previousValues,
+            final int i) {
+
+        final SortOption sortOption = sortOptions.get(i);
+        final String path = path(sortOption.getSortExpression());
+        final BsonValue previousValue = previousValues.get(i).map(JsonToBson::convert).orElse(BsonNull.VALUE);
+        final Bson thisDimensionAfter = getDimensionAfter(path, sortOption.getSortDirection(), previousValue);
+        if (i + 1 >= sortOptions.size()) {
+            return thisDimensionAfter;
+        } else {
+            // equality to null matches both null and missing values, which are equal in the ordering
+            final Bson thisDimensionEq = Filters.eq(path, previousValue);
+            final Bson nextDimensionsAfter = seekFilterImpl(sortOptions, previousValues, i + 1);
+            return Filters.or(thisDimensionAfter, Filters.and(thisDimensionEq, nextDimensionsAfter));
+        }
+    }
+
+    private static Bson getDimensionAfter(final String path, final SortDirection sortDirection,
+            final BsonValue previousValue) {
+
+        // null and missing values are the smallest in the ordering and never matched by comparison operators;
+        // comparison operators only match values of the same type, so that values of other types are matched by type.
+        // thing IDs are never null and always strings.
+        final boolean isThingId = FIELD_ID.equals(path);
+        final int typeRank = getTypeRank(previousValue);
+        final boolean hasOtherTypes = !isThingId && typeRank >= 0;
+        final List<Bson> disjuncts = new ArrayList<>();
+        if (sortDirection == SortDirection.ASC) {
+            if (previousValue.isNull()) {
+                disjuncts.add(Filters.ne(path, BsonNull.VALUE));
+            } else {
+                disjuncts.add(Filters.gt(path, previousValue));
+                if (hasOtherTypes) {
+                    TYPE_ORDER.subList(typeRank + 1, TYPE_ORDER.size())
+                            .forEach(types -> types.forEach(type -> disjuncts.add(Filters.type(path, type))));
+                }
+            }
+        } else if (!previousValue.isNull()) {
+            disjuncts.add(Filters.lt(path, previousValue));
+            if (hasOtherTypes) {
+                TYPE_ORDER.subList(0, typeRank)
+                        .forEach(types -> types.forEach(type -> disjuncts.add(Filters.type(path, type))));
+            }
+            if (!isThingId) {
+                disjuncts.add(Filters.eq(path, BsonNull.VALUE));
+            }
+        }
+        switch (disjuncts.size()) {
+            case 0:
+                return Filters.nor(new BsonDocument());
+            case 1:
+                return disjuncts.get(0);
+            default:
+                return Filters.or(disjuncts);
+        }
+    }
+
+    /**
+     * Find the position of the type of a non-null value in {@code TYPE_ORDER}.
+     *
+     * @param value the value.
+     * @return position of its type, or -1 if the value is null or of no type in the search index.
+     */
+    private static int getTypeRank(final BsonValue value) {
+        final BsonType type = value.getBsonType();
+        for (int i = 0; i < TYPE_ORDER.size(); ++i) {
+            if (TYPE_ORDER.get(i).contains(type)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     private static Function<String, Object> seekToPath(final Document document) {
         return path -> seekToPathImpl(document, path.split("\\."), 0);
     }
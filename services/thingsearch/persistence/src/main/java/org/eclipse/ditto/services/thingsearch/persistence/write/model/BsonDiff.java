@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.model;
+
+import java.util.Map;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+
+/**
+ * Computes a minimal MongoDB update document transforming one search index document into another.
+ * <p>
+ * Documents are compared key by key and arrays of equal length element by element, so that a change of a single
+ * value results in a single {@code $set} of its dotted path. Arrays whose length changed are set as a whole,
+ * because MongoDB rejects updates touching both an array and one of its elements.
+ * </p>
+ */
+final class BsonDiff {
+
+    private static final String UNSET = "$unset";
+    private static final String DOT = ".";
+
+    private final BsonDocument set;
+    private final BsonDocument unset;
+    private final int maxDiffSize;
+    private int diffSize;
+
+    private BsonDiff(final int maxDiffSize) {
+        this.maxDiffSize = maxDiffSize;
+        set = new BsonDocument();
+        unset = new BsonDocument();
+        diffSize = 0;
+    }
+
+    /**
+     * Compute the update document transforming {@code previous} into {@code next}.
+     *
+     * @param previous the document as it is in the persistence.
+     * @param next the document as it should be after the update.
+     * @param maxDiffSize the maximum number of {@code $set} and {@code $unset} paths in the update.
+     * @return the update document, or an empty optional if the documents differ in more than {@code maxDiffSize}
+     * paths.
+     */
+    static Optional<BsonDocument> minimalUpdate(final BsonDocument previous, final BsonDocument next,
+            final int maxDiffSize) {
+
+        final BsonDiff diff = new BsonDiff(maxDiffSize);
+        if (diff.diffDocuments("", previous, next)) {
+            final BsonDocument update = new BsonDocument();
+            if (!diff.set.isEmpty()) {
+                update.append(AbstractWriteModel.SET, diff.set);
+            }
+            if (!diff.unset.isEmpty()) {
+                update.append(UNSET, diff.unset);
+            }
+            return Optional.of(update);
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    private boolean diffDocuments(final String prefix, final BsonDocument previous, final BsonDocument next) {
+        for (final Map.Entry<String, BsonValue> entry : next.entrySet()) {
+            final String key = entry.getKey();
+            if (!diffValues(prefix + key, previous.get(key), entry.getValue())) {
+                return false;
+            }
+        }
+        for (final String key : previous.keySet()) {
+            if (!next.containsKey(key) && !append(unset, prefix + key, new BsonString(""))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean diffArrays(final String prefix, final BsonArray previous, final BsonArray next) {
+        for (int i = 0; i < next.size(); ++i) {
+            if (!diffValues(prefix + i, previous.get(i), next.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean diffValues(final String path, @Nullable final BsonValue previous, final BsonValue next) {
+        if (previous != null && previous.isDocument() && next.isDocument()) {
+            return diffDocuments(path + DOT, previous.asDocument(), next.asDocument());
+        } else if (previous != null && previous.isArray() && next.isArray() &&
+                previous.asArray().size() == next.asArray().size()) {
+            return diffArrays(path + DOT, previous.asArray(), next.asArray());
+        } else if (next.equals(previous)) {
+            return true;
+        } else {
+            return append(set, path, next);
+        }
+    }
+
+    private boolean append(final BsonDocument operator, final String path, final BsonValue value) {
+        operator.append(path, value);
+        return ++diffSize <= maxDiffSize;
+    }
+}
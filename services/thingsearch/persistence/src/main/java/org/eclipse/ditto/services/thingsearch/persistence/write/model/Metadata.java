@@ -18,6 +18,7 @@ import java.util.Optional;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
+import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.namespaces.NamespaceReader;
 
 /**
@@ -30,16 +31,19 @@ public final class Metadata {
     private final long thingRevision;
     @Nullable private final String policyId;
     private final long policyRevision;
+    @Nullable private final JsonObject thing;
 
     private Metadata(final String thingId,
             final long thingRevision,
             @Nullable final String policyId,
-            final long policyRevision) {
+            final long policyRevision,
+            @Nullable final JsonObject thing) {
 
         this.thingId = thingId;
         this.thingRevision = thingRevision;
         this.policyId = policyId;
         this.policyRevision = policyRevision;
+        this.thing = thing;
     }
 
     /**
@@ -56,7 +60,27 @@ public final class Metadata {
             @Nullable final String policyId,
             final long policyRevision) {
 
-        return new Metadata(thingId, thingRevision, policyId, policyRevision);
+        return new Metadata(thingId, thingRevision, policyId, policyRevision, null);
+    }
+
+    /**
+     * Create an Metadata object carrying the Thing at {@code thingRevision}, so that the Thing need not be retrieved
+     * from the Things service.
+     *
+     * @param thingId the Thing ID.
+     * @param thingRevision the Thing revision.
+     * @param policyId the Policy ID if the Thing has one.
+     * @param policyRevision the Policy revision if the Thing has a policy, or the Thing revision if it does not.
+     * @param thing the Thing at {@code thingRevision} in JSON format as retrieved by SudoRetrieveThing, or null.
+     * @return the new Metadata object.
+     */
+    public static Metadata of(final String thingId,
+            final long thingRevision,
+            @Nullable final String policyId,
+            final long policyRevision,
+            @Nullable final JsonObject thing) {
+
+        return new Metadata(thingId, thingRevision, policyId, policyRevision, thing);
     }
 
     /**
@@ -96,6 +120,13 @@ public final class Metadata {
         return getPolicyId().orElse("");
     }
 
+    /**
+     * @return the Thing at the revision of this object in JSON format, if it is known without retrieval.
+     */
+    public Optional<JsonObject> getThing() {
+        return Optional.ofNullable(thing);
+    }
+
     /**
      * Returns the revision of the Policy according to the search index.
      *
@@ -117,12 +148,13 @@ public final class Metadata {
         return thingRevision == that.thingRevision &&
                 policyRevision == that.policyRevision &&
                 Objects.equals(thingId, that.thingId) &&
-                Objects.equals(policyId, that.policyId);
+                Objects.equals(policyId, that.policyId) &&
+                Objects.equals(thing, that.thing);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(thingId, thingRevision, policyId, policyRevision);
+        return Objects.hash(thingId, thingRevision, policyId, policyRevision, thing);
     }
 
     @Override
@@ -132,6 +164,7 @@ public final class Metadata {
                 ", thingRevision=" + thingRevision +
                 ", policyId=" + policyId +
                 ", policyRevision=" + policyRevision +
+                ", thingKnown=" + (thing != null) +
                 "]";
     }
 
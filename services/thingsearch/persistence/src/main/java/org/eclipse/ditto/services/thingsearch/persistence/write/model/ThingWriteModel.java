@@ -12,11 +12,19 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.write.model;
 
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_DELETE_AT;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
+
 import javax.annotation.concurrent.Immutable;
 
+import org.bson.BsonDocument;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 
+import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.client.model.WriteModel;
 
@@ -49,6 +57,49 @@ public final class ThingWriteModel extends AbstractWriteModel {
         return new ReplaceOneModel<>(getFilter(), thingDocument, upsert());
     }
 
+    /**
+     * Convert this write model into a replacement of the persisted document which only takes effect if the persisted
+     * document is older, i. e. at a lower Thing revision or at the same Thing revision and a lower policy revision.
+     * If a newer document exists, the upsert fails with a duplicate key error.
+     *
+     * @return MongoDB write model.
+     */
+    public WriteModel<Document> toMongoIfNewer() {
+        final Metadata metadata = getMetadata();
+        final Bson olderRevisionFilter = Filters.or(
+                Filters.lt(FIELD_REVISION, metadata.getThingRevision()),
+                Filters.and(Filters.eq(FIELD_REVISION, metadata.getThingRevision()),
+                        Filters.lt(FIELD_POLICY_REVISION, metadata.getPolicyRevision())));
+        return new ReplaceOneModel<>(Filters.and(getFilter(), olderRevisionFilter), thingDocument, upsert());
+    }
+
+    /**
+     * Convert this write model into an update of the document last written for the same Thing.
+     * The update only sets and unsets the paths that differ between the two documents. It matches nothing if the
+     * persisted document is not at the revisions of {@code lastWrittenDocument}, in which case the caller should
+     * fall back to {@link #toMongoIfNewer()}.
+     *
+     * @param lastWrittenDocument the document last written for the Thing.
+     * @param thingBsonDocument the Thing document of this write model in BSON form.
+     * @param maxDiffSize the maximum number of paths to update before falling back to replacing the document.
+     * @return MongoDB write model; a replacement if the documents differ in more than {@code maxDiffSize} paths.
+     */
+    public WriteModel<Document> toIncrementalMongo(final BsonDocument lastWrittenDocument,
+            final BsonDocument thingBsonDocument,
+            final int maxDiffSize) {
+
+        return BsonDiff.minimalUpdate(lastWrittenDocument, thingBsonDocument, maxDiffSize)
+                .<WriteModel<Document>>map(update -> {
+                    if (update.isEmpty()) {
+                        // an update document must not be empty; the revision is set again as no-op.
+                        update.append(SET, new BsonDocument().append(FIELD_REVISION,
+                                thingBsonDocument.get(FIELD_REVISION)));
+                    }
+                    return new UpdateOneModel<>(getIncrementalFilter(lastWrittenDocument), update);
+                })
+                .orElseGet(this::toMongo);
+    }
+
     /**
      * @return the Thing document to be written in the persistence.
      */
@@ -56,6 +107,13 @@ public final class ThingWriteModel extends AbstractWriteModel {
         return thingDocument;
     }
 
+    private Bson getIncrementalFilter(final BsonDocument lastWrittenDocument) {
+        return Filters.and(getFilter(),
+                Filters.eq(FIELD_REVISION, lastWrittenDocument.get(FIELD_REVISION)),
+                Filters.eq(FIELD_POLICY_REVISION, lastWrittenDocument.get(FIELD_POLICY_REVISION)),
+                Filters.exists(FIELD_DELETE_AT, false));
+    }
+
     private static UpdateOptions upsert() {
         return new UpdateOptions().upsert(true);
     }
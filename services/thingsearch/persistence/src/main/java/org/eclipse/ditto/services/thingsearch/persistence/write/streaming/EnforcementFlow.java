@@ -12,12 +12,19 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 
+import static org.eclipse.ditto.services.models.concierge.ConciergeMessagingConstants.DISPATCHER_ACTOR_PATH;
+
 import java.time.Duration;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
@@ -29,6 +36,7 @@ import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
 import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.EnforcedThingMapper;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
@@ -38,6 +46,8 @@ import org.eclipse.ditto.services.utils.cache.CacheFactory;
 import org.eclipse.ditto.services.utils.cache.EntityId;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerCacheLoader;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
 import org.slf4j.Logger;
@@ -47,34 +57,47 @@ import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 
 import akka.NotUsed;
 import akka.actor.ActorRef;
+import akka.cluster.pubsub.DistributedPubSubMediator;
 import akka.dispatch.MessageDispatcher;
+import akka.japi.pf.PFBuilder;
 import akka.pattern.Patterns;
+import akka.stream.SourceRef;
 import akka.stream.javadsl.Flow;
 import akka.stream.javadsl.Keep;
+import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
+import kamon.Kamon;
 
 /**
  * Converts Thing changes into write models by retrieving data and applying enforcement via an enforcer cache.
  */
 final class EnforcementFlow {
 
+    private static final String TRACE_THING_BATCH_RETRIEVAL = "things_search_thing_batchRetrieval";
+    private static final String COUNT_THINGS_PER_BATCH_RETRIEVAL = "things_search_thing_batchRetrieval_things_per_batch";
+
     private final Logger log = LoggerFactory.getLogger(getClass());
     private final ActorRef thingsShardRegion;
+    private final ActorRef pubSubMediator;
     private final Cache<EntityId, Entry<Enforcer>> policyEnforcerCache;
     private final Duration thingsTimeout;
     private final Duration cacheRetryDelay;
     private final int maxArraySize;
+    private final int retrievalBatchSize;
     private final boolean deleteEvent;
 
-    private EnforcementFlow(final ActorRef thingsShardRegion,
+    private EnforcementFlow(final ActorRef thingsShardRegion, final ActorRef pubSubMediator,
             final Cache<EntityId, Entry<Enforcer>> policyEnforcerCache, final Duration thingsTimeout,
-            final Duration cacheRetryDelay, final int maxArraySize, final boolean deleteEvent) {
+            final Duration cacheRetryDelay, final int maxArraySize, final int retrievalBatchSize,
+            final boolean deleteEvent) {
 
         this.thingsShardRegion = thingsShardRegion;
+        this.pubSubMediator = pubSubMediator;
         this.policyEnforcerCache = policyEnforcerCache;
         this.thingsTimeout = thingsTimeout;
         this.cacheRetryDelay = cacheRetryDelay;
         this.maxArraySize = maxArraySize;
+        this.retrievalBatchSize = retrievalBatchSize;
         this.deleteEvent = deleteEvent;
     }
 
@@ -84,12 +107,14 @@ final class EnforcementFlow {
      * @param updaterStreamConfig configuration of the updater stream.
      * @param thingsShardRegion the shard region to retrieve things from.
      * @param policiesShardRegion the shard region to retrieve policies from.
+     * @param pubSubMediator the pub-sub mediator to send batched retrievals to the concierge service with.
      * @param cacheDispatcher dispatcher for the enforcer cache.
      * @return an EnforcementFlow object.
      */
     public static EnforcementFlow of(final SearchUpdaterStreamConfigReader updaterStreamConfig,
             final ActorRef thingsShardRegion,
             final ActorRef policiesShardRegion,
+            final ActorRef pubSubMediator,
             final MessageDispatcher cacheDispatcher,
             final boolean deleteEvent) {
 
@@ -103,23 +128,29 @@ final class EnforcementFlow {
                         EnforcementFlow.class.getCanonicalName() + ".cache",
                         cacheDispatcher);
 
-        return new EnforcementFlow(thingsShardRegion, policyEnforcerCache, askTimeout, cacheRetryDelay,
-                updaterStreamConfig.maxArraySize(), deleteEvent);
+        return new EnforcementFlow(thingsShardRegion, pubSubMediator, policyEnforcerCache, askTimeout,
+                cacheRetryDelay, updaterStreamConfig.maxArraySize(), updaterStreamConfig.retrieval().batchSize(),
+                deleteEvent);
     }
 
     /**
      * Create a flow from Thing changes to write models by retrieving data from Things shard region and enforcer cache.
      *
-     * @param parallelism how many SudoRetrieveThing commands to send in parallel.
+     * @param parallelism how many SudoRetrieveThing or SudoRetrieveThings commands to send in parallel.
      * @return the flow.
      */
     public Flow<Map<String, Metadata>, Source<AbstractWriteModel, NotUsed>, NotUsed> create(final int parallelism) {
 
         return Flow.<Map<String, Metadata>>create().map(changeMap -> {
             log.info("Updating search index of <{}> things", changeMap.size());
-            return sudoRetrieveThingJsons(parallelism, changeMap.keySet()).flatMapConcat(responseMap ->
+            final List<String> thingIdsToRetrieve = changeMap.values()
+                    .stream()
+                    .filter(metadata -> !metadata.getThing().isPresent())
+                    .map(Metadata::getThingId)
+                    .collect(Collectors.toList());
+            return sudoRetrieveThingJsons(parallelism, thingIdsToRetrieve).flatMapConcat(responseMap ->
                     Source.fromIterator(changeMap.values()::iterator).flatMapMerge(parallelism, metadataRef ->
-                            computeWriteModel(metadataRef, responseMap.get(metadataRef.getThingId())))
+                            computeWriteModel(metadataRef, getThing(metadataRef, responseMap)))
             );
         });
 
@@ -129,8 +160,17 @@ final class EnforcementFlow {
             final int parallelism,
             final Collection<String> thingIds) {
 
-        return Source.fromIterator(thingIds::iterator)
-                .flatMapMerge(parallelism, this::sudoRetrieveThing)
+        final Source<SudoRetrieveThingResponse, NotUsed> responses;
+        if (retrievalBatchSize > 0) {
+            responses = Source.fromIterator(thingIds::iterator)
+                    .filterNot(String::isEmpty)
+                    .grouped(retrievalBatchSize)
+                    .flatMapMerge(parallelism, batch -> sudoRetrieveThings(parallelism, batch));
+        } else {
+            responses = Source.fromIterator(thingIds::iterator)
+                    .flatMapMerge(parallelism, this::sudoRetrieveThing);
+        }
+        return responses
                 .<Map<String, SudoRetrieveThingResponse>>fold(new HashMap<>(), (map, response) -> {
                     map.put(getThingId(response), response);
                     return map;
@@ -169,15 +209,114 @@ final class EnforcementFlow {
         }
     }
 
+    /**
+     * Retrieve a batch of things via the things-aggregator of the concierge service. The responses are streamed
+     * from a SourceRef as they arrive. Should the batch retrieval fail, the things not retrieved yet are retrieved
+     * one by one.
+     *
+     * @param parallelism how many SudoRetrieveThing commands to send in parallel in case of failure.
+     * @param thingIds IDs of the things to retrieve.
+     * @return source of the responses.
+     */
+    private Source<SudoRetrieveThingResponse, NotUsed> sudoRetrieveThings(final int parallelism,
+            final List<String> thingIds) {
+
+        Kamon.histogram(COUNT_THINGS_PER_BATCH_RETRIEVAL).record(thingIds.size());
+        final StartedTimer timer = DittoMetrics.expiringTimer(TRACE_THING_BATCH_RETRIEVAL).build();
+        final SudoRetrieveThings command = SudoRetrieveThings.withOriginalSchemaVersion(thingIds, DittoHeaders.empty());
+        final Function<List<String>, Source<SudoRetrieveThingResponse, NotUsed>> retrieveOneByOne =
+                missingThingIds -> Source.from(missingThingIds).flatMapMerge(parallelism, this::sudoRetrieveThing);
+        final CompletionStage<Source<SudoRetrieveThingResponse, NotUsed>> responseFuture =
+                Patterns.ask(pubSubMediator, new DistributedPubSubMediator.Send(DISPATCHER_ACTOR_PATH, command),
+                        thingsTimeout)
+                        .handle((response, error) -> {
+                            if (response instanceof SourceRef) {
+                                final Source<SudoRetrieveThingResponse, NotUsed> responses =
+                                        ((SourceRef<?>) response).getSource()
+                                                .filter(SudoRetrieveThingResponse.class::isInstance)
+                                                .map(SudoRetrieveThingResponse.class::cast)
+                                                .mapMaterializedValue(any -> NotUsed.getInstance());
+                                return retrieveMissingThingsOnFailure(responses, thingIds, retrieveOneByOne, log);
+                            } else {
+                                if (error != null) {
+                                    log.error("Failed " + command, error);
+                                } else {
+                                    log.error("Unexpected response for <{}>: <{}>", command, response);
+                                }
+                                return retrieveOneByOne.apply(thingIds);
+                            }
+                        });
+
+        return Source.fromSourceCompletionStage(responseFuture)
+                .viaMat(Flow.create(), Keep.none())
+                .alsoTo(Sink.onComplete(result -> stopTimer(timer)));
+    }
+
+    /**
+     * Continue a stream of retrieved things which fails, e. g. because a single retrieval in the things-aggregator
+     * timed out, with the retrieval of the things whose responses did not arrive before the failure.
+     *
+     * @param responses the responses of a batch retrieval.
+     * @param thingIds IDs of the things of the batch.
+     * @param retrieveOneByOne retrieves the things of the passed IDs one by one.
+     * @param log the logger to report the failure to.
+     * @return source of the responses followed by the responses of the things retrieved one by one.
+     */
+    static Source<SudoRetrieveThingResponse, NotUsed> retrieveMissingThingsOnFailure(
+            final Source<SudoRetrieveThingResponse, NotUsed> responses,
+            final List<String> thingIds,
+            final Function<List<String>, Source<SudoRetrieveThingResponse, NotUsed>> retrieveOneByOne,
+            final Logger log) {
+
+        final Set<String> retrievedThingIds = ConcurrentHashMap.newKeySet();
+        return responses.map(response -> {
+            retrievedThingIds.add(getThingId(response));
+            return response;
+        }).recoverWithRetries(1, new PFBuilder<Throwable, Source<SudoRetrieveThingResponse, NotUsed>>()
+                .matchAny(error -> {
+                    final List<String> missingThingIds = thingIds.stream()
+                            .filter(thingId -> !retrievedThingIds.contains(thingId))
+                            .collect(Collectors.toList());
+                    log.warn("Batch retrieval failed after <{}> of <{}> things; retrieving <{}> things one by one: {}",
+                            retrievedThingIds.size(), thingIds.size(), missingThingIds.size(), error.toString());
+                    return retrieveOneByOne.apply(missingThingIds);
+                })
+                .build());
+    }
+
+    private static void stopTimer(final StartedTimer timer) {
+        try {
+            timer.stop();
+        } catch (final IllegalStateException e) {
+            // it is okay if the timer stopped already.
+        }
+    }
+
+    /**
+     * Get the Thing of a change either from the change itself or from the retrieved Things.
+     *
+     * @param metadata the change.
+     * @param responseMap the retrieved Things by their IDs.
+     * @return the Thing, or null if it was neither known nor retrieved.
+     */
+    @Nullable
+    private static JsonObject getThing(final Metadata metadata,
+            final Map<String, SudoRetrieveThingResponse> responseMap) {
+
+        return metadata.getThing().orElseGet(() -> {
+            final SudoRetrieveThingResponse response = responseMap.get(metadata.getThingId());
+            return response == null ? null : response.getEntity().asObject();
+        });
+    }
+
     private Source<AbstractWriteModel, NotUsed> computeWriteModel(final Metadata metadata,
-            @Nullable SudoRetrieveThingResponse sudoRetrieveThingResponse) {
+            @Nullable final JsonObject thing) {
 
-        if (sudoRetrieveThingResponse == null) {
+        if (thing == null) {
             return deleteEvent
                     ? Source.single(ThingDeleteModel.of(metadata))
                     : Source.empty(); // TODO: refactor config.
         } else {
-            final JsonObject thing = sudoRetrieveThingResponse.getEntity().asObject();
             return getEnforcer(metadata, thing).map(entry ->
                     EnforcedThingMapper.toWriteModel(thing, entry.getValueOrThrow(), entry.getRevision(),
                             maxArraySize));
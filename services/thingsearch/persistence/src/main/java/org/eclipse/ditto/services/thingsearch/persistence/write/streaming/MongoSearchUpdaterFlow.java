@@ -12,20 +12,41 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
 import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.THINGS_COLLECTION_NAME;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.annotation.Nullable;
+
+import org.bson.BsonDocument;
 import org.bson.Document;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingDeleteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
+import org.eclipse.ditto.services.utils.persistence.mongo.BsonUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.mongodb.MongoBulkWriteException;
 import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.WriteModel;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
@@ -46,8 +67,6 @@ import akka.stream.javadsl.Source;
 import akka.stream.javadsl.Zip;
 import kamon.Kamon;
 
-import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
-
 /**
  * Flow mapping write models to write results via the search persistence.
  */
@@ -56,23 +75,55 @@ final class MongoSearchUpdaterFlow {
     private static final String TRACE_THING_BULK_UPDATE = "things_search_thing_bulkUpdate";
     private static final String COUNT_THING_BULK_UPDATES_PER_BULK = "things_search_thing_bulkUpdate_updates_per_bulk";
     private static final String UPDATE_TYPE_TAG = "update_type";
+    private static final String COUNT_THING_INCREMENTAL_UPDATES = "things_search_thing_incrementalUpdates";
+    private static final String COUNT_THING_INCREMENTAL_UPDATE_FALLBACKS =
+            "things_search_thing_incrementalUpdate_fallbacks";
 
     private Logger log = LoggerFactory.getLogger(MongoSearchUpdaterFlow.class);
 
     private final MongoCollection<Document> collection;
+    @Nullable private final Cache<String, BsonDocument> lastWrittenDocuments;
+    private final int maxDiffSize;
+
+    private MongoSearchUpdaterFlow(final MongoCollection<Document> collection,
+            @Nullable final Cache<String, BsonDocument> lastWrittenDocuments,
+            final int maxDiffSize) {
 
-    private MongoSearchUpdaterFlow(final MongoCollection<Document> collection) {
         this.collection = collection;
+        this.lastWrittenDocuments = lastWrittenDocuments;
+        this.maxDiffSize = maxDiffSize;
     }
 
     /**
-     * Create a MongoSearchUpdaterFlow object.
+     * Create a MongoSearchUpdaterFlow object which always replaces whole search index documents.
      *
      * @param database the MongoDB database.
      * @return the MongoSearchUpdaterFlow object.
      */
     public static MongoSearchUpdaterFlow of(final MongoDatabase database) {
-        return new MongoSearchUpdaterFlow(database.getCollection(THINGS_COLLECTION_NAME));
+        return new MongoSearchUpdaterFlow(database.getCollection(THINGS_COLLECTION_NAME), null, 0);
+    }
+
+    /**
+     * Create a MongoSearchUpdaterFlow object which remembers the last written document of up to
+     * {@code maxCachedDocuments} things and writes only the difference to it.
+     *
+     * @param database the MongoDB database.
+     * @param maxCachedDocuments how many last written documents to remember; 0 disables incremental updates.
+     * @param maxDiffSize how many paths an incremental update may set or unset before the whole document is replaced.
+     * @return the MongoSearchUpdaterFlow object.
+     */
+    public static MongoSearchUpdaterFlow of(final MongoDatabase database, final int maxCachedDocuments,
+            final int maxDiffSize) {
+
+        if (maxCachedDocuments <= 0) {
+            return of(database);
+        }
+        final Cache<String, BsonDocument> lastWrittenDocuments = Caffeine.newBuilder()
+                .maximumSize(maxCachedDocuments)
+                .build();
+        return new MongoSearchUpdaterFlow(database.getCollection(THINGS_COLLECTION_NAME), lastWrittenDocuments,
+                maxDiffSize);
     }
 
 
@@ -89,29 +140,148 @@ final class MongoSearchUpdaterFlow {
             final int maxBulkSize,
             final Duration writeInterval) {
 
-        final Flow<Source<AbstractWriteModel, NotUsed>, List<WriteModel<Document>>, NotUsed> batchFlow =
-                Flow.<Source<AbstractWriteModel, NotUsed>>create()
-                        .flatMapConcat(source -> source.map(AbstractWriteModel::toMongo).grouped(maxBulkSize));
+        final Flow<Source<AbstractWriteModel, NotUsed>, List<Pair<AbstractWriteModel, WriteModel<Document>>>,
+                NotUsed> batchFlow = Flow.<Source<AbstractWriteModel, NotUsed>>create()
+                .flatMapConcat(source -> source.map(this::toMongo).grouped(maxBulkSize));
 
-        final Flow<List<WriteModel<Document>>, List<WriteModel<Document>>, NotUsed> throttleFlow;
+        final Flow<List<Pair<AbstractWriteModel, WriteModel<Document>>>,
+                List<Pair<AbstractWriteModel, WriteModel<Document>>>, NotUsed> throttleFlow;
         if (Duration.ZERO.minus(writeInterval).isNegative()) {
-            throttleFlow = Flow.<List<WriteModel<Document>>>create()
+            throttleFlow = Flow.<List<Pair<AbstractWriteModel, WriteModel<Document>>>>create()
                     .delay(writeInterval, DelayOverflowStrategy.backpressure());
         } else {
             throttleFlow = Flow.create();
         }
 
-        final Flow<List<WriteModel<Document>>, BulkWriteResult, NotUsed> writeFlow =
-                throttleFlow.flatMapMerge(parallelism, this::executeBulkWrite)
+        final Flow<List<Pair<AbstractWriteModel, WriteModel<Document>>>, BulkWriteResult, NotUsed> writeFlow =
+                throttleFlow.flatMapMerge(parallelism, this::executeBulkWriteWithFallback)
                         // never initiate more than "parallelism" writes against the persistence
                         .withAttributes(Attributes.inputBuffer(parallelism, parallelism));
 
-        final Flow<List<WriteModel<Document>>, StartedTimer, NotUsed> startTimerFlow = createStartTimerFlow();
+        final Flow<List<Pair<AbstractWriteModel, WriteModel<Document>>>, StartedTimer, NotUsed> startTimerFlow =
+                createStartTimerFlow();
         final Flow<Pair<BulkWriteResult, StartedTimer>, BulkWriteResult, NotUsed> stopTimerFlow = createStopTimerFlow();
 
         return Flow.fromGraph(assembleFlows(batchFlow, writeFlow, startTimerFlow, stopTimerFlow));
     }
 
+    private Pair<AbstractWriteModel, WriteModel<Document>> toMongo(final AbstractWriteModel writeModel) {
+        if (lastWrittenDocuments != null) {
+            final String thingId = writeModel.getMetadata().getThingId();
+            if (writeModel instanceof ThingWriteModel) {
+                final ThingWriteModel thingWriteModel = (ThingWriteModel) writeModel;
+                final BsonDocument thingBsonDocument = BsonUtil.toBsonDocument(thingWriteModel.getThingDocument());
+                final BsonDocument lastWrittenDocument = lastWrittenDocuments.getIfPresent(thingId);
+                lastWrittenDocuments.put(thingId, thingBsonDocument);
+                if (lastWrittenDocument != null) {
+                    return Pair.create(writeModel,
+                            thingWriteModel.toIncrementalMongo(lastWrittenDocument, thingBsonDocument, maxDiffSize));
+                }
+            } else if (writeModel instanceof ThingDeleteModel) {
+                lastWrittenDocuments.invalidate(thingId);
+            }
+        }
+        return Pair.create(writeModel, writeModel.toMongo());
+    }
+
+    /**
+     * Execute a bulk write. Incremental updates are written in a bulk of their own; they match nothing if the
+     * remembered document of their Thing is stale. If fewer of them matched than were sent, the persisted revisions
+     * of their Things are looked up and only the updates which missed are repeated as replacements, which in turn
+     * only replace documents older than the write model.
+     *
+     * @param writeModels pairs of write models and their MongoDB representation.
+     * @return source of the result of the bulk write.
+     */
+    private Source<BulkWriteResult, NotUsed> executeBulkWriteWithFallback(
+            final List<Pair<AbstractWriteModel, WriteModel<Document>>> writeModels) {
+
+        final List<Pair<AbstractWriteModel, WriteModel<Document>>> incrementalUpdates = writeModels.stream()
+                .filter(MongoSearchUpdaterFlow::isIncrementalUpdate)
+                .collect(Collectors.toList());
+        final List<WriteModel<Document>> otherWriteModels = writeModels.stream()
+                .filter(pair -> !isIncrementalUpdate(pair))
+                .map(Pair::second)
+                .collect(Collectors.toList());
+
+        if (incrementalUpdates.isEmpty()) {
+            return executeBulkWrite(otherWriteModels);
+        }
+        Kamon.counter(COUNT_THING_INCREMENTAL_UPDATES).increment(incrementalUpdates.size());
+        final Source<BulkWriteResult, NotUsed> otherResultSource = otherWriteModels.isEmpty()
+                ? Source.single(BulkWriteResult.acknowledged(0, 0, 0, 0, Collections.emptyList()))
+                : executeBulkWrite(otherWriteModels);
+        return otherResultSource.flatMapConcat(otherResult -> executeIncrementalUpdates(incrementalUpdates)
+                .map(incrementalResult -> combine(otherResult, incrementalResult)));
+    }
+
+    private static boolean isIncrementalUpdate(final Pair<AbstractWriteModel, WriteModel<Document>> pair) {
+        return pair.first() instanceof ThingWriteModel && pair.second() instanceof UpdateOneModel;
+    }
+
+    private Source<BulkWriteResult, NotUsed> executeIncrementalUpdates(
+            final List<Pair<AbstractWriteModel, WriteModel<Document>>> incrementalUpdates) {
+
+        return executeBulkWrite(incrementalUpdates.stream().map(Pair::second).collect(Collectors.toList()))
+                .flatMapConcat(result -> {
+                    if (!result.wasAcknowledged() || result.getMatchedCount() >= incrementalUpdates.size()) {
+                        return Source.single(result);
+                    }
+                    return findMissedUpdates(incrementalUpdates).flatMapConcat(missedUpdates -> {
+                        if (missedUpdates.isEmpty()) {
+                            return Source.single(result);
+                        }
+                        log.info("Incremental updates matched <{}> of <{}> documents; replacing <{}> documents.",
+                                result.getMatchedCount(), incrementalUpdates.size(), missedUpdates.size());
+                        Kamon.counter(COUNT_THING_INCREMENTAL_UPDATE_FALLBACKS).increment(missedUpdates.size());
+                        return executeBulkWrite(missedUpdates.stream()
+                                .map(ThingWriteModel::toMongoIfNewer)
+                                .collect(Collectors.toList()))
+                                .map(fallbackResult -> combine(result, fallbackResult));
+                    });
+                });
+    }
+
+    /**
+     * Find the incremental updates which were not applied: those whose Thing is persisted neither at their revisions
+     * nor at newer ones.
+     *
+     * @param incrementalUpdates the incremental updates of a bulk write.
+     * @return source of the write models of the missed updates.
+     */
+    private Source<List<ThingWriteModel>, NotUsed> findMissedUpdates(
+            final List<Pair<AbstractWriteModel, WriteModel<Document>>> incrementalUpdates) {
+
+        final List<String> thingIds = incrementalUpdates.stream()
+                .map(pair -> pair.first().getMetadata().getThingId())
+                .collect(Collectors.toList());
+        return Source.fromPublisher(collection.find(Filters.in(FIELD_ID, thingIds))
+                .projection(Projections.include(FIELD_REVISION, FIELD_POLICY_REVISION)))
+                .<Map<String, Document>>fold(new HashMap<>(), (persistedDocuments, document) -> {
+                    persistedDocuments.put(String.valueOf(document.get(FIELD_ID)), document);
+                    return persistedDocuments;
+                })
+                .map(persistedDocuments -> incrementalUpdates.stream()
+                        .map(pair -> (ThingWriteModel) pair.first())
+                        .filter(update -> !isPersistedAtOrAfter(persistedDocuments.get(
+                                update.getMetadata().getThingId()), update.getMetadata()))
+                        .collect(Collectors.toList()));
+    }
+
+    private static boolean isPersistedAtOrAfter(@Nullable final Document persistedDocument, final Metadata metadata) {
+        if (persistedDocument == null) {
+            return false;
+        }
+        final long thingRevision = getLong(persistedDocument, FIELD_REVISION);
+        return thingRevision > metadata.getThingRevision() || (thingRevision == metadata.getThingRevision() &&
+                getLong(persistedDocument, FIELD_POLICY_REVISION) >= metadata.getPolicyRevision());
+    }
+
+    private static long getLong(final Document document, final String key) {
+        final Object value = document.get(key);
+        return value instanceof Number ? ((Number) value).longValue() : Long.MIN_VALUE;
+    }
+
     private Source<BulkWriteResult, NotUsed> executeBulkWrite(final List<WriteModel<Document>> writeModel) {
         return Source.fromPublisher(collection.bulkWrite(writeModel, new BulkWriteOptions().ordered(false)))
                 .recoverWithRetries(1, new PFBuilder<Throwable, Source<BulkWriteResult, NotUsed>>()
@@ -128,7 +298,20 @@ final class MongoSearchUpdaterFlow {
 
     }
 
-    private static Flow<List<WriteModel<Document>>, StartedTimer, NotUsed> createStartTimerFlow() {
+    private static BulkWriteResult combine(final BulkWriteResult result, final BulkWriteResult fallbackResult) {
+        if (!fallbackResult.wasAcknowledged()) {
+            return result;
+        }
+        return BulkWriteResult.acknowledged(result.getInsertedCount() + fallbackResult.getInsertedCount(),
+                result.getMatchedCount() + fallbackResult.getMatchedCount(),
+                result.getDeletedCount() + fallbackResult.getDeletedCount(),
+                result.getModifiedCount() + fallbackResult.getModifiedCount(),
+                Stream.concat(result.getUpserts().stream(), fallbackResult.getUpserts().stream())
+                        .collect(Collectors.toList()));
+    }
+
+    private static Flow<List<Pair<AbstractWriteModel, WriteModel<Document>>>, StartedTimer, NotUsed>
+    createStartTimerFlow() {
         return Flow.fromFunction(writeModels -> {
             Kamon.histogram(COUNT_THING_BULK_UPDATES_PER_BULK).record(writeModels.size());
             return DittoMetrics.expiringTimer(TRACE_THING_BULK_UPDATE).tag(UPDATE_TYPE_TAG, "bulkUpdate").build();
@@ -75,6 +75,7 @@ public final class SearchUpdaterStream {
      * @param actorSystem actor system to run the stream in.
      * @param thingsShard shard region proxy of things.
      * @param policiesShard shard region proxy of policies.
+     * @param pubSubMediator the pub-sub mediator.
      * @param changeQueueActor reference of the change queue actor.
      * @param database MongoDB database.
      * @return a SearchUpdaterStream object.
@@ -82,6 +83,7 @@ public final class SearchUpdaterStream {
     public static SearchUpdaterStream of(final ActorSystem actorSystem,
             final ActorRef thingsShard,
             final ActorRef policiesShard,
+            final ActorRef pubSubMediator,
             final ActorRef changeQueueActor,
             final MongoDatabase database,
             final BlockedNamespaces blockedNamespaces) {
@@ -96,9 +98,12 @@ public final class SearchUpdaterStream {
         final MessageDispatcher messageDispatcher = actorSystem.dispatchers().lookup(configReader.cacheDispatcher());
 
         final EnforcementFlow enforcementFlow =
-                EnforcementFlow.of(configReader, thingsShard, policiesShard, messageDispatcher, deleteEvent);
+                EnforcementFlow.of(configReader, thingsShard, policiesShard, pubSubMediator, messageDispatcher,
+                        deleteEvent);
 
-        final MongoSearchUpdaterFlow mongoSearchUpdaterFlow = MongoSearchUpdaterFlow.of(database);
+        final SearchUpdaterStreamConfigReader.Persistence persistence = configReader.persistence();
+        final MongoSearchUpdaterFlow mongoSearchUpdaterFlow = MongoSearchUpdaterFlow.of(database,
+                persistence.incrementalUpdateCacheSize(), persistence.incrementalUpdateMaxDiffSize());
 
         return new SearchUpdaterStream(configReader, enforcementFlow, mongoSearchUpdaterFlow, changeQueueActor,
                 blockedNamespaces);
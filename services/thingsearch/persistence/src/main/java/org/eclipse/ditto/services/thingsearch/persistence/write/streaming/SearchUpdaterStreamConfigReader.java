@@ -141,6 +141,14 @@ public final class SearchUpdaterStreamConfigReader extends AbstractConfigReader
         Retrieval(final Config config) {
             super(config);
         }
+
+        /**
+         * @return how many things to retrieve with one SudoRetrieveThings command; 0 retrieves each thing with its
+         * own SudoRetrieveThing command.
+         */
+        public int batchSize() {
+            return config.getInt("batch-size");
+        }
     }
 
     /**
@@ -165,5 +173,20 @@ public final class SearchUpdaterStreamConfigReader extends AbstractConfigReader
         public Duration writeInterval() {
             return config.getDuration("write-interval");
         }
+
+        /**
+         * @return how many last written search index documents to remember for incremental updates; 0 disables
+         * incremental updates.
+         */
+        public int incrementalUpdateCacheSize() {
+            return config.getInt("incremental-update.cache-size");
+        }
+
+        /**
+         * @return how many paths an incremental update may change before the whole document is replaced instead.
+         */
+        public int incrementalUpdateMaxDiffSize() {
+            return config.getInt("incremental-update.max-diff-size");
+        }
     }
 }
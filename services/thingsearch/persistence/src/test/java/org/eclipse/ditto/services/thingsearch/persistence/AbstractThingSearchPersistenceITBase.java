@@ -23,6 +23,7 @@ import java.util.concurrent.ExecutionException;
 import javax.annotation.Nullable;
 
 import org.bson.Document;
+import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.model.query.Query;
 import org.eclipse.ditto.model.query.QueryBuilderFactory;
 import org.eclipse.ditto.model.query.criteria.CriteriaFactory;
@@ -191,6 +192,13 @@ public abstract class AbstractThingSearchPersistenceITBase {
                 .join();
     }
 
+    protected ResultList<String> findAllAfter(final Query query, @Nullable final JsonArray seekAnchor) {
+        return readPersistence.findAll(query, KNOWN_SUBJECTS, null, seekAnchor)
+                .runWith(Sink.head(), actorMaterializer)
+                .toCompletableFuture()
+                .join();
+    }
+
     protected <T> T runBlockingWithReturn(final Source<T, NotUsed> publisher) {
         final CompletionStage<T> done = publisher.runWith(Sink.last(), actorMaterializer);
         return done.toCompletableFuture().join();
@@ -20,6 +20,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.query.Query;
 import org.eclipse.ditto.model.query.QueryBuilder;
 import org.eclipse.ditto.model.query.SortDirection;
@@ -49,6 +52,8 @@ public final class PagingIT extends AbstractReadPersistenceITBase {
     private static final String THING_ID4 = TestConstants.thingId(TestConstants.Thing.NAMESPACE, "thingId4");
     private static final String THING_ID5 = TestConstants.thingId(TestConstants.Thing.NAMESPACE, "thingId5");
     private static final String THING_ID6 = TestConstants.thingId(TestConstants.Thing.NAMESPACE, "thingId6");
+    private static final String THING_ID7 = TestConstants.thingId(TestConstants.Thing.NAMESPACE, "thingId7");
+    private static final String MIXED_TYPE_ATTRIBUTE = "mixed";
     private static final List<String> THING_IDS = Arrays.asList(THING_ID1, THING_ID2, THING_ID3, THING_ID4, THING_ID5,
             THING_ID6);
     private final ThingsFieldExpressionFactory eft = new ThingsFieldExpressionFactoryImpl();
@@ -146,11 +151,139 @@ public final class PagingIT extends AbstractReadPersistenceITBase {
         assertPaging(result, expectedList, defaultPageSizeFromConfig);
     }
 
+    @Test
+    public void pagesSeekToEndOfPreviousPage() {
+        // prepare
+        insertThings(THING_IDS);
+        final List<SortOption> sortById =
+                Collections.singletonList(new SortOption(eft.sortByThingId(), SortDirection.ASC));
+
+        // verify
+        assertThat(seekThroughAllPages(sortById)).containsExactlyElementsOf(THING_IDS);
+    }
+
+    @Test
+    public void pagesSeekThroughNullMissingAndMixedTypeValuesAscending() {
+        // prepare
+        persistThingsWithMixedTypeAttribute();
+
+        // verify
+        assertThat(seekThroughAllPages(sortByMixedTypeAttribute(SortDirection.ASC)))
+                .containsExactly(THING_ID1, THING_ID2, THING_ID3, THING_ID4, THING_ID5, THING_ID6, THING_ID7);
+    }
+
+    @Test
+    public void pagesSeekThroughNullMissingAndMixedTypeValuesDescending() {
+        // prepare
+        persistThingsWithMixedTypeAttribute();
+
+        // verify
+        assertThat(seekThroughAllPages(sortByMixedTypeAttribute(SortDirection.DESC)))
+                .containsExactly(THING_ID7, THING_ID6, THING_ID5, THING_ID4, THING_ID3, THING_ID1, THING_ID2);
+    }
+
+    @Test
+    public void sequentialPagesWithEqualSortValuesSeekToEndOfPreviousPage() {
+        // prepare
+        insertThings(THING_IDS);
+        final List<SortOption> sortByMissingAttributeAndId = Arrays.asList(
+                new SortOption(eft.sortByAttribute("missing"), SortDirection.DESC),
+                new SortOption(eft.sortByThingId(), SortDirection.ASC));
+
+        // verify
+        assertThat(skipThroughAllPages(sortByMissingAttributeAndId)).containsExactlyElementsOf(THING_IDS);
+    }
+
+    @Test
+    public void sequentialPagesSeekThroughNullMissingAndMixedTypeValues() {
+        // prepare
+        persistThingsWithMixedTypeAttribute();
+
+        // verify
+        assertThat(skipThroughAllPages(sortByMixedTypeAttribute(SortDirection.DESC)))
+                .containsExactly(THING_ID7, THING_ID6, THING_ID5, THING_ID4, THING_ID3, THING_ID1, THING_ID2);
+    }
+
+    @Test
+    public void pagesWithoutRememberedPositionSkip() {
+        // prepare
+        insertThings(THING_IDS);
+        final List<SortOption> sortById =
+                Collections.singletonList(new SortOption(eft.sortByThingId(), SortDirection.ASC));
+
+        // pages in reverse order never find the position of their previous page
+        final List<String> allPages = new ArrayList<>();
+        for (int skip = THING_IDS.size() - KNOWN_LIMIT; skip >= 0; skip -= KNOWN_LIMIT) {
+            final List<String> page = new ArrayList<>();
+            findAll(pageQuery(sortById, skip)).forEach(page::add);
+            allPages.addAll(0, page);
+        }
+
+        // verify
+        assertThat(allPages).containsExactlyElementsOf(THING_IDS);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void limitValueExceedsMaximum() {
         executeVersionedQueryWithChangeOptions(query -> query.limit(maxPageSizeFromConfig + 1));
     }
 
+    private void persistThingsWithMixedTypeAttribute() {
+        // IDs in the ascending order of the attribute values; null and missing values are ordered by ID
+        persistThing(createThing(THING_ID1));
+        persistThingWithMixedTypeAttribute(THING_ID2, JsonFactory.nullLiteral());
+        persistThingWithMixedTypeAttribute(THING_ID3, JsonValue.of(1));
+        persistThingWithMixedTypeAttribute(THING_ID4, JsonValue.of(2.5));
+        persistThingWithMixedTypeAttribute(THING_ID5, JsonValue.of("a"));
+        persistThingWithMixedTypeAttribute(THING_ID6, JsonValue.of("b"));
+        persistThingWithMixedTypeAttribute(THING_ID7, JsonValue.of(true));
+    }
+
+    private void persistThingWithMixedTypeAttribute(final String thingId, final JsonValue value) {
+        persistThing(createThing(thingId).setAttribute(MIXED_TYPE_ATTRIBUTE, value));
+    }
+
+    private List<SortOption> sortByMixedTypeAttribute(final SortDirection sortDirection) {
+        return Arrays.asList(
+                new SortOption(eft.sortByAttribute(MIXED_TYPE_ATTRIBUTE), sortDirection),
+                new SortOption(eft.sortByThingId(), SortDirection.ASC));
+    }
+
+    private List<String> seekThroughAllPages(final List<SortOption> sortOptions) {
+        final List<String> allPages = new ArrayList<>();
+        JsonArray seekAnchor = null;
+        do {
+            final Query query = qbf.newBuilder(cf.any())
+                    .sort(sortOptions)
+                    .limit(KNOWN_LIMIT)
+                    .build();
+            final ResultList<String> page = findAllAfter(query, seekAnchor);
+            page.forEach(allPages::add);
+            seekAnchor = page.lastResultSortValues().orElse(null);
+        } while (seekAnchor != null);
+        return allPages;
+    }
+
+    private List<String> skipThroughAllPages(final List<SortOption> sortOptions) {
+        final List<String> allPages = new ArrayList<>();
+        ResultList<String> page;
+        int skip = 0;
+        do {
+            page = findAll(pageQuery(sortOptions, skip));
+            page.forEach(allPages::add);
+            skip += KNOWN_LIMIT;
+        } while (page.nextPageOffset() != ResultList.NO_NEXT_PAGE);
+        return allPages;
+    }
+
+    private Query pageQuery(final List<SortOption> sortOptions, final int skip) {
+        return qbf.newBuilder(cf.any())
+                .sort(sortOptions)
+                .limit(KNOWN_LIMIT)
+                .skip(skip)
+                .build();
+    }
+
     private static void assertPaging(final ResultList<String> actualResult, final List<String> expectedList,
             final long expectedNextPageOffset) {
 
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.model.query.Query;
+import org.eclipse.ditto.model.query.SortDirection;
+import org.eclipse.ditto.model.query.SortOption;
+import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactory;
+import org.eclipse.ditto.model.query.expression.ThingsFieldExpressionFactoryImpl;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
+import org.eclipse.ditto.services.thingsearch.persistence.TestConstants;
+import org.junit.Test;
+
+/**
+ * Measures the latency of skip/limit pages by their depth, once for pages skipping all preceding documents and once
+ * for sequential pages, which seek to the end of their previous page. The number of pages is set by the system
+ * property {@value #PAGES_PROPERTY} and defaults to {@value #DEFAULT_PAGES}; the mean latencies of the shallowest and
+ * the deepest pages are logged for both ways of paging.
+ */
+public final class PagingLatencyIT extends AbstractReadPersistenceITBase {
+
+    private static final String PAGES_PROPERTY = "ditto.search.paging-latency.pages";
+    private static final int DEFAULT_PAGES = 10_000;
+    private static final int PAGE_SIZE = 1;
+    private static final int REPORTED_PAGES_PERCENT = 10;
+
+    private final ThingsFieldExpressionFactory eft = new ThingsFieldExpressionFactoryImpl();
+
+    @Test
+    public void seekingPagesTakeTheSameTimeRegardlessOfTheirDepth() {
+        // prepare
+        final int pages = Integer.getInteger(PAGES_PROPERTY, DEFAULT_PAGES);
+        final List<Thing> things = new ArrayList<>(pages * PAGE_SIZE);
+        for (int i = 0; i < pages * PAGE_SIZE; i++) {
+            final String thingId = TestConstants.thingId(TestConstants.Thing.NAMESPACE, String.format("thing%06d", i));
+            things.add(createThing(thingId));
+        }
+        Collections.shuffle(things);
+        things.forEach(this::persistThing);
+
+        // pages in reverse order never find the position of their previous page and skip
+        final long[] skippingLatencies = new long[pages];
+        final List<String> skippedResults = new ArrayList<>();
+        for (int page = pages - 1; page >= 0; page--) {
+            final long start = System.nanoTime();
+            final ResultList<String> result = findAll(pageQuery(page));
+            skippingLatencies[page] = System.nanoTime() - start;
+            skippedResults.addAll(0, result);
+        }
+
+        // sequential pages seek to the end of their previous page
+        final long[] seekingLatencies = new long[pages];
+        final List<String> seekResults = new ArrayList<>();
+        for (int page = 0; page < pages; page++) {
+            final long start = System.nanoTime();
+            final ResultList<String> result = findAll(pageQuery(page));
+            seekingLatencies[page] = System.nanoTime() - start;
+            seekResults.addAll(result);
+        }
+
+        // verify
+        assertThat(seekResults).containsExactlyElementsOf(skippedResults);
+        logLatencies("skip", skippingLatencies);
+        logLatencies("seek", seekingLatencies);
+    }
+
+    private Query pageQuery(final int page) {
+        return qbf.newBuilder(cf.any())
+                .sort(Collections.singletonList(new SortOption(eft.sortByThingId(), SortDirection.ASC)))
+                .limit(PAGE_SIZE)
+                .skip(page * PAGE_SIZE)
+                .build();
+    }
+
+    private void logLatencies(final String paging, final long[] latencies) {
+        final int reportedPages = Math.max(1, latencies.length * REPORTED_PAGES_PERCENT / 100);
+        log.info("Mean latency of {} pages of {}: first {} pages <{}µs>, last {} pages <{}µs>", paging,
+                latencies.length, reportedPages, meanMicros(latencies, 0, reportedPages), reportedPages,
+                meanMicros(latencies, latencies.length - reportedPages, latencies.length));
+    }
+
+    private static long meanMicros(final long[] latencies, final int from, final int to) {
+        long sum = 0L;
+        for (int i = from; i < to; i++) {
+            sum += latencies[i];
+        }
+        return TimeUnit.NANOSECONDS.toMicros(sum / (to - from));
+    }
+
+}
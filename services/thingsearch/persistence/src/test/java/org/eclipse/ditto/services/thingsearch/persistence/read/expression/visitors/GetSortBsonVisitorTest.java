@@ -12,15 +12,29 @@
  */
 package org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
+import org.bson.BsonDocument;
+import org.bson.BsonNull;
+import org.bson.BsonType;
 import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.model.query.SortDirection;
 import org.eclipse.ditto.model.query.SortOption;
 import org.eclipse.ditto.model.query.expression.AttributeExpressionImpl;
+import org.eclipse.ditto.model.query.expression.SimpleFieldExpressionImpl;
 import org.eclipse.ditto.model.query.expression.SortFieldExpression;
 import org.junit.Test;
 
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.model.Filters;
+
 /**
  * Tests {@link org.eclipse.ditto.services.thingsearch.persistence.read.expression.visitors.GetSortBsonVisitor}.
  */
@@ -33,4 +47,107 @@ public final class GetSortBsonVisitorTest {
 
         GetSortBsonVisitor.sortValuesAsArray(new Document(), Collections.singletonList(sortOption));
     }
+
+    @Test
+    public void seekFilterOfSingleDimension() {
+        final SortOption sortOption = new SortOption(new SimpleFieldExpressionImpl("_id"), SortDirection.ASC);
+
+        final Bson seekFilter = GetSortBsonVisitor.seekFilter(Collections.singletonList(sortOption),
+                JsonFactory.newArrayBuilder().add("ns:thing").build());
+
+        assertThat(toBsonDocument(seekFilter)).isEqualTo(toBsonDocument(Filters.gt("_id", "ns:thing")));
+    }
+
+    @Test
+    public void seekFilterOfMultipleDimensions() {
+        final List<SortOption> sortOptions = Arrays.asList(
+                new SortOption(new AttributeExpressionImpl("a"), SortDirection.DESC),
+                new SortOption(new SimpleFieldExpressionImpl("_id"), SortDirection.ASC));
+        final JsonArray previousValues = JsonFactory.newArrayBuilder().add(5).add("ns:thing").build();
+        final String path = GetSortBsonVisitor.path(sortOptions.get(0).getSortExpression());
+
+        final Bson seekFilter = GetSortBsonVisitor.seekFilter(sortOptions, previousValues);
+
+        final Bson expected = Filters.or(
+                Filters.or(Arrays.asList(Filters.lt(path, 5), Filters.eq(path, BsonNull.VALUE))),
+                Filters.and(Filters.eq(path, 5), Filters.gt("_id", "ns:thing")));
+        assertThat(toBsonDocument(seekFilter)).isEqualTo(toBsonDocument(expected));
+    }
+
+    @Test
+    public void seekFilterAscendingAfterNullExcludesNullAndMissingValues() {
+        final List<SortOption> sortOptions = Arrays.asList(
+                new SortOption(new AttributeExpressionImpl("a"), SortDirection.ASC),
+                new SortOption(new SimpleFieldExpressionImpl("_id"), SortDirection.ASC));
+        final JsonArray previousValues = JsonFactory.newArrayBuilder().add(JsonFactory.nullLiteral()).add("ns:thing").build();
+        final String path = GetSortBsonVisitor.path(sortOptions.get(0).getSortExpression());
+
+        final Bson seekFilter = GetSortBsonVisitor.seekFilter(sortOptions, previousValues);
+
+        final Bson expected = Filters.or(
+                Filters.ne(path, BsonNull.VALUE),
+                Filters.and(Filters.eq(path, BsonNull.VALUE), Filters.gt("_id", "ns:thing")));
+        assertThat(toBsonDocument(seekFilter)).isEqualTo(toBsonDocument(expected));
+    }
+
+    @Test
+    public void seekFilterDescendingAfterNullOnlyMatchesNullAndMissingValues() {
+        final List<SortOption> sortOptions = Arrays.asList(
+                new SortOption(new AttributeExpressionImpl("a"), SortDirection.DESC),
+                new SortOption(new SimpleFieldExpressionImpl("_id"), SortDirection.ASC));
+        final JsonArray previousValues = JsonFactory.newArrayBuilder().add(JsonFactory.nullLiteral()).add("ns:thing").build();
+        final String path = GetSortBsonVisitor.path(sortOptions.get(0).getSortExpression());
+
+        final Bson seekFilter = GetSortBsonVisitor.seekFilter(sortOptions, previousValues);
+
+        final Bson expected = Filters.or(
+                Filters.nor(new BsonDocument()),
+                Filters.and(Filters.eq(path, BsonNull.VALUE), Filters.gt("_id", "ns:thing")));
+        assertThat(toBsonDocument(seekFilter)).isEqualTo(toBsonDocument(expected));
+    }
+
+    @Test
+    public void seekFilterAscendingMatchesValuesOfLaterTypes() {
+        final SortOption sortOption = new SortOption(new AttributeExpressionImpl("a"), SortDirection.ASC);
+        final String path = GetSortBsonVisitor.path(sortOption.getSortExpression());
+
+        final Bson seekFilter = GetSortBsonVisitor.seekFilter(Collections.singletonList(sortOption),
+                JsonFactory.newArrayBuilder().add("value").build());
+
+        final Bson expected = Filters.or(Arrays.asList(
+                Filters.gt(path, "value"),
+                Filters.type(path, BsonType.DOCUMENT),
+                Filters.type(path, BsonType.ARRAY),
+                Filters.type(path, BsonType.BOOLEAN)));
+        assertThat(toBsonDocument(seekFilter)).isEqualTo(toBsonDocument(expected));
+    }
+
+    @Test
+    public void seekFilterDescendingMatchesValuesOfEarlierTypesAndMissingValues() {
+        final SortOption sortOption = new SortOption(new AttributeExpressionImpl("a"), SortDirection.DESC);
+        final String path = GetSortBsonVisitor.path(sortOption.getSortExpression());
+
+        final Bson seekFilter = GetSortBsonVisitor.seekFilter(Collections.singletonList(sortOption),
+                JsonFactory.newArrayBuilder().add("value").build());
+
+        final Bson expected = Filters.or(Arrays.asList(
+                Filters.lt(path, "value"),
+                Filters.type(path, BsonType.INT32),
+                Filters.type(path, BsonType.INT64),
+                Filters.type(path, BsonType.DOUBLE),
+                Filters.type(path, BsonType.DECIMAL128),
+                Filters.eq(path, BsonNull.VALUE)));
+        assertThat(toBsonDocument(seekFilter)).isEqualTo(toBsonDocument(expected));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void seekFilterRejectsMismatchedValues() {
+        final SortOption sortOption = new SortOption(new SimpleFieldExpressionImpl("_id"), SortDirection.ASC);
+
+        GetSortBsonVisitor.seekFilter(Collections.singletonList(sortOption), JsonFactory.newArray());
+    }
+
+    private static BsonDocument toBsonDocument(final Bson bson) {
+        return bson.toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry());
+    }
 }
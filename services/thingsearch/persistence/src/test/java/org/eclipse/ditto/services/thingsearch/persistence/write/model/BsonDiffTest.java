@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bson.BsonDocument;
+import org.junit.Test;
+
+/**
+ * Tests {@link BsonDiff}.
+ */
+public final class BsonDiffTest {
+
+    @Test
+    public void changedValueInArrayElementIsSetByPath() {
+        final BsonDocument previous = BsonDocument.parse("{\"_revision\":1,\"d\":[{\"k\":\"/a\",\"v\":1}," +
+                "{\"k\":\"/b\",\"v\":2}]}");
+        final BsonDocument next = BsonDocument.parse("{\"_revision\":2,\"d\":[{\"k\":\"/a\",\"v\":1}," +
+                "{\"k\":\"/b\",\"v\":3}]}");
+
+        assertThat(BsonDiff.minimalUpdate(previous, next, 10))
+                .contains(BsonDocument.parse("{\"$set\":{\"_revision\":2,\"d.1.v\":3}}"));
+    }
+
+    @Test
+    public void resizedArrayIsSetAsWholeAndRemovedFieldIsUnset() {
+        final BsonDocument previous = BsonDocument.parse("{\"s\":{\"a\":1,\"b\":[1,2]}}");
+        final BsonDocument next = BsonDocument.parse("{\"s\":{\"b\":[1,2,3]}}");
+
+        assertThat(BsonDiff.minimalUpdate(previous, next, 10))
+                .contains(BsonDocument.parse("{\"$set\":{\"s.b\":[1,2,3]},\"$unset\":{\"s.a\":\"\"}}"));
+    }
+
+    @Test
+    public void identicalDocumentsResultInEmptyUpdate() {
+        final BsonDocument document = BsonDocument.parse("{\"s\":{\"a\":1},\"d\":[{\"k\":\"/a\",\"v\":1}]}");
+
+        assertThat(BsonDiff.minimalUpdate(document, document.clone(), 0)).contains(new BsonDocument());
+    }
+
+    @Test
+    public void tooLargeDifferenceResultsInEmptyOptional() {
+        final BsonDocument previous = BsonDocument.parse("{\"a\":1,\"b\":2,\"c\":3}");
+        final BsonDocument next = BsonDocument.parse("{\"a\":4,\"b\":5,\"c\":6}");
+
+        assertThat(BsonDiff.minimalUpdate(previous, next, 2)).isEmpty();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+
+import akka.NotUsed;
+import akka.actor.ActorSystem;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link EnforcementFlow}.
+ */
+public final class EnforcementFlowTest {
+
+    private static final List<String> THING_IDS = Arrays.asList("x:a", "x:b", "x:c");
+
+    @Nullable
+    private ActorSystem actorSystem;
+
+    @Before
+    public void startActorSystem() {
+        actorSystem = ActorSystem.create();
+    }
+
+    @After
+    public void shutdownActorSystem() {
+        if (actorSystem != null) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void thingsMissingFromFailedBatchAreRetrievedOneByOne() {
+        final List<List<String>> retrievedOneByOne = new ArrayList<>();
+        final Source<SudoRetrieveThingResponse, NotUsed> failingBatch = Source.single(response("x:a"))
+                .concat(Source.failed(new IllegalStateException("Ask timed out")));
+
+        final List<String> retrievedThingIds = runRetrieval(failingBatch, retrievedOneByOne);
+
+        assertThat(retrievedOneByOne).containsExactly(Arrays.asList("x:b", "x:c"));
+        assertThat(retrievedThingIds).containsExactly("x:a", "x:b", "x:c");
+    }
+
+    @Test
+    public void completeBatchIsNotRetrievedAgain() {
+        final List<List<String>> retrievedOneByOne = new ArrayList<>();
+        final Source<SudoRetrieveThingResponse, NotUsed> batch =
+                Source.from(THING_IDS).map(EnforcementFlowTest::response);
+
+        final List<String> retrievedThingIds = runRetrieval(batch, retrievedOneByOne);
+
+        assertThat(retrievedOneByOne).isEmpty();
+        assertThat(retrievedThingIds).containsExactlyElementsOf(THING_IDS);
+    }
+
+    private List<String> runRetrieval(final Source<SudoRetrieveThingResponse, NotUsed> batch,
+            final List<List<String>> retrievedOneByOne) {
+
+        return EnforcementFlow.retrieveMissingThingsOnFailure(batch, THING_IDS, missingThingIds -> {
+            retrievedOneByOne.add(missingThingIds);
+            return Source.from(missingThingIds).map(EnforcementFlowTest::response);
+        }, LoggerFactory.getLogger(EnforcementFlowTest.class))
+                .runWith(Sink.seq(), ActorMaterializer.create(actorSystem))
+                .toCompletableFuture()
+                .join()
+                .stream()
+                .map(response -> response.getEntity().asObject().getValueOrThrow(Thing.JsonFields.ID))
+                .collect(Collectors.toList());
+    }
+
+    private static SudoRetrieveThingResponse response(final String thingId) {
+        return SudoRetrieveThingResponse.of(Thing.newBuilder().setId(thingId).build().toJson(),
+                DittoHeaders.empty());
+    }
+
+}
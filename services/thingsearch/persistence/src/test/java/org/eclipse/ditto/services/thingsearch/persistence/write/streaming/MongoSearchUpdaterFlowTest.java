@@ -13,8 +13,15 @@
 package org.eclipse.ditto.services.thingsearch.persistence.write.streaming;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_ID;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_POLICY_REVISION;
+import static org.eclipse.ditto.services.thingsearch.persistence.PersistenceConstants.FIELD_REVISION;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -22,8 +29,13 @@ import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
 
+import org.bson.BsonDocument;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.AbstractWriteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingDeleteModel;
+import org.eclipse.ditto.services.thingsearch.persistence.write.model.ThingWriteModel;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -31,11 +43,15 @@ import org.mockito.Mockito;
 import org.reactivestreams.Publisher;
 
 import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoClientSettings;
 import com.mongodb.MongoException;
 import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.DeleteOneModel;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.WriteModel;
+import com.mongodb.reactivestreams.client.FindPublisher;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 
@@ -43,6 +59,7 @@ import akka.NotUsed;
 import akka.actor.ActorSystem;
 import akka.stream.ActorMaterializer;
 import akka.stream.OverflowStrategy;
+import akka.stream.javadsl.AsPublisher;
 import akka.stream.javadsl.RestartSink;
 import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
@@ -82,6 +99,80 @@ public final class MongoSearchUpdaterFlowTest {
         testStreamRestart(new FakeMongoExceptionSupplier());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void replacesOnlyMissedIncrementalUpdatesOfOlderDocuments() {
+        new TestKit(actorSystem) {{
+
+            // GIVEN: the persisted documents of thing A are older than the updater remembers, thing B was written
+            // at a newer revision concurrently, thing C is at the remembered revision and thing D does not exist
+
+            final ActorMaterializer materializer = ActorMaterializer.create(actorSystem);
+            final MongoDatabase db = Mockito.mock(MongoDatabase.class);
+            final MongoCollection<Document> collection = Mockito.mock(MongoCollection.class);
+            Mockito.when(db.getCollection(Mockito.any())).thenReturn(collection);
+            final List<List<WriteModel<Document>>> bulks = new ArrayList<>();
+            Mockito.when(collection.bulkWrite(Mockito.anyList(), Mockito.any(BulkWriteOptions.class)))
+                    .thenAnswer(invocation -> {
+                        final List<WriteModel<Document>> bulk = invocation.getArgument(0);
+                        bulks.add(bulk);
+                        final int matchedCount = 3 == bulks.size() ? 1 : 2 == bulks.size() ? 0 : bulk.size();
+                        return Source.single(BulkWriteResult.acknowledged(0, matchedCount, 0, matchedCount,
+                                Collections.emptyList()))
+                                .runWith(Sink.asPublisher(AsPublisher.WITHOUT_FANOUT), materializer);
+                    });
+            final FindPublisher<Document> findPublisher = Mockito.mock(FindPublisher.class);
+            Mockito.when(collection.find(Mockito.any(Bson.class))).thenReturn(findPublisher);
+            Mockito.when(findPublisher.projection(Mockito.any())).thenReturn(findPublisher);
+            Mockito.doAnswer(invocation -> {
+                Source.from(Arrays.asList(
+                        new Document(FIELD_ID, "A").append(FIELD_REVISION, 0L).append(FIELD_POLICY_REVISION, 1L),
+                        new Document(FIELD_ID, "B").append(FIELD_REVISION, 5L).append(FIELD_POLICY_REVISION, 1L),
+                        new Document(FIELD_ID, "C").append(FIELD_REVISION, 2L).append(FIELD_POLICY_REVISION, 1L)))
+                        .runWith(Sink.asPublisher(AsPublisher.WITHOUT_FANOUT), materializer)
+                        .subscribe(invocation.getArgument(0));
+                return null;
+            }).when(findPublisher).subscribe(Mockito.any());
+
+            final MongoSearchUpdaterFlow flow = MongoSearchUpdaterFlow.of(db, 10, 10);
+
+            // WHEN: A, B and C are written at revision 1 and then updated incrementally to revision 2 in a bulk
+            // together with the deletion of D
+
+            Source.from(Arrays.asList(
+                    Source.from(Arrays.asList(thingWriteModel("A", 1L), thingWriteModel("B", 1L),
+                            thingWriteModel("C", 1L), thingWriteModel("D", 1L))),
+                    Source.from(Arrays.<AbstractWriteModel>asList(thingWriteModel("A", 2L),
+                            thingWriteModel("B", 2L), thingWriteModel("C", 2L),
+                            ThingDeleteModel.of(Metadata.of("D", 2L, "policy", 1L))))))
+                    .via(flow.start(1, 4, Duration.ZERO))
+                    .runWith(Sink.ignore(), materializer)
+                    .toCompletableFuture()
+                    .join();
+
+            // THEN: the deletion and the incremental updates are written in separate bulks and only the update of A
+            // is repeated as replacement of older documents
+
+            assertThat(bulks).hasSize(4);
+            assertThat(bulks.get(1)).hasSize(1);
+            assertThat(bulks.get(2)).hasSize(3).allMatch(UpdateOneModel.class::isInstance);
+            assertThat(bulks.get(3)).hasSize(1);
+            final ReplaceOneModel<Document> replacement = (ReplaceOneModel<Document>) bulks.get(3).get(0);
+            assertThat(replacement.getReplacement().get(FIELD_ID)).isEqualTo("A");
+            assertThat(replacement.getFilter()
+                    .toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry())
+                    .toJson()).contains("$lt");
+        }};
+    }
+
+    private static ThingWriteModel thingWriteModel(final String thingId, final long revision) {
+        final Document thingDocument = new Document(FIELD_ID, thingId)
+                .append(FIELD_REVISION, revision)
+                .append(FIELD_POLICY_REVISION, 1L)
+                .append("attribute", revision);
+        return ThingWriteModel.of(Metadata.of(thingId, revision, "policy", 1L), thingDocument);
+    }
+
     @SuppressWarnings("unchecked")
     private void testStreamRestart(final Supplier<Throwable> errorSupplier) throws Exception {
 
@@ -46,6 +46,7 @@ import org.eclipse.ditto.signals.commands.thingsearch.query.CountThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.CountThingsResponse;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThingsResponse;
+import org.eclipse.ditto.signals.commands.thingsearch.query.StreamThings;
 
 import akka.NotUsed;
 import akka.actor.AbstractActor;
@@ -59,11 +60,12 @@ import akka.stream.ActorMaterializer;
 import akka.stream.javadsl.Flow;
 import akka.stream.javadsl.Sink;
 import akka.stream.javadsl.Source;
+import akka.stream.javadsl.StreamRefs;
 import scala.concurrent.ExecutionContextExecutor;
 
 /**
- * Actor handling all supported {@link ThingSearchCommand}s. Currently those are {@link CountThings} and {@link
- * QueryThings}.
+ * Actor handling all supported {@link ThingSearchCommand}s. Currently those are {@link CountThings}, {@link
+ * QueryThings} and {@link StreamThings}.
  * <p>
  * Passes the commands to the appropriate query actor which is determined by the API version of each received command
  * (see {@link DittoHeaders#getSchemaVersion()}).
@@ -128,6 +130,7 @@ public final class SearchActor extends AbstractActor {
                 .match(CountThings.class, this::count)
                 .match(SudoCountThings.class, this::sudoCount)
                 .match(QueryThings.class, this::query)
+                .match(StreamThings.class, this::stream)
                 .match(SudoRetrieveNamespaceReport.class, this::namespaceReport)
                 .matchAny(any -> log.warning("Got unknown message '{}'", any))
                 .build();
@@ -223,9 +226,8 @@ public final class SearchActor extends AbstractActor {
             LogUtil.enhanceLogWithCorrelationId(log, queryThings);
             log.info("Processing QueryThings command: {}", queryThings);
             return createQuerySource(queryParser::parse, command)
-                    .flatMapConcat(parsedQuery -> {
-                        final Query query =
-                                ThingsSearchCursor.adjust(cursor, parsedQuery, queryParser.getCriteriaFactory());
+                    .flatMapConcat(query -> {
+                        final JsonArray seekAnchor = ThingsSearchCursor.getSeekAnchor(cursor, query);
 
                         stopTimer(queryParsingTimer);
                         final StartedTimer databaseAccessTimer =
@@ -233,7 +235,7 @@ public final class SearchActor extends AbstractActor {
 
                         final List<String> subjectIds = command.getDittoHeaders().getAuthorizationSubjects();
                         final Source<ResultList<String>, NotUsed> findAllResult =
-                                searchPersistence.findAll(query, subjectIds, namespaces);
+                                searchPersistence.findAll(query, subjectIds, namespaces, seekAnchor);
                         return processSearchPersistenceResult(findAllResult, dittoHeaders)
                                 .via(Flow.fromFunction(result -> {
                                     stopTimer(databaseAccessTimer);
@@ -258,6 +260,41 @@ public final class SearchActor extends AbstractActor {
         Patterns.pipe(replySourceWithErrorHandling.runWith(Sink.head(), materializer), dispatcher).to(sender);
     }
 
+    private void stream(final StreamThings streamThings) {
+        final DittoHeaders dittoHeaders = streamThings.getDittoHeaders();
+        LogUtil.enhanceLogWithCorrelationId(log, dittoHeaders.getCorrelationId());
+        log.info("Processing StreamThings command: {}", streamThings);
+        final JsonSchemaVersion version = streamThings.getImplementedSchemaVersion();
+
+        final String queryType = "stream";
+        final StartedTimer streamTimer = startNewTimer(version, queryType);
+        final StartedTimer queryParsingTimer = streamTimer.startNewSegment(QUERY_PARSING_SEGMENT_NAME);
+
+        final ActorRef sender = getSender();
+        final Set<String> namespaces = streamThings.getNamespaces().orElse(null);
+        final List<String> subjectIds = dittoHeaders.getAuthorizationSubjects();
+
+        // the timer measures the time to open the stream; the stream itself is consumed at the pace of the requester
+        final Source<Object, ?> replySource = createQuerySource(queryParser::parse, streamThings)
+                .map(query -> {
+                    stopTimer(queryParsingTimer);
+                    return searchPersistence.findAllUnlimited(query, subjectIds, namespaces);
+                })
+                .mapAsync(1, thingIds -> thingIds.runWith(StreamRefs.sourceRef(), materializer))
+                .<Object>map(sourceRef -> {
+                    stopTimer(streamTimer);
+                    return sourceRef;
+                })
+                .recoverWithRetries(1, new PFBuilder<Throwable, Source<Object, NotUsed>>()
+                        .matchAny(error -> {
+                            stopTimer(streamTimer);
+                            return Source.single(asDittoRuntimeException(error, streamThings));
+                        })
+                        .build());
+
+        Patterns.pipe(replySource.runWith(Sink.head(), materializer), dispatcher).to(sender);
+    }
+
     private <T> Source<T, NotUsed> processSearchPersistenceResult(Source<T, NotUsed> source,
             final DittoHeaders dittoHeaders) {
 
@@ -45,9 +45,6 @@ import org.eclipse.ditto.model.base.exceptions.InvalidRqlExpressionException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.query.Query;
-import org.eclipse.ditto.model.query.SortDirection;
-import org.eclipse.ditto.model.query.criteria.Criteria;
-import org.eclipse.ditto.model.query.criteria.CriteriaFactory;
 import org.eclipse.ditto.model.rql.ParserException;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.thingsearch.CursorOption;
@@ -60,7 +57,6 @@ import org.eclipse.ditto.model.thingsearch.SortOption;
 import org.eclipse.ditto.model.thingsearch.SortOptionEntry;
 import org.eclipse.ditto.model.thingsearchparser.RqlOptionParser;
 import org.eclipse.ditto.services.thingsearch.common.model.ResultList;
-import org.eclipse.ditto.services.thingsearch.persistence.write.mapping.JsonToBson;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.signals.commands.thingsearch.exceptions.InvalidOptionException;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
@@ -87,8 +83,8 @@ import scala.PartialFunction;
  * <li>{@code adjust(Optional<ThingsSearchCursor>, QueryThings)}:
  * Augment a {@code QueryThings} command by information in the cursor.
  * </li>
- * <li>{@code adjust(Optional<ThingsSearchCursor>, Query, CriteriaFactory)}:
- * Adjust a {@code Query} so that its results start from the location marked by the cursor.
+ * <li>{@code getSeekAnchor(Optional<ThingsSearchCursor>, Query)}:
+ * Get the sort values marking the location of the cursor, after which the results of a {@code Query} start.
  * </li>
  * <li>{@code processSearchResult(QueryThings, ThingsSearchCursor, SearchResult, ResultList)}:
  * Compute a cursor pointing at the end of the search result if there are more results.
@@ -265,15 +261,18 @@ final class ThingsSearchCursor {
     }
 
     /**
-     * Adjust a {@code Query} object so that its results start at the location of this cursor.
+     * Get the sort values marking the location of this cursor.
      *
-     * @param query the query object.
-     * @param cf a criteria factory.
-     * @return a new query object starting at the location of this cursor.
+     * @param query the query adjusted by this cursor.
+     * @return the sort values of this cursor.
+     * @throws InvalidOptionException if the sort values do not match the sort options of the query.
      */
-    private Query adjustQuery(final Query query, final CriteriaFactory cf) {
-        return query.withCritera(cf.and(Arrays.asList(query.getCriteria(),
-                getNextPageFilter(query.getSortOptions(), values, cf))));
+    private JsonArray getSeekAnchor(final Query query) {
+        if (query.getSortOptions().size() != values.getSize()) {
+            // this should not happen.
+            throw invalidCursorBuilder().build();
+        }
+        return values;
     }
 
     /**
@@ -355,17 +354,18 @@ final class ThingsSearchCursor {
     }
 
     /**
-     * Adjust a {@code Query} object so that its result starts with the location of an optional cursor.
+     * Get the sort values marking the location of an optional cursor, so that the persistence seeks to the location
+     * instead of skipping all results before it.
      *
      * @param cursor an optional cursor.
-     * @param query the query to adjust.
-     * @param cf a criteria factory.
-     * @return the adjusted {@code Query} if the cursor exists; the unadjusted {@code Query} if the cursor does not
-     * exist.
+     * @param query the query adjusted by the cursor.
+     * @return the sort values of the cursor if it exists; null if the cursor does not exist.
+     * @throws InvalidOptionException if the sort values do not match the sort options of the query.
      */
     @SuppressWarnings("OptionalUsedAsFieldOrParameterType")
-    static Query adjust(final Optional<ThingsSearchCursor> cursor, final Query query, final CriteriaFactory cf) {
-        return cursor.map(c -> c.adjustQuery(query, cf)).orElse(query);
+    @Nullable
+    static JsonArray getSeekAnchor(final Optional<ThingsSearchCursor> cursor, final Query query) {
+        return cursor.map(c -> c.getSeekAnchor(query)).orElse(null);
     }
 
     /**
@@ -638,114 +638,6 @@ final class ThingsSearchCursor {
         }
     }
 
-    /**
-     * Filter out results before a cursor's position.
-     *
-     * @param sortOptions sort options of the parsed query.
-     * @param previousValues values of the fields in the sort options of a cursor marking its position.
-     * @param cf a criteria factory.
-     * @return criteria to filter out results before a cursor's position.
-     */
-    private static Criteria getNextPageFilter(final List<org.eclipse.ditto.model.query.SortOption> sortOptions,
-            final JsonArray previousValues,
-            final CriteriaFactory cf) {
-
-        if (sortOptions.size() != previousValues.getSize()) {
-            // this should not happen.
-            throw invalidCursorBuilder().build();
-        }
-        return getNextPageFilterImpl(sortOptions, previousValues, cf, 0);
-    }
-
-    /**
-     * Recursive implementation of {@code getNextPageFilter}.
-     *
-     * @param sortOptionEntries sort options of the parsed query.
-     * @param previousValues values of the fields in the sort options of a cursor marking its position.
-     * @param cf a criteria factory.
-     * @param i dimension to start generating criteria for.
-     * @return criteria starting from the ith dimension.
-     */
-    private static Criteria getNextPageFilterImpl(
-            final List<org.eclipse.ditto.model.query.SortOption> sortOptionEntries,
-            final JsonArray previousValues,
-            final CriteriaFactory cf, final int i) {
-
-        final org.eclipse.ditto.model.query.SortOption sortOption = sortOptionEntries.get(i);
-        final JsonValue previousValue = previousValues.get(i).orElse(JsonFactory.nullLiteral());
-        final Criteria ithDimensionCriteria = getDimensionLtCriteria(sortOption, previousValue, cf);
-        if (i + 1 >= sortOptionEntries.size()) {
-            return ithDimensionCriteria;
-        } else {
-            final Criteria nextDimension = getNextPageFilterImpl(sortOptionEntries, previousValues, cf, i + 1);
-            return getNextDimensionCriteria(ithDimensionCriteria, nextDimension, sortOption, previousValue, cf);
-        }
-    }
-
-    /**
-     * Generate a criteria to filter for things whose value on a field prior to a cursor's position according to
-     * the ordering specified by a sort option.
-     *
-     * @param entry sort option specifying an ordering on a field.
-     * @param previousValue value of the field in the sort option marking the position of a cursor.
-     * @param cf a criteria factory.
-     * @return criteria to filter for things prior to a cursor's position on the specified field.
-     */
-    private static Criteria getDimensionLtCriteria(final org.eclipse.ditto.model.query.SortOption entry,
-            final JsonValue previousValue, final CriteriaFactory cf) {
-
-        // special handling for null values needed due to comparison operators never matching null values
-        if (entry.getSortDirection() == SortDirection.ASC) {
-            if (previousValue.isNull()) {
-                // ASC null: any value is bigger than null
-                return cf.existsCriteria(entry.getSortExpression());
-            } else {
-                // ASC nonnull: null values cannot be bigger and can be ignored
-                return cf.fieldCriteria(entry.getSortExpression(), cf.gt(JsonToBson.convert(previousValue)));
-            }
-        } else {
-            if (previousValue.isNull()) {
-                // DESC null: smaller than null means false
-                return cf.nor(cf.any());
-            } else {
-                // DESC nonnull: null is smaller than any value
-                return cf.or(Arrays.asList(
-                        cf.fieldCriteria(entry.getSortExpression(), cf.lt(JsonToBson.convert(previousValue))),
-                        cf.nor(cf.existsCriteria(entry.getSortExpression()))
-                ));
-            }
-        }
-    }
-
-    /**
-     * Generate a criteria to filter for things that precede the cursor's position due to this dimension or subsequent
-     * dimensions taking null values into account.
-     *
-     * @param thisDimensionLt criteria to filter for things prior to the cursor's position on this dimension.
-     * @param nextDimension criteria to filter for things prior to the cursor's position on subsequent dimensions.
-     * @param sortOption parsed sort option for this dimension.
-     * @param previousValue value on this dimension marking the position of the cursor.
-     * @param cf a criteria factory.
-     * @return criteria to filter for things that precede the cursor's position due to this dimension or subsequent
-     * dimensions.
-     */
-    private static Criteria getNextDimensionCriteria(final Criteria thisDimensionLt, final Criteria nextDimension,
-            final org.eclipse.ditto.model.query.SortOption sortOption, final JsonValue previousValue,
-            final CriteriaFactory cf) {
-
-        final Criteria thisDimensionEq;
-        if (previousValue.isNull()) {
-            thisDimensionEq = cf.or(Arrays.asList(
-                    cf.nor(cf.existsCriteria(sortOption.getSortExpression())),
-                    cf.fieldCriteria(sortOption.getSortExpression(), cf.eq(null))
-            ));
-        } else {
-            thisDimensionEq =
-                    cf.fieldCriteria(sortOption.getSortExpression(), cf.eq(JsonToBson.convert(previousValue)));
-        }
-        return cf.or(Arrays.asList(thisDimensionLt, cf.and(Arrays.asList(thisDimensionEq, nextDimension))));
-    }
-
     /**
      * Test whether there are more results.
      *
@@ -43,6 +43,7 @@ import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
 import org.eclipse.ditto.services.utils.test.mongo.MongoDbResource;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThingsResponse;
+import org.eclipse.ditto.signals.commands.thingsearch.query.StreamThings;
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -55,6 +56,7 @@ import com.typesafe.config.ConfigFactory;
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.stream.ActorMaterializer;
+import akka.stream.SourceRef;
 import akka.stream.javadsl.Sink;
 import akka.testkit.javadsl.TestKit;
 
@@ -199,6 +201,31 @@ public final class SearchActorIT {
         }};
     }
 
+    @Test
+    public void testStream() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = actorSystem.actorOf(SearchActor.props(QUERY_PARSER, readPersistence));
+
+            insertTestThings();
+
+            final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                    .authorizationContext(AUTH_CONTEXT)
+                    .build();
+            underTest.tell(StreamThings.of("eq(attributes/x,5)", null, dittoHeaders), getRef());
+
+            @SuppressWarnings("unchecked") final SourceRef<String> sourceRef = expectMsgClass(SourceRef.class);
+            final List<String> thingIds = sourceRef.getSource()
+                    .runWith(Sink.seq(), materializer)
+                    .toCompletableFuture()
+                    .join();
+
+            assertThat(thingIds.stream().map(JsonValue::of).collect(JsonCollectors.valuesToArray()))
+                    .isEqualTo(JsonFactory.newArrayBuilder()
+                            .add("thing:0", "thing:1", "thing:2", "thing:3", "thing:4")
+                            .build());
+        }};
+    }
+
     private QueryThings queryThings(final int size, final @Nullable String cursor) {
         final List<String> options = new ArrayList<>();
         if (cursor == null) {
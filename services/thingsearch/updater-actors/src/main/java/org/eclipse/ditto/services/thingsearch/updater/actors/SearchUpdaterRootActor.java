@@ -51,6 +51,7 @@ import org.eclipse.ditto.services.thingsearch.persistence.write.ThingsSearchUpda
 import org.eclipse.ditto.services.thingsearch.persistence.write.impl.MongoThingsSearchUpdaterPersistence;
 import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.ChangeQueueActor;
 import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.SearchUpdaterStream;
+import org.eclipse.ditto.services.thingsearch.persistence.write.streaming.SearchUpdaterStreamConfigReader;
 
 /**
  * Our "Parent" Actor which takes care of supervision of all other Actors in our system.
@@ -93,8 +94,8 @@ public final class SearchUpdaterRootActor extends AbstractActor {
 
         final ActorRef changeQueueActor = getContext().actorOf(ChangeQueueActor.props(), ChangeQueueActor.ACTOR_NAME);
         updaterStreamKillSwitch =
-                startSearchUpdaterStream(actorSystem, shardRegionFactory, numberOfShards, changeQueueActor,
-                        dittoMongoClient.getDefaultDatabase(), blockedNamespaces);
+                startSearchUpdaterStream(actorSystem, shardRegionFactory, numberOfShards, pubSubMediator,
+                        changeQueueActor, dittoMongoClient.getDefaultDatabase(), blockedNamespaces);
 
         final ThingsSearchUpdaterPersistence searchUpdaterPersistence =
                 MongoThingsSearchUpdaterPersistence.of(dittoMongoClient.getDefaultDatabase());
@@ -109,8 +110,15 @@ public final class SearchUpdaterRootActor extends AbstractActor {
         final Duration thingUpdaterMaxIdleTime =
                 config.getDuration(ConfigKeys.THING_UPDATER_MAX_IDLE_TIME);
 
-        final Props thingUpdaterProps =
-                ThingUpdater.props(pubSubMediator, changeQueueActor, thingUpdaterMaxIdleTime);
+        final Props thingUpdaterProps;
+        if (config.getBoolean(ConfigKeys.THING_UPDATER_EVENT_SOURCED)) {
+            final Duration thingsTimeout = SearchUpdaterStreamConfigReader.of(config).askTimeout();
+            final Duration thingMaxIdleTime = config.getDuration(ConfigKeys.THING_UPDATER_EVENT_SOURCED_MAX_IDLE_TIME);
+            thingUpdaterProps = ThingUpdater.props(pubSubMediator, changeQueueActor, thingUpdaterMaxIdleTime,
+                    shardRegionFactory.getThingsShardRegion(numberOfShards), thingsTimeout, thingMaxIdleTime);
+        } else {
+            thingUpdaterProps = ThingUpdater.props(pubSubMediator, changeQueueActor, thingUpdaterMaxIdleTime);
+        }
 
         final ActorRef updaterShardRegion =
                 shardRegionFactory.getSearchUpdaterShardRegion(numberOfShards, thingUpdaterProps, CLUSTER_ROLE);
@@ -227,6 +235,7 @@ public final class SearchUpdaterRootActor extends AbstractActor {
             final ActorSystem actorSystem,
             final ShardRegionFactory shardRegionFactory,
             final int numberOfShards,
+            final ActorRef pubSubMediator,
             final ActorRef changeQueueActor,
             final MongoDatabase mongoDatabase,
             final BlockedNamespaces blockedNamespaces) {
@@ -235,8 +244,8 @@ public final class SearchUpdaterRootActor extends AbstractActor {
         final ActorRef policiesShard = shardRegionFactory.getPoliciesShardRegion(numberOfShards);
 
         final SearchUpdaterStream searchUpdaterStream =
-                SearchUpdaterStream.of(actorSystem, thingsShard, policiesShard, changeQueueActor, mongoDatabase,
-                        blockedNamespaces);
+                SearchUpdaterStream.of(actorSystem, thingsShard, policiesShard, pubSubMediator, changeQueueActor,
+                        mongoDatabase, blockedNamespaces);
 
         return searchUpdaterStream.start(getContext());
     }
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.updater.actors;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.signals.events.things.AttributeCreated;
+import org.eclipse.ditto.signals.events.things.AttributeDeleted;
+import org.eclipse.ditto.signals.events.things.AttributeModified;
+import org.eclipse.ditto.signals.events.things.AttributesCreated;
+import org.eclipse.ditto.signals.events.things.AttributesDeleted;
+import org.eclipse.ditto.signals.events.things.AttributesModified;
+import org.eclipse.ditto.signals.events.things.FeatureCreated;
+import org.eclipse.ditto.signals.events.things.FeatureDefinitionCreated;
+import org.eclipse.ditto.signals.events.things.FeatureDefinitionDeleted;
+import org.eclipse.ditto.signals.events.things.FeatureDefinitionModified;
+import org.eclipse.ditto.signals.events.things.FeatureDeleted;
+import org.eclipse.ditto.signals.events.things.FeatureModified;
+import org.eclipse.ditto.signals.events.things.FeaturePropertiesCreated;
+import org.eclipse.ditto.signals.events.things.FeaturePropertiesDeleted;
+import org.eclipse.ditto.signals.events.things.FeaturePropertiesModified;
+import org.eclipse.ditto.signals.events.things.FeaturePropertyCreated;
+import org.eclipse.ditto.signals.events.things.FeaturePropertyDeleted;
+import org.eclipse.ditto.signals.events.things.FeaturePropertyModified;
+import org.eclipse.ditto.signals.events.things.FeaturesCreated;
+import org.eclipse.ditto.signals.events.things.FeaturesDeleted;
+import org.eclipse.ditto.signals.events.things.FeaturesModified;
+import org.eclipse.ditto.signals.events.things.PolicyIdCreated;
+import org.eclipse.ditto.signals.events.things.PolicyIdModified;
+import org.eclipse.ditto.signals.events.things.ThingCreated;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+
+/**
+ * Applies the payload of Thing events to a locally known Thing, so that the search index can be updated without
+ * retrieving the Thing from the Things service.
+ * Events whose effect cannot be computed from their payload alone, e.g. ACL changes or a modified Thing, are not
+ * applied.
+ */
+final class ThingEventApplier {
+
+    private static final Map<Class<?>, BiFunction<Thing, ThingEvent, Thing>> EVENT_APPLIERS = createEventAppliers();
+
+    private ThingEventApplier() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Apply a Thing event to the Thing at the revision preceding the event.
+     *
+     * @param thing the Thing at revision {@code thingRevision}, or null if it is unknown.
+     * @param thingRevision the revision of the Thing.
+     * @param thingEvent the event to apply.
+     * @return the Thing at the revision of the event, or an empty optional if the event cannot be applied because
+     * of a revision gap, an unknown Thing or an unsupported event type.
+     */
+    static Optional<Thing> apply(@Nullable final Thing thing, final long thingRevision,
+            final ThingEvent<?> thingEvent) {
+
+        if (thingEvent instanceof ThingCreated) {
+            return Optional.of(setRevision(((ThingCreated) thingEvent).getThing(), thingEvent));
+        } else if (thing == null || thingEvent.getRevision() != thingRevision + 1) {
+            return Optional.empty();
+        } else {
+            return Optional.ofNullable(EVENT_APPLIERS.get(thingEvent.getClass()))
+                    .map(eventApplier -> setRevision(eventApplier.apply(thing, thingEvent), thingEvent));
+        }
+    }
+
+    private static Thing setRevision(final Thing thing, final ThingEvent<?> thingEvent) {
+        return thingEvent.getTimestamp()
+                .map(timestamp -> thing.toBuilder()
+                        .setRevision(thingEvent.getRevision())
+                        .setModified(timestamp)
+                        .build())
+                .orElseGet(() -> thing.toBuilder().setRevision(thingEvent.getRevision()).build());
+    }
+
+    private static Map<Class<?>, BiFunction<Thing, ThingEvent, Thing>> createEventAppliers() {
+        final Map<Class<?>, BiFunction<Thing, ThingEvent, Thing>> appliers = new HashMap<>();
+
+        appliers.put(PolicyIdCreated.class, (t, te) -> t.setPolicyId(((PolicyIdCreated) te).getPolicyId()));
+        appliers.put(PolicyIdModified.class, (t, te) -> t.setPolicyId(((PolicyIdModified) te).getPolicyId()));
+
+        appliers.put(AttributesCreated.class,
+                (t, te) -> t.setAttributes(((AttributesCreated) te).getCreatedAttributes()));
+        appliers.put(AttributesModified.class,
+                (t, te) -> t.setAttributes(((AttributesModified) te).getModifiedAttributes()));
+        appliers.put(AttributesDeleted.class, (t, te) -> t.removeAttributes());
+        appliers.put(AttributeCreated.class, (t, te) -> t.setAttribute(((AttributeCreated) te).getAttributePointer(),
+                ((AttributeCreated) te).getAttributeValue()));
+        appliers.put(AttributeModified.class, (t, te) -> t.setAttribute(((AttributeModified) te).getAttributePointer(),
+                ((AttributeModified) te).getAttributeValue()));
+        appliers.put(AttributeDeleted.class,
+                (t, te) -> t.removeAttribute(((AttributeDeleted) te).getAttributePointer()));
+
+        appliers.put(FeaturesCreated.class, (t, te) -> t.setFeatures(((FeaturesCreated) te).getFeatures()));
+        appliers.put(FeaturesModified.class, (t, te) -> t.setFeatures(((FeaturesModified) te).getFeatures()));
+        appliers.put(FeaturesDeleted.class, (t, te) -> t.removeFeatures());
+        appliers.put(FeatureCreated.class, (t, te) -> t.setFeature(((FeatureCreated) te).getFeature()));
+        appliers.put(FeatureModified.class, (t, te) -> t.setFeature(((FeatureModified) te).getFeature()));
+        appliers.put(FeatureDeleted.class, (t, te) -> t.removeFeature(((FeatureDeleted) te).getFeatureId()));
+
+        appliers.put(FeatureDefinitionCreated.class, (t, te) ->
+                t.setFeatureDefinition(((FeatureDefinitionCreated) te).getFeatureId(),
+                        ((FeatureDefinitionCreated) te).getDefinition()));
+        appliers.put(FeatureDefinitionModified.class, (t, te) ->
+                t.setFeatureDefinition(((FeatureDefinitionModified) te).getFeatureId(),
+                        ((FeatureDefinitionModified) te).getDefinition()));
+        appliers.put(FeatureDefinitionDeleted.class,
+                (t, te) -> t.removeFeatureDefinition(((FeatureDefinitionDeleted) te).getFeatureId()));
+
+        appliers.put(FeaturePropertiesCreated.class, (t, te) ->
+                t.setFeatureProperties(((FeaturePropertiesCreated) te).getFeatureId(),
+                        ((FeaturePropertiesCreated) te).getProperties()));
+        appliers.put(FeaturePropertiesModified.class, (t, te) ->
+                t.setFeatureProperties(((FeaturePropertiesModified) te).getFeatureId(),
+                        ((FeaturePropertiesModified) te).getProperties()));
+        appliers.put(FeaturePropertiesDeleted.class,
+                (t, te) -> t.removeFeatureProperties(((FeaturePropertiesDeleted) te).getFeatureId()));
+        appliers.put(FeaturePropertyCreated.class, (t, te) ->
+                t.setFeatureProperty(((FeaturePropertyCreated) te).getFeatureId(),
+                        ((FeaturePropertyCreated) te).getPropertyPointer(),
+                        ((FeaturePropertyCreated) te).getPropertyValue()));
+        appliers.put(FeaturePropertyModified.class, (t, te) ->
+                t.setFeatureProperty(((FeaturePropertyModified) te).getFeatureId(),
+                        ((FeaturePropertyModified) te).getPropertyPointer(),
+                        ((FeaturePropertyModified) te).getPropertyValue()));
+        appliers.put(FeaturePropertyDeleted.class, (t, te) ->
+                t.removeFeatureProperty(((FeaturePropertyDeleted) te).getFeatureId(),
+                        ((FeaturePropertyDeleted) te).getPropertyPointer()));
+
+        return appliers;
+    }
+}
@@ -17,50 +17,88 @@ import java.net.URLDecoder;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingRevision;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.services.base.actors.ShutdownNamespaceBehavior;
 import org.eclipse.ditto.services.models.policies.PolicyReferenceTag;
 import org.eclipse.ditto.services.models.policies.PolicyTag;
 import org.eclipse.ditto.services.models.streaming.IdentifiableStreamingMessage;
 import org.eclipse.ditto.services.models.things.ThingTag;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.akka.streaming.StreamAck;
+import org.eclipse.ditto.signals.events.things.ThingDeleted;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 
-import akka.actor.AbstractActor;
+import akka.actor.AbstractActorWithTimers;
 import akka.actor.ActorRef;
+import akka.actor.NotInfluenceReceiveTimeout;
 import akka.actor.PoisonPill;
 import akka.actor.Props;
 import akka.actor.ReceiveTimeout;
+import akka.actor.Status;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.event.Logging;
+import akka.pattern.Patterns;
 
 import org.eclipse.ditto.services.thingsearch.persistence.write.model.Metadata;
 
 /**
  * This Actor initiates persistence updates related to 1 thing.
+ * <p>
+ * If it is event-sourced, it keeps the Thing at its current revision, applies the payload of incoming Thing events
+ * to it and passes it on with the metadata, so that the Thing need not be retrieved for updating the search index.
+ * The Thing is retrieved via SudoRetrieveThing only if it is unknown, on revision gaps and for events whose payload
+ * does not suffice. The Thing costs memory for as long as it is kept, and it is serialized with every event; it is
+ * dropped when no event arrived for a configurable time shorter than the lifetime of the updater.
+ * </p>
  */
-final class ThingUpdater extends AbstractActor {
+final class ThingUpdater extends AbstractActorWithTimers {
 
     private final DiagnosticLoggingAdapter log = Logging.apply(this);
 
     private final String thingId;
     private final ShutdownNamespaceBehavior shutdownNamespaceBehavior;
     private final ActorRef changeQueueActor;
+    @Nullable private final ActorRef thingsShardRegion;
+    private final java.time.Duration thingsTimeout;
+    private final java.time.Duration thingMaxIdleTime;
 
     // state of Thing and Policy
     private long thingRevision = -1L;
     private String policyId = "";
     private long policyRevision = -1L;
 
+    // Thing at thingRevision and events received while retrieving it; only used if event-sourced
+    @Nullable private Thing thing = null;
+    @Nullable private List<ThingEvent<?>> eventsDuringRetrieval = null;
+
     private ThingUpdater(final ActorRef pubSubMediator,
             final ActorRef changeQueueActor,
-            final java.time.Duration maxIdleTime) {
+            final java.time.Duration maxIdleTime,
+            @Nullable final ActorRef thingsShardRegion,
+            final java.time.Duration thingsTimeout,
+            final java.time.Duration thingMaxIdleTime) {
 
         thingId = tryToGetThingId();
         shutdownNamespaceBehavior = ShutdownNamespaceBehavior.fromId(thingId, pubSubMediator, getSelf());
         this.changeQueueActor = changeQueueActor;
+        this.thingsShardRegion = thingsShardRegion;
+        this.thingsTimeout = thingsTimeout;
+        this.thingMaxIdleTime = thingMaxIdleTime;
 
         getContext().setReceiveTimeout(maxIdleTime);
     }
@@ -78,7 +116,33 @@ final class ThingUpdater extends AbstractActor {
             final ActorRef changeQueueActor,
             final java.time.Duration maxIdleTime) {
 
-        return Props.create(ThingUpdater.class, () -> new ThingUpdater(pubSubMediator, changeQueueActor, maxIdleTime));
+        return Props.create(ThingUpdater.class,
+                () -> new ThingUpdater(pubSubMediator, changeQueueActor, maxIdleTime, null, java.time.Duration.ZERO,
+                        java.time.Duration.ZERO));
+    }
+
+    /**
+     * Creates Akka configuration object for an event-sourced ThingUpdater.
+     *
+     * @param pubSubMediator Akka pub-sub mediator.
+     * @param changeQueueActor reference of the change queue actor.
+     * @param maxIdleTime the interval at which is checked, if the corresponding Thing is still actively
+     * updated.
+     * @param thingsShardRegion the shard region to retrieve the Thing from on revision gaps.
+     * @param thingsTimeout timeout of retrieving the Thing.
+     * @param thingMaxIdleTime how long to keep the Thing without receiving events.
+     * @return the Akka configuration Props object
+     */
+    static Props props(final ActorRef pubSubMediator,
+            final ActorRef changeQueueActor,
+            final java.time.Duration maxIdleTime,
+            final ActorRef thingsShardRegion,
+            final java.time.Duration thingsTimeout,
+            final java.time.Duration thingMaxIdleTime) {
+
+        return Props.create(ThingUpdater.class,
+                () -> new ThingUpdater(pubSubMediator, changeQueueActor, maxIdleTime, thingsShardRegion,
+                        thingsTimeout, thingMaxIdleTime));
     }
 
     @Override
@@ -87,7 +151,11 @@ final class ThingUpdater extends AbstractActor {
                 .match(ThingEvent.class, this::processThingEvent)
                 .match(ThingTag.class, this::processThingTag)
                 .match(PolicyReferenceTag.class, this::processPolicyReferenceTag)
+                .match(SudoRetrieveThingResponse.class, this::processRetrievedThing)
+                .match(DittoRuntimeException.class, error -> processFailedRetrieval(error))
+                .match(Status.Failure.class, failure -> processFailedRetrieval(failure.cause()))
                 .match(ReceiveTimeout.class, this::stopThisActor)
+                .matchEquals(Control.DROP_THING, this::dropThing)
                 .matchAny(m -> {
                     log.warning("Unknown message in 'eventProcessing' behavior: {}", m);
                     unhandled(m);
@@ -100,11 +168,24 @@ final class ThingUpdater extends AbstractActor {
         getSelf().tell(PoisonPill.getInstance(), ActorRef.noSender());
     }
 
+    private void dropThing(final Control trigger) {
+        if (thing != null && eventsDuringRetrieval == null) {
+            log.debug("Dropping idle thing <{}> at revision <{}>.", thingId, thingRevision);
+            thing = null;
+        }
+    }
+
     /**
      * Export the metadata of this updater.
      */
     private Metadata exportMetadata() {
-        return Metadata.of(thingId, thingRevision, policyId, policyRevision);
+        if (thing != null) {
+            getTimers().startSingleTimer(Control.DROP_THING, Control.DROP_THING, thingMaxIdleTime);
+            final JsonObject thingJson = thing.toJson(thing.getImplementedSchemaVersion(), FieldType.regularOrSpecial());
+            return Metadata.of(thingId, thingRevision, policyId, policyRevision, thingJson);
+        } else {
+            return Metadata.of(thingId, thingRevision, policyId, policyRevision);
+        }
     }
 
     /**
@@ -122,6 +203,8 @@ final class ThingUpdater extends AbstractActor {
             log.debug("The Thing Tag for the thing <{}> has the revision {} which is greater than the current actor's"
                     + " sequence number <{}>.", thingId, thingTag.getRevision(), thingRevision);
             thingRevision = thingTag.getRevision();
+            // the tag carries no payload; the Thing has to be retrieved
+            thing = null;
             enqueueMetadata();
         } else {
             log.debug("Dropping <{}> because my thingRevision=<{}>", thingTag, thingRevision);
@@ -160,6 +243,8 @@ final class ThingUpdater extends AbstractActor {
             log.debug("Dropped thing event for thing id <{}> with revision <{}> because it was older than or "
                             + "equal to the current sequence number <{}> of the update actor.", thingId,
                     thingEvent.getRevision(), thingRevision);
+        } else if (thingsShardRegion != null) {
+            applyThingEvent(thingEvent);
         } else {
             log.debug("Applying thing event <{}>.", thingEvent);
             thingRevision = thingEvent.getRevision();
@@ -167,6 +252,65 @@ final class ThingUpdater extends AbstractActor {
         }
     }
 
+    private void applyThingEvent(final ThingEvent<?> thingEvent) {
+        if (eventsDuringRetrieval != null) {
+            log.debug("Postponing thing event <{}> until the thing is retrieved.", thingEvent);
+            eventsDuringRetrieval.add(thingEvent);
+            thingRevision = thingEvent.getRevision();
+            return;
+        }
+        final Optional<Thing> nextThing = ThingEventApplier.apply(thing, thingRevision, thingEvent);
+        thingRevision = thingEvent.getRevision();
+        if (nextThing.isPresent()) {
+            log.debug("Applied thing event <{}> locally.", thingEvent);
+            thing = nextThing.get();
+            enqueueMetadata();
+        } else if (thingEvent instanceof ThingDeleted) {
+            thing = null;
+            enqueueMetadata();
+        } else {
+            thing = null;
+            retrieveThing();
+        }
+    }
+
+    private void retrieveThing() {
+        log.debug("Retrieving thing <{}> at revision <{}>.", thingId, thingRevision);
+        eventsDuringRetrieval = new ArrayList<>();
+        final SudoRetrieveThing command = SudoRetrieveThing.withOriginalSchemaVersion(thingId, DittoHeaders.empty());
+        Patterns.pipe(Patterns.ask(thingsShardRegion, command, thingsTimeout), getContext().dispatcher())
+                .to(getSelf());
+    }
+
+    private void processRetrievedThing(final SudoRetrieveThingResponse response) {
+        final List<ThingEvent<?>> events = eventsDuringRetrieval != null ? eventsDuringRetrieval : new ArrayList<>();
+        eventsDuringRetrieval = null;
+        Thing retrievedThing = ThingsModelFactory.newThing(response.getEntity().asObject());
+        long retrievedRevision = retrievedThing.getRevision().map(ThingRevision::toLong).orElse(-1L);
+        for (final ThingEvent<?> event : events) {
+            if (retrievedThing != null && event.getRevision() > retrievedRevision) {
+                retrievedThing = ThingEventApplier.apply(retrievedThing, retrievedRevision, event).orElse(null);
+                retrievedRevision = event.getRevision();
+            }
+        }
+        if (retrievedThing != null && retrievedRevision >= thingRevision) {
+            thingRevision = retrievedRevision;
+            thing = retrievedThing;
+        } else {
+            log.debug("Retrieved thing <{}> could not be brought to revision <{}>.", thingId, thingRevision);
+            thing = null;
+        }
+        enqueueMetadata();
+    }
+
+    private void processFailedRetrieval(final Throwable error) {
+        log.info("Failed to retrieve thing <{}>: <{}>", thingId, error);
+        eventsDuringRetrieval = null;
+        thing = null;
+        // the search updater stream retries the retrieval
+        enqueueMetadata();
+    }
+
     private String tryToGetThingId() {
         final Charset utf8 = StandardCharsets.UTF_8;
         try {
@@ -187,4 +331,9 @@ final class ThingUpdater extends AbstractActor {
             getSender().tell(StreamAck.success(message.asIdentifierString()), getSelf());
         }
     }
+
+    private enum Control implements NotInfluenceReceiveTimeout {
+        DROP_THING
+    }
+
 }
@@ -12,8 +12,15 @@
  */
 package org.eclipse.ditto.services.thingsearch.updater.actors;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.things.AccessControlList;
 import org.eclipse.ditto.model.things.AccessControlListModelFactory;
 import org.eclipse.ditto.model.things.AclEntry;
@@ -23,9 +30,12 @@ import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.services.models.policies.PolicyReferenceTag;
 import org.eclipse.ditto.services.models.policies.PolicyTag;
 import org.eclipse.ditto.services.models.things.ThingTag;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
 import org.eclipse.ditto.services.utils.akka.streaming.StreamAck;
 import org.eclipse.ditto.signals.commands.common.Shutdown;
 import org.eclipse.ditto.signals.commands.common.ShutdownReasonFactory;
+import org.eclipse.ditto.signals.events.things.AttributeModified;
 import org.eclipse.ditto.signals.events.things.ThingCreated;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 import org.eclipse.ditto.signals.events.things.ThingModified;
@@ -252,6 +262,92 @@ public final class ThingUpdaterTest {
         };
     }
 
+    @Test
+    public void eventSourcedUpdaterAppliesEventsAndRetrievesOnRevisionGap() {
+        final String policyId = "policy:1";
+        final Thing createdThing = ThingsModelFactory.newThingBuilder()
+                .setId(THING_ID)
+                .setPolicyId(policyId)
+                .setRevision(1L)
+                .build();
+        final JsonPointer attributePointer = JsonPointer.of("location");
+        final JsonValue attributeValue = JsonValue.of("kitchen");
+
+        new TestKit(actorSystem) {
+            {
+                final TestProbe thingsShardProbe = TestProbe.apply(actorSystem);
+                final ActorRef underTest = actorSystem.actorOf(
+                        ThingUpdater.props(pubSubTestProbe.ref(), changeQueueTestProbe.ref(),
+                                java.time.Duration.ofDays(1L), thingsShardProbe.ref(),
+                                java.time.Duration.ofSeconds(10L), java.time.Duration.ofDays(1L)),
+                        THING_ID);
+
+                // WHEN: the thing is created and an attribute is modified
+                underTest.tell(ThingCreated.of(createdThing, 1L, DittoHeaders.empty()), ActorRef.noSender());
+                underTest.tell(AttributeModified.of(THING_ID, attributePointer, attributeValue, 2L,
+                        DittoHeaders.empty()), ActorRef.noSender());
+
+                // THEN: the thing is passed on without retrieval
+                changeQueueTestProbe.expectMsgClass(Metadata.class);
+                final Metadata metadata = changeQueueTestProbe.expectMsgClass(Metadata.class);
+                assertThat(metadata.getThingRevision()).isEqualTo(2L);
+                assertThat(metadata.getThing()).isPresent();
+                assertThat(metadata.getThing().get().getValue(Thing.JsonFields.ATTRIBUTES.getPointer()
+                        .append(attributePointer))).contains(attributeValue);
+                thingsShardProbe.expectNoMessage();
+
+                // WHEN: an event with a revision gap arrives
+                underTest.tell(AttributeModified.of(THING_ID, attributePointer, attributeValue, 5L,
+                        DittoHeaders.empty()), ActorRef.noSender());
+
+                // THEN: the thing is retrieved
+                thingsShardProbe.expectMsgClass(SudoRetrieveThing.class);
+                final Thing retrievedThing = createdThing.toBuilder()
+                        .setAttribute(attributePointer, attributeValue)
+                        .setRevision(5L)
+                        .build();
+                thingsShardProbe.reply(SudoRetrieveThingResponse.of(retrievedThing.toJson(
+                        retrievedThing.getImplementedSchemaVersion(), FieldType.regularOrSpecial()),
+                        DittoHeaders.empty()));
+                final Metadata metadataAfterGap = changeQueueTestProbe.expectMsgClass(Metadata.class);
+                assertThat(metadataAfterGap.getThingRevision()).isEqualTo(5L);
+                assertThat(metadataAfterGap.getThing()).isPresent();
+            }
+        };
+    }
+
+    @Test
+    public void eventSourcedUpdaterDropsIdleThing() {
+        final Thing createdThing = ThingsModelFactory.newThingBuilder()
+                .setId(THING_ID)
+                .setPolicyId("policy:1")
+                .setRevision(1L)
+                .build();
+        final JsonPointer attributePointer = JsonPointer.of("location");
+        final JsonValue attributeValue = JsonValue.of("kitchen");
+
+        new TestKit(actorSystem) {
+            {
+                final TestProbe thingsShardProbe = TestProbe.apply(actorSystem);
+                final ActorRef underTest = actorSystem.actorOf(
+                        ThingUpdater.props(pubSubTestProbe.ref(), changeQueueTestProbe.ref(),
+                                java.time.Duration.ofDays(1L), thingsShardProbe.ref(),
+                                java.time.Duration.ofSeconds(10L), java.time.Duration.ofMillis(100L)),
+                        THING_ID);
+
+                // WHEN: the thing is created and no event arrives for longer than the thing max idle time
+                underTest.tell(ThingCreated.of(createdThing, 1L, DittoHeaders.empty()), ActorRef.noSender());
+                assertThat(changeQueueTestProbe.expectMsgClass(Metadata.class).getThing()).isPresent();
+                thingsShardProbe.expectNoMessage(scala.concurrent.duration.Duration.apply(500, TimeUnit.MILLISECONDS));
+
+                // THEN: the thing was dropped and is retrieved for the next event
+                underTest.tell(AttributeModified.of(THING_ID, attributePointer, attributeValue, 2L,
+                        DittoHeaders.empty()), ActorRef.noSender());
+                thingsShardProbe.expectMsgClass(SudoRetrieveThing.class);
+            }
+        };
+    }
+
     @Test
     public void shutdownOnCommand() {
         new TestKit(actorSystem) {
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.trie.TrieBasedPolicyEnforcer;
+import org.eclipse.ditto.services.utils.cache.EntityId;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+/**
+ * Weighs enforcer cache entries by the estimated heap bytes of their enforcers, so that a policy with thousands of
+ * subjects takes a correspondingly larger share of the heap budget of the cache than a trivial one.
+ */
+@Immutable
+public final class EnforcerCacheWeigher implements Weigher<EntityId, Entry<Enforcer>> {
+
+    /**
+     * The single instance of this weigher.
+     */
+    public static final EnforcerCacheWeigher INSTANCE = new EnforcerCacheWeigher();
+
+    /**
+     * Estimated heap bytes of enforcers whose footprint cannot be estimated, e. g. of ACL enforcers.
+     */
+    private static final long DEFAULT_ENFORCER_BYTES = 2048L;
+
+    private EnforcerCacheWeigher() {
+        super();
+    }
+
+    @Override
+    public int weigh(final EntityId key, final Entry<Enforcer> entry) {
+        long bytes = EntityIdCacheWeigher.estimateFootprint(key);
+        if (entry.exists()) {
+            final Enforcer enforcer = entry.getValueOrThrow();
+            if (enforcer instanceof TrieBasedPolicyEnforcer) {
+                bytes += ((TrieBasedPolicyEnforcer) enforcer).estimateFootprint();
+            } else {
+                bytes += DEFAULT_ENFORCER_BYTES;
+            }
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+}
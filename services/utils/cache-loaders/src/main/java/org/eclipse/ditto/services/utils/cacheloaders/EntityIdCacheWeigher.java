@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.cache.EntityId;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+/**
+ * Weighs entity ID cache entries by the estimated heap bytes of their keys and values.
+ */
+@Immutable
+public final class EntityIdCacheWeigher implements Weigher<EntityId, Entry<EntityId>> {
+
+    /**
+     * The single instance of this weigher.
+     */
+    public static final EntityIdCacheWeigher INSTANCE = new EntityIdCacheWeigher();
+
+    /**
+     * Estimated heap bytes of a cache entry without its key and value, i. e. of the node of the cache, the entry
+     * object and its completed future.
+     */
+    private static final long ENTRY_BYTES = 160L;
+
+    /**
+     * Estimated heap bytes of an entity ID object and its two strings, not counting their characters.
+     */
+    private static final long ENTITY_ID_BYTES = 112L;
+
+    private EntityIdCacheWeigher() {
+        super();
+    }
+
+    @Override
+    public int weigh(final EntityId key, final Entry<EntityId> entry) {
+        long bytes = estimateFootprint(key);
+        if (entry.exists()) {
+            bytes += ENTITY_ID_BYTES + 2L * entry.getValueOrThrow().getId().length();
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Estimates the heap bytes of a cache entry with the given key, not counting its value.
+     *
+     * @param key the key of the cache entry.
+     * @return the estimated number of bytes.
+     */
+    static long estimateFootprint(final EntityId key) {
+        return ENTRY_BYTES + ENTITY_ID_BYTES + 2L * (key.getResourceType().length() + key.getId().length());
+    }
+
+}
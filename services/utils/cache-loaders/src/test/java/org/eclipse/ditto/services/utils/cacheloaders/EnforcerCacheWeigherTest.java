@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyBuilder;
+import org.eclipse.ditto.model.policies.SubjectType;
+import org.eclipse.ditto.services.utils.cache.EntityId;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.junit.Test;
+
+/**
+ * Tests {@link EnforcerCacheWeigher}.
+ */
+public final class EnforcerCacheWeigherTest {
+
+    private static final EntityId KEY = EntityId.of("policy", "namespace:policy");
+
+    private final EnforcerCacheWeigher underTest = EnforcerCacheWeigher.INSTANCE;
+
+    @Test
+    public void policiesWithMoreSubjectsWeighMore() {
+        final int smallWeight = underTest.weigh(KEY, enforcerEntry(policyWithSubjects(1)));
+        final int largeWeight = underTest.weigh(KEY, enforcerEntry(policyWithSubjects(5000)));
+
+        assertThat(smallWeight).isPositive();
+        assertThat(largeWeight).isGreaterThan(100 * smallWeight);
+    }
+
+    @Test
+    public void nonexistentEntriesWeighLessThanEnforcers() {
+        final int nonexistentWeight = underTest.weigh(KEY, Entry.nonexistent());
+        final int enforcerWeight = underTest.weigh(KEY, enforcerEntry(policyWithSubjects(1)));
+
+        assertThat(nonexistentWeight).isPositive().isLessThan(enforcerWeight);
+    }
+
+    private static Entry<Enforcer> enforcerEntry(final Policy policy) {
+        return Entry.of(1L, PolicyEnforcers.defaultEvaluator(policy));
+    }
+
+    private static Policy policyWithSubjects(final int numberOfSubjects) {
+        final PolicyBuilder.LabelScoped builder = PoliciesModelFactory.newPolicyBuilder("namespace:policy")
+                .forLabel("DEVICES")
+                .setGrantedPermissions("thing", "/", "READ", "WRITE")
+                .setRevokedPermissions("thing", "/attributes/secret", "WRITE");
+        for (int i = 0; i < numberOfSubjects; i++) {
+            builder.setSubject("test:device-" + i, SubjectType.GENERATED);
+        }
+        return builder.build();
+    }
+
+}
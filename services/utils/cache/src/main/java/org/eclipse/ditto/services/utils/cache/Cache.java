@@ -83,6 +83,19 @@ public interface Cache<K, V> {
      */
     ConcurrentMap<K, V> asMap();
 
+    /**
+     * Replaces the entry of the {@code key} only if it is currently associated with the {@code oldValue}.
+     *
+     * @param key the key.
+     * @param oldValue the value expected to be associated with the key.
+     * @param newValue the value to associate with the key.
+     * @return {@code true} if the value was replaced, {@code false} otherwise.
+     * @throws NullPointerException if any argument is null.
+     */
+    default boolean replace(final K key, final V oldValue, final V newValue) {
+        return asMap().replace(key, oldValue, newValue);
+    }
+
     /**
      * Invalidate a collection of keys.
      *
@@ -14,18 +14,24 @@ package org.eclipse.ditto.services.utils.cache;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Optional;
 import java.util.concurrent.Executor;
 
 import org.eclipse.ditto.services.utils.cache.config.CacheConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Weigher;
 
 /**
  * Creates a cache configured by a {@link CacheConfigReader}.
  */
 public final class CacheFactory {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(CacheFactory.class);
+
     private CacheFactory() {
         throw new AssertionError();
     }
@@ -93,6 +99,46 @@ public final class CacheFactory {
         return CaffeineCache.of(caffeine(cacheConfigReader, executor), cacheLoader, cacheName);
     }
 
+    /**
+     * Creates a cache which is bounded by the estimated heap bytes of its entries if the configuration defines a
+     * maximum weight, and by the number of its entries otherwise. A configured maximum weight replaces the maximum
+     * size, which is logged as a warning.
+     *
+     * @param cacheLoader the cache loader.
+     * @param cacheConfigReader the {@link CacheConfigReader} which defines the cache's configuration.
+     * @param cacheName the name of the cache. Used as metric label.
+     * @param executor the executor to use in the cache.
+     * @param weigher estimates the heap bytes occupied by a cache entry.
+     * @param <K> the type of the cache keys.
+     * @param <V> the type of the cache values.
+     * @return the created cache.
+     */
+    public static <K, V> Cache<K, V> createCache(final AsyncCacheLoader<K, V> cacheLoader,
+            final CacheConfigReader cacheConfigReader,
+            final String cacheName,
+            final Executor executor,
+            final Weigher<K, V> weigher) {
+        requireNonNull(cacheLoader);
+        requireNonNull(cacheConfigReader);
+        requireNonNull(cacheName);
+        requireNonNull(weigher);
+
+        final Optional<Long> maximumWeight = cacheConfigReader.maximumWeight();
+        if (!maximumWeight.isPresent()) {
+            return createCache(cacheLoader, cacheConfigReader, cacheName, executor);
+        }
+
+        LOGGER.warn("Cache <{}> is bounded by its maximum-weight <{}> bytes; its maximum-size <{}> is ignored.",
+                cacheName, maximumWeight.get(), cacheConfigReader.maximumSize());
+        final MetricsStatsCounter metricsStatsCounter = MetricsStatsCounter.of(cacheName);
+        final Caffeine<K, V> caffeine = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight.get())
+                .weigher(metricsStatsCounter.recordingWeights(weigher))
+                .expireAfterWrite(cacheConfigReader.expireAfterWrite())
+                .expireAfterAccess(cacheConfigReader.expireAfterAccess())
+                .executor(executor);
+        return CaffeineCache.of(caffeine, cacheLoader, metricsStatsCounter);
+    }
 
     private static Caffeine<Object, Object> caffeine(final CacheConfigReader cacheConfigReader,
             final Executor executor) {
@@ -48,10 +48,10 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
 
     private CaffeineCache(final Caffeine<? super K, ? super V> caffeine,
             final AsyncCacheLoader<K, V> loader,
-            @Nullable final String cacheName) {
+            @Nullable final MetricsStatsCounter metricsStatsCounter) {
 
-        if (cacheName != null) {
-            this.metricStatsCounter = MetricsStatsCounter.of(cacheName);
+        if (metricsStatsCounter != null) {
+            this.metricStatsCounter = metricsStatsCounter;
             caffeine.recordStats(() -> metricStatsCounter);
             this.asyncLoadingCache = caffeine.buildAsync(loader);
             this.synchronousCacheView = asyncLoadingCache.synchronous();
@@ -126,7 +126,7 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
         requireNonNull(caffeine);
 
         final AsyncCacheLoader<K, V> cacheLoader = getTypedNullCacheLoader();
-        return new CaffeineCache<>(caffeine, cacheLoader, cacheName);
+        return new CaffeineCache<>(caffeine, cacheLoader, metricsStatsCounterOrNull(cacheName));
     }
 
     /**
@@ -145,7 +145,7 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
         requireNonNull(caffeine);
         requireNonNull(loader);
 
-        return new CaffeineCache<>(caffeine, loader, cacheName);
+        return new CaffeineCache<>(caffeine, loader, metricsStatsCounterOrNull(cacheName));
     }
 
     /**
@@ -164,7 +164,33 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
         requireNonNull(caffeine);
         requireNonNull(loader);
 
-        return new CaffeineCache<>(caffeine, loader, cacheName);
+        return new CaffeineCache<>(caffeine, loader, metricsStatsCounterOrNull(cacheName));
+    }
+
+    /**
+     * Creates a new instance based on a {@link AsyncCacheLoader} which reports metrics to the given counter, e.g.
+     * because the counter also records the weights of a weigher of the Caffeine instance.
+     *
+     * @param caffeine a (pre-configured) caffeine instance.
+     * @param loader the algorithm used for loading values asynchronously.
+     * @param metricsStatsCounter the counter of cache statistics, not yet used by any other cache.
+     * @param <K> the type of the key.
+     * @param <V> the type of the value.
+     * @return the created instance
+     */
+    static <K, V> CaffeineCache<K, V> of(final Caffeine<? super K, ? super V> caffeine,
+            final AsyncCacheLoader<K, V> loader,
+            final MetricsStatsCounter metricsStatsCounter) {
+        requireNonNull(caffeine);
+        requireNonNull(loader);
+        requireNonNull(metricsStatsCounter);
+
+        return new CaffeineCache<>(caffeine, loader, metricsStatsCounter);
+    }
+
+    @Nullable
+    private static MetricsStatsCounter metricsStatsCounterOrNull(@Nullable final String cacheName) {
+        return cacheName != null ? MetricsStatsCounter.of(cacheName) : null;
     }
 
     @Override
@@ -240,6 +266,19 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
         asyncLoadingCache.put(key, CompletableFuture.completedFuture(value));
     }
 
+    @Override
+    public boolean replace(final K key, final V oldValue, final V newValue) {
+        requireNonNull(key);
+        requireNonNull(oldValue);
+        requireNonNull(newValue);
+
+        if (metricStatsCounter != null) {
+            return metricStatsCounter.recordingReplacement(
+                    () -> synchronousCacheView.asMap().replace(key, oldValue, newValue));
+        }
+        return synchronousCacheView.asMap().replace(key, oldValue, newValue);
+    }
+
     @Override
     public ConcurrentMap<K, V> asMap() {
         return synchronousCacheView.asMap();
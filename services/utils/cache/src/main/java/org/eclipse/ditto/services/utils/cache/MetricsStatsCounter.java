@@ -16,7 +16,10 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
 
 import javax.annotation.Nullable;
 
@@ -27,6 +30,7 @@ import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.Weigher;
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
@@ -79,14 +83,27 @@ public final class MetricsStatsCounter implements StatsCounter {
          * Sum of the weights of the cache evictions.
          */
         EVICTIONS_WEIGHT(CACHE_PREFIX + "_evictions-weight"),
+        /**
+         * Number of entries replaced by an updated value instead of being loaded.
+         */
+        REPLACEMENTS(CACHE_PREFIX + "_replacements"),
+        /**
+         * Sum of the weights of the replacing values. They are not counted as loads by
+         * {@link #WEIGHTED_HIT_RATIO}.
+         */
+        REPLACEMENTS_WEIGHT(CACHE_PREFIX + "_replacements-weight"),
         /**
          * The estimated size of the cache.
          */
         ESTIMATED_SIZE(CACHE_PREFIX + "_estimated-size"),
         /**
-         * The maximum size of the cache.
+         * The maximum size of a cache bounded by size.
          */
         MAX_SIZE(CACHE_PREFIX + "_max-size"),
+        /**
+         * The maximum weight, i.e. the budget of heap bytes, of a cache bounded by weight.
+         */
+        MAX_WEIGHT(CACHE_PREFIX + "_max-weight"),
         /**
          * Estimated cache invalidations (manual, in contrast to {@link #EVICTIONS}). The value is estimated, it may
          * be not completely correct in case of parallel loads or evictions.
@@ -96,7 +113,16 @@ public final class MetricsStatsCounter implements StatsCounter {
          * Estimated cache invalidations (manual, in contrast to {@link #EVICTIONS}) that did not invalidate an item
          * because it didn't exist in cache.
          */
-        ESTIMATED_INVALIDATIONS_WITHOUT_ITEM(CACHE_PREFIX + "_estimated-invalidations-without-item");
+        ESTIMATED_INVALIDATIONS_WITHOUT_ITEM(CACHE_PREFIX + "_estimated-invalidations-without-item"),
+        /**
+         * The estimated heap bytes of all entries of a cache bounded by weight.
+         */
+        ESTIMATED_WEIGHT(CACHE_PREFIX + "_estimated-weight"),
+        /**
+         * The estimated share of the weight of requested entries which was served from a cache bounded by weight,
+         * in per mille. Hits are weighted by the average weight of the cached entries, loads by their own weight.
+         */
+        WEIGHTED_HIT_RATIO(CACHE_PREFIX + "_weighted-hit-ratio");
 
         private final String name;
 
@@ -120,6 +146,7 @@ public final class MetricsStatsCounter implements StatsCounter {
     }
 
     private static final int DEFAULT_EVICTION_WEIGHT = 1;
+    private static final long PER_MILLE = 1000L;
     private static final String CACHE_NAME_TAG = "cache_name";
 
     private final Counter hitCount;
@@ -129,10 +156,21 @@ public final class MetricsStatsCounter implements StatsCounter {
     private final PreparedTimer totalLoadTime;
     private final Counter evictionCount;
     private final Counter evictionWeight;
+    private final Counter replacementCount;
+    private final Counter replacementWeight;
     private final Gauge estimatedSize;
     private final Gauge maxSize;
+    private final Gauge maxWeight;
     private final Counter estimatedInvalidations;
     private final Counter estimatedInvalidationsWithoutItem;
+    private final Gauge estimatedWeight;
+    private final Gauge weightedHitRatio;
+    private final LongAdder hitWeight;
+    private final LongAdder loadWeight;
+    private final ThreadLocal<Boolean> replacing;
+
+    private volatile boolean weighted;
+    private volatile long averageWeight;
 
     private volatile @Nullable Cache cache;
 
@@ -144,12 +182,23 @@ public final class MetricsStatsCounter implements StatsCounter {
         loadFailureCount = DittoMetrics.counter(MetricName.LOADS_FAILURE.getValue()).tag(CACHE_NAME_TAG, cacheName);
         evictionCount = DittoMetrics.counter(MetricName.EVICTIONS.getValue()).tag(CACHE_NAME_TAG, cacheName);
         evictionWeight = DittoMetrics.counter(MetricName.EVICTIONS_WEIGHT.getValue()).tag(CACHE_NAME_TAG, cacheName);
+        replacementCount = DittoMetrics.counter(MetricName.REPLACEMENTS.getValue()).tag(CACHE_NAME_TAG, cacheName);
+        replacementWeight =
+                DittoMetrics.counter(MetricName.REPLACEMENTS_WEIGHT.getValue()).tag(CACHE_NAME_TAG, cacheName);
         estimatedSize = DittoMetrics.gauge(MetricName.ESTIMATED_SIZE.getValue()).tag(CACHE_NAME_TAG, cacheName);
         maxSize = DittoMetrics.gauge(MetricName.MAX_SIZE.getValue()).tag(CACHE_NAME_TAG, cacheName);
+        maxWeight = DittoMetrics.gauge(MetricName.MAX_WEIGHT.getValue()).tag(CACHE_NAME_TAG, cacheName);
         estimatedInvalidations =
                 DittoMetrics.counter(MetricName.ESTIMATED_INVALIDATIONS.getValue()).tag(CACHE_NAME_TAG, cacheName);
         estimatedInvalidationsWithoutItem =
                 DittoMetrics.counter(MetricName.ESTIMATED_INVALIDATIONS_WITHOUT_ITEM.getValue()).tag(CACHE_NAME_TAG, cacheName);
+        estimatedWeight = DittoMetrics.gauge(MetricName.ESTIMATED_WEIGHT.getValue()).tag(CACHE_NAME_TAG, cacheName);
+        weightedHitRatio =
+                DittoMetrics.gauge(MetricName.WEIGHTED_HIT_RATIO.getValue()).tag(CACHE_NAME_TAG, cacheName);
+        hitWeight = new LongAdder();
+        loadWeight = new LongAdder();
+        replacing = ThreadLocal.withInitial(() -> false);
+        averageWeight = DEFAULT_EVICTION_WEIGHT;
     }
 
     /**
@@ -176,9 +225,57 @@ public final class MetricsStatsCounter implements StatsCounter {
         this.cache = requireNonNull(cache);
     }
 
+    /**
+     * Wraps a weigher of the cache such that the weights of loaded and written entries are recorded for the weighted
+     * hit ratio. Entries weighed during {@link #recordingReplacement(BooleanSupplier)} are recorded as replacements
+     * instead.
+     *
+     * @param weigher the weigher of the cache.
+     * @param <K> the type of the keys.
+     * @param <V> the type of the values.
+     * @return the recording weigher.
+     */
+    public <K, V> Weigher<K, V> recordingWeights(final Weigher<K, V> weigher) {
+        requireNonNull(weigher);
+        weighted = true;
+        return (key, value) -> {
+            final int weight = weigher.weigh(key, value);
+            if (replacing.get()) {
+                replacementWeight.increment(weight);
+            } else {
+                loadWeight.add(weight);
+                updateWeightedHitRatio();
+            }
+            return weight;
+        };
+    }
+
+    /**
+     * Runs a replacement of a cache entry, recording it as such rather than as a load.
+     *
+     * @param replacement replaces the entry synchronously on the calling thread.
+     * @return whether the entry was replaced.
+     */
+    boolean recordingReplacement(final BooleanSupplier replacement) {
+        replacing.set(true);
+        try {
+            final boolean replaced = replacement.getAsBoolean();
+            if (replaced) {
+                replacementCount.increment();
+            }
+            return replaced;
+        } finally {
+            replacing.remove();
+        }
+    }
+
     @Override
     public void recordHits(int count) {
         hitCount.increment(count);
+        if (weighted) {
+            hitWeight.add(count * averageWeight);
+            updateWeightedHitRatio();
+        }
     }
 
     @Override
@@ -243,21 +340,43 @@ public final class MetricsStatsCounter implements StatsCounter {
                 + ']';
     }
 
+    private void updateWeightedHitRatio() {
+        final long hits = hitWeight.sum();
+        final long total = hits + loadWeight.sum();
+        if (total > 0) {
+            weightedHitRatio.set(PER_MILLE * hits / total);
+        }
+    }
+
     private void updateCacheSizeMetrics() {
         if (cache != null) {
-            estimatedSize.set(getRequiredCache().estimatedSize());
-            final Long currentMaxCacheSize = getMaxSize();
-            if (currentMaxCacheSize != null) {
-                maxSize.set(currentMaxCacheSize);
+            final long currentEstimatedSize = getRequiredCache().estimatedSize();
+            estimatedSize.set(currentEstimatedSize);
+            final OptionalLong currentWeightedSize = getWeightedSize();
+            if (currentWeightedSize.isPresent()) {
+                estimatedWeight.set(currentWeightedSize.getAsLong());
+                if (currentEstimatedSize > 0) {
+                    averageWeight = currentWeightedSize.getAsLong() / currentEstimatedSize;
+                }
             }
+            getEviction().ifPresent(eviction -> {
+                // the maximum of a cache bounded by weight is a weight, not a number of entries
+                if (eviction.isWeighted()) {
+                    maxWeight.set(eviction.getMaximum());
+                } else {
+                    maxSize.set(eviction.getMaximum());
+                }
+            });
         }
     }
 
-    @Nullable
-    private Long getMaxSize() {
-        @SuppressWarnings("unchecked") final Optional<Policy.Eviction> evictionOptional =
-                getRequiredCache().policy().eviction();
-        return evictionOptional.map(Policy.Eviction::getMaximum).orElse(null);
+    @SuppressWarnings("unchecked")
+    private Optional<Policy.Eviction> getEviction() {
+        return getRequiredCache().policy().eviction();
+    }
+
+    private OptionalLong getWeightedSize() {
+        return getEviction().map(Policy.Eviction::weightedSize).orElse(OptionalLong.empty());
     }
 
     private Cache getRequiredCache() {
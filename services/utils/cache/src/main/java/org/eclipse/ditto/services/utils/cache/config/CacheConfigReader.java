@@ -13,6 +13,7 @@
 package org.eclipse.ditto.services.utils.cache.config;
 
 import java.time.Duration;
+import java.util.Optional;
 
 import org.eclipse.ditto.services.utils.config.AbstractConfigReader;
 
@@ -24,6 +25,7 @@ import com.typesafe.config.Config;
 public final class CacheConfigReader extends AbstractConfigReader {
 
     private static final String PATH_MAXIMUM_SIZE = "maximum-size";
+    private static final String PATH_MAXIMUM_WEIGHT = "maximum-weight";
     private static final String PATH_EXPIRE_AFTER_WRITE = "expire-after-write";
     private static final String PATH_EXPIRE_AFTER_ACCESS = "expire-after-access";
 
@@ -44,6 +46,17 @@ public final class CacheConfigReader extends AbstractConfigReader {
         return config.getLong(PATH_MAXIMUM_SIZE);
     }
 
+    /**
+     * Retrieve the maximum weight of a cache, i.e. the budget of heap bytes its entries are estimated to occupy. For
+     * caches created with a weigher it replaces the maximum size. Unlike the maximum size it has no default and must
+     * be configured explicitly.
+     *
+     * @return the maximum weight in bytes if it exists.
+     */
+    public Optional<Long> maximumWeight() {
+        return getIfPresent(PATH_MAXIMUM_WEIGHT, config::getBytes);
+    }
+
     /**
      * Retrieve duration after which a written cache entry expires.
      *
@@ -19,6 +19,7 @@ import java.util.concurrent.TimeUnit;
 
 import org.awaitility.Awaitility;
 import org.awaitility.core.ThrowingRunnable;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfigReader;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
@@ -28,6 +29,8 @@ import org.junit.Test;
 
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
 
 /**
  * Basic test for {@link MetricsStatsCounter}.
@@ -36,6 +39,7 @@ public final class MetricsStatsCounterTest {
 
     private static final String TEST_CACHE_NAME = "myCache";
     private static final long MAXIMUM_SIZE = 20;
+    private static final long MAXIMUM_WEIGHT = 1000;
 
     private final Counter hitCount = DittoMetrics
             .counter(MetricsStatsCounter.MetricName.HITS.getValue())
@@ -58,15 +62,30 @@ public final class MetricsStatsCounterTest {
     private final Counter evictionWeight = DittoMetrics
             .counter(MetricsStatsCounter.MetricName.EVICTIONS_WEIGHT.getValue())
             .tag("cache_name", TEST_CACHE_NAME);
+    private final Counter replacementCount = DittoMetrics
+            .counter(MetricsStatsCounter.MetricName.REPLACEMENTS.getValue())
+            .tag("cache_name", TEST_CACHE_NAME);
+    private final Counter replacementWeight = DittoMetrics
+            .counter(MetricsStatsCounter.MetricName.REPLACEMENTS_WEIGHT.getValue())
+            .tag("cache_name", TEST_CACHE_NAME);
     private final Gauge estimatedSize = DittoMetrics
             .gauge(MetricsStatsCounter.MetricName.ESTIMATED_SIZE.getValue())
             .tag("cache_name", TEST_CACHE_NAME);
     private final Gauge maxSize = DittoMetrics
             .gauge(MetricsStatsCounter.MetricName.MAX_SIZE.getValue())
             .tag("cache_name", TEST_CACHE_NAME);
+    private final Gauge maxWeight = DittoMetrics
+            .gauge(MetricsStatsCounter.MetricName.MAX_WEIGHT.getValue())
+            .tag("cache_name", TEST_CACHE_NAME);
     private final Counter estimatedInvalidations = DittoMetrics
             .counter(MetricsStatsCounter.MetricName.ESTIMATED_INVALIDATIONS.getValue())
             .tag("cache_name", TEST_CACHE_NAME);
+    private final Gauge estimatedWeight = DittoMetrics
+            .gauge(MetricsStatsCounter.MetricName.ESTIMATED_WEIGHT.getValue())
+            .tag("cache_name", TEST_CACHE_NAME);
+    private final Gauge weightedHitRatio = DittoMetrics
+            .gauge(MetricsStatsCounter.MetricName.WEIGHTED_HIT_RATIO.getValue())
+            .tag("cache_name", TEST_CACHE_NAME);
 
     @Before
     public void resetMetrics() {
@@ -77,9 +96,14 @@ public final class MetricsStatsCounterTest {
         loadFailureCount.reset();
         evictionCount.reset();
         evictionWeight.reset();
+        replacementCount.reset();
+        replacementWeight.reset();
         estimatedSize.reset();
         maxSize.reset();
+        maxWeight.reset();
         estimatedInvalidations.reset();
+        estimatedWeight.reset();
+        weightedHitRatio.reset();
     }
 
     @Test
@@ -170,6 +194,61 @@ public final class MetricsStatsCounterTest {
         });
     }
 
+    @Test
+    public void weights() {
+        // GIVEN
+        final Config config = ConfigFactory.parseString("maximum-size = 1\n" +
+                "maximum-weight = " + MAXIMUM_WEIGHT + "\n" +
+                "expire-after-write = 1h\n" +
+                "expire-after-access = 1h");
+        final AsyncCacheLoader<Integer, Integer> loader = (key, executor) -> CompletableFuture.completedFuture(key);
+        final Cache<Integer, Integer> cache = CacheFactory.createCache(loader, CacheConfigReader.newInstance(config),
+                TEST_CACHE_NAME, Runnable::run, (key, value) -> value);
+
+        // WHEN
+        cache.get(100);
+        cache.get(200);
+        requestNTimes(cache, 200, 3);
+
+        // THEN
+        waitUntilAsserted(() -> {
+            // the maximum weight is no number of entries
+            assertThat(maxWeight.get()).isEqualTo(MAXIMUM_WEIGHT);
+            assertThat(maxSize.get()).isZero();
+            assertThat(estimatedSize.get()).isEqualTo(2L);
+            assertThat(estimatedWeight.get()).isEqualTo(300L);
+
+            assertThat(hitCount.getCount()).isEqualTo(3L);
+            assertThat(weightedHitRatio.get()).isBetween(1L, 999L);
+        });
+    }
+
+    @Test
+    public void replacementsAreNoLoads() {
+        // GIVEN
+        final Config config = ConfigFactory.parseString("maximum-size = 1\n" +
+                "maximum-weight = " + MAXIMUM_WEIGHT + "\n" +
+                "expire-after-write = 1h\n" +
+                "expire-after-access = 1h");
+        final AsyncCacheLoader<Integer, Integer> loader = (key, executor) -> CompletableFuture.completedFuture(key);
+        final Cache<Integer, Integer> cache = CacheFactory.createCache(loader, CacheConfigReader.newInstance(config),
+                TEST_CACHE_NAME, Runnable::run, (key, value) -> value);
+        cache.get(100);
+
+        // WHEN
+        final boolean replaced = cache.replace(100, 100, 400);
+        final boolean replacedStale = cache.replace(100, 100, 500);
+
+        // THEN
+        assertThat(replaced).isTrue();
+        assertThat(replacedStale).isFalse();
+        waitUntilAsserted(() -> {
+            assertThat(replacementCount.getCount()).isEqualTo(1L);
+            assertThat(replacementWeight.getCount()).isEqualTo(400L);
+            assertThat(loadSuccessCount.getCount()).isEqualTo(1L);
+        });
+    }
+
     private CaffeineCache<Integer, Integer> createCaffeineCache() {
         final Caffeine<Object, Object> caffeine = Caffeine.newBuilder().maximumSize(MAXIMUM_SIZE);
         final AsyncCacheLoader<Integer, Integer> loader = (key, executor) -> CompletableFuture.completedFuture(key);
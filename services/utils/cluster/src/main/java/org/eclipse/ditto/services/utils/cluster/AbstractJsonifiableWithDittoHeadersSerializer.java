@@ -56,6 +56,10 @@ import akka.serialization.SerializerWithStringManifest;
 /**
  * Abstract {@link SerializerWithStringManifest} which handles serializing and deserializing {@link Jsonifiable}s
  * {@link WithDittoHeaders}.
+ * <p>
+ * Each {@code Jsonifiable} is serialized as a JSON object containing its DittoHeaders and its JSON payload.
+ * Subclasses determine the binary format of this JSON object.
+ * </p>
  */
 public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends SerializerWithStringManifest
         implements ByteBufferSerializer {
@@ -131,12 +135,13 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
             }
 
             jsonObjectBuilder.set(JSON_PAYLOAD, jsonValue);
-            final String jsonStr = jsonObjectBuilder.build().toString();
+            final JsonObject jsonObject = jsonObjectBuilder.build();
 
             try {
-                buf.put(UTF8_CHARSET.encode(jsonStr));
+                serializeIntoByteBuffer(jsonObject, buf);
             } catch (final BufferOverflowException e) {
-                LOG.warn("Could not put bytes of JSON string <{}> into ByteBuffer due to BufferOverflow", jsonStr, e);
+                LOG.warn("Could not put bytes of JSON object <{}> into ByteBuffer due to BufferOverflow", jsonObject,
+                        e);
                 throw e;
             }
         } else {
@@ -147,6 +152,25 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
         }
     }
 
+    /**
+     * Serializes the given JSON object into the given byte buffer starting at its current position.
+     *
+     * @param serializableJsonObject the JSON object containing the DittoHeaders and the payload of a Jsonifiable.
+     * @param byteBuffer the byte buffer to write to.
+     * @throws BufferOverflowException if the remaining bytes of {@code byteBuffer} do not suffice.
+     */
+    protected abstract void serializeIntoByteBuffer(JsonObject serializableJsonObject, ByteBuffer byteBuffer);
+
+    /**
+     * Deserializes the JSON object which was serialized by {@link #serializeIntoByteBuffer(JsonObject, ByteBuffer)}
+     * from the remaining bytes of the given byte buffer.
+     *
+     * @param byteBuffer the byte buffer to read from.
+     * @return the JSON object containing the DittoHeaders and the payload of a Jsonifiable.
+     * @throws JsonRuntimeException if the bytes do not represent a JSON object.
+     */
+    protected abstract JsonObject deserializeFromByteBuffer(ByteBuffer byteBuffer);
+
     @Override
     public byte[] toBinary(final Object object) {
         final ByteBuffer buf = byteBufferPool.acquire();
@@ -180,9 +204,8 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
 
     @Override
     public Object fromBinary(final ByteBuffer buf, final String manifest) {
-        final String json = UTF8_CHARSET.decode(buf).toString();
         try {
-            return tryToCreateKnownJsonifiableFrom(manifest, json);
+            return tryToCreateKnownJsonifiableFrom(manifest, buf);
         } catch (final NotSerializableException e) {
             return e;
         }
@@ -193,18 +216,18 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
         return fromBinary(ByteBuffer.wrap(bytes), manifest);
     }
 
-    private Jsonifiable tryToCreateKnownJsonifiableFrom(final String manifest, final String json)
+    private Jsonifiable tryToCreateKnownJsonifiableFrom(final String manifest, final ByteBuffer buf)
             throws NotSerializableException {
         try {
-            return createJsonifiableFrom(manifest, json);
+            return createJsonifiableFrom(manifest, buf);
         } catch (final DittoRuntimeException | JsonRuntimeException e) {
-            LOG.error("Got <{}> during fromBinary(byte[],String) deserialization for manifest <{}> and JSON: '{}'",
-                    e.getClass().getSimpleName(), manifest, json, e);
+            LOG.error("Got <{}> during fromBinary(ByteBuffer,String) deserialization for manifest <{}>: {}",
+                    e.getClass().getSimpleName(), manifest, e.getMessage(), e);
             throw new NotSerializableException(manifest);
         }
     }
 
-    private Jsonifiable createJsonifiableFrom(final String manifest, final String json)
+    private Jsonifiable createJsonifiableFrom(final String manifest, final ByteBuffer buf)
             throws NotSerializableException {
 
         final Optional<MappingStrategy> mappingStrategy = this.mappingStrategies.getMappingStrategyFor(manifest);
@@ -214,7 +237,7 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
             throw new NotSerializableException(manifest);
         }
 
-        final JsonObject jsonObject = JsonFactory.newObject(json);
+        final JsonObject jsonObject = deserializeFromByteBuffer(buf);
 
         final JsonObject payload = getPayload(jsonObject);
 
@@ -0,0 +1,361 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * Encodes {@link JsonValue}s as CBOR (RFC 7049) and decodes them again.
+ * <p>
+ * Only the subset of CBOR which is needed to represent JSON is supported: unsigned and negative integers, text strings,
+ * arrays and maps of definite length, {@code false}, {@code true}, {@code null} and floating-point numbers.
+ * Integral numbers are encoded as CBOR integers, all other numbers as single-precision floats if that is lossless and
+ * as double-precision floats otherwise.
+ * </p>
+ *
+ * @see "https://tools.ietf.org/html/rfc7049"
+ */
+@Immutable
+final class CborJsonValueCodec {
+
+    private static final int MAJOR_TYPE_UNSIGNED_INTEGER = 0;
+    private static final int MAJOR_TYPE_NEGATIVE_INTEGER = 1;
+    private static final int MAJOR_TYPE_TEXT_STRING = 3;
+    private static final int MAJOR_TYPE_ARRAY = 4;
+    private static final int MAJOR_TYPE_MAP = 5;
+    private static final int MAJOR_TYPE_SIMPLE_OR_FLOAT = 7;
+
+    private static final int ONE_BYTE = 24;
+    private static final int TWO_BYTES = 25;
+    private static final int FOUR_BYTES = 26;
+    private static final int EIGHT_BYTES = 27;
+
+    private static final int FALSE = 20;
+    private static final int TRUE = 21;
+    private static final int NULL = 22;
+    private static final int HALF_PRECISION_FLOAT = TWO_BYTES;
+    private static final int SINGLE_PRECISION_FLOAT = FOUR_BYTES;
+    private static final int DOUBLE_PRECISION_FLOAT = EIGHT_BYTES;
+
+    private static final byte REPLACEMENT = '?';
+
+    private static final Class<?> DOUBLE_CLASS = JsonValue.of(0.0D).getClass();
+
+    private CborJsonValueCodec() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Puts the CBOR encoding of the given JSON value into the given byte buffer starting at its current position.
+     *
+     * @param jsonValue the JSON value to encode.
+     * @param byteBuffer the byte buffer to write to.
+     * @throws java.nio.BufferOverflowException if the remaining bytes of {@code byteBuffer} do not suffice.
+     */
+    static void encode(final JsonValue jsonValue, final ByteBuffer byteBuffer) {
+        if (jsonValue.isNull()) {
+            // checked first as null objects and null arrays are JSON objects resp. JSON arrays as well
+            putInitialByte(MAJOR_TYPE_SIMPLE_OR_FLOAT, NULL, byteBuffer);
+        } else if (jsonValue.isObject()) {
+            final JsonObject jsonObject = jsonValue.asObject();
+            putHead(MAJOR_TYPE_MAP, jsonObject.getSize(), byteBuffer);
+            for (final JsonField jsonField : jsonObject) {
+                putTextString(jsonField.getKeyName(), byteBuffer);
+                encode(jsonField.getValue(), byteBuffer);
+            }
+        } else if (jsonValue.isArray()) {
+            final JsonArray jsonArray = jsonValue.asArray();
+            putHead(MAJOR_TYPE_ARRAY, jsonArray.getSize(), byteBuffer);
+            for (final JsonValue element : jsonArray) {
+                encode(element, byteBuffer);
+            }
+        } else if (jsonValue.isString()) {
+            putTextString(jsonValue.asString(), byteBuffer);
+        } else if (isInteger(jsonValue)) {
+            final long value = jsonValue.asLong();
+            if (0 <= value) {
+                putHead(MAJOR_TYPE_UNSIGNED_INTEGER, value, byteBuffer);
+            } else {
+                putHead(MAJOR_TYPE_NEGATIVE_INTEGER, ~value, byteBuffer);
+            }
+        } else if (jsonValue.isNumber()) {
+            putFloat(jsonValue.asDouble(), byteBuffer);
+        } else {
+            putInitialByte(MAJOR_TYPE_SIMPLE_OR_FLOAT, jsonValue.asBoolean() ? TRUE : FALSE, byteBuffer);
+        }
+    }
+
+    /**
+     * Integral floating point numbers like {@code 1.0} are longs as well and differ from integers only by their class,
+     * which determines their string representation.
+     */
+    private static boolean isInteger(final JsonValue jsonValue) {
+        return jsonValue.isLong() && DOUBLE_CLASS != jsonValue.getClass();
+    }
+
+    private static void putInitialByte(final int majorType, final int additionalInformation,
+            final ByteBuffer byteBuffer) {
+
+        byteBuffer.put((byte) (majorType << 5 | additionalInformation));
+    }
+
+    private static void putHead(final int majorType, final long argument, final ByteBuffer byteBuffer) {
+        if (argument < ONE_BYTE) {
+            putInitialByte(majorType, (int) argument, byteBuffer);
+        } else if (argument <= 0xFFL) {
+            putInitialByte(majorType, ONE_BYTE, byteBuffer);
+            byteBuffer.put((byte) argument);
+        } else if (argument <= 0xFFFFL) {
+            putInitialByte(majorType, TWO_BYTES, byteBuffer);
+            byteBuffer.putShort((short) argument);
+        } else if (argument <= 0xFFFFFFFFL) {
+            putInitialByte(majorType, FOUR_BYTES, byteBuffer);
+            byteBuffer.putInt((int) argument);
+        } else {
+            putInitialByte(majorType, EIGHT_BYTES, byteBuffer);
+            byteBuffer.putLong(argument);
+        }
+    }
+
+    private static void putFloat(final double value, final ByteBuffer byteBuffer) {
+        final float floatValue = (float) value;
+        if (floatValue == value || Double.isNaN(value)) {
+            putInitialByte(MAJOR_TYPE_SIMPLE_OR_FLOAT, SINGLE_PRECISION_FLOAT, byteBuffer);
+            byteBuffer.putFloat(floatValue);
+        } else {
+            putInitialByte(MAJOR_TYPE_SIMPLE_OR_FLOAT, DOUBLE_PRECISION_FLOAT, byteBuffer);
+            byteBuffer.putDouble(value);
+        }
+    }
+
+    private static void putTextString(final String string, final ByteBuffer byteBuffer) {
+        putHead(MAJOR_TYPE_TEXT_STRING, getUtf8Length(string), byteBuffer);
+        final int length = string.length();
+        for (int i = 0; i < length; i++) {
+            final char c = string.charAt(i);
+            if (c < 0x80) {
+                byteBuffer.put((byte) c);
+            } else if (c < 0x800) {
+                byteBuffer.put((byte) (0xC0 | (c >> 6)));
+                byteBuffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (isSurrogatePair(string, i)) {
+                final int codePoint = Character.toCodePoint(c, string.charAt(++i));
+                byteBuffer.put((byte) (0xF0 | (codePoint >> 18)));
+                byteBuffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                byteBuffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                byteBuffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                byteBuffer.put(REPLACEMENT);
+            } else {
+                byteBuffer.put((byte) (0xE0 | (c >> 12)));
+                byteBuffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                byteBuffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+
+    private static int getUtf8Length(final String string) {
+        final int length = string.length();
+        int result = length;
+        for (int i = 0; i < length; i++) {
+            final char c = string.charAt(i);
+            if (c >= 0x800) {
+                if (isSurrogatePair(string, i)) {
+                    // 4 bytes for 2 chars
+                    result += 2;
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    result += 2;
+                }
+            } else if (c >= 0x80) {
+                result += 1;
+            }
+        }
+        return result;
+    }
+
+    private static boolean isSurrogatePair(final String string, final int index) {
+        return Character.isHighSurrogate(string.charAt(index)) && index + 1 < string.length() &&
+                Character.isLowSurrogate(string.charAt(index + 1));
+    }
+
+    /**
+     * Decodes the CBOR data item starting at the current position of the given byte buffer.
+     * The position of the byte buffer is advanced to the end of the data item.
+     *
+     * @param byteBuffer the byte buffer to read from.
+     * @return the decoded JSON value.
+     * @throws JsonParseException if the byte buffer does not contain a supported CBOR data item.
+     */
+    static JsonValue decode(final ByteBuffer byteBuffer) {
+        try {
+            return readDataItem(byteBuffer);
+        } catch (final BufferUnderflowException e) {
+            throw JsonParseException.newBuilder()
+                    .message("Unexpected end of CBOR data!")
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    private static JsonValue readDataItem(final ByteBuffer byteBuffer) {
+        final int initialByte = byteBuffer.get() & 0xFF;
+        final int majorType = initialByte >>> 5;
+        final int additionalInformation = initialByte & 0x1F;
+        switch (majorType) {
+            case MAJOR_TYPE_UNSIGNED_INTEGER:
+                return toJsonNumber(readArgument(additionalInformation, byteBuffer));
+            case MAJOR_TYPE_NEGATIVE_INTEGER:
+                return toJsonNumber(~readArgument(additionalInformation, byteBuffer));
+            case MAJOR_TYPE_TEXT_STRING:
+                return JsonValue.of(readText(readLength(additionalInformation, byteBuffer), byteBuffer));
+            case MAJOR_TYPE_ARRAY:
+                return readArray(readLength(additionalInformation, byteBuffer), byteBuffer);
+            case MAJOR_TYPE_MAP:
+                return readMap(readLength(additionalInformation, byteBuffer), byteBuffer);
+            case MAJOR_TYPE_SIMPLE_OR_FLOAT:
+                return readSimpleValueOrFloat(additionalInformation, byteBuffer);
+            default:
+                throw unsupported("major type", majorType, byteBuffer);
+        }
+    }
+
+    private static long readArgument(final int additionalInformation, final ByteBuffer byteBuffer) {
+        final long result;
+        if (additionalInformation < ONE_BYTE) {
+            result = additionalInformation;
+        } else if (ONE_BYTE == additionalInformation) {
+            result = byteBuffer.get() & 0xFFL;
+        } else if (TWO_BYTES == additionalInformation) {
+            result = byteBuffer.getShort() & 0xFFFFL;
+        } else if (FOUR_BYTES == additionalInformation) {
+            result = byteBuffer.getInt() & 0xFFFFFFFFL;
+        } else if (EIGHT_BYTES == additionalInformation) {
+            result = byteBuffer.getLong();
+            if (result < 0) {
+                throw unsupported("64-bit argument", Long.toUnsignedString(result), byteBuffer);
+            }
+        } else {
+            throw unsupported("additional information", additionalInformation, byteBuffer);
+        }
+        return result;
+    }
+
+    private static int readLength(final int additionalInformation, final ByteBuffer byteBuffer) {
+        final long length = readArgument(additionalInformation, byteBuffer);
+        if (length > byteBuffer.remaining()) {
+            // each element takes at least one byte
+            throw unsupported("length", length, byteBuffer);
+        }
+        return (int) length;
+    }
+
+    private static JsonValue toJsonNumber(final long value) {
+        if (Integer.MIN_VALUE <= value && value <= Integer.MAX_VALUE) {
+            return JsonValue.of((int) value);
+        }
+        return JsonValue.of(value);
+    }
+
+    private static String readText(final int length, final ByteBuffer byteBuffer) {
+        final String result;
+        if (byteBuffer.hasArray()) {
+            final int offset = byteBuffer.arrayOffset() + byteBuffer.position();
+            result = new String(byteBuffer.array(), offset, length, StandardCharsets.UTF_8);
+            byteBuffer.position(byteBuffer.position() + length);
+        } else {
+            final byte[] bytes = new byte[length];
+            byteBuffer.get(bytes);
+            result = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return result;
+    }
+
+    private static JsonArray readArray(final int size, final ByteBuffer byteBuffer) {
+        final JsonArrayBuilder arrayBuilder = JsonArray.newBuilder();
+        for (int i = 0; i < size; i++) {
+            arrayBuilder.add(readDataItem(byteBuffer));
+        }
+        return arrayBuilder.build();
+    }
+
+    private static JsonObject readMap(final int size, final ByteBuffer byteBuffer) {
+        final JsonObjectBuilder objectBuilder = JsonObject.newBuilder();
+        for (int i = 0; i < size; i++) {
+            final int initialByte = byteBuffer.get() & 0xFF;
+            if (MAJOR_TYPE_TEXT_STRING != initialByte >>> 5) {
+                throw unsupported("map key of major type", initialByte >>> 5, byteBuffer);
+            }
+            final String key = readText(readLength(initialByte & 0x1F, byteBuffer), byteBuffer);
+            objectBuilder.set(JsonField.newInstance(key, readDataItem(byteBuffer)));
+        }
+        return objectBuilder.build();
+    }
+
+    private static JsonValue readSimpleValueOrFloat(final int additionalInformation, final ByteBuffer byteBuffer) {
+        switch (additionalInformation) {
+            case FALSE:
+                return JsonValue.of(false);
+            case TRUE:
+                return JsonValue.of(true);
+            case NULL:
+                return JsonValue.nullLiteral();
+            case HALF_PRECISION_FLOAT:
+                return JsonValue.of(halfToDouble(byteBuffer.getShort() & 0xFFFF));
+            case SINGLE_PRECISION_FLOAT:
+                return JsonValue.of((double) byteBuffer.getFloat());
+            case DOUBLE_PRECISION_FLOAT:
+                return JsonValue.of(byteBuffer.getDouble());
+            default:
+                throw unsupported("simple value", additionalInformation, byteBuffer);
+        }
+    }
+
+    private static double halfToDouble(final int half) {
+        final int exponent = (half >> 10) & 0x1F;
+        final int mantissa = half & 0x3FF;
+        final double magnitude;
+        if (0 == exponent) {
+            magnitude = Math.scalb((double) mantissa, -24);
+        } else if (0x1F != exponent) {
+            magnitude = Math.scalb((double) (mantissa + 0x400), exponent - 25);
+        } else {
+            magnitude = 0 == mantissa ? Double.POSITIVE_INFINITY : Double.NaN;
+        }
+        return 0 == (half & 0x8000) ? magnitude : -magnitude;
+    }
+
+    private static JsonParseException unsupported(final String what, final Object value,
+            final ByteBuffer byteBuffer) {
+
+        final String msgPattern = "Unsupported CBOR {0} <{1}> before position <{2}>!";
+        return JsonParseException.newBuilder()
+                .message(MessageFormat.format(msgPattern, what, String.valueOf(value),
+                        String.valueOf(byteBuffer.position())))
+                .build();
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.nio.ByteBuffer;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+
+import akka.actor.ExtendedActorSystem;
+
+/**
+ * Serializer for Commands and Events of Eclipse Ditto which writes them in the binary CBOR format.
+ * <p>
+ * Compared to {@link JsonifiableSerializer} the serialized messages are smaller and cheaper to encode and decode as
+ * neither numbers nor strings have to be formatted, escaped or parsed.
+ * Both serializers use the same manifests and {@link MappingStrategies}.
+ * As Akka chooses the deserializer by the identifier transmitted with each message, a cluster can be rolled over from
+ * one format to the other: first register both serializers on all nodes, then change the serialization bindings.
+ * </p>
+ */
+@NotThreadSafe
+public final class CborJsonifiableSerializer extends AbstractJsonifiableWithDittoHeadersSerializer {
+
+    private static final int UNIQUE_IDENTIFIER = 897703291;
+
+    /**
+     * Constructs a new {@code CborJsonifiableSerializer} object.
+     */
+    public CborJsonifiableSerializer(final ExtendedActorSystem actorSystem) {
+        super(UNIQUE_IDENTIFIER, actorSystem, ManifestProvider.getInstance());
+    }
+
+    @Override
+    protected void serializeIntoByteBuffer(final JsonObject serializableJsonObject, final ByteBuffer byteBuffer) {
+        CborJsonValueCodec.encode(serializableJsonObject, byteBuffer);
+    }
+
+    @Override
+    protected JsonObject deserializeFromByteBuffer(final ByteBuffer byteBuffer) {
+        final JsonValue jsonValue = CborJsonValueCodec.decode(byteBuffer);
+        if (!jsonValue.isObject()) {
+            throw JsonParseException.newBuilder()
+                    .message("The CBOR data item <" + jsonValue + "> is not a map!")
+                    .build();
+        }
+        return jsonValue.asObject();
+    }
+
+}
@@ -12,12 +12,18 @@
  */
 package org.eclipse.ditto.services.utils.cluster;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 import javax.annotation.concurrent.NotThreadSafe;
 
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+
 import akka.actor.ExtendedActorSystem;
 
 /**
- * Serializer for Commands and Events of Eclipse Ditto.
+ * Serializer for Commands and Events of Eclipse Ditto which writes them as UTF-8 encoded JSON strings.
  */
 @NotThreadSafe
 public final class JsonifiableSerializer extends AbstractJsonifiableWithDittoHeadersSerializer {
@@ -31,4 +37,15 @@ public final class JsonifiableSerializer extends AbstractJsonifiableWithDittoHea
         super(UNIQUE_IDENTIFIER, actorSystem, ManifestProvider.getInstance());
     }
 
+    @Override
+    protected void serializeIntoByteBuffer(final JsonObject serializableJsonObject, final ByteBuffer byteBuffer) {
+        // encode directly into the buffer without creating the JSON string and its encoded copy
+        serializableJsonObject.writeTo(byteBuffer);
+    }
+
+    @Override
+    protected JsonObject deserializeFromByteBuffer(final ByteBuffer byteBuffer) {
+        return JsonFactory.newObject(StandardCharsets.UTF_8.decode(byteBuffer).toString());
+    }
+
 }
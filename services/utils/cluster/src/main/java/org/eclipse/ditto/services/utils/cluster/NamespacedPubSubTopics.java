@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import javax.annotation.concurrent.Immutable;
+
+import com.typesafe.config.Config;
+
+/**
+ * Distributed pub/sub topics which are partitioned by the namespace of the entity a message belongs to.
+ * <p>
+ * If enabled by {@value #CONFIG_KEY_ENABLED}, a message for an entity is published both to the plain topic and to
+ * the partition of the entity's namespace.
+ * Subscribers which need the messages of all namespaces subscribe to the plain topic, subscribers which are
+ * restricted to some namespaces subscribe to the partitions of these namespaces only.
+ * Thus messages are not sent to cluster nodes which have no subscriber for their namespace at the cost of publishing
+ * each message twice.
+ * Publishers and subscribers have to agree on the configuration: it has to be enabled for publishers before it is
+ * enabled for subscribers.
+ * </p>
+ */
+@Immutable
+public final class NamespacedPubSubTopics {
+
+    /**
+     * Key of the configuration which enables namespace partitions of pub/sub topics.
+     */
+    public static final String CONFIG_KEY_ENABLED = "ditto.pubsub.namespaced-topics";
+
+    private static final char NAMESPACE_SEPARATOR = '/';
+    private static final char ENTITY_ID_SEPARATOR = ':';
+
+    private NamespacedPubSubTopics() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Indicates whether namespace partitions of pub/sub topics are enabled by the given configuration.
+     *
+     * @param config the configuration of the service.
+     * @return {@code true} if {@value #CONFIG_KEY_ENABLED} is set to {@code true}, {@code false} else.
+     * @throws NullPointerException if {@code config} is {@code null}.
+     */
+    public static boolean isEnabled(final Config config) {
+        checkNotNull(config, "config");
+        return config.hasPath(CONFIG_KEY_ENABLED) && config.getBoolean(CONFIG_KEY_ENABLED);
+    }
+
+    /**
+     * Returns the partition of {@code topic} for the namespace of the given entity ID.
+     *
+     * @param topic the plain topic.
+     * @param entityId the ID of an entity in the format {@code <namespace>:<name>}.
+     * @return the topic for messages of the entity.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static String forEntityId(final String topic, final String entityId) {
+        checkNotNull(entityId, "entity ID");
+        final int separatorIndex = entityId.indexOf(ENTITY_ID_SEPARATOR);
+        final String namespace = 0 <= separatorIndex ? entityId.substring(0, separatorIndex) : "";
+        return forNamespace(topic, namespace);
+    }
+
+    /**
+     * Returns the partition of {@code topic} for the given namespace.
+     *
+     * @param topic the plain topic.
+     * @param namespace the namespace.
+     * @return the topic for messages of entities in the namespace.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static String forNamespace(final String topic, final String namespace) {
+        checkNotNull(topic, "topic");
+        checkNotNull(namespace, "namespace");
+        return topic + NAMESPACE_SEPARATOR + namespace;
+    }
+
+    /**
+     * Returns the topics to subscribe to for receiving the messages of the given namespaces.
+     *
+     * @param topic the plain topic.
+     * @param namespaces the namespaces; empty for all namespaces.
+     * @return the plain topic if {@code namespaces} is empty, the partitions of {@code topic} for the namespaces
+     * else.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static Set<String> forNamespaces(final String topic, final Collection<String> namespaces) {
+        checkNotNull(namespaces, "namespaces");
+        if (namespaces.isEmpty()) {
+            return Collections.singleton(checkNotNull(topic, "topic"));
+        }
+        final Set<String> result = new LinkedHashSet<>();
+        namespaces.forEach(namespace -> result.add(forNamespace(topic, namespace)));
+        return result;
+    }
+
+    /**
+     * Returns the plain topic of the given topic by removing the namespace of a partition.
+     *
+     * @param topic the plain topic or the partition of a plain topic.
+     * @return the plain topic.
+     * @throws NullPointerException if {@code topic} is {@code null}.
+     */
+    public static String getPlainTopic(final String topic) {
+        checkNotNull(topic, "topic");
+        final int separatorIndex = topic.indexOf(NAMESPACE_SEPARATOR);
+        return 0 <= separatorIndex ? topic.substring(0, separatorIndex) : topic;
+    }
+
+}
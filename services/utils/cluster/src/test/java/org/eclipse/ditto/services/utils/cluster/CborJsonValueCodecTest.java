@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CborJsonValueCodec}.
+ */
+public final class CborJsonValueCodecTest {
+
+    @Test
+    public void encodeIntegersAsSpecified() {
+        assertThat(encode(JsonValue.of(0))).isEqualTo(bytes(0x00));
+        assertThat(encode(JsonValue.of(23))).isEqualTo(bytes(0x17));
+        assertThat(encode(JsonValue.of(24))).isEqualTo(bytes(0x18, 0x18));
+        assertThat(encode(JsonValue.of(1000))).isEqualTo(bytes(0x19, 0x03, 0xe8));
+        assertThat(encode(JsonValue.of(1000000))).isEqualTo(bytes(0x1a, 0x00, 0x0f, 0x42, 0x40));
+        assertThat(encode(JsonValue.of(-1))).isEqualTo(bytes(0x20));
+        assertThat(encode(JsonValue.of(-1000))).isEqualTo(bytes(0x39, 0x03, 0xe7));
+    }
+
+    @Test
+    public void encodeSimpleValuesAndStringsAsSpecified() {
+        assertThat(encode(JsonValue.of(false))).isEqualTo(bytes(0xf4));
+        assertThat(encode(JsonValue.of(true))).isEqualTo(bytes(0xf5));
+        assertThat(encode(JsonValue.nullLiteral())).isEqualTo(bytes(0xf6));
+        assertThat(encode(JsonValue.of("ü"))).isEqualTo(bytes(0x62, 0xc3, 0xbc));
+        assertThat(encode(JsonValue.of("𐅑"))).isEqualTo(bytes(0x64, 0xf0, 0x90, 0x85, 0x91));
+    }
+
+    @Test
+    public void encodeContainersAsSpecified() {
+        assertThat(encode(JsonArray.of("[1,[2,3]]"))).isEqualTo(bytes(0x82, 0x01, 0x82, 0x02, 0x03));
+        assertThat(encode(JsonObject.of("{\"a\":1,\"b\":[2]}")))
+                .isEqualTo(bytes(0xa2, 0x61, 0x61, 0x01, 0x61, 0x62, 0x81, 0x02));
+    }
+
+    @Test
+    public void encodeFloatsWithSmallestLosslessPrecision() {
+        assertThat(encode(JsonValue.of(1.5))).isEqualTo(bytes(0xfa, 0x3f, 0xc0, 0x00, 0x00));
+        assertThat(encode(JsonValue.of(1.1))).isEqualTo(bytes(0xfb, 0x3f, 0xf1, 0x99, 0x99, 0x99, 0x99, 0x99, 0x9a));
+    }
+
+    @Test
+    public void encodeIntegralFloatsAsFloats() {
+        assertThat(encode(JsonValue.of(1.0))).isEqualTo(bytes(0xfa, 0x3f, 0x80, 0x00, 0x00));
+        assertThat(encode(JsonValue.of(-4.0))).isEqualTo(bytes(0xfa, 0xc0, 0x80, 0x00, 0x00));
+    }
+
+    @Test
+    public void integralFloatIsDecodedToFloat() {
+        final JsonValue integralFloat = JsonValue.of(1.0);
+
+        final JsonValue decoded = CborJsonValueCodec.decode(ByteBuffer.wrap(encode(integralFloat)));
+
+        assertThat(decoded.toString()).isEqualTo(integralFloat.toString());
+    }
+
+    @Test
+    public void decodeHalfPrecisionFloat() {
+        assertThat(CborJsonValueCodec.decode(ByteBuffer.wrap(bytes(0xf9, 0x3c, 0x00)))).isEqualTo(JsonValue.of(1.0));
+        assertThat(CborJsonValueCodec.decode(ByteBuffer.wrap(bytes(0xf9, 0xc4, 0x00)))).isEqualTo(JsonValue.of(-4.0));
+    }
+
+    @Test
+    public void encodedJsonObjectIsDecodedToEqualJsonObject() {
+        final JsonObject jsonObject = JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:thïng")
+                .set("emoji", "😀")
+                .set("int", Integer.MIN_VALUE)
+                .set("long", Long.MAX_VALUE)
+                .set("negativeLong", Long.MIN_VALUE)
+                .set("double", 21.5)
+                .set("preciseDouble", Math.PI)
+                .set("bool", true)
+                .set("null", JsonValue.nullLiteral())
+                .set("nested", JsonObject.newBuilder()
+                        .set("array", JsonArray.of("[1,\"two\",{\"three\":3.0},[],{}]"))
+                        .build())
+                .build();
+
+        assertThat(CborJsonValueCodec.decode(ByteBuffer.wrap(encode(jsonObject)))).isEqualTo(jsonObject);
+    }
+
+    @Test
+    public void encodeIntoTooSmallBufferThrowsBufferOverflowException() {
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(3);
+
+        assertThatExceptionOfType(BufferOverflowException.class)
+                .isThrownBy(() -> CborJsonValueCodec.encode(JsonValue.of("foo"), byteBuffer));
+    }
+
+    @Test
+    public void decodeTruncatedDataThrowsJsonParseException() {
+        final byte[] encoded = encode(JsonObject.of("{\"foo\":\"bar\"}"));
+        final ByteBuffer truncated = ByteBuffer.wrap(Arrays.copyOf(encoded, encoded.length - 1));
+
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> CborJsonValueCodec.decode(truncated));
+    }
+
+    @Test
+    public void decodeUnsupportedMajorTypeThrowsJsonParseException() {
+        // byte string of length 1
+        final ByteBuffer byteString = ByteBuffer.wrap(bytes(0x41, 0x00));
+
+        assertThatExceptionOfType(JsonParseException.class).isThrownBy(() -> CborJsonValueCodec.decode(byteString));
+    }
+
+    private static byte[] encode(final JsonValue jsonValue) {
+        final ByteBuffer byteBuffer = ByteBuffer.allocate(1024);
+        CborJsonValueCodec.encode(jsonValue, byteBuffer);
+        return Arrays.copyOf(byteBuffer.array(), byteBuffer.position());
+    }
+
+    private static byte[] bytes(final int... values) {
+        final byte[] result = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = (byte) values[i];
+        }
+        return result;
+    }
+
+}
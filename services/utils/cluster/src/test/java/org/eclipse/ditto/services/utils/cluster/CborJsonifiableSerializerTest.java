@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.NotSerializableException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.signals.base.ShardedMessageEnvelope;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThingResponse;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+import akka.actor.ExtendedActorSystem;
+
+/**
+ * Unit test for {@link CborJsonifiableSerializer}
+ */
+public final class CborJsonifiableSerializerTest {
+
+    private static final DittoHeaders DITTO_HEADERS = DittoHeaders.newBuilder()
+            .authorizationSubjects("authSubject")
+            .correlationId("correlationId")
+            .source("source")
+            .schemaVersion(JsonSchemaVersion.LATEST)
+            .build();
+
+    private static final String THING_ID = "org.eclipse.ditto.test:myThing";
+
+    private static final Thing THING = Thing.newBuilder()
+            .setId(THING_ID)
+            .setAttribute(JsonPointer.of("location/latitude"), JsonValue.of(47.68))
+            .setAttribute(JsonPointer.of("serialNumber"), JsonValue.of(4711L))
+            .setAttribute(JsonPointer.of("manufacturer"), JsonValue.of("ACME Ä€"))
+            .build();
+
+    private CborJsonifiableSerializer underTest;
+    private JsonifiableSerializer jsonSerializer;
+
+    @Before
+    public void setUp() {
+        final ExtendedActorSystem actorSystem =
+                (ExtendedActorSystem) ExtendedActorSystem.create("test", ConfigFactory.empty()
+                        .withValue("ditto.mapping-strategy.implementation",
+                                ConfigValueFactory.fromAnyRef(
+                                        JsonifiableSerializerTest.ThingCommandsStrategy.class.getName())));
+        underTest = new CborJsonifiableSerializer(actorSystem);
+        jsonSerializer = new JsonifiableSerializer(actorSystem);
+    }
+
+    @Test
+    public void identifierDiffersFromJsonSerializer() {
+        assertThat(underTest.identifier()).isNotEqualTo(jsonSerializer.identifier());
+    }
+
+    @Test
+    public void manifestEqualsManifestOfJsonSerializer() {
+        final CreateThing createThing = CreateThing.of(THING, null, DITTO_HEADERS);
+
+        assertThat(underTest.manifest(createThing)).isEqualTo(jsonSerializer.manifest(createThing));
+    }
+
+    @Test
+    public void thingCommandSerializationWorksAsExpected() {
+        final CreateThing createThing = CreateThing.of(THING, null, DITTO_HEADERS);
+
+        final byte[] serialized = underTest.toBinary(createThing);
+        final Object deserialized = underTest.fromBinary(serialized, underTest.manifest(createThing));
+
+        assertThat(deserialized)
+                .isInstanceOf(CreateThing.class)
+                .isEqualTo(createThing);
+    }
+
+    @Test
+    public void thingCommandResponseSerializationWorksAsExpected() {
+        final CreateThingResponse createThingResponse = CreateThingResponse.of(THING, DITTO_HEADERS);
+
+        final byte[] serialized = underTest.toBinary(createThingResponse);
+        final Object deserialized = underTest.fromBinary(serialized, underTest.manifest(createThingResponse));
+
+        assertThat(deserialized)
+                .isInstanceOf(CreateThingResponse.class)
+                .isEqualTo(createThingResponse);
+    }
+
+    @Test
+    public void shardedMessageEnvelopeSerializationWorksAsExpected() {
+        final String id = UUID.randomUUID().toString();
+        final DittoHeaders dittoHeaders = DittoHeaders.empty();
+        final RetrieveThings retrieveThings = RetrieveThings.getBuilder(THING_ID)
+                .dittoHeaders(dittoHeaders)
+                .build();
+        final JsonObject jsonObject = retrieveThings.toJson(JsonSchemaVersion.V_2, FieldType.regularOrSpecial());
+
+        final ShardedMessageEnvelope shardedMessageEnvelope =
+                ShardedMessageEnvelope.of(id, RetrieveThings.TYPE, jsonObject, dittoHeaders);
+
+        final byte[] serialized = underTest.toBinary(shardedMessageEnvelope);
+        final Object deserialized = underTest.fromBinary(serialized, underTest.manifest(shardedMessageEnvelope));
+
+        assertThat(deserialized).isInstanceOf(ShardedMessageEnvelope.class);
+        assertThat(((ShardedMessageEnvelope) deserialized).getId()).isEqualTo(shardedMessageEnvelope.getId());
+        assertThat(((ShardedMessageEnvelope) deserialized).getType()).isEqualTo(shardedMessageEnvelope.getType());
+        assertThat(((ShardedMessageEnvelope) deserialized).getMessage())
+                .isEqualTo(shardedMessageEnvelope.getMessage());
+        assertThat(((ShardedMessageEnvelope) deserialized).getDittoHeaders())
+                .isEqualTo(shardedMessageEnvelope.getDittoHeaders());
+    }
+
+    @Test
+    public void serializedThingCommandIsSmallerThanJson() {
+        final CreateThing createThing = CreateThing.of(THING, null, DITTO_HEADERS);
+
+        assertThat(underTest.toBinary(createThing).length).isLessThan(jsonSerializer.toBinary(createThing).length);
+    }
+
+    @Test
+    public void deserializingJsonReturnsNotSerializableException() {
+        final CreateThing createThing = CreateThing.of(THING, null, DITTO_HEADERS);
+        final byte[] json = createThing.toJsonString().getBytes(StandardCharsets.UTF_8);
+
+        assertThat(underTest.fromBinary(json, underTest.manifest(createThing)))
+                .isInstanceOf(NotSerializableException.class);
+    }
+
+}
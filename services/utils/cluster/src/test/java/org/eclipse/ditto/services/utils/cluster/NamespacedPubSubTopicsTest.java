@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for {@link NamespacedPubSubTopics}.
+ */
+public final class NamespacedPubSubTopicsTest {
+
+    private static final String TOPIC = "things.events:";
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(NamespacedPubSubTopics.class, areImmutable());
+    }
+
+    @Test
+    public void isDisabledUnlessConfigured() {
+        assertThat(NamespacedPubSubTopics.isEnabled(ConfigFactory.empty())).isFalse();
+        assertThat(NamespacedPubSubTopics.isEnabled(
+                ConfigFactory.parseMap(Collections.singletonMap(NamespacedPubSubTopics.CONFIG_KEY_ENABLED, false))))
+                .isFalse();
+        assertThat(NamespacedPubSubTopics.isEnabled(
+                ConfigFactory.parseMap(Collections.singletonMap(NamespacedPubSubTopics.CONFIG_KEY_ENABLED, true))))
+                .isTrue();
+    }
+
+    @Test
+    public void forEntityIdUsesNamespaceOfEntityId() {
+        assertThat(NamespacedPubSubTopics.forEntityId(TOPIC, "org.eclipse.ditto:thing:with:colons"))
+                .isEqualTo("things.events:/org.eclipse.ditto");
+    }
+
+    @Test
+    public void forEntityIdWithoutNamespaceUsesEmptyNamespace() {
+        assertThat(NamespacedPubSubTopics.forEntityId(TOPIC, ":thing")).isEqualTo("things.events:/");
+        assertThat(NamespacedPubSubTopics.forEntityId(TOPIC, "thing")).isEqualTo("things.events:/");
+    }
+
+    @Test
+    public void forNamespacesWithoutNamespacesReturnsPlainTopic() {
+        assertThat(NamespacedPubSubTopics.forNamespaces(TOPIC, Collections.emptyList())).containsExactly(TOPIC);
+    }
+
+    @Test
+    public void forNamespacesReturnsPartitionOfEachNamespace() {
+        assertThat(NamespacedPubSubTopics.forNamespaces(TOPIC, Arrays.asList("a", "b", "a")))
+                .containsExactly("things.events:/a", "things.events:/b");
+    }
+
+    @Test
+    public void getPlainTopicRemovesNamespace() {
+        assertThat(NamespacedPubSubTopics.getPlainTopic(NamespacedPubSubTopics.forNamespace(TOPIC, "a.b")))
+                .isEqualTo(TOPIC);
+        assertThat(NamespacedPubSubTopics.getPlainTopic(TOPIC)).isEqualTo(TOPIC);
+    }
+
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2019 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster.benchmark;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingBuilder;
+import org.eclipse.ditto.services.utils.cluster.AbstractJsonifiableWithDittoHeadersSerializer;
+import org.eclipse.ditto.services.utils.cluster.AbstractMappingStrategies;
+import org.eclipse.ditto.services.utils.cluster.CborJsonifiableSerializer;
+import org.eclipse.ditto.services.utils.cluster.JsonifiableSerializer;
+import org.eclipse.ditto.services.utils.cluster.MappingStrategiesBuilder;
+import org.eclipse.ditto.signals.commands.base.GlobalCommandRegistry;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyThing;
+import org.eclipse.ditto.signals.events.base.GlobalEventRegistry;
+import org.eclipse.ditto.signals.events.things.FeaturePropertyModified;
+import org.eclipse.ditto.signals.events.things.ThingModified;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+
+/**
+ * Compares {@link JsonifiableSerializer} with {@link CborJsonifiableSerializer} for representative messages of the
+ * busiest cluster traffic.
+ * The size of each serialized message is reported by the auxiliary counter {@code serializedBytes} of
+ * {@code serialize}, whose rate divided by the rate of {@code serialize} is the number of bytes per message.
+ */
+@State(Scope.Benchmark)
+public class JsonifiableSerializerBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 10;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final String THING_ID = "org.eclipse.ditto:benchmark-thing";
+
+    private static final DittoHeaders DITTO_HEADERS = DittoHeaders.newBuilder()
+            .correlationId("7c3b1d2e-4f5a-4b6c-8d9e-0f1a2b3c4d5e")
+            .authorizationSubjects("nginx:ditto", "integration:solution:connection")
+            .schemaVersion(JsonSchemaVersion.V_2)
+            .source("nginx:ditto")
+            .build();
+
+    @Param({"json", "cbor"})
+    public String format;
+
+    @Param({"ModifyThing", "ThingModified", "FeaturePropertyModified"})
+    public String messageType;
+
+    private ActorSystem actorSystem;
+    private AbstractJsonifiableWithDittoHeadersSerializer serializer;
+    private Object message;
+    private String manifest;
+    private byte[] serializedMessage;
+
+    @Setup
+    public void setUp() {
+        actorSystem = ActorSystem.create("benchmark", ConfigFactory.empty()
+                .withValue("ditto.mapping-strategy.implementation",
+                        ConfigValueFactory.fromAnyRef(BenchmarkMappingStrategies.class.getName())));
+        final ExtendedActorSystem extendedActorSystem = (ExtendedActorSystem) actorSystem;
+        serializer = "cbor".equals(format)
+                ? new CborJsonifiableSerializer(extendedActorSystem)
+                : new JsonifiableSerializer(extendedActorSystem);
+        message = createMessage(messageType);
+        manifest = serializer.manifest(message);
+        serializedMessage = serializer.toBinary(message);
+    }
+
+    @TearDown
+    public void tearDown() {
+        actorSystem.terminate();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public byte[] serialize(final SerializedBytes serializedBytes) {
+        final byte[] bytes = serializer.toBinary(message);
+        serializedBytes.serializedBytes += bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Object deserialize() {
+        return serializer.fromBinary(serializedMessage, manifest);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Object serializeAndDeserialize() {
+        return serializer.fromBinary(serializer.toBinary(message), manifest);
+    }
+
+    private static Object createMessage(final String messageType) {
+        switch (messageType) {
+            case "ModifyThing":
+                return ModifyThing.of(THING_ID, createThing(), null, DITTO_HEADERS);
+            case "ThingModified":
+                return ThingModified.of(createThing(), 42L, Instant.now(), DITTO_HEADERS);
+            default:
+                return FeaturePropertyModified.of(THING_ID, "feature-0", JsonPointer.of("status/temperature"),
+                        JsonValue.of(21.5), 42L, Instant.now(), DITTO_HEADERS);
+        }
+    }
+
+    private static Thing createThing() {
+        final ThingBuilder.FromScratch thingBuilder = Thing.newBuilder()
+                .setId(THING_ID)
+                .setPolicyId(THING_ID)
+                .setAttribute(JsonPointer.of("manufacturer"), JsonValue.of("ACME"))
+                .setAttribute(JsonPointer.of("location/latitude"), JsonValue.of(47.68))
+                .setAttribute(JsonPointer.of("location/longitude"), JsonValue.of(9.38));
+        for (int i = 0; i < 5; i++) {
+            final String featureId = "feature-" + i;
+            thingBuilder.setFeatureProperty(featureId, JsonPointer.of("configuration/interval"), JsonValue.of(1000))
+                    .setFeatureProperty(featureId, JsonPointer.of("configuration/unit"), JsonValue.of("celsius"))
+                    .setFeatureProperty(featureId, JsonPointer.of("status/temperature"), JsonValue.of(21.5 + i))
+                    .setFeatureProperty(featureId, JsonPointer.of("status/humidity"), JsonValue.of(42))
+                    .setFeatureProperty(featureId, JsonPointer.of("status/lastUpdate"),
+                            JsonValue.of("2019-01-01T00:00:00Z"));
+        }
+        return thingBuilder.setRevision(42L).build();
+    }
+
+    /**
+     * Counter of the bytes written by {@code serialize}.
+     */
+    @AuxCounters
+    @State(Scope.Thread)
+    public static class SerializedBytes {
+
+        public long serializedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            serializedBytes = 0L;
+        }
+
+    }
+
+    /**
+     * Mapping strategies for the messages of this benchmark.
+     */
+    public static final class BenchmarkMappingStrategies extends AbstractMappingStrategies {
+
+        public BenchmarkMappingStrategies() {
+            super(MappingStrategiesBuilder.newInstance()
+                    .add(GlobalCommandRegistry.getInstance())
+                    .add(GlobalEventRegistry.getInstance())
+                    .build()
+                    .getStrategies());
+        }
+
+    }
+
+}
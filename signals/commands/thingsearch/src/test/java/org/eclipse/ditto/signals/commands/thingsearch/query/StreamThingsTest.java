@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2017 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.thingsearch.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.signals.commands.thingsearch.ThingSearchCommand;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Tests {@link StreamThings}.
+ */
+public final class StreamThingsTest {
+
+    private static final String JSON_ALL_FIELDS_V2 = JsonFactory.newObjectBuilder()
+            .set(ThingSearchCommand.JsonFields.TYPE, StreamThings.TYPE)
+            .set(StreamThings.JSON_FILTER, TestConstants.KNOWN_FILTER_STR)
+            .set(StreamThings.JSON_NAMESPACES, JsonFactory.newArrayBuilder()
+                    .add(TestConstants.KNOWN_NAMESPACE)
+                    .build())
+            .build().toString();
+
+    private static final String JSON_ALL_FIELDS_V1 = JsonFactory.newObjectBuilder()
+            .set(ThingSearchCommand.JsonFields.ID, StreamThings.NAME)
+            .set(StreamThings.JSON_FILTER, TestConstants.KNOWN_FILTER_STR)
+            .set(StreamThings.JSON_NAMESPACES, JsonFactory.newArrayBuilder()
+                    .add(TestConstants.KNOWN_NAMESPACE)
+                    .build())
+            .build().toString();
+
+    private static final String JSON_MINIMAL_V2 = JsonFactory.newObjectBuilder()
+            .set(ThingSearchCommand.JsonFields.TYPE, StreamThings.TYPE)
+            .build().toString();
+
+    private static final String JSON_MINIMAL_V1 = JsonFactory.newObjectBuilder()
+            .set(ThingSearchCommand.JsonFields.ID, StreamThings.NAME)
+            .build().toString();
+
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(StreamThings.class, areImmutable());
+    }
+
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(StreamThings.class)
+                .withRedefinedSuperclass()
+                .verify();
+    }
+
+
+    @Test
+    public void toJsonWithAllFieldsSetV2() {
+        final StreamThings command = StreamThings.of(TestConstants.KNOWN_FILTER_STR,
+                TestConstants.KNOWN_NAMESPACES_SET, DittoHeaders.empty());
+
+        final String json = command.toJsonString();
+        assertThat(json).isEqualTo(JSON_ALL_FIELDS_V2);
+    }
+
+
+    @Test
+    public void toJsonWithAllFieldsSetV1() {
+        final StreamThings command = StreamThings.of(TestConstants.KNOWN_FILTER_STR,
+                TestConstants.KNOWN_NAMESPACES_SET, DittoHeaders.empty());
+
+        final String json = command.toJsonString(JsonSchemaVersion.V_1, FieldType.regularOrSpecial());
+        assertThat(json).isEqualTo(JSON_ALL_FIELDS_V1);
+    }
+
+
+    @Test
+    public void toJsonWithOnlyRequiredFieldsSetV1() {
+        final StreamThings command = StreamThings.of(DittoHeaders.empty());
+
+        final String json = command.toJsonString(JsonSchemaVersion.V_1, FieldType.regularOrSpecial());
+
+        assertThat(json).isEqualTo(JSON_MINIMAL_V1);
+    }
+
+
+    @Test
+    public void toJsonWithOnlyRequiredFieldsSetV2() {
+        final StreamThings command = StreamThings.of(DittoHeaders.empty());
+
+        final String json = command.toJsonString();
+
+        assertThat(json).isEqualTo(JSON_MINIMAL_V2);
+    }
+
+
+    @Test
+    public void fromJsonWithAllFieldsSetV1() {
+        assertAllFieldsSet(StreamThings.fromJson(JSON_ALL_FIELDS_V1, DittoHeaders.empty()));
+    }
+
+
+    @Test
+    public void fromJsonWithAllFieldsSetV2() {
+        assertAllFieldsSet(StreamThings.fromJson(JSON_ALL_FIELDS_V2, DittoHeaders.empty()));
+    }
+
+    public void assertAllFieldsSet(final StreamThings command) {
+        assertThat(command).isNotNull();
+        assertThat(command.getFilter()).contains(TestConstants.KNOWN_FILTER_STR);
+    }
+
+
+    @Test
+    public void fromJsonWithOnlyRequiredFieldsSetV1() {
+        assertMinimal(StreamThings.fromJson(JSON_MINIMAL_V1, DittoHeaders.empty()));
+    }
+
+
+    @Test
+    public void fromJsonWithOnlyRequiredFieldsSetV2() {
+        assertMinimal(StreamThings.fromJson(JSON_MINIMAL_V2, DittoHeaders.empty()));
+    }
+
+    public void assertMinimal(final StreamThings command) {
+        assertThat(command).isNotNull();
+        assertThat(command.getFilter()).isEmpty();
+    }
+}
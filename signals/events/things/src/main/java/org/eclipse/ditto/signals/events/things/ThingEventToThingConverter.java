@@ -12,11 +12,18 @@
  */
 package org.eclipse.ditto.signals.events.things;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiFunction;
 
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.things.Feature;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingBuilder;
@@ -29,6 +36,15 @@ public final class ThingEventToThingConverter {
     private static final Map<Class<?>, BiFunction<ThingEvent, ThingBuilder.FromScratch, Thing>> EVENT_TO_THING_MAPPERS =
             createEventToThingMappers();
 
+    /**
+     * Events whose entity is the value at their resource path in the JSON representation of a Thing.
+     */
+    private static final Set<Class<?>> PAYLOAD_EVENT_TYPES = new HashSet<>(Arrays.asList(
+            AttributesCreated.class, AttributesModified.class, AttributesDeleted.class,
+            AttributeCreated.class, AttributeModified.class, AttributeDeleted.class,
+            FeaturePropertiesCreated.class, FeaturePropertiesModified.class, FeaturePropertiesDeleted.class,
+            FeaturePropertyCreated.class, FeaturePropertyModified.class, FeaturePropertyDeleted.class));
+
     private ThingEventToThingConverter() {
         throw new AssertionError();
     }
@@ -51,6 +67,37 @@ public final class ThingEventToThingConverter {
                 });
     }
 
+    /**
+     * Creates the JSON representation including special fields of the Thing represented by the passed ThingEvent,
+     * i. e. {@code thingEventToThing(thingEvent).map(thing -> thing.toJson(field -> true))}.
+     * For attribute and feature property events the JSON is assembled from the payload of the event without
+     * creating a Thing.
+     *
+     * @param thingEvent the ThingEvent to extract the correlating Thing JSON from
+     * @return the JSON of the Thing represented by the passed in ThingEvent
+     */
+    public static Optional<JsonObject> thingEventToThingJson(final ThingEvent<?> thingEvent) {
+        if (!PAYLOAD_EVENT_TYPES.contains(thingEvent.getClass())) {
+            return thingEventToThing(thingEvent).map(thing -> thing.toJson(field -> true));
+        }
+
+        final String thingId = thingEvent.getThingId();
+        final JsonObjectBuilder jsonObjectBuilder = JsonFactory.newObjectBuilder()
+                .set(Thing.JsonFields.SCHEMA_VERSION, JsonSchemaVersion.LATEST.toInt())
+                .set(Thing.JsonFields.REVISION, thingEvent.getRevision());
+        thingEvent.getTimestamp()
+                .ifPresent(timestamp -> jsonObjectBuilder.set(Thing.JsonFields.MODIFIED, timestamp.toString()));
+        final int namespaceSeparatorIndex = thingId.indexOf(':');
+        if (0 <= namespaceSeparatorIndex) {
+            jsonObjectBuilder.set(Thing.JsonFields.NAMESPACE, thingId.substring(0, namespaceSeparatorIndex));
+        }
+        jsonObjectBuilder.set(Thing.JsonFields.ID, thingId);
+        thingEvent.getEntity(JsonSchemaVersion.LATEST)
+                .ifPresent(entity -> jsonObjectBuilder.set(thingEvent.getResourcePath(), entity));
+
+        return Optional.of(jsonObjectBuilder.build());
+    }
+
     private static Map<Class<?>, BiFunction<ThingEvent, ThingBuilder.FromScratch, Thing>> createEventToThingMappers() {
         final Map<Class<?>, BiFunction<ThingEvent, ThingBuilder.FromScratch, Thing>> mappers = new HashMap<>();
 